@@ -101,6 +101,21 @@ public class Field102 extends Field implements Serializable {
 	 */
 	public static final Integer LT_ADDRESS = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("LT Address");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "lTAddress");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("ltaddress", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field102.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -291,9 +306,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -302,9 +315,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -313,13 +324,7 @@ public class Field102 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -480,10 +485,19 @@ public class Field102 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field102 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field102 field = new Field102();
+    /**
+     * This method deserializes the parsed JSON data into a Field102 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field102 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field102 field = new Field102();
 
         // **** COMPONENT 1 - LT Address
 
@@ -100,6 +100,21 @@ public class Field104 extends Field implements Serializable {
 	 */
 	public static final Integer MESSAGE_PRIORITY = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Message Priority");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "messagePriority");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("messagepriority", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field104.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -290,9 +305,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Message Priority");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -301,9 +314,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "messagePriority");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -312,13 +323,7 @@ public class Field104 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("messagepriority", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -439,10 +444,19 @@ public class Field104 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field104 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field104 field = new Field104();
+    /**
+     * This method deserializes the parsed JSON data into a Field104 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field104 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field104 field = new Field104();
 
         // **** COMPONENT 1 - Message Priority
 
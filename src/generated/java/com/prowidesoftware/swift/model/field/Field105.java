@@ -102,6 +102,21 @@ public class Field105 extends Field implements Serializable {
 	 */
 	public static final Integer DELIVERY_MONITORING = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Delivery Monitoring");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "deliveryMonitoring");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("deliverymonitoring", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field105.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -292,9 +307,7 @@ public class Field105 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Delivery Monitoring");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -303,9 +316,7 @@ public class Field105 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "deliveryMonitoring");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -314,13 +325,7 @@ public class Field105 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("deliverymonitoring", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -518,10 +523,19 @@ public class Field105 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field105 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field105 field = new Field105();
+    /**
+     * This method deserializes the parsed JSON data into a Field105 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field105 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field105 field = new Field105();
 
         // **** COMPONENT 1 - Delivery Monitoring
 
@@ -115,6 +115,27 @@ public class Field109 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer MIR = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Time");
+        componentLabels.add("MIR");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "time");
+        componentMap.put(3, "mIR");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("time", 2);
+        labelMap.put("mir", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field109.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -332,11 +353,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("MIR");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -345,11 +362,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "mIR");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -358,15 +371,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("mir", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -383,7 +388,16 @@ public class Field109 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -402,6 +416,14 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -416,7 +438,16 @@ public class Field109 extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -435,6 +466,14 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (MIR).
      * @return the component 3
@@ -660,10 +699,19 @@ public class Field109 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field109 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field109 field = new Field109();
+    /**
+     * This method deserializes the parsed JSON data into a Field109 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field109 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field109 field = new Field109();
 
         // **** COMPONENT 1 - Date
 
@@ -102,6 +102,21 @@ public class Field111 extends Field implements Serializable {
 	 */
 	public static final Integer SERVICE_TYPE_IDENTIFIER = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Service Type Identifier");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "serviceTypeIdentifier");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("servicetypeidentifier", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field111.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -292,9 +307,7 @@ public class Field111 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Service Type Identifier");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -303,9 +316,7 @@ public class Field111 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "serviceTypeIdentifier");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -314,13 +325,7 @@ public class Field111 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("servicetypeidentifier", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -518,10 +523,19 @@ public class Field111 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field111 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field111 field = new Field111();
+    /**
+     * This method deserializes the parsed JSON data into a Field111 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field111 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field111 field = new Field111();
 
         // **** COMPONENT 1 - Service Type Identifier
 
@@ -100,6 +100,21 @@ public class Field114 extends Field implements Serializable {
 	 */
 	public static final Integer PAYMENT_RELEASE_INFORMATION_SENDER = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Payment Release Information Sender");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "paymentReleaseInformationSender");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("paymentreleaseinformationsender", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field114.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -290,9 +305,7 @@ public class Field114 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Payment Release Information Sender");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -301,9 +314,7 @@ public class Field114 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "paymentReleaseInformationSender");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -312,13 +323,7 @@ public class Field114 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("paymentreleaseinformationsender", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -439,10 +444,19 @@ public class Field114 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field114 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field114 field = new Field114();
+    /**
+     * This method deserializes the parsed JSON data into a Field114 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field114 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field114 field = new Field114();
 
         // **** COMPONENT 1 - Payment Release Information Sender
 
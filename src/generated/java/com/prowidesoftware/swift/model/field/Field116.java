@@ -100,6 +100,21 @@ public class Field116 extends Field implements Serializable {
 	 */
 	public static final Integer RESTRICT_DELIVERY_VALUE_DATE_TODAY = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Restrict Delivery Value Date Today");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "restrictDeliveryValueDateToday");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("restrictdeliveryvaluedatetoday", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field116.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -290,9 +305,7 @@ public class Field116 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Restrict Delivery Value Date Today");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -301,9 +314,7 @@ public class Field116 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "restrictDeliveryValueDateToday");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -312,13 +323,7 @@ public class Field116 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("restrictdeliveryvaluedatetoday", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -479,10 +484,19 @@ public class Field116 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field116 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field116 field = new Field116();
+    /**
+     * This method deserializes the parsed JSON data into a Field116 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field116 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field116 field = new Field116();
 
         // **** COMPONENT 1 - Restrict Delivery Value Date Today
 
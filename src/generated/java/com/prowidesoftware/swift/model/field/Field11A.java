@@ -117,6 +117,25 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer CURRENCY = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Currency Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "currencyCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("currencycode", 2);
+        labelMap.put("currency", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field11A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -316,10 +335,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Currency Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -328,10 +344,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "currencyCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -340,16 +353,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("currencycode", 2);
-        // alias name
-        super.labelMap.put("currency", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -382,7 +386,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -652,10 +656,19 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      * @see Field#fromJson(String)
      */
     public static Field11A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field11A field = new Field11A();
+    /**
+     * This method deserializes the parsed JSON data into a Field11A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field11A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field11A field = new Field11A();
 
         // **** COMPONENT 1 - Qualifier
 
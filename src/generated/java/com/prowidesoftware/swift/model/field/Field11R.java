@@ -131,6 +131,31 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
 	 */
 	public static final Integer ISN = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("MT Number");
+        componentLabels.add("Date");
+        componentLabels.add("Session Number");
+        componentLabels.add("ISN");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "mTNumber");
+        componentMap.put(2, "date");
+        componentMap.put(3, "sessionNumber");
+        componentMap.put(4, "iSN");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("mtnumber", 1);
+        labelMap.put("mt", 1);
+        labelMap.put("date", 2);
+        labelMap.put("sessionnumber", 3);
+        labelMap.put("isn", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field11R.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -370,12 +395,7 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("MT Number");
-        result.add("Date");
-        result.add("Session Number");
-        result.add("ISN");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -384,12 +404,7 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "mTNumber");
-        result.put(2, "date");
-        result.put(3, "sessionNumber");
-        result.put(4, "iSN");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -398,18 +413,7 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("mtnumber", 1);
-        // alias name
-        super.labelMap.put("mt", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("sessionnumber", 3);
-        super.labelMap.put("isn", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -453,7 +457,16 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -472,6 +485,14 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Session Number).
      * @return the component 3
@@ -958,10 +979,19 @@ public class Field11R extends Field implements Serializable, DateContainer, Mult
      * @see Field#fromJson(String)
      */
     public static Field11R fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field11R field = new Field11R();
+    /**
+     * This method deserializes the parsed JSON data into a Field11R object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field11R fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field11R field = new Field11R();
 
         // **** COMPONENT 1 - MT Number
 
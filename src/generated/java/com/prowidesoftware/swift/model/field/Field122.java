@@ -102,6 +102,22 @@ public class Field122 extends Field implements Serializable {
 	 */
 	public static final Integer NUMBER_OF_MESSAGES = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number Of Messages");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "numberOfMessages");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("numberofmessages", 1);
+        labelMap.put("numberofmessages", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field122.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -292,9 +308,7 @@ public class Field122 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number Of Messages");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -303,9 +317,7 @@ public class Field122 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "numberOfMessages");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -314,15 +326,7 @@ public class Field122 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("numberofmessages", 1);
-        // alias name
-        super.labelMap.put("numberofmessages", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -567,10 +571,19 @@ public class Field122 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field122 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field122 field = new Field122();
+    /**
+     * This method deserializes the parsed JSON data into a Field122 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field122 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field122 field = new Field122();
 
         // **** COMPONENT 1 - Number Of Messages
 
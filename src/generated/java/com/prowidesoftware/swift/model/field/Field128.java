@@ -109,6 +109,24 @@ public class Field128 extends Field implements Serializable, BICContainer {
 	 */
 	public static final Integer BIC = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Priority");
+        componentLabels.add("BIC");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "priority");
+        componentMap.put(2, "bIC");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("priority", 1);
+        labelMap.put("bic", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field128.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -307,10 +325,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Priority");
-        result.add("BIC");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -319,10 +334,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "priority");
-        result.put(2, "bIC");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -331,14 +343,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("priority", 1);
-        super.labelMap.put("bic", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -546,10 +551,19 @@ public class Field128 extends Field implements Serializable, BICContainer {
      * @see Field#fromJson(String)
      */
     public static Field128 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field128 field = new Field128();
+    /**
+     * This method deserializes the parsed JSON data into a Field128 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field128 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field128 field = new Field128();
 
         // **** COMPONENT 1 - Priority
 
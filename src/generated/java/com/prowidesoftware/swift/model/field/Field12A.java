@@ -120,6 +120,28 @@ public class Field12A extends Field implements Serializable, GenericField {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer INSTRUMENT_CODE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Instrument Code Or Description");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "instrumentCodeOrDescription");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("instrumentcodeordescription", 3);
+        labelMap.put("instrumentcode", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field12A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -329,11 +351,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Instrument Code Or Description");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -342,11 +360,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "instrumentCodeOrDescription");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -355,17 +369,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("instrumentcodeordescription", 3);
-        // alias name
-        super.labelMap.put("instrumentcode", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -617,10 +621,19 @@ public class Field12A extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field12A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field12A field = new Field12A();
+    /**
+     * This method deserializes the parsed JSON data into a Field12A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field12A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field12A field = new Field12A();
 
         // **** COMPONENT 1 - Qualifier
 
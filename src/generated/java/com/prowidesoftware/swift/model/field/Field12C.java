@@ -107,6 +107,24 @@ public class Field12C extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer CFI_CODE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("CFI Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "cFICode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("cficode", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field12C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -306,10 +324,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("CFI Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -318,10 +333,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "cFICode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -330,14 +342,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("cficode", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -532,10 +537,19 @@ public class Field12C extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field12C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field12C field = new Field12C();
+    /**
+     * This method deserializes the parsed JSON data into a Field12C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field12C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field12C field = new Field12C();
 
         // **** COMPONENT 1 - Qualifier
 
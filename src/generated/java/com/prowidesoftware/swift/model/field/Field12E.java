@@ -113,6 +113,23 @@ public class Field12E extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer EXPIRATION_STYLE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Status");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "status");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("status", 1);
+        labelMap.put("code", 1);
+        labelMap.put("expirationstyle", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field12E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -303,9 +320,7 @@ public class Field12E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Status");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -314,9 +329,7 @@ public class Field12E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "status");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -325,17 +338,7 @@ public class Field12E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("status", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        // alias name
-        super.labelMap.put("expirationstyle", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -492,10 +495,19 @@ public class Field12E extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field12E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field12E field = new Field12E();
+    /**
+     * This method deserializes the parsed JSON data into a Field12E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field12E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field12E field = new Field12E();
 
         // **** COMPONENT 1 - Status
 
@@ -121,6 +121,30 @@ public class Field130 extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer HEADING_TEXT_2 = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Heading Code");
+        componentLabels.add("Heading Text");
+        componentLabels.add("Heading Code 2");
+        componentLabels.add("Heading Text 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "headingCode");
+        componentMap.put(2, "headingText");
+        componentMap.put(3, "headingCode2");
+        componentMap.put(4, "headingText2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("headingcode", 1);
+        labelMap.put("headingtext", 2);
+        labelMap.put("headingcode2", 3);
+        labelMap.put("headingtext2", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field130.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -342,12 +366,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Heading Code");
-        result.add("Heading Text");
-        result.add("Heading Code 2");
-        result.add("Heading Text 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -356,12 +375,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "headingCode");
-        result.put(2, "headingText");
-        result.put(3, "headingCode2");
-        result.put(4, "headingText2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -370,16 +384,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("headingcode", 1);
-        super.labelMap.put("headingtext", 2);
-        super.labelMap.put("headingcode2", 3);
-        super.labelMap.put("headingtext2", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -849,10 +854,19 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field130 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field130 field = new Field130();
+    /**
+     * This method deserializes the parsed JSON data into a Field130 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field130 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field130 field = new Field130();
 
         // **** COMPONENT 1 - Heading Code
 
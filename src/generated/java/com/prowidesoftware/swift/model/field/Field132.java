@@ -108,6 +108,24 @@ public class Field132 extends Field implements Serializable {
 	 */
 	public static final Integer BROADCAST_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Broadcast Indicator");
+        componentLabels.add("Broadcast Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "broadcastIndicator");
+        componentMap.put(2, "broadcastNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("broadcastindicator", 1);
+        labelMap.put("broadcastnumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field132.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -307,10 +325,7 @@ public class Field132 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Broadcast Indicator");
-        result.add("Broadcast Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -319,10 +334,7 @@ public class Field132 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "broadcastIndicator");
-        result.put(2, "broadcastNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -331,14 +343,7 @@ public class Field132 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("broadcastindicator", 1);
-        super.labelMap.put("broadcastnumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -573,10 +578,19 @@ public class Field132 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field132 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field132 field = new Field132();
+    /**
+     * This method deserializes the parsed JSON data into a Field132 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field132 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field132 field = new Field132();
 
         // **** COMPONENT 1 - Broadcast Indicator
 
@@ -116,6 +116,27 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
 	 */
 	public static final Integer BROADCAST_REQUESTER_CITY = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("BIC");
+        componentLabels.add("Broadcast Requester Name");
+        componentLabels.add("Broadcast Requester City");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "bIC");
+        componentMap.put(2, "broadcastRequesterName");
+        componentMap.put(3, "broadcastRequesterCity");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("bic", 1);
+        labelMap.put("broadcastrequestername", 2);
+        labelMap.put("broadcastrequestercity", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field134.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -324,11 +345,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("BIC");
-        result.add("Broadcast Requester Name");
-        result.add("Broadcast Requester City");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -337,11 +354,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "bIC");
-        result.put(2, "broadcastRequesterName");
-        result.put(3, "broadcastRequesterCity");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -350,15 +363,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("bic", 1);
-        super.labelMap.put("broadcastrequestername", 2);
-        super.labelMap.put("broadcastrequestercity", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -687,10 +692,19 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      * @see Field#fromJson(String)
      */
     public static Field134 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field134 field = new Field134();
+    /**
+     * This method deserializes the parsed JSON data into a Field134 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field134 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field134 field = new Field134();
 
         // **** COMPONENT 1 - BIC
 
@@ -120,6 +120,30 @@ public class Field137 extends Field implements Serializable {
 	 */
 	public static final Integer BROADCAST_NUMBER = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Broadcast Indicator");
+        componentLabels.add("Unsequenced Broadcast");
+        componentLabels.add("Broadcast Issuer");
+        componentLabels.add("Broadcast Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "broadcastIndicator");
+        componentMap.put(2, "unsequencedBroadcast");
+        componentMap.put(3, "broadcastIssuer");
+        componentMap.put(4, "broadcastNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("broadcastindicator", 1);
+        labelMap.put("unsequencedbroadcast", 2);
+        labelMap.put("broadcastissuer", 3);
+        labelMap.put("broadcastnumber", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field137.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -339,12 +363,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Broadcast Indicator");
-        result.add("Unsequenced Broadcast");
-        result.add("Broadcast Issuer");
-        result.add("Broadcast Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -353,12 +372,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "broadcastIndicator");
-        result.put(2, "unsequencedBroadcast");
-        result.put(3, "broadcastIssuer");
-        result.put(4, "broadcastNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -367,16 +381,7 @@ public class Field137 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("broadcastindicator", 1);
-        super.labelMap.put("unsequencedbroadcast", 2);
-        super.labelMap.put("broadcastissuer", 3);
-        super.labelMap.put("broadcastnumber", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -685,10 +690,19 @@ public class Field137 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field137 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field137 field = new Field137();
+    /**
+     * This method deserializes the parsed JSON data into a Field137 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field137 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field137 field = new Field137();
 
         // **** COMPONENT 1 - Broadcast Indicator
 
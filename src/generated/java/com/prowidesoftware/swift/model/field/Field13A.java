@@ -113,6 +113,25 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     public static final Integer NUMBER_IDENTIFICATION = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Number Id");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "numberId");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("numberid", 2);
+        labelMap.put("numberidentification", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field13A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -312,10 +331,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Number Id");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -324,10 +340,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "numberId");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -336,16 +349,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("numberid", 2);
-        // alias name
-        super.labelMap.put("numberidentification", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -556,10 +560,19 @@ public class Field13A extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field13A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field13A field = new Field13A();
+    /**
+     * This method deserializes the parsed JSON data into a Field13A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field13A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field13A field = new Field13A();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -133,6 +133,32 @@ public class Field13C extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer OFFSET = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code");
+        componentLabels.add("Time Indication");
+        componentLabels.add("Sign");
+        componentLabels.add("Time Offset");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code");
+        componentMap.put(2, "timeIndication");
+        componentMap.put(3, "sign");
+        componentMap.put(4, "timeOffset");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code", 1);
+        labelMap.put("timeindication", 2);
+        labelMap.put("time", 2);
+        labelMap.put("sign", 3);
+        labelMap.put("timeoffset", 4);
+        labelMap.put("offset", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field13C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -357,12 +383,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Time Indication");
-        result.add("Sign");
-        result.add("Time Offset");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -371,12 +392,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "timeIndication");
-        result.put(3, "sign");
-        result.put(4, "timeOffset");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -385,20 +401,7 @@ public class Field13C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("timeindication", 2);
-        // alias name
-        super.labelMap.put("time", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("timeoffset", 4);
-        // alias name
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -431,7 +434,16 @@ public class Field13C extends Field implements Serializable {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -461,6 +473,14 @@ public class Field13C extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time Indication (component 2) as LocalTime
+     * @return the Time Indication from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeIndicationAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * @deprecated use #getTimeIndicationAsCalendar() instead
      */
@@ -786,10 +806,19 @@ public class Field13C extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field13C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field13C field = new Field13C();
+    /**
+     * This method deserializes the parsed JSON data into a Field13C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field13C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field13C field = new Field13C();
 
         // **** COMPONENT 1 - Code
 
@@ -121,6 +121,30 @@ public class Field13D extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer OFFSET = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Time");
+        componentLabels.add("Sign");
+        componentLabels.add("Offset");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "time");
+        componentMap.put(3, "sign");
+        componentMap.put(4, "offset");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("time", 2);
+        labelMap.put("sign", 3);
+        labelMap.put("offset", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field13D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -345,12 +369,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -359,12 +378,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "sign");
-        result.put(4, "offset");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -373,16 +387,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -399,7 +404,16 @@ public class Field13D extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -418,6 +432,14 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -432,7 +454,16 @@ public class Field13D extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -451,6 +482,14 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Sign).
      * @return the component 3
@@ -673,6 +712,17 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return DateResolver.date(this);
     }
 
+    /**
+     * Returns the date, time and UTC offset of the field as an OffsetDateTime
+     *
+     * @return the converted date and time or null if any of its components is not present or cannot be converted
+     * @since 9.5.0
+     */
+    public java.time.OffsetDateTime getDateTimeAsOffsetDateTime() {
+        return SwiftFormatUtils.getOffsetDateTime(
+                getDateAsLocalDate(), getTimeAsLocalTime(), null, getSign(), getOffset());
+    }
+
 
     /**
      * Returns the field's name composed by the field number and the letter option (if any).
@@ -753,10 +803,19 @@ public class Field13D extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field13D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field13D field = new Field13D();
+    /**
+     * This method deserializes the parsed JSON data into a Field13D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field13D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field13D field = new Field13D();
 
         // **** COMPONENT 1 - Date
 
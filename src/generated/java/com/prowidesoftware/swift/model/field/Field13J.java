@@ -114,6 +114,25 @@ public class Field13J extends Field implements Serializable, GenericField {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer CODE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Extended Number Id");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "extendedNumberId");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("extendednumberid", 2);
+        labelMap.put("code", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field13J.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -313,10 +332,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Extended Number Id");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -325,10 +341,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "extendedNumberId");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -337,16 +350,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("extendednumberid", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -561,10 +565,19 @@ public class Field13J extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field13J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field13J field = new Field13J();
+    /**
+     * This method deserializes the parsed JSON data into a Field13J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field13J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field13J field = new Field13J();
 
         // **** COMPONENT 1 - Qualifier
 
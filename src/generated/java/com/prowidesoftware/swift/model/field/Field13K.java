@@ -124,6 +124,28 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Number Id");
+        componentLabels.add("Quantity");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "numberId");
+        componentMap.put(3, "quantity");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("numberid", 2);
+        labelMap.put("quantity", 3);
+        labelMap.put("amount", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field13K.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -337,11 +359,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Number Id");
-        result.add("Quantity");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -350,11 +368,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "numberId");
-        result.put(3, "quantity");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -363,17 +377,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("numberid", 2);
-        super.labelMap.put("quantity", 3);
-        // alias name
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -423,7 +427,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent3AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(3));
+        return getComponentAs(3, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -750,10 +754,19 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      * @see Field#fromJson(String)
      */
     public static Field13K fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field13K field = new Field13K();
+    /**
+     * This method deserializes the parsed JSON data into a Field13K object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field13K fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field13K field = new Field13K();
 
         // **** COMPONENT 1 - Qualifier
 
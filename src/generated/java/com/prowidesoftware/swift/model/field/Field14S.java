@@ -121,6 +121,30 @@ public class Field14S extends Field implements Serializable {
 	 */
 	public static final Integer LOCATION = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Source");
+        componentLabels.add("Number");
+        componentLabels.add("Time");
+        componentLabels.add("Location");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "source");
+        componentMap.put(2, "number");
+        componentMap.put(3, "time");
+        componentMap.put(4, "location");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("source", 1);
+        labelMap.put("number", 2);
+        labelMap.put("time", 3);
+        labelMap.put("location", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field14S.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -357,12 +381,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Source");
-        result.add("Number");
-        result.add("Time");
-        result.add("Location");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -371,12 +390,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "source");
-        result.put(2, "number");
-        result.put(3, "time");
-        result.put(4, "location");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -385,16 +399,7 @@ public class Field14S extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("source", 1);
-        super.labelMap.put("number", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("location", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -481,7 +486,16 @@ public class Field14S extends Field implements Serializable {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -500,6 +514,14 @@ public class Field14S extends Field implements Serializable {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Location).
      * @return the component 4
@@ -743,10 +765,19 @@ public class Field14S extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field14S fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field14S field = new Field14S();
+    /**
+     * This method deserializes the parsed JSON data into a Field14S object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field14S fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field14S field = new Field14S();
 
         // **** COMPONENT 1 - Source
 
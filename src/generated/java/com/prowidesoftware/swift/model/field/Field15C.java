@@ -95,6 +95,19 @@ public class Field15C extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
 	public static final String TYPES_PATTERN = "S";
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add(null);
+        Map<Integer, String> componentMap = new HashMap<>();
+        Map<String, Integer> labelMap = new HashMap<>();
+        DESCRIPTOR = FieldDescriptor.describe(Field15C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -285,9 +298,7 @@ public class Field15C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add(null);
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -296,8 +307,7 @@ public class Field15C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -306,12 +316,7 @@ public class Field15C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -106,6 +106,24 @@ public class Field165 extends Field implements Serializable {
 	 */
 	public static final Integer PAYMENT_INFORMATION = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Service Code");
+        componentLabels.add("Payment Information");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "serviceCode");
+        componentMap.put(2, "paymentInformation");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("servicecode", 1);
+        labelMap.put("paymentinformation", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field165.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -305,10 +323,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Service Code");
-        result.add("Payment Information");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -317,10 +332,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "serviceCode");
-        result.put(2, "paymentInformation");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -329,14 +341,7 @@ public class Field165 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("servicecode", 1);
-        super.labelMap.put("paymentinformation", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -494,10 +499,19 @@ public class Field165 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field165 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field165 field = new Field165();
+    /**
+     * This method deserializes the parsed JSON data into a Field165 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field165 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field165 field = new Field165();
 
         // **** COMPONENT 1 - Service Code
 
@@ -103,6 +103,21 @@ public class Field171 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer DATE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field171.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -298,9 +313,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -309,9 +322,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -320,13 +331,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -343,7 +348,16 @@ public class Field171 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -362,6 +376,14 @@ public class Field171 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -506,10 +528,19 @@ public class Field171 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field171 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field171 field = new Field171();
+    /**
+     * This method deserializes the parsed JSON data into a Field171 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field171 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field171 field = new Field171();
 
         // **** COMPONENT 1 - Date
 
@@ -109,6 +109,24 @@ public class Field172 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer END_DATE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Start Date");
+        componentLabels.add("End Date");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "startDate");
+        componentMap.put(2, "endDate");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("startdate", 1);
+        labelMap.put("enddate", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field172.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -320,10 +338,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start Date");
-        result.add("End Date");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -332,10 +347,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startDate");
-        result.put(2, "endDate");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -344,14 +356,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startdate", 1);
-        super.labelMap.put("enddate", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -368,7 +373,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getMonthDay(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getMonthDay);
     }
 
     /**
@@ -401,7 +406,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getMonthDay(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getMonthDay);
     }
 
     /**
@@ -610,10 +615,19 @@ public class Field172 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field172 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field172 field = new Field172();
+    /**
+     * This method deserializes the parsed JSON data into a Field172 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field172 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field172 field = new Field172();
 
         // **** COMPONENT 1 - Start Date
 
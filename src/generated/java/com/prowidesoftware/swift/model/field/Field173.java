@@ -103,6 +103,21 @@ public class Field173 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer DAY_TIME = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Day Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dayTime");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("daytime", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field173.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -299,9 +314,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Day Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -310,9 +323,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dayTime");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -321,13 +332,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("daytime", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -344,7 +349,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDayTime(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDayTime);
     }
 
     /**
@@ -509,10 +514,19 @@ public class Field173 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field173 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field173 field = new Field173();
+    /**
+     * This method deserializes the parsed JSON data into a Field173 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field173 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field173 field = new Field173();
 
         // **** COMPONENT 1 - Day Time
 
@@ -101,6 +101,21 @@ public class Field174 extends Field implements Serializable {
 	 */
 	public static final Integer RANGE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Range");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "range");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("range", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field174.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -291,9 +306,7 @@ public class Field174 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Range");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -302,9 +315,7 @@ public class Field174 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "range");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -313,13 +324,7 @@ public class Field174 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("range", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -336,7 +341,7 @@ public class Field174 extends Field implements Serializable {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getHour(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getHour);
     }
 
     /**
@@ -480,10 +485,19 @@ public class Field174 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field174 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field174 field = new Field174();
+    /**
+     * This method deserializes the parsed JSON data into a Field174 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field174 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field174 field = new Field174();
 
         // **** COMPONENT 1 - Range
 
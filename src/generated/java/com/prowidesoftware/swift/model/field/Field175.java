@@ -101,6 +101,21 @@ public class Field175 extends Field implements Serializable {
 	 */
 	public static final Integer TIME = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "time");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("time", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field175.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -296,9 +311,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -307,9 +320,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "time");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -318,13 +329,7 @@ public class Field175 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("time", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -341,7 +346,16 @@ public class Field175 extends Field implements Serializable {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return getComponentAs(1, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -360,6 +374,14 @@ public class Field175 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time (component 1) as LocalTime
+     * @return the Time from component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Time).
      *
@@ -485,10 +507,19 @@ public class Field175 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field175 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field175 field = new Field175();
+    /**
+     * This method deserializes the parsed JSON data into a Field175 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field175 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field175 field = new Field175();
 
         // **** COMPONENT 1 - Time
 
@@ -104,6 +104,21 @@ public class Field19 extends Field implements Serializable, AmountContainer {
 	 */
 	public static final Integer AMOUNT = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("amount", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field19.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -300,9 +315,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -311,9 +324,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -322,13 +333,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("amount", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -346,7 +351,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent1AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(1));
+        return getComponentAs(1, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -547,10 +552,19 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field19 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field19 field = new Field19();
+    /**
+     * This method deserializes the parsed JSON data into a Field19 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field19 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field19 field = new Field19();
 
         // **** COMPONENT 1 - Amount
 
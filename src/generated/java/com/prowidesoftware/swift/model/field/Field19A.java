@@ -131,6 +131,31 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Sign");
+        componentLabels.add("Currency Code");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "sign");
+        componentMap.put(3, "currencyCode");
+        componentMap.put(4, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("sign", 2);
+        labelMap.put("currencycode", 3);
+        labelMap.put("currency", 3);
+        labelMap.put("amount", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field19A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -360,12 +385,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Sign");
-        result.add("Currency Code");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -374,12 +394,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "sign");
-        result.put(3, "currencyCode");
-        result.put(4, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -388,18 +403,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("currencycode", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -448,7 +452,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -502,7 +506,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -874,10 +878,19 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field19A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field19A field = new Field19A();
+    /**
+     * This method deserializes the parsed JSON data into a Field19A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field19A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field19A field = new Field19A();
 
         // **** COMPONENT 1 - Qualifier
 
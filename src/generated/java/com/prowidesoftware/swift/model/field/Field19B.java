@@ -125,6 +125,28 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Currency Code");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "currencyCode");
+        componentMap.put(3, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("currencycode", 2);
+        labelMap.put("currency", 2);
+        labelMap.put("amount", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field19B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -337,11 +359,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Currency Code");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -350,11 +368,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "currencyCode");
-        result.put(3, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -363,17 +377,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("currencycode", 2);
-        // alias name
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -406,7 +410,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -460,7 +464,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent3AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(3));
+        return getComponentAs(3, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -811,10 +815,19 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field19B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field19B field = new Field19B();
+    /**
+     * This method deserializes the parsed JSON data into a Field19B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field19B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field19B field = new Field19B();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -117,6 +117,25 @@ public class Field19C extends Field implements Serializable, AmountContainer {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Sign");
+        componentLabels.add("Adjustment Factor");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "sign");
+        componentMap.put(2, "adjustmentFactor");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("sign", 1);
+        labelMap.put("adjustmentfactor", 2);
+        labelMap.put("amount", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field19C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -322,10 +341,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Sign");
-        result.add("Adjustment Factor");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -334,10 +350,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sign");
-        result.put(2, "adjustmentFactor");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -346,16 +359,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sign", 1);
-        super.labelMap.put("adjustmentfactor", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -389,7 +393,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent2AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(2));
+        return getComponentAs(2, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -658,10 +662,19 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field19C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field19C field = new Field19C();
+    /**
+     * This method deserializes the parsed JSON data into a Field19C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field19C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field19C field = new Field19C();
 
         // **** COMPONENT 1 - Sign
 
@@ -111,6 +111,22 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Weight");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "weight");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("weight", 1);
+        labelMap.put("amount", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field19Z.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -307,9 +323,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Weight");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -318,9 +332,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "weight");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -329,15 +341,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("weight", 1);
-        // alias name
-        super.labelMap.put("amount", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -355,7 +359,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent1AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(1));
+        return getComponentAs(1, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -603,10 +607,19 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field19Z fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field19Z field = new Field19Z();
+    /**
+     * This method deserializes the parsed JSON data into a Field19Z object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field19Z fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field19Z field = new Field19Z();
 
         // **** COMPONENT 1 - Weight
 
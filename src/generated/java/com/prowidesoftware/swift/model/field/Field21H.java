@@ -113,6 +113,25 @@ public class Field21H extends Field implements Serializable {
 	 */
 	public static final Integer REFERENCE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Event Type");
+        componentLabels.add("Reference");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "eventType");
+        componentMap.put(2, "reference");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("eventtype", 1);
+        labelMap.put("qualifier", 1);
+        labelMap.put("reference", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field21H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -311,10 +330,7 @@ public class Field21H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Event Type");
-        result.add("Reference");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -323,10 +339,7 @@ public class Field21H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "eventType");
-        result.put(2, "reference");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -335,16 +348,7 @@ public class Field21H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("eventtype", 1);
-        // alias name
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("reference", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -522,10 +526,19 @@ public class Field21H extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field21H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field21H field = new Field21H();
+    /**
+     * This method deserializes the parsed JSON data into a Field21H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field21H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field21H field = new Field21H();
 
         // **** COMPONENT 1 - Event Type
 
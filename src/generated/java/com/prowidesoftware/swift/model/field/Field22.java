@@ -106,6 +106,24 @@ public class Field22 extends Field implements Serializable {
 	 */
 	public static final Integer COMMON_REFERENCE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code");
+        componentLabels.add("Common Reference");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code");
+        componentMap.put(2, "commonReference");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code", 1);
+        labelMap.put("commonreference", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field22.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -304,10 +322,7 @@ public class Field22 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Common Reference");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -316,10 +331,7 @@ public class Field22 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "commonReference");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -328,14 +340,7 @@ public class Field22 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("commonreference", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -493,10 +498,19 @@ public class Field22 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22 field = new Field22();
+    /**
+     * This method deserializes the parsed JSON data into a Field22 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22 field = new Field22();
 
         // **** COMPONENT 1 - Code
 
@@ -112,6 +112,23 @@ public class Field22B extends Field implements Serializable {
      */
     public static final Integer FINANCIAL_CENTRE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Type");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "type");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("type", 1);
+        labelMap.put("centre", 1);
+        labelMap.put("financialcentre", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field22B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -302,9 +319,7 @@ public class Field22B extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -313,9 +328,7 @@ public class Field22B extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "type");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -324,17 +337,7 @@ public class Field22B extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("type", 1);
-        // alias name
-        super.labelMap.put("centre", 1);
-        // alias name
-        super.labelMap.put("financialcentre", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -487,10 +490,19 @@ public class Field22B extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22B field = new Field22B();
+    /**
+     * This method deserializes the parsed JSON data into a Field22B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22B field = new Field22B();
 
         // **** COMPONENT 1 - Type
 
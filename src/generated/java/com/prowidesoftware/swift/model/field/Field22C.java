@@ -126,6 +126,33 @@ public class Field22C extends Field implements Serializable {
 	 */
 	public static final Integer PARTY_SUFFIX_2 = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Party Prefix 1");
+        componentLabels.add("Party Suffix 1");
+        componentLabels.add("Reference Code");
+        componentLabels.add("Party Prefix 2");
+        componentLabels.add("Party Suffix 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "partyPrefix1");
+        componentMap.put(2, "partySuffix1");
+        componentMap.put(3, "referenceCode");
+        componentMap.put(4, "partyPrefix2");
+        componentMap.put(5, "partySuffix2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("partyprefix1", 1);
+        labelMap.put("partysuffix1", 2);
+        labelMap.put("referencecode", 3);
+        labelMap.put("partyprefix2", 4);
+        labelMap.put("partysuffix2", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field22C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -349,13 +376,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Prefix 1");
-        result.add("Party Suffix 1");
-        result.add("Reference Code");
-        result.add("Party Prefix 2");
-        result.add("Party Suffix 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -364,13 +385,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyPrefix1");
-        result.put(2, "partySuffix1");
-        result.put(3, "referenceCode");
-        result.put(4, "partyPrefix2");
-        result.put(5, "partySuffix2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -379,17 +394,7 @@ public class Field22C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyprefix1", 1);
-        super.labelMap.put("partysuffix1", 2);
-        super.labelMap.put("referencecode", 3);
-        super.labelMap.put("partyprefix2", 4);
-        super.labelMap.put("partysuffix2", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -735,10 +740,19 @@ public class Field22C extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22C field = new Field22C();
+    /**
+     * This method deserializes the parsed JSON data into a Field22C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22C field = new Field22C();
 
         // **** COMPONENT 1 - Party Prefix 1
 
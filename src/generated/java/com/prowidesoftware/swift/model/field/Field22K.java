@@ -112,6 +112,25 @@ public class Field22K extends Field implements Serializable {
 	 */
 	public static final Integer NARRATIVE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Type Of Event");
+        componentLabels.add("Narrative");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "typeOfEvent");
+        componentMap.put(2, "narrative");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("typeofevent", 1);
+        labelMap.put("code", 1);
+        labelMap.put("narrative", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field22K.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -314,10 +333,7 @@ public class Field22K extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type Of Event");
-        result.add("Narrative");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -326,10 +342,7 @@ public class Field22K extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "typeOfEvent");
-        result.put(2, "narrative");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -338,16 +351,7 @@ public class Field22K extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("typeofevent", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        super.labelMap.put("narrative", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -521,10 +525,19 @@ public class Field22K extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22K fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22K field = new Field22K();
+    /**
+     * This method deserializes the parsed JSON data into a Field22K object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22K fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22K field = new Field22K();
 
         // **** COMPONENT 1 - Type Of Event
 
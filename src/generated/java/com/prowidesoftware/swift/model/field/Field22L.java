@@ -107,6 +107,22 @@ public class Field22L extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer TYPE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Reporting Jurisdiction");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "reportingJurisdiction");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("reportingjurisdiction", 1);
+        labelMap.put("type", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field22L.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -297,9 +313,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Reporting Jurisdiction");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -308,9 +322,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "reportingJurisdiction");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -319,15 +331,7 @@ public class Field22L extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("reportingjurisdiction", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -468,10 +472,19 @@ public class Field22L extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22L fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22L field = new Field22L();
+    /**
+     * This method deserializes the parsed JSON data into a Field22L object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22L fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22L field = new Field22L();
 
         // **** COMPONENT 1 - Reporting Jurisdiction
 
@@ -119,6 +119,24 @@ public class Field22M extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer TYPE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Namespace");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "namespace");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("namespace", 1);
+        labelMap.put("utinamespace", 1);
+        labelMap.put("issuercode", 1);
+        labelMap.put("type", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field22M.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -309,9 +327,7 @@ public class Field22M extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Namespace");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -320,9 +336,7 @@ public class Field22M extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "namespace");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -331,19 +345,7 @@ public class Field22M extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("namespace", 1);
-        // alias name
-        super.labelMap.put("utinamespace", 1);
-        // alias name
-        super.labelMap.put("issuercode", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -516,10 +518,19 @@ public class Field22M extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22M fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22M field = new Field22M();
+    /**
+     * This method deserializes the parsed JSON data into a Field22M object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22M fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22M field = new Field22M();
 
         // **** COMPONENT 1 - Namespace
 
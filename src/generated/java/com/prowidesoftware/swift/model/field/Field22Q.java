@@ -107,6 +107,22 @@ public class Field22Q extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer TYPE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Portfolio");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "portfolio");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("portfolio", 1);
+        labelMap.put("type", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field22Q.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -297,9 +313,7 @@ public class Field22Q extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Portfolio");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -308,9 +322,7 @@ public class Field22Q extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "portfolio");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -319,15 +331,7 @@ public class Field22Q extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("portfolio", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -468,10 +472,19 @@ public class Field22Q extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field22Q fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field22Q field = new Field22Q();
+    /**
+     * This method deserializes the parsed JSON data into a Field22Q object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field22Q fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field22Q field = new Field22Q();
 
         // **** COMPONENT 1 - Portfolio
 
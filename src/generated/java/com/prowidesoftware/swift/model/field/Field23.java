@@ -145,6 +145,34 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     public static final Integer MANUAL_AUTOMATIC_INDICATOR = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code 1");
+        componentLabels.add("Code 2");
+        componentLabels.add("Code 3");
+        componentLabels.add("Currency");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code1");
+        componentMap.put(2, "code2");
+        componentMap.put(3, "code3");
+        componentMap.put(4, "currency");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code1", 1);
+        labelMap.put("buysellindicator", 1);
+        labelMap.put("code2", 2);
+        labelMap.put("callputindicator", 2);
+        labelMap.put("code3", 3);
+        labelMap.put("styleindicator", 3);
+        labelMap.put("currency", 4);
+        labelMap.put("manualautomaticindicator", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field23.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -379,12 +407,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code 1");
-        result.add("Code 2");
-        result.add("Code 3");
-        result.add("Currency");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -393,12 +416,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code1");
-        result.put(2, "code2");
-        result.put(3, "code3");
-        result.put(4, "currency");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -407,24 +425,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code1", 1);
-        // alias name
-        super.labelMap.put("buysellindicator", 1);
-        super.labelMap.put("code2", 2);
-        // alias name
-        super.labelMap.put("callputindicator", 2);
-        super.labelMap.put("code3", 3);
-        // alias name
-        super.labelMap.put("styleindicator", 3);
-        super.labelMap.put("currency", 4);
-        // alias name
-        super.labelMap.put("manualautomaticindicator", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -516,7 +517,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      * @return the component 4 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent4AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(4));
+        return getComponentAs(4, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -805,10 +806,19 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      * @see Field#fromJson(String)
      */
     public static Field23 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field23 field = new Field23();
+    /**
+     * This method deserializes the parsed JSON data into a Field23 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field23 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field23 field = new Field23();
 
         // **** COMPONENT 1 - Code 1
 
@@ -120,6 +120,26 @@ public class Field23A extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer ADDITIONAL_INFORMATION = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Type Of Swap");
+        componentLabels.add("Settlement Method");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "typeOfSwap");
+        componentMap.put(2, "settlementMethod");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("typeofswap", 1);
+        labelMap.put("code", 1);
+        labelMap.put("settlementmethod", 2);
+        labelMap.put("additionalinformation", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field23A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -318,10 +338,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type Of Swap");
-        result.add("Settlement Method");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -330,10 +347,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "typeOfSwap");
-        result.put(2, "settlementMethod");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -342,18 +356,7 @@ public class Field23A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("typeofswap", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        super.labelMap.put("settlementmethod", 2);
-        // alias name
-        super.labelMap.put("additionalinformation", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -551,10 +554,19 @@ public class Field23A extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field23A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field23A field = new Field23A();
+    /**
+     * This method deserializes the parsed JSON data into a Field23A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field23A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field23A field = new Field23A();
 
         // **** COMPONENT 1 - Type Of Swap
 
@@ -125,6 +125,27 @@ public class Field23E extends Field implements Serializable {
      */
     public static final Integer NARRATIVE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Instruction Code");
+        componentLabels.add("Additional Information");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "instructionCode");
+        componentMap.put(2, "additionalInformation");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("instructioncode", 1);
+        labelMap.put("type", 1);
+        labelMap.put("code", 1);
+        labelMap.put("additionalinformation", 2);
+        labelMap.put("narrative", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field23E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -327,10 +348,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Instruction Code");
-        result.add("Additional Information");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -339,10 +357,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "instructionCode");
-        result.put(2, "additionalInformation");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -351,20 +366,7 @@ public class Field23E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("instructioncode", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        // alias name
-        super.labelMap.put("code", 1);
-        super.labelMap.put("additionalinformation", 2);
-        // alias name
-        super.labelMap.put("narrative", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -574,10 +576,19 @@ public class Field23E extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field23E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field23E field = new Field23E();
+    /**
+     * This method deserializes the parsed JSON data into a Field23E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field23E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field23E field = new Field23E();
 
         // **** COMPONENT 1 - Instruction Code
 
@@ -106,6 +106,24 @@ public class Field23F extends Field implements Serializable {
 	 */
 	public static final Integer DETAILS = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Period");
+        componentLabels.add("Details");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "period");
+        componentMap.put(2, "details");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("period", 1);
+        labelMap.put("details", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field23F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -308,10 +326,7 @@ public class Field23F extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Period");
-        result.add("Details");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -320,10 +335,7 @@ public class Field23F extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "period");
-        result.put(2, "details");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -332,14 +344,7 @@ public class Field23F extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("period", 1);
-        super.labelMap.put("details", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -497,10 +502,19 @@ public class Field23F extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field23F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field23F field = new Field23F();
+    /**
+     * This method deserializes the parsed JSON data into a Field23F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field23F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field23F field = new Field23F();
 
         // **** COMPONENT 1 - Period
 
@@ -112,6 +112,39 @@ public class Field23R extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer TEXT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code");
+        componentLabels.add("Text");
+        componentLabels.add("Text 2");
+        componentLabels.add("Text 3");
+        componentLabels.add("Text 4");
+        componentLabels.add("Text 5");
+        componentLabels.add("Text 6");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code");
+        componentMap.put(2, "text");
+        componentMap.put(3, "text2");
+        componentMap.put(4, "text3");
+        componentMap.put(5, "text4");
+        componentMap.put(6, "text5");
+        componentMap.put(7, "text6");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code", 1);
+        labelMap.put("text", 2);
+        labelMap.put("text2", 3);
+        labelMap.put("text3", 4);
+        labelMap.put("text4", 5);
+        labelMap.put("text5", 6);
+        labelMap.put("text6", 7);
+        DESCRIPTOR = FieldDescriptor.describe(Field23R.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -346,15 +379,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Text");
-        result.add("Text 2");
-        result.add("Text 3");
-        result.add("Text 4");
-        result.add("Text 5");
-        result.add("Text 6");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -363,15 +388,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "text");
-        result.put(3, "text2");
-        result.put(4, "text3");
-        result.put(5, "text4");
-        result.put(6, "text5");
-        result.put(7, "text6");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -380,19 +397,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("text", 2);
-        super.labelMap.put("text2", 3);
-        super.labelMap.put("text3", 4);
-        super.labelMap.put("text4", 5);
-        super.labelMap.put("text5", 6);
-        super.labelMap.put("text6", 7);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -859,10 +864,19 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field23R fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field23R field = new Field23R();
+    /**
+     * This method deserializes the parsed JSON data into a Field23R object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field23R fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field23R field = new Field23R();
 
         // **** COMPONENT 1 - Code
 
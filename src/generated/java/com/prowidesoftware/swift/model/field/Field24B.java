@@ -113,6 +113,27 @@ public class Field24B extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer REASON_CODE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Reason Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "reasonCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("reasoncode", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field24B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -322,11 +343,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Reason Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -335,11 +352,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "reasonCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -348,15 +361,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("reasoncode", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -588,10 +593,19 @@ public class Field24B extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field24B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field24B field = new Field24B();
+    /**
+     * This method deserializes the parsed JSON data into a Field24B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field24B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field24B field = new Field24B();
 
         // **** COMPONENT 1 - Qualifier
 
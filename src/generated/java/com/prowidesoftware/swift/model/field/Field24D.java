@@ -112,6 +112,25 @@ public class Field24D extends Field implements Serializable {
 	 */
 	public static final Integer ADDITIONAL_INFORMATION = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code");
+        componentLabels.add("Additional Information");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code");
+        componentMap.put(2, "additionalInformation");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code", 1);
+        labelMap.put("method", 1);
+        labelMap.put("additionalinformation", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field24D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -314,10 +333,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Additional Information");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -326,10 +342,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "additionalInformation");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -338,16 +351,7 @@ public class Field24D extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        // alias name
-        super.labelMap.put("method", 1);
-        super.labelMap.put("additionalinformation", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -521,10 +525,19 @@ public class Field24D extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field24D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field24D field = new Field24D();
+    /**
+     * This method deserializes the parsed JSON data into a Field24D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field24D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field24D field = new Field24D();
 
         // **** COMPONENT 1 - Code
 
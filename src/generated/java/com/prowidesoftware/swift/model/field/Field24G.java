@@ -125,6 +125,69 @@ public class Field24G extends Field implements Serializable, MultiLineField {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer NAME_AND_ADDRESS = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Code");
+        componentLabels.add("Narrative");
+        componentLabels.add("Narrative 2");
+        componentLabels.add("Narrative 3");
+        componentLabels.add("Narrative 4");
+        componentLabels.add("Narrative 5");
+        componentLabels.add("Narrative 6");
+        componentLabels.add("Narrative 7");
+        componentLabels.add("Narrative 8");
+        componentLabels.add("Narrative 9");
+        componentLabels.add("Narrative 10");
+        componentLabels.add("Narrative 11");
+        componentLabels.add("Narrative 12");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "code");
+        componentMap.put(2, "narrative");
+        componentMap.put(3, "narrative2");
+        componentMap.put(4, "narrative3");
+        componentMap.put(5, "narrative4");
+        componentMap.put(6, "narrative5");
+        componentMap.put(7, "narrative6");
+        componentMap.put(8, "narrative7");
+        componentMap.put(9, "narrative8");
+        componentMap.put(10, "narrative9");
+        componentMap.put(11, "narrative10");
+        componentMap.put(12, "narrative11");
+        componentMap.put(13, "narrative12");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("code", 1);
+        labelMap.put("narrative", 2);
+        labelMap.put("nameandaddress", 2);
+        labelMap.put("narrative2", 3);
+        labelMap.put("nameandaddress2", 3);
+        labelMap.put("narrative3", 4);
+        labelMap.put("nameandaddress3", 4);
+        labelMap.put("narrative4", 5);
+        labelMap.put("nameandaddress4", 5);
+        labelMap.put("narrative5", 6);
+        labelMap.put("nameandaddress5", 6);
+        labelMap.put("narrative6", 7);
+        labelMap.put("nameandaddress6", 7);
+        labelMap.put("narrative7", 8);
+        labelMap.put("nameandaddress7", 8);
+        labelMap.put("narrative8", 9);
+        labelMap.put("nameandaddress8", 9);
+        labelMap.put("narrative9", 10);
+        labelMap.put("nameandaddress9", 10);
+        labelMap.put("narrative10", 11);
+        labelMap.put("nameandaddress10", 11);
+        labelMap.put("narrative11", 12);
+        labelMap.put("nameandaddress11", 12);
+        labelMap.put("narrative12", 13);
+        labelMap.put("nameandaddress12", 13);
+        DESCRIPTOR = FieldDescriptor.describe(Field24G.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -401,21 +464,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Code");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -424,21 +473,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "code");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        result.put(8, "narrative7");
-        result.put(9, "narrative8");
-        result.put(10, "narrative9");
-        result.put(11, "narrative10");
-        result.put(12, "narrative11");
-        result.put(13, "narrative12");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -447,49 +482,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("code", 1);
-        super.labelMap.put("narrative", 2);
-        // alias name
-        super.labelMap.put("nameandaddress", 2);
-        super.labelMap.put("narrative2", 3);
-        // alias name
-        super.labelMap.put("nameandaddress2", 3);
-        super.labelMap.put("narrative3", 4);
-        // alias name
-        super.labelMap.put("nameandaddress3", 4);
-        super.labelMap.put("narrative4", 5);
-        // alias name
-        super.labelMap.put("nameandaddress4", 5);
-        super.labelMap.put("narrative5", 6);
-        // alias name
-        super.labelMap.put("nameandaddress5", 6);
-        super.labelMap.put("narrative6", 7);
-        // alias name
-        super.labelMap.put("nameandaddress6", 7);
-        super.labelMap.put("narrative7", 8);
-        // alias name
-        super.labelMap.put("nameandaddress7", 8);
-        super.labelMap.put("narrative8", 9);
-        // alias name
-        super.labelMap.put("nameandaddress8", 9);
-        super.labelMap.put("narrative9", 10);
-        // alias name
-        super.labelMap.put("nameandaddress9", 10);
-        super.labelMap.put("narrative10", 11);
-        // alias name
-        super.labelMap.put("nameandaddress10", 11);
-        super.labelMap.put("narrative11", 12);
-        // alias name
-        super.labelMap.put("nameandaddress11", 12);
-        super.labelMap.put("narrative12", 13);
-        // alias name
-        super.labelMap.put("nameandaddress12", 13);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1445,10 +1438,19 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field24G fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field24G field = new Field24G();
+    /**
+     * This method deserializes the parsed JSON data into a Field24G object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field24G fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field24G field = new Field24G();
 
         // **** COMPONENT 1 - Code
 
@@ -101,6 +101,21 @@ public class Field251 extends Field implements Serializable {
 	 */
 	public static final Integer MIR = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("MIR");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "mIR");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("mir", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field251.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -291,9 +306,7 @@ public class Field251 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("MIR");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -302,9 +315,7 @@ public class Field251 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "mIR");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -313,13 +324,7 @@ public class Field251 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("mir", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -480,10 +485,19 @@ public class Field251 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field251 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field251 field = new Field251();
+    /**
+     * This method deserializes the parsed JSON data into a Field251 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field251 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field251 field = new Field251();
 
         // **** COMPONENT 1 - MIR
 
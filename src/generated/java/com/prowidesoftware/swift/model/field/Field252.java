@@ -120,6 +120,30 @@ public class Field252 extends Field implements Serializable {
 	 */
 	public static final Integer END_TIME = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Start MIR");
+        componentLabels.add("End MIR");
+        componentLabels.add("Start Time");
+        componentLabels.add("End Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "startMIR");
+        componentMap.put(2, "endMIR");
+        componentMap.put(3, "startTime");
+        componentMap.put(4, "endTime");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("startmir", 1);
+        labelMap.put("endmir", 2);
+        labelMap.put("starttime", 3);
+        labelMap.put("endtime", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field252.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -348,12 +372,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start MIR");
-        result.add("End MIR");
-        result.add("Start Time");
-        result.add("End Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -362,12 +381,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startMIR");
-        result.put(2, "endMIR");
-        result.put(3, "startTime");
-        result.put(4, "endTime");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -376,16 +390,7 @@ public class Field252 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startmir", 1);
-        super.labelMap.put("endmir", 2);
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("endtime", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -468,7 +473,16 @@ public class Field252 extends Field implements Serializable {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -487,6 +501,14 @@ public class Field252 extends Field implements Serializable {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 3) as LocalTime
+     * @return the Start Time from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (End Time).
      * @return the component 4
@@ -501,7 +523,16 @@ public class Field252 extends Field implements Serializable {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return getComponentAs(4, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -520,6 +551,14 @@ public class Field252 extends Field implements Serializable {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 4) as LocalTime
+     * @return the End Time from component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Start MIR).
      *
@@ -777,10 +816,19 @@ public class Field252 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field252 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field252 field = new Field252();
+    /**
+     * This method deserializes the parsed JSON data into a Field252 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field252 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field252 field = new Field252();
 
         // **** COMPONENT 1 - Start MIR
 
@@ -130,6 +130,33 @@ public class Field257 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer SESSION_NUMBER = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("LT Address");
+        componentLabels.add("Date");
+        componentLabels.add("Start Time");
+        componentLabels.add("End Time");
+        componentLabels.add("Session Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "lTAddress");
+        componentMap.put(2, "date");
+        componentMap.put(3, "startTime");
+        componentMap.put(4, "endTime");
+        componentMap.put(5, "sessionNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("ltaddress", 1);
+        labelMap.put("date", 2);
+        labelMap.put("starttime", 3);
+        labelMap.put("endtime", 4);
+        labelMap.put("sessionnumber", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field257.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -369,13 +396,7 @@ public class Field257 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        result.add("Date");
-        result.add("Start Time");
-        result.add("End Time");
-        result.add("Session Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -384,13 +405,7 @@ public class Field257 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        result.put(2, "date");
-        result.put(3, "startTime");
-        result.put(4, "endTime");
-        result.put(5, "sessionNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -399,17 +414,7 @@ public class Field257 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("endtime", 4);
-        super.labelMap.put("sessionnumber", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -459,7 +464,16 @@ public class Field257 extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -478,6 +492,14 @@ public class Field257 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Start Time).
      * @return the component 3
@@ -492,7 +514,16 @@ public class Field257 extends Field implements Serializable, DateContainer {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -511,6 +542,14 @@ public class Field257 extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 3) as LocalTime
+     * @return the Start Time from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (End Time).
      * @return the component 4
@@ -525,7 +564,16 @@ public class Field257 extends Field implements Serializable, DateContainer {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return getComponentAs(4, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -544,6 +592,14 @@ public class Field257 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 4) as LocalTime
+     * @return the End Time from component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Gets the component 5 (Session Number).
      * @return the component 5
@@ -934,10 +990,19 @@ public class Field257 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field257 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field257 field = new Field257();
+    /**
+     * This method deserializes the parsed JSON data into a Field257 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field257 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field257 field = new Field257();
 
         // **** COMPONENT 1 - LT Address
 
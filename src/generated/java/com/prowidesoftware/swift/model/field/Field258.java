@@ -136,6 +136,36 @@ public class Field258 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer END_TIME = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("LT Address");
+        componentLabels.add("Session Number");
+        componentLabels.add("Message Type");
+        componentLabels.add("Date");
+        componentLabels.add("Start Time");
+        componentLabels.add("End Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "lTAddress");
+        componentMap.put(2, "sessionNumber");
+        componentMap.put(3, "messageType");
+        componentMap.put(4, "date");
+        componentMap.put(5, "startTime");
+        componentMap.put(6, "endTime");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("ltaddress", 1);
+        labelMap.put("sessionnumber", 2);
+        labelMap.put("messagetype", 3);
+        labelMap.put("date", 4);
+        labelMap.put("starttime", 5);
+        labelMap.put("endtime", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field258.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,14 +414,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("LT Address");
-        result.add("Session Number");
-        result.add("Message Type");
-        result.add("Date");
-        result.add("Start Time");
-        result.add("End Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -400,14 +423,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "lTAddress");
-        result.put(2, "sessionNumber");
-        result.put(3, "messageType");
-        result.put(4, "date");
-        result.put(5, "startTime");
-        result.put(6, "endTime");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -416,18 +432,7 @@ public class Field258 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("ltaddress", 1);
-        super.labelMap.put("sessionnumber", 2);
-        super.labelMap.put("messagetype", 3);
-        super.labelMap.put("date", 4);
-        super.labelMap.put("starttime", 5);
-        super.labelMap.put("endtime", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -547,7 +552,16 @@ public class Field258 extends Field implements Serializable, DateContainer {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return getComponentAs(4, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -566,6 +580,14 @@ public class Field258 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date (component 4) as LocalDate
+     * @return the Date from component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Start Time).
      * @return the component 5
@@ -580,7 +602,16 @@ public class Field258 extends Field implements Serializable, DateContainer {
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -599,6 +630,14 @@ public class Field258 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 5) as LocalTime
+     * @return the Start Time from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (End Time).
      * @return the component 6
@@ -613,7 +652,16 @@ public class Field258 extends Field implements Serializable, DateContainer {
      * @return the component 6 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent6AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(6));
+        return getComponentAs(6, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 6 as LocalTime
+     *
+     * @return the component 6 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent6AsLocalTime() {
+        return getComponentAs(6, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -632,6 +680,14 @@ public class Field258 extends Field implements Serializable, DateContainer {
         return getComponent6AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 6) as LocalTime
+     * @return the End Time from component 6 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent6AsLocalTime();
+    }
+
     /**
      * Set the component 1 (LT Address).
      *
@@ -989,10 +1045,19 @@ public class Field258 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field258 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field258 field = new Field258();
+    /**
+     * This method deserializes the parsed JSON data into a Field258 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field258 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field258 field = new Field258();
 
         // **** COMPONENT 1 - LT Address
 
@@ -100,6 +100,21 @@ public class Field25A extends Field implements Serializable {
 	 */
 	public static final Integer ACCOUNT = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Account");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "account");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("account", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field25A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -291,9 +306,7 @@ public class Field25A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -302,9 +315,7 @@ public class Field25A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -313,13 +324,7 @@ public class Field25A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -449,10 +454,19 @@ public class Field25A extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field25A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field25A field = new Field25A();
+    /**
+     * This method deserializes the parsed JSON data into a Field25A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field25A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field25A field = new Field25A();
 
         // **** COMPONENT 1 - Account
 
@@ -117,6 +117,25 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer BIC = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Account");
+        componentLabels.add("Identifier Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "account");
+        componentMap.put(2, "identifierCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("account", 1);
+        labelMap.put("identifiercode", 2);
+        labelMap.put("bic", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field25P.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -321,10 +340,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        result.add("Identifier Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -333,10 +349,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        result.put(2, "identifierCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -345,16 +358,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        super.labelMap.put("identifiercode", 2);
-        // alias name
-        super.labelMap.put("bic", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -693,10 +697,19 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      * @see Field#fromJson(String)
      */
     public static Field25P fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field25P field = new Field25P();
+    /**
+     * This method deserializes the parsed JSON data into a Field25P object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field25P fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field25P field = new Field25P();
 
         // **** COMPONENT 1 - Account
 
@@ -106,6 +106,24 @@ public class Field26A extends Field implements Serializable {
 	 */
 	public static final Integer NUMBER2 = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number1");
+        componentLabels.add("Number2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "number1");
+        componentMap.put(2, "number2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("number1", 1);
+        labelMap.put("number2", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field26A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -308,10 +326,7 @@ public class Field26A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number1");
-        result.add("Number2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -320,10 +335,7 @@ public class Field26A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number1");
-        result.put(2, "number2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -332,14 +344,7 @@ public class Field26A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number1", 1);
-        super.labelMap.put("number2", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -497,10 +502,19 @@ public class Field26A extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field26A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field26A field = new Field26A();
+    /**
+     * This method deserializes the parsed JSON data into a Field26A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field26A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field26A field = new Field26A();
 
         // **** COMPONENT 1 - Number1
 
@@ -130,6 +130,36 @@ public class Field26C extends Field implements Serializable {
 	 */
 	public static final Integer FORM = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Delivery Details");
+        componentLabels.add("Delivery Location");
+        componentLabels.add("Allocation");
+        componentLabels.add("Type");
+        componentLabels.add("Denomination");
+        componentLabels.add("Form");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "deliveryDetails");
+        componentMap.put(2, "deliveryLocation");
+        componentMap.put(3, "allocation");
+        componentMap.put(4, "type");
+        componentMap.put(5, "denomination");
+        componentMap.put(6, "form");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("deliverydetails", 1);
+        labelMap.put("deliverylocation", 2);
+        labelMap.put("allocation", 3);
+        labelMap.put("type", 4);
+        labelMap.put("denomination", 5);
+        labelMap.put("form", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field26C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,14 +414,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Delivery Details");
-        result.add("Delivery Location");
-        result.add("Allocation");
-        result.add("Type");
-        result.add("Denomination");
-        result.add("Form");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -400,14 +423,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "deliveryDetails");
-        result.put(2, "deliveryLocation");
-        result.put(3, "allocation");
-        result.put(4, "type");
-        result.put(5, "denomination");
-        result.put(6, "form");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -416,18 +432,7 @@ public class Field26C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("deliverydetails", 1);
-        super.labelMap.put("deliverylocation", 2);
-        super.labelMap.put("allocation", 3);
-        super.labelMap.put("type", 4);
-        super.labelMap.put("denomination", 5);
-        super.labelMap.put("form", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -733,10 +738,19 @@ public class Field26C extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field26C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field26C field = new Field26C();
+    /**
+     * This method deserializes the parsed JSON data into a Field26C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field26C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field26C field = new Field26C();
 
         // **** COMPONENT 1 - Delivery Details
 
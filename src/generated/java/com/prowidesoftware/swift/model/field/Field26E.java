@@ -115,6 +115,23 @@ public class Field26E extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer NUMBER = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number Of Amendment");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "numberOfAmendment");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("numberofamendment", 1);
+        labelMap.put("automaticextensionnotificationperiod", 1);
+        labelMap.put("number", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field26E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -305,9 +322,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number Of Amendment");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -316,9 +331,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "numberOfAmendment");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -327,17 +340,7 @@ public class Field26E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("numberofamendment", 1);
-        // alias name
-        super.labelMap.put("automaticextensionnotificationperiod", 1);
-        // alias name
-        super.labelMap.put("number", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -622,10 +625,19 @@ public class Field26E extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field26E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field26E field = new Field26E();
+    /**
+     * This method deserializes the parsed JSON data into a Field26E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field26E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field26E field = new Field26E();
 
         // **** COMPONENT 1 - Number Of Amendment
 
@@ -113,6 +113,23 @@ public class Field26H extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer REFERENCE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Counterparty Reference");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "counterpartyReference");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("counterpartyreference", 1);
+        labelMap.put("collateraltype", 1);
+        labelMap.put("reference", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field26H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -303,9 +320,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Counterparty Reference");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -314,9 +329,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "counterpartyReference");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -325,17 +338,7 @@ public class Field26H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("counterpartyreference", 1);
-        // alias name
-        super.labelMap.put("collateraltype", 1);
-        // alias name
-        super.labelMap.put("reference", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -492,10 +495,19 @@ public class Field26H extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field26H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field26H field = new Field26H();
+    /**
+     * This method deserializes the parsed JSON data into a Field26H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field26H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field26H field = new Field26H();
 
         // **** COMPONENT 1 - Counterparty Reference
 
@@ -120,6 +120,26 @@ public class Field27 extends Field implements Serializable {
      */
     public static final Integer SEQUENCE_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number");
+        componentLabels.add("Total");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "number");
+        componentMap.put(2, "total");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("number", 1);
+        labelMap.put("messagenumber", 1);
+        labelMap.put("total", 2);
+        labelMap.put("sequencenumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field27.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -318,10 +338,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number");
-        result.add("Total");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -330,10 +347,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number");
-        result.put(2, "total");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -342,18 +356,7 @@ public class Field27 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number", 1);
-        // alias name
-        super.labelMap.put("messagenumber", 1);
-        super.labelMap.put("total", 2);
-        // alias name
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -745,10 +748,19 @@ public class Field27 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field27 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field27 field = new Field27();
+    /**
+     * This method deserializes the parsed JSON data into a Field27 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field27 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field27 field = new Field27();
 
         // **** COMPONENT 1 - Number
 
@@ -109,6 +109,24 @@ public class Field272 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer ABORT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Timestamp");
+        componentLabels.add("Abort");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "timestamp");
+        componentMap.put(2, "abort");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("timestamp", 1);
+        labelMap.put("abort", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field272.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -316,10 +334,7 @@ public class Field272 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Timestamp");
-        result.add("Abort");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -328,10 +343,7 @@ public class Field272 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "timestamp");
-        result.put(2, "abort");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -340,14 +352,7 @@ public class Field272 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("timestamp", 1);
-        super.labelMap.put("abort", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -364,7 +369,16 @@ public class Field272 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDateTimeShortYear(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDateTimeShortYear);
+    }
+
+    /**
+     * Get the component 1 as LocalDateTime
+     *
+     * @return the component 1 converted to LocalDateTime or null if cannot be converted
+     */
+    public java.time.LocalDateTime getComponent1AsLocalDateTime() {
+        return getComponentAs(1, java.time.LocalDateTime.class, SwiftFormatUtils::getLocalDateTimeShortYear);
     }
 
     /**
@@ -383,6 +397,14 @@ public class Field272 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Timestamp (component 1) as LocalDateTime
+     * @return the Timestamp from component 1 converted to LocalDateTime or null if cannot be converted
+     */
+    public java.time.LocalDateTime getTimestampAsLocalDateTime() {
+        return getComponent1AsLocalDateTime();
+    }
+
     /**
      * Gets the component 2 (Abort).
      * @return the component 2
@@ -566,10 +588,19 @@ public class Field272 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field272 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field272 field = new Field272();
+    /**
+     * This method deserializes the parsed JSON data into a Field272 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field272 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field272 field = new Field272();
 
         // **** COMPONENT 1 - Timestamp
 
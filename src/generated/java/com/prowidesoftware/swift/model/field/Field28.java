@@ -120,6 +120,26 @@ public class Field28 extends Field implements Serializable {
      */
     public static final Integer PAGE_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Statement Number");
+        componentLabels.add("Sequence Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "statementNumber");
+        componentMap.put(2, "sequenceNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("statementnumber", 1);
+        labelMap.put("settlementnumber", 1);
+        labelMap.put("sequencenumber", 2);
+        labelMap.put("pagenumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field28.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -322,10 +342,7 @@ public class Field28 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Statement Number");
-        result.add("Sequence Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -334,10 +351,7 @@ public class Field28 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "statementNumber");
-        result.put(2, "sequenceNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -346,18 +360,7 @@ public class Field28 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("statementnumber", 1);
-        // alias name
-        super.labelMap.put("settlementnumber", 1);
-        super.labelMap.put("sequencenumber", 2);
-        // alias name
-        super.labelMap.put("pagenumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -749,10 +752,19 @@ public class Field28 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field28 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field28 field = new Field28();
+    /**
+     * This method deserializes the parsed JSON data into a Field28 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field28 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field28 field = new Field28();
 
         // **** COMPONENT 1 - Statement Number
 
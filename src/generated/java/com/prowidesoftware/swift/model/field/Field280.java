@@ -120,6 +120,30 @@ public class Field280 extends Field implements Serializable {
 	 */
 	public static final Integer ERROR = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Input Time");
+        componentLabels.add("MIR");
+        componentLabels.add("Accepted");
+        componentLabels.add("Error");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "inputTime");
+        componentMap.put(2, "mIR");
+        componentMap.put(3, "accepted");
+        componentMap.put(4, "error");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("inputtime", 1);
+        labelMap.put("mir", 2);
+        labelMap.put("accepted", 3);
+        labelMap.put("error", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field280.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -340,12 +364,7 @@ public class Field280 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Input Time");
-        result.add("MIR");
-        result.add("Accepted");
-        result.add("Error");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -354,12 +373,7 @@ public class Field280 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "inputTime");
-        result.put(2, "mIR");
-        result.put(3, "accepted");
-        result.put(4, "error");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -368,16 +382,7 @@ public class Field280 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("inputtime", 1);
-        super.labelMap.put("mir", 2);
-        super.labelMap.put("accepted", 3);
-        super.labelMap.put("error", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -394,7 +399,16 @@ public class Field280 extends Field implements Serializable {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return getComponentAs(1, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -413,6 +427,14 @@ public class Field280 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Input Time (component 1) as LocalTime
+     * @return the Input Time from component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getInputTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (MIR).
      * @return the component 2
@@ -729,10 +751,19 @@ public class Field280 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field280 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field280 field = new Field280();
+    /**
+     * This method deserializes the parsed JSON data into a Field280 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field280 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field280 field = new Field280();
 
         // **** COMPONENT 1 - Input Time
 
@@ -108,6 +108,24 @@ public class Field28C extends Field implements Serializable {
 	 */
 	public static final Integer SEQUENCE_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Statement Number");
+        componentLabels.add("Sequence Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "statementNumber");
+        componentMap.put(2, "sequenceNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("statementnumber", 1);
+        labelMap.put("sequencenumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field28C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -310,10 +328,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Statement Number");
-        result.add("Sequence Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -322,10 +337,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "statementNumber");
-        result.put(2, "sequenceNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -334,14 +346,7 @@ public class Field28C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("statementnumber", 1);
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -653,10 +658,19 @@ public class Field28C extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field28C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field28C field = new Field28C();
+    /**
+     * This method deserializes the parsed JSON data into a Field28C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field28C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field28C field = new Field28C();
 
         // **** COMPONENT 1 - Statement Number
 
@@ -122,6 +122,26 @@ public class Field28D extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer SEQUENCE_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Message Index");
+        componentLabels.add("Total");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "messageIndex");
+        componentMap.put(2, "total");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("messageindex", 1);
+        labelMap.put("statementnumber", 1);
+        labelMap.put("total", 2);
+        labelMap.put("sequencenumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field28D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -320,10 +340,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Message Index");
-        result.add("Total");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -332,10 +349,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "messageIndex");
-        result.put(2, "total");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -344,18 +358,7 @@ public class Field28D extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("messageindex", 1);
-        // alias name
-        super.labelMap.put("statementnumber", 1);
-        super.labelMap.put("total", 2);
-        // alias name
-        super.labelMap.put("sequencenumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -761,10 +764,19 @@ public class Field28D extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field28D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field28D field = new Field28D();
+    /**
+     * This method deserializes the parsed JSON data into a Field28D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field28D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field28D field = new Field28D();
 
         // **** COMPONENT 1 - Message Index
 
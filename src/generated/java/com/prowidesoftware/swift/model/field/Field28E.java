@@ -108,6 +108,24 @@ public class Field28E extends Field implements Serializable {
 	 */
 	public static final Integer CONTINUATION_INDICATOR = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Page Number");
+        componentLabels.add("Continuation Indicator");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "pageNumber");
+        componentMap.put(2, "continuationIndicator");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("pagenumber", 1);
+        labelMap.put("continuationindicator", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field28E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -306,10 +324,7 @@ public class Field28E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Page Number");
-        result.add("Continuation Indicator");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -318,10 +333,7 @@ public class Field28E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "pageNumber");
-        result.put(2, "continuationIndicator");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -330,14 +342,7 @@ public class Field28E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("pagenumber", 1);
-        super.labelMap.put("continuationindicator", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -572,10 +577,19 @@ public class Field28E extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field28E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field28E field = new Field28E();
+    /**
+     * This method deserializes the parsed JSON data into a Field28E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field28E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field28E field = new Field28E();
 
         // **** COMPONENT 1 - Page Number
 
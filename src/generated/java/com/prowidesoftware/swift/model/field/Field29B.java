@@ -104,6 +104,30 @@ public class Field29B extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NARRATIVE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Narrative");
+        componentLabels.add("Narrative 2");
+        componentLabels.add("Narrative 3");
+        componentLabels.add("Narrative 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "narrative");
+        componentMap.put(2, "narrative2");
+        componentMap.put(3, "narrative3");
+        componentMap.put(4, "narrative4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("narrative", 1);
+        labelMap.put("narrative2", 2);
+        labelMap.put("narrative3", 3);
+        labelMap.put("narrative4", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field29B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -317,12 +341,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -331,12 +350,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -345,16 +359,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -710,10 +715,19 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field29B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field29B field = new Field29B();
+    /**
+     * This method deserializes the parsed JSON data into a Field29B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field29B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field29B field = new Field29B();
 
         // **** COMPONENT 1 - Narrative
 
@@ -107,6 +107,24 @@ public class Field29E extends Field implements Serializable {
 	 */
 	public static final Integer TIME = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Location");
+        componentLabels.add("Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "location");
+        componentMap.put(2, "time");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("location", 1);
+        labelMap.put("time", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field29E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -310,10 +328,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Location");
-        result.add("Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -322,10 +337,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "location");
-        result.put(2, "time");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -334,14 +346,7 @@ public class Field29E extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("location", 1);
-        super.labelMap.put("time", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -374,7 +379,16 @@ public class Field29E extends Field implements Serializable {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -393,6 +407,14 @@ public class Field29E extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Location).
      *
@@ -539,10 +561,19 @@ public class Field29E extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field29E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field29E field = new Field29E();
+    /**
+     * This method deserializes the parsed JSON data into a Field29E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field29E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field29E field = new Field29E();
 
         // **** COMPONENT 1 - Location
 
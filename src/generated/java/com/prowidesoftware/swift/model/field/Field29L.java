@@ -115,6 +115,27 @@ public class Field29L extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer TIME = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Location");
+        componentLabels.add("Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "location");
+        componentMap.put(3, "time");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("location", 2);
+        labelMap.put("time", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field29L.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -330,11 +351,7 @@ public class Field29L extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Location");
-        result.add("Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -343,11 +360,7 @@ public class Field29L extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "location");
-        result.put(3, "time");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -356,15 +369,7 @@ public class Field29L extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("location", 2);
-        super.labelMap.put("time", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -381,7 +386,16 @@ public class Field29L extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -400,6 +414,14 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Location).
      * @return the component 2
@@ -430,7 +452,16 @@ public class Field29L extends Field implements Serializable, DateContainer {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -449,6 +480,14 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -658,10 +697,19 @@ public class Field29L extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field29L fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field29L field = new Field29L();
+    /**
+     * This method deserializes the parsed JSON data into a Field29L object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field29L fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field29L field = new Field29L();
 
         // **** COMPONENT 1 - Date
 
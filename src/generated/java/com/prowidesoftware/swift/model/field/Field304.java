@@ -106,6 +106,24 @@ public class Field304 extends Field implements Serializable {
 	 */
 	public static final Integer REGION = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Country Code");
+        componentLabels.add("Region");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "countryCode");
+        componentMap.put(2, "region");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("countrycode", 1);
+        labelMap.put("region", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field304.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -306,10 +324,7 @@ public class Field304 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Country Code");
-        result.add("Region");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -318,10 +333,7 @@ public class Field304 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "countryCode");
-        result.put(2, "region");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -330,14 +342,7 @@ public class Field304 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("countrycode", 1);
-        super.labelMap.put("region", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -495,10 +500,19 @@ public class Field304 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field304 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field304 field = new Field304();
+    /**
+     * This method deserializes the parsed JSON data into a Field304 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field304 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field304 field = new Field304();
 
         // **** COMPONENT 1 - Country Code
 
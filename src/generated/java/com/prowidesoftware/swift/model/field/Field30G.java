@@ -121,6 +121,26 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     public static final Integer PERIOD_END_DATE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Start Date");
+        componentLabels.add("End Date");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "startDate");
+        componentMap.put(2, "endDate");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("startdate", 1);
+        labelMap.put("periodstartdate", 1);
+        labelMap.put("enddate", 2);
+        labelMap.put("periodenddate", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field30G.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -328,10 +348,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start Date");
-        result.add("End Date");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -340,10 +357,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startDate");
-        result.put(2, "endDate");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -352,18 +366,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startdate", 1);
-        // alias name
-        super.labelMap.put("periodstartdate", 1);
-        super.labelMap.put("enddate", 2);
-        // alias name
-        super.labelMap.put("periodenddate", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -380,7 +383,16 @@ public class Field30G extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -408,6 +420,14 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Start Date (component 1) as LocalDate
+     * @return the Start Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getStartDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * @deprecated use #getStartDateAsCalendar() instead
      * @since 9.2.7
@@ -430,7 +450,16 @@ public class Field30G extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -458,6 +487,14 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as LocalDate
+     * @return the End Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getEndDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * @deprecated use #getEndDateAsCalendar() instead
      * @since 9.2.7
@@ -682,10 +719,19 @@ public class Field30G extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field30G fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field30G field = new Field30G();
+    /**
+     * This method deserializes the parsed JSON data into a Field30G object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field30G fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field30G field = new Field30G();
 
         // **** COMPONENT 1 - Start Date
 
@@ -116,6 +116,25 @@ public class Field30I extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer END_DATE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Start Date");
+        componentLabels.add("End Date");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "startDate");
+        componentMap.put(2, "endDate");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("startdate", 1);
+        labelMap.put("dateorstartdate", 1);
+        labelMap.put("enddate", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field30I.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -324,10 +343,7 @@ public class Field30I extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Start Date");
-        result.add("End Date");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -336,10 +352,7 @@ public class Field30I extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "startDate");
-        result.put(2, "endDate");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -348,16 +361,7 @@ public class Field30I extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("startdate", 1);
-        // alias name
-        super.labelMap.put("dateorstartdate", 1);
-        super.labelMap.put("enddate", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -374,7 +378,16 @@ public class Field30I extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -404,6 +417,14 @@ public class Field30I extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Start Date (component 1) as LocalDate
+     * @return the Start Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getStartDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * @deprecated use #getStartDateAsCalendar() instead
      */
@@ -427,7 +448,16 @@ public class Field30I extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -446,6 +476,14 @@ public class Field30I extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as LocalDate
+     * @return the End Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getEndDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Start Date).
      *
@@ -652,10 +690,19 @@ public class Field30I extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field30I fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field30I field = new Field30I();
+    /**
+     * This method deserializes the parsed JSON data into a Field30I object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field30I fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field30I field = new Field30I();
 
         // **** COMPONENT 1 - Start Date
 
@@ -109,6 +109,24 @@ public class Field31D extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer PLACE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Place");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "place");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("place", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field31D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -315,10 +333,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Place");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -327,10 +342,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "place");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -339,14 +351,7 @@ public class Field31D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("place", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -363,7 +368,16 @@ public class Field31D extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -382,6 +396,14 @@ public class Field31D extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Place).
      * @return the component 2
@@ -563,10 +585,19 @@ public class Field31D extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field31D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field31D field = new Field31D();
+    /**
+     * This method deserializes the parsed JSON data into a Field31D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field31D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field31D field = new Field31D();
 
         // **** COMPONENT 1 - Date
 
@@ -109,6 +109,24 @@ public class Field31R extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer DATE_2 = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date 1");
+        componentLabels.add("Date 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date1");
+        componentMap.put(2, "date2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date1", 1);
+        labelMap.put("date2", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field31R.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -320,10 +338,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date 1");
-        result.add("Date 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -332,10 +347,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date1");
-        result.put(2, "date2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -344,14 +356,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date1", 1);
-        super.labelMap.put("date2", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -368,7 +373,16 @@ public class Field31R extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -387,6 +401,14 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date 1 (component 1) as LocalDate
+     * @return the Date 1 from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Date 2).
      * @return the component 2
@@ -401,7 +423,16 @@ public class Field31R extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -420,6 +451,14 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date 2 (component 2) as LocalDate
+     * @return the Date 2 from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Date 1).
      *
@@ -608,10 +647,19 @@ public class Field31R extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field31R fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field31R field = new Field31R();
+    /**
+     * This method deserializes the parsed JSON data into a Field31R object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field31R fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field31R field = new Field31R();
 
         // **** COMPONENT 1 - Date 1
 
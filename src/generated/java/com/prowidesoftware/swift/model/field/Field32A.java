@@ -120,6 +120,27 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Currency");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "currency");
+        componentMap.put(3, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("currency", 2);
+        labelMap.put("amount", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field32A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -336,11 +357,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -349,11 +366,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "currency");
-        result.put(3, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -362,15 +375,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("amount", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -387,7 +392,16 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -406,6 +420,14 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Currency).
      * @return the component 2
@@ -420,7 +442,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -454,7 +476,7 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent3AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(3));
+        return getComponentAs(3, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -792,10 +814,19 @@ public class Field32A extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field32A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field32A field = new Field32A();
+    /**
+     * This method deserializes the parsed JSON data into a Field32A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field32A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field32A field = new Field32A();
 
         // **** COMPONENT 1 - Date
 
@@ -103,6 +103,21 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
 	 */
 	public static final Integer CURRENCY = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Currency");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "currency");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("currency", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field32E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -293,9 +308,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -304,9 +317,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -315,13 +326,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -338,7 +343,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      * @return the component 1 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent1AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(1));
+        return getComponentAs(1, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -512,10 +517,19 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      * @see Field#fromJson(String)
      */
     public static Field32E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field32E field = new Field32E();
+    /**
+     * This method deserializes the parsed JSON data into a Field32E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field32E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field32E field = new Field32E();
 
         // **** COMPONENT 1 - Currency
 
@@ -110,6 +110,24 @@ public class Field32F extends Field implements Serializable, AmountContainer {
 	 */
 	public static final Integer AMOUNT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Unit");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "unit");
+        componentMap.put(2, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("unit", 1);
+        labelMap.put("amount", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field32F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -312,10 +330,7 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Unit");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -324,10 +339,7 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "unit");
-        result.put(2, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -336,14 +348,7 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("unit", 1);
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -377,7 +382,7 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent2AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(2));
+        return getComponentAs(2, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -599,10 +604,19 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field32F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field32F field = new Field32F();
+    /**
+     * This method deserializes the parsed JSON data into a Field32F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field32F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field32F field = new Field32F();
 
         // **** COMPONENT 1 - Unit
 
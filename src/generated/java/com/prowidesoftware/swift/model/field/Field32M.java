@@ -111,6 +111,24 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Currency");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "currency");
+        componentMap.put(2, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("currency", 1);
+        labelMap.put("amount", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field32M.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -313,10 +331,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -325,10 +340,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -337,14 +349,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -361,7 +366,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      * @return the component 1 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent1AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(1));
+        return getComponentAs(1, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -395,7 +400,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent2AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(2));
+        return getComponentAs(2, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -670,10 +675,19 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field32M fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field32M field = new Field32M();
+    /**
+     * This method deserializes the parsed JSON data into a Field32M object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field32M fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field32M field = new Field32M();
 
         // **** COMPONENT 1 - Currency
 
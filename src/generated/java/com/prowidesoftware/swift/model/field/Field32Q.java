@@ -109,6 +109,24 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
 	 */
 	public static final Integer CURRENCY_2 = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Currency 1");
+        componentLabels.add("Currency 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "currency1");
+        componentMap.put(2, "currency2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("currency1", 1);
+        labelMap.put("currency2", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field32Q.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -307,10 +325,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency 1");
-        result.add("Currency 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -319,10 +334,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency1");
-        result.put(2, "currency2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -331,14 +343,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency1", 1);
-        super.labelMap.put("currency2", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -355,7 +360,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      * @return the component 1 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent1AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(1));
+        return getComponentAs(1, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -388,7 +393,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -606,10 +611,19 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      * @see Field#fromJson(String)
      */
     public static Field32Q fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field32Q field = new Field32Q();
+    /**
+     * This method deserializes the parsed JSON data into a Field32Q object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field32Q fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field32Q field = new Field32Q();
 
         // **** COMPONENT 1 - Currency 1
 
@@ -132,6 +132,36 @@ public class Field330 extends Field implements Serializable {
 	 */
 	public static final Integer ACK_REPLAY_INDICATOR = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Session Number");
+        componentLabels.add("ISN");
+        componentLabels.add("ISN NAK");
+        componentLabels.add("OSN");
+        componentLabels.add("OSN NAK");
+        componentLabels.add("ACK Replay Indicator");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "sessionNumber");
+        componentMap.put(2, "iSN");
+        componentMap.put(3, "iSNNAK");
+        componentMap.put(4, "oSN");
+        componentMap.put(5, "oSNNAK");
+        componentMap.put(6, "aCKReplayIndicator");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("sessionnumber", 1);
+        labelMap.put("isn", 2);
+        labelMap.put("isnnak", 3);
+        labelMap.put("osn", 4);
+        labelMap.put("osnnak", 5);
+        labelMap.put("ackreplayindicator", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field330.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -362,14 +392,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Session Number");
-        result.add("ISN");
-        result.add("ISN NAK");
-        result.add("OSN");
-        result.add("OSN NAK");
-        result.add("ACK Replay Indicator");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -378,14 +401,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sessionNumber");
-        result.put(2, "iSN");
-        result.put(3, "iSNNAK");
-        result.put(4, "oSN");
-        result.put(5, "oSNNAK");
-        result.put(6, "aCKReplayIndicator");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -394,18 +410,7 @@ public class Field330 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sessionnumber", 1);
-        super.labelMap.put("isn", 2);
-        super.labelMap.put("isnnak", 3);
-        super.labelMap.put("osn", 4);
-        super.labelMap.put("osnnak", 5);
-        super.labelMap.put("ackreplayindicator", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1173,10 +1178,19 @@ public class Field330 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field330 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field330 field = new Field330();
+    /**
+     * This method deserializes the parsed JSON data into a Field330 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field330 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field330 field = new Field330();
 
         // **** COMPONENT 1 - Session Number
 
@@ -171,6 +171,54 @@ public class Field331 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer LAST_OUTPUT_SEQUENCE_NUMBER = 12;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Session Number");
+        componentLabels.add("Date Session Opened");
+        componentLabels.add("Time Session Opened");
+        componentLabels.add("Date Session Closed");
+        componentLabels.add("Time Session Closed");
+        componentLabels.add("Reason For Closure");
+        componentLabels.add("Quantity Of Messages Sent");
+        componentLabels.add("Quantity Of Messages Received");
+        componentLabels.add("First Input Sequence Number");
+        componentLabels.add("Last Input Sequence Number");
+        componentLabels.add("First Output Sequence Number");
+        componentLabels.add("Last Output Sequence Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "sessionNumber");
+        componentMap.put(2, "dateSessionOpened");
+        componentMap.put(3, "timeSessionOpened");
+        componentMap.put(4, "dateSessionClosed");
+        componentMap.put(5, "timeSessionClosed");
+        componentMap.put(6, "reasonForClosure");
+        componentMap.put(7, "quantityOfMessagesSent");
+        componentMap.put(8, "quantityOfMessagesReceived");
+        componentMap.put(9, "firstInputSequenceNumber");
+        componentMap.put(10, "lastInputSequenceNumber");
+        componentMap.put(11, "firstOutputSequenceNumber");
+        componentMap.put(12, "lastOutputSequenceNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("sessionnumber", 1);
+        labelMap.put("datesessionopened", 2);
+        labelMap.put("timesessionopened", 3);
+        labelMap.put("datesessionclosed", 4);
+        labelMap.put("timesessionclosed", 5);
+        labelMap.put("reasonforclosure", 6);
+        labelMap.put("quantityofmessagessent", 7);
+        labelMap.put("quantityofmessagesreceived", 8);
+        labelMap.put("firstinputsequencenumber", 9);
+        labelMap.put("lastinputsequencenumber", 10);
+        labelMap.put("firstoutputsequencenumber", 11);
+        labelMap.put("lastoutputsequencenumber", 12);
+        DESCRIPTOR = FieldDescriptor.describe(Field331.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -443,20 +491,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Session Number");
-        result.add("Date Session Opened");
-        result.add("Time Session Opened");
-        result.add("Date Session Closed");
-        result.add("Time Session Closed");
-        result.add("Reason For Closure");
-        result.add("Quantity Of Messages Sent");
-        result.add("Quantity Of Messages Received");
-        result.add("First Input Sequence Number");
-        result.add("Last Input Sequence Number");
-        result.add("First Output Sequence Number");
-        result.add("Last Output Sequence Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -465,20 +500,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "sessionNumber");
-        result.put(2, "dateSessionOpened");
-        result.put(3, "timeSessionOpened");
-        result.put(4, "dateSessionClosed");
-        result.put(5, "timeSessionClosed");
-        result.put(6, "reasonForClosure");
-        result.put(7, "quantityOfMessagesSent");
-        result.put(8, "quantityOfMessagesReceived");
-        result.put(9, "firstInputSequenceNumber");
-        result.put(10, "lastInputSequenceNumber");
-        result.put(11, "firstOutputSequenceNumber");
-        result.put(12, "lastOutputSequenceNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -487,24 +509,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("sessionnumber", 1);
-        super.labelMap.put("datesessionopened", 2);
-        super.labelMap.put("timesessionopened", 3);
-        super.labelMap.put("datesessionclosed", 4);
-        super.labelMap.put("timesessionclosed", 5);
-        super.labelMap.put("reasonforclosure", 6);
-        super.labelMap.put("quantityofmessagessent", 7);
-        super.labelMap.put("quantityofmessagesreceived", 8);
-        super.labelMap.put("firstinputsequencenumber", 9);
-        super.labelMap.put("lastinputsequencenumber", 10);
-        super.labelMap.put("firstoutputsequencenumber", 11);
-        super.labelMap.put("lastoutputsequencenumber", 12);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -575,7 +580,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -594,6 +608,14 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date Session Opened (component 2) as LocalDate
+     * @return the Date Session Opened from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateSessionOpenedAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time Session Opened).
      * @return the component 3
@@ -608,7 +630,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -627,6 +658,14 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time Session Opened (component 3) as LocalTime
+     * @return the Time Session Opened from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeSessionOpenedAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Date Session Closed).
      * @return the component 4
@@ -641,7 +680,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return getComponentAs(4, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -660,6 +708,14 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date Session Closed (component 4) as LocalDate
+     * @return the Date Session Closed from component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateSessionClosedAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Time Session Closed).
      * @return the component 5
@@ -674,7 +730,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -693,6 +758,14 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Session Closed (component 5) as LocalTime
+     * @return the Time Session Closed from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeSessionClosedAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (Reason For Closure).
      * @return the component 6
@@ -1827,10 +1900,19 @@ public class Field331 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field331 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field331 field = new Field331();
+    /**
+     * This method deserializes the parsed JSON data into a Field331 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field331 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field331 field = new Field331();
 
         // **** COMPONENT 1 - Session Number
 
@@ -108,6 +108,24 @@ public class Field332 extends Field implements Serializable {
 	 */
 	public static final Integer TOTAL_MESSAGES_RECEIVED = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Total Messages Sent");
+        componentLabels.add("Total Messages Received");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "totalMessagesSent");
+        componentMap.put(2, "totalMessagesReceived");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("totalmessagessent", 1);
+        labelMap.put("totalmessagesreceived", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field332.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -310,10 +328,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Total Messages Sent");
-        result.add("Total Messages Received");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -322,10 +337,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "totalMessagesSent");
-        result.put(2, "totalMessagesReceived");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -334,14 +346,7 @@ public class Field332 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("totalmessagessent", 1);
-        super.labelMap.put("totalmessagesreceived", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -653,10 +658,19 @@ public class Field332 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field332 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field332 field = new Field332();
+    /**
+     * This method deserializes the parsed JSON data into a Field332 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field332 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field332 field = new Field332();
 
         // **** COMPONENT 1 - Total Messages Sent
 
@@ -147,6 +147,42 @@ public class Field333 extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer LAST_OUTPUT_SEQUENCE_NUMBER_SENT = 8;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date Last Session Opened");
+        componentLabels.add("Time Last Session Opened");
+        componentLabels.add("Session Number");
+        componentLabels.add("Date Last Session Closed");
+        componentLabels.add("Time Last Session Closed");
+        componentLabels.add("Reason For Closure");
+        componentLabels.add("Last Input Sequence Number Received");
+        componentLabels.add("Last Output Sequence Number Sent");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dateLastSessionOpened");
+        componentMap.put(2, "timeLastSessionOpened");
+        componentMap.put(3, "sessionNumber");
+        componentMap.put(4, "dateLastSessionClosed");
+        componentMap.put(5, "timeLastSessionClosed");
+        componentMap.put(6, "reasonForClosure");
+        componentMap.put(7, "lastInputSequenceNumberReceived");
+        componentMap.put(8, "lastOutputSequenceNumberSent");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("datelastsessionopened", 1);
+        labelMap.put("timelastsessionopened", 2);
+        labelMap.put("sessionnumber", 3);
+        labelMap.put("datelastsessionclosed", 4);
+        labelMap.put("timelastsessionclosed", 5);
+        labelMap.put("reasonforclosure", 6);
+        labelMap.put("lastinputsequencenumberreceived", 7);
+        labelMap.put("lastoutputsequencenumbersent", 8);
+        DESCRIPTOR = FieldDescriptor.describe(Field333.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -407,16 +443,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date Last Session Opened");
-        result.add("Time Last Session Opened");
-        result.add("Session Number");
-        result.add("Date Last Session Closed");
-        result.add("Time Last Session Closed");
-        result.add("Reason For Closure");
-        result.add("Last Input Sequence Number Received");
-        result.add("Last Output Sequence Number Sent");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -425,16 +452,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dateLastSessionOpened");
-        result.put(2, "timeLastSessionOpened");
-        result.put(3, "sessionNumber");
-        result.put(4, "dateLastSessionClosed");
-        result.put(5, "timeLastSessionClosed");
-        result.put(6, "reasonForClosure");
-        result.put(7, "lastInputSequenceNumberReceived");
-        result.put(8, "lastOutputSequenceNumberSent");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -443,20 +461,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("datelastsessionopened", 1);
-        super.labelMap.put("timelastsessionopened", 2);
-        super.labelMap.put("sessionnumber", 3);
-        super.labelMap.put("datelastsessionclosed", 4);
-        super.labelMap.put("timelastsessionclosed", 5);
-        super.labelMap.put("reasonforclosure", 6);
-        super.labelMap.put("lastinputsequencenumberreceived", 7);
-        super.labelMap.put("lastoutputsequencenumbersent", 8);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -473,7 +478,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -492,6 +506,14 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date Last Session Opened (component 1) as LocalDate
+     * @return the Date Last Session Opened from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateLastSessionOpenedAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time Last Session Opened).
      * @return the component 2
@@ -506,7 +528,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -525,6 +556,14 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time Last Session Opened (component 2) as LocalTime
+     * @return the Time Last Session Opened from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeLastSessionOpenedAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Session Number).
      * @return the component 3
@@ -593,7 +632,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return getComponentAs(4, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -612,6 +660,14 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date Last Session Closed (component 4) as LocalDate
+     * @return the Date Last Session Closed from component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateLastSessionClosedAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Time Last Session Closed).
      * @return the component 5
@@ -626,7 +682,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -645,6 +710,14 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Last Session Closed (component 5) as LocalTime
+     * @return the Time Last Session Closed from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeLastSessionClosedAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (Reason For Closure).
      * @return the component 6
@@ -1323,10 +1396,19 @@ public class Field333 extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field333 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field333 field = new Field333();
+    /**
+     * This method deserializes the parsed JSON data into a Field333 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field333 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field333 field = new Field333();
 
         // **** COMPONENT 1 - Date Last Session Opened
 
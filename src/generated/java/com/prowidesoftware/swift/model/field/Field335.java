@@ -129,6 +129,33 @@ public class Field335 extends Field implements Serializable {
 	 */
 	public static final Integer TIME_LAST_DELIVERY_ATTEMPT = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Time Message Entered");
+        componentLabels.add("MIR");
+        componentLabels.add("MT");
+        componentLabels.add("Receiver");
+        componentLabels.add("Time Last Delivery Attempt");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "timeMessageEntered");
+        componentMap.put(2, "mIR");
+        componentMap.put(3, "mT");
+        componentMap.put(4, "receiver");
+        componentMap.put(5, "timeLastDeliveryAttempt");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("timemessageentered", 1);
+        labelMap.put("mir", 2);
+        labelMap.put("mt", 3);
+        labelMap.put("receiver", 4);
+        labelMap.put("timelastdeliveryattempt", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field335.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -363,13 +390,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time Message Entered");
-        result.add("MIR");
-        result.add("MT");
-        result.add("Receiver");
-        result.add("Time Last Delivery Attempt");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -378,13 +399,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "timeMessageEntered");
-        result.put(2, "mIR");
-        result.put(3, "mT");
-        result.put(4, "receiver");
-        result.put(5, "timeLastDeliveryAttempt");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -393,17 +408,7 @@ public class Field335 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("timemessageentered", 1);
-        super.labelMap.put("mir", 2);
-        super.labelMap.put("mt", 3);
-        super.labelMap.put("receiver", 4);
-        super.labelMap.put("timelastdeliveryattempt", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -420,7 +425,16 @@ public class Field335 extends Field implements Serializable {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return getComponentAs(1, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -439,6 +453,14 @@ public class Field335 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time Message Entered (component 1) as LocalTime
+     * @return the Time Message Entered from component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeMessageEnteredAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (MIR).
      * @return the component 2
@@ -535,7 +557,16 @@ public class Field335 extends Field implements Serializable {
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -554,6 +585,14 @@ public class Field335 extends Field implements Serializable {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Last Delivery Attempt (component 5) as LocalTime
+     * @return the Time Last Delivery Attempt from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeLastDeliveryAttemptAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Time Message Entered).
      *
@@ -832,10 +871,19 @@ public class Field335 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field335 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field335 field = new Field335();
+    /**
+     * This method deserializes the parsed JSON data into a Field335 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field335 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field335 field = new Field335();
 
         // **** COMPONENT 1 - Time Message Entered
 
@@ -114,6 +114,27 @@ public class Field336 extends Field implements Serializable {
 	 */
 	public static final Integer CODES = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Delivery Subset Name");
+        componentLabels.add("Number Of Messages");
+        componentLabels.add("Codes");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "deliverySubsetName");
+        componentMap.put(2, "numberOfMessages");
+        componentMap.put(3, "codes");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("deliverysubsetname", 1);
+        labelMap.put("numberofmessages", 2);
+        labelMap.put("codes", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field336.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -323,11 +344,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Delivery Subset Name");
-        result.add("Number Of Messages");
-        result.add("Codes");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -336,11 +353,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "deliverySubsetName");
-        result.put(2, "numberOfMessages");
-        result.put(3, "codes");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -349,15 +362,7 @@ public class Field336 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("deliverysubsetname", 1);
-        super.labelMap.put("numberofmessages", 2);
-        super.labelMap.put("codes", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -629,10 +634,19 @@ public class Field336 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field336 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field336 field = new Field336();
+    /**
+     * This method deserializes the parsed JSON data into a Field336 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field336 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field336 field = new Field336();
 
         // **** COMPONENT 1 - Delivery Subset Name
 
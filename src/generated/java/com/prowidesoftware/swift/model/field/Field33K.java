@@ -136,6 +136,35 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("DayMonth");
+        componentLabels.add("Number Of Days/Months");
+        componentLabels.add("Code");
+        componentLabels.add("Currency");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dayMonth");
+        componentMap.put(2, "numberOfDaysMonths");
+        componentMap.put(3, "code");
+        componentMap.put(4, "currency");
+        componentMap.put(5, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("daymonth", 1);
+        labelMap.put("dmmark", 1);
+        labelMap.put("numberofdaysmonths", 2);
+        labelMap.put("numberofdaysmonths", 2);
+        labelMap.put("code", 3);
+        labelMap.put("currency", 4);
+        labelMap.put("amount", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field33K.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -374,13 +403,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("DayMonth");
-        result.add("Number Of Days/Months");
-        result.add("Code");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -389,13 +412,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dayMonth");
-        result.put(2, "numberOfDaysMonths");
-        result.put(3, "code");
-        result.put(4, "currency");
-        result.put(5, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -404,21 +421,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("daymonth", 1);
-        // alias name
-        super.labelMap.put("dmmark", 1);
-        super.labelMap.put("numberofdaysmonths", 2);
-        // alias name
-        super.labelMap.put("numberofdaysmonths", 2);
-        super.labelMap.put("code", 3);
-        super.labelMap.put("currency", 4);
-        super.labelMap.put("amount", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -561,7 +564,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      * @return the component 4 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent4AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(4));
+        return getComponentAs(4, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -595,7 +598,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -999,10 +1002,19 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field33K fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field33K field = new Field33K();
+    /**
+     * This method deserializes the parsed JSON data into a Field33K object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field33K fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field33K field = new Field33K();
 
         // **** COMPONENT 1 - DayMonth
 
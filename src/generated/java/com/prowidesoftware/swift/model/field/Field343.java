@@ -120,6 +120,30 @@ public class Field343 extends Field implements Serializable {
 	 */
 	public static final Integer REGION_TIME_COUNT_4 = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Region Time Count 1");
+        componentLabels.add("Region Time Count 2");
+        componentLabels.add("Region Time Count 3");
+        componentLabels.add("Region Time Count 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "regionTimeCount1");
+        componentMap.put(2, "regionTimeCount2");
+        componentMap.put(3, "regionTimeCount3");
+        componentMap.put(4, "regionTimeCount4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("regiontimecount1", 1);
+        labelMap.put("regiontimecount2", 2);
+        labelMap.put("regiontimecount3", 3);
+        labelMap.put("regiontimecount4", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field343.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -336,12 +360,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Region Time Count 1");
-        result.add("Region Time Count 2");
-        result.add("Region Time Count 3");
-        result.add("Region Time Count 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -350,12 +369,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "regionTimeCount1");
-        result.put(2, "regionTimeCount2");
-        result.put(3, "regionTimeCount3");
-        result.put(4, "regionTimeCount4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -364,16 +378,7 @@ public class Field343 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("regiontimecount1", 1);
-        super.labelMap.put("regiontimecount2", 2);
-        super.labelMap.put("regiontimecount3", 3);
-        super.labelMap.put("regiontimecount4", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -913,10 +918,19 @@ public class Field343 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field343 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field343 field = new Field343();
+    /**
+     * This method deserializes the parsed JSON data into a Field343 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field343 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field343 field = new Field343();
 
         // **** COMPONENT 1 - Region Time Count 1
 
@@ -108,6 +108,24 @@ public class Field344 extends Field implements Serializable {
 	 */
 	public static final Integer MESSAGE_CATEGORIES = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Priority");
+        componentLabels.add("Message Categories");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "priority");
+        componentMap.put(2, "messageCategories");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("priority", 1);
+        labelMap.put("messagecategories", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field344.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -311,10 +329,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Priority");
-        result.add("Message Categories");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -323,10 +338,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "priority");
-        result.put(2, "messageCategories");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -335,14 +347,7 @@ public class Field344 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("priority", 1);
-        super.labelMap.put("messagecategories", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -577,10 +582,19 @@ public class Field344 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field344 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field344 field = new Field344();
+    /**
+     * This method deserializes the parsed JSON data into a Field344 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field344 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field344 field = new Field344();
 
         // **** COMPONENT 1 - Priority
 
@@ -156,6 +156,48 @@ public class Field345 extends Field implements Serializable {
 	 */
 	public static final Integer MT10 = 10;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("MT1");
+        componentLabels.add("MT2");
+        componentLabels.add("MT3");
+        componentLabels.add("MT4");
+        componentLabels.add("MT5");
+        componentLabels.add("MT6");
+        componentLabels.add("MT7");
+        componentLabels.add("MT8");
+        componentLabels.add("MT9");
+        componentLabels.add("MT10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "mT1");
+        componentMap.put(2, "mT2");
+        componentMap.put(3, "mT3");
+        componentMap.put(4, "mT4");
+        componentMap.put(5, "mT5");
+        componentMap.put(6, "mT6");
+        componentMap.put(7, "mT7");
+        componentMap.put(8, "mT8");
+        componentMap.put(9, "mT9");
+        componentMap.put(10, "mT10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("mt1", 1);
+        labelMap.put("mt2", 2);
+        labelMap.put("mt3", 3);
+        labelMap.put("mt4", 4);
+        labelMap.put("mt5", 5);
+        labelMap.put("mt6", 6);
+        labelMap.put("mt7", 7);
+        labelMap.put("mt8", 8);
+        labelMap.put("mt9", 9);
+        labelMap.put("mt10", 10);
+        DESCRIPTOR = FieldDescriptor.describe(Field345.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -385,18 +427,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("MT1");
-        result.add("MT2");
-        result.add("MT3");
-        result.add("MT4");
-        result.add("MT5");
-        result.add("MT6");
-        result.add("MT7");
-        result.add("MT8");
-        result.add("MT9");
-        result.add("MT10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -405,18 +436,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "mT1");
-        result.put(2, "mT2");
-        result.put(3, "mT3");
-        result.put(4, "mT4");
-        result.put(5, "mT5");
-        result.put(6, "mT6");
-        result.put(7, "mT7");
-        result.put(8, "mT8");
-        result.put(9, "mT9");
-        result.put(10, "mT10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -425,22 +445,7 @@ public class Field345 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("mt1", 1);
-        super.labelMap.put("mt2", 2);
-        super.labelMap.put("mt3", 3);
-        super.labelMap.put("mt4", 4);
-        super.labelMap.put("mt5", 5);
-        super.labelMap.put("mt6", 6);
-        super.labelMap.put("mt7", 7);
-        super.labelMap.put("mt8", 8);
-        super.labelMap.put("mt9", 9);
-        super.labelMap.put("mt10", 10);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -894,10 +899,19 @@ public class Field345 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field345 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field345 field = new Field345();
+    /**
+     * This method deserializes the parsed JSON data into a Field345 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field345 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field345 field = new Field345();
 
         // **** COMPONENT 1 - MT1
 
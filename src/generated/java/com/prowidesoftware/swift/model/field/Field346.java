@@ -154,6 +154,48 @@ public class Field346 extends Field implements Serializable {
 	 */
 	public static final Integer BRANCH10 = 10;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Branch1");
+        componentLabels.add("Branch2");
+        componentLabels.add("Branch3");
+        componentLabels.add("Branch4");
+        componentLabels.add("Branch5");
+        componentLabels.add("Branch6");
+        componentLabels.add("Branch7");
+        componentLabels.add("Branch8");
+        componentLabels.add("Branch9");
+        componentLabels.add("Branch10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "branch1");
+        componentMap.put(2, "branch2");
+        componentMap.put(3, "branch3");
+        componentMap.put(4, "branch4");
+        componentMap.put(5, "branch5");
+        componentMap.put(6, "branch6");
+        componentMap.put(7, "branch7");
+        componentMap.put(8, "branch8");
+        componentMap.put(9, "branch9");
+        componentMap.put(10, "branch10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("branch1", 1);
+        labelMap.put("branch2", 2);
+        labelMap.put("branch3", 3);
+        labelMap.put("branch4", 4);
+        labelMap.put("branch5", 5);
+        labelMap.put("branch6", 6);
+        labelMap.put("branch7", 7);
+        labelMap.put("branch8", 8);
+        labelMap.put("branch9", 9);
+        labelMap.put("branch10", 10);
+        DESCRIPTOR = FieldDescriptor.describe(Field346.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -383,18 +425,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Branch1");
-        result.add("Branch2");
-        result.add("Branch3");
-        result.add("Branch4");
-        result.add("Branch5");
-        result.add("Branch6");
-        result.add("Branch7");
-        result.add("Branch8");
-        result.add("Branch9");
-        result.add("Branch10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -403,18 +434,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "branch1");
-        result.put(2, "branch2");
-        result.put(3, "branch3");
-        result.put(4, "branch4");
-        result.put(5, "branch5");
-        result.put(6, "branch6");
-        result.put(7, "branch7");
-        result.put(8, "branch8");
-        result.put(9, "branch9");
-        result.put(10, "branch10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -423,22 +443,7 @@ public class Field346 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("branch1", 1);
-        super.labelMap.put("branch2", 2);
-        super.labelMap.put("branch3", 3);
-        super.labelMap.put("branch4", 4);
-        super.labelMap.put("branch5", 5);
-        super.labelMap.put("branch6", 6);
-        super.labelMap.put("branch7", 7);
-        super.labelMap.put("branch8", 8);
-        super.labelMap.put("branch9", 9);
-        super.labelMap.put("branch10", 10);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -892,10 +897,19 @@ public class Field346 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field346 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field346 field = new Field346();
+    /**
+     * This method deserializes the parsed JSON data into a Field346 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field346 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field346 field = new Field346();
 
         // **** COMPONENT 1 - Branch1
 
@@ -154,6 +154,48 @@ public class Field347 extends Field implements Serializable {
 	 */
 	public static final Integer FIELD_10 = 10;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Field 1");
+        componentLabels.add("Field 2");
+        componentLabels.add("Field 3");
+        componentLabels.add("Field 4");
+        componentLabels.add("Field 5");
+        componentLabels.add("Field 6");
+        componentLabels.add("Field 7");
+        componentLabels.add("Field 8");
+        componentLabels.add("Field 9");
+        componentLabels.add("Field 10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "field1");
+        componentMap.put(2, "field2");
+        componentMap.put(3, "field3");
+        componentMap.put(4, "field4");
+        componentMap.put(5, "field5");
+        componentMap.put(6, "field6");
+        componentMap.put(7, "field7");
+        componentMap.put(8, "field8");
+        componentMap.put(9, "field9");
+        componentMap.put(10, "field10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("field1", 1);
+        labelMap.put("field2", 2);
+        labelMap.put("field3", 3);
+        labelMap.put("field4", 4);
+        labelMap.put("field5", 5);
+        labelMap.put("field6", 6);
+        labelMap.put("field7", 7);
+        labelMap.put("field8", 8);
+        labelMap.put("field9", 9);
+        labelMap.put("field10", 10);
+        DESCRIPTOR = FieldDescriptor.describe(Field347.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -383,18 +425,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Field 1");
-        result.add("Field 2");
-        result.add("Field 3");
-        result.add("Field 4");
-        result.add("Field 5");
-        result.add("Field 6");
-        result.add("Field 7");
-        result.add("Field 8");
-        result.add("Field 9");
-        result.add("Field 10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -403,18 +434,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "field1");
-        result.put(2, "field2");
-        result.put(3, "field3");
-        result.put(4, "field4");
-        result.put(5, "field5");
-        result.put(6, "field6");
-        result.put(7, "field7");
-        result.put(8, "field8");
-        result.put(9, "field9");
-        result.put(10, "field10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -423,22 +443,7 @@ public class Field347 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("field1", 1);
-        super.labelMap.put("field2", 2);
-        super.labelMap.put("field3", 3);
-        super.labelMap.put("field4", 4);
-        super.labelMap.put("field5", 5);
-        super.labelMap.put("field6", 6);
-        super.labelMap.put("field7", 7);
-        super.labelMap.put("field8", 8);
-        super.labelMap.put("field9", 9);
-        super.labelMap.put("field10", 10);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -892,10 +897,19 @@ public class Field347 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field347 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field347 field = new Field347();
+    /**
+     * This method deserializes the parsed JSON data into a Field347 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field347 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field347 field = new Field347();
 
         // **** COMPONENT 1 - Field 1
 
@@ -137,6 +137,32 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Commission Type");
+        componentLabels.add("Sign");
+        componentLabels.add("Currency/Percent");
+        componentLabels.add("Amount/Rate");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "commissionType");
+        componentMap.put(2, "sign");
+        componentMap.put(3, "currencyPercent");
+        componentMap.put(4, "amountRate");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("commissiontype", 1);
+        labelMap.put("sign", 2);
+        labelMap.put("currencypercent", 3);
+        labelMap.put("currency", 3);
+        labelMap.put("amountrate", 4);
+        labelMap.put("amount", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field34C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -364,12 +390,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Commission Type");
-        result.add("Sign");
-        result.add("Currency/Percent");
-        result.add("Amount/Rate");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -378,12 +399,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "commissionType");
-        result.put(2, "sign");
-        result.put(3, "currencyPercent");
-        result.put(4, "amountRate");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -392,20 +408,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("commissiontype", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("currencypercent", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amountrate", 4);
-        // alias name
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -454,7 +457,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -508,7 +511,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -890,10 +893,19 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field34C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field34C field = new Field34C();
+    /**
+     * This method deserializes the parsed JSON data into a Field34C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field34C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field34C field = new Field34C();
 
         // **** COMPONENT 1 - Commission Type
 
@@ -124,6 +124,26 @@ public class Field35A extends Field implements Serializable, AmountContainer {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Type");
+        componentLabels.add("Quantity");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "type");
+        componentMap.put(2, "quantity");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("type", 1);
+        labelMap.put("currency", 1);
+        labelMap.put("quantity", 2);
+        labelMap.put("amount", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field35A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -326,10 +346,7 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type");
-        result.add("Quantity");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -338,10 +355,7 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "type");
-        result.put(2, "quantity");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -350,18 +364,7 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("type", 1);
-        // alias name
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("quantity", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -406,7 +409,7 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent2AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(2));
+        return getComponentAs(2, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -684,10 +687,19 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field35A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field35A field = new Field35A();
+    /**
+     * This method deserializes the parsed JSON data into a Field35A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field35A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field35A field = new Field35A();
 
         // **** COMPONENT 1 - Type
 
@@ -140,6 +140,46 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     public static final Integer DESCRIPTION_OF_SECURITY = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("ISIN");
+        componentLabels.add("Description");
+        componentLabels.add("Description 2");
+        componentLabels.add("Description 3");
+        componentLabels.add("Description 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "iSIN");
+        componentMap.put(3, "description");
+        componentMap.put(4, "description2");
+        componentMap.put(5, "description3");
+        componentMap.put(6, "description4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("isin", 2);
+        labelMap.put("identificationofinstrument", 2);
+        labelMap.put("identificationofsecurity", 2);
+        labelMap.put("description", 3);
+        labelMap.put("descriptionofinstrument", 3);
+        labelMap.put("descriptionofsecurity", 3);
+        labelMap.put("description2", 4);
+        labelMap.put("descriptionofinstrument2", 4);
+        labelMap.put("descriptionofsecurity2", 4);
+        labelMap.put("description3", 5);
+        labelMap.put("descriptionofinstrument3", 5);
+        labelMap.put("descriptionofsecurity3", 5);
+        labelMap.put("description4", 6);
+        labelMap.put("descriptionofinstrument4", 6);
+        labelMap.put("descriptionofsecurity4", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field35B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -383,14 +423,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("ISIN");
-        result.add("Description");
-        result.add("Description 2");
-        result.add("Description 3");
-        result.add("Description 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -399,14 +432,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "iSIN");
-        result.put(3, "description");
-        result.put(4, "description2");
-        result.put(5, "description3");
-        result.put(6, "description4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -415,38 +441,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("isin", 2);
-        // alias name
-        super.labelMap.put("identificationofinstrument", 2);
-        // alias name
-        super.labelMap.put("identificationofsecurity", 2);
-        super.labelMap.put("description", 3);
-        // alias name
-        super.labelMap.put("descriptionofinstrument", 3);
-        // alias name
-        super.labelMap.put("descriptionofsecurity", 3);
-        super.labelMap.put("description2", 4);
-        // alias name
-        super.labelMap.put("descriptionofinstrument2", 4);
-        // alias name
-        super.labelMap.put("descriptionofsecurity2", 4);
-        super.labelMap.put("description3", 5);
-        // alias name
-        super.labelMap.put("descriptionofinstrument3", 5);
-        // alias name
-        super.labelMap.put("descriptionofsecurity3", 5);
-        super.labelMap.put("description4", 6);
-        // alias name
-        super.labelMap.put("descriptionofinstrument4", 6);
-        // alias name
-        super.labelMap.put("descriptionofsecurity4", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1078,10 +1073,19 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field35B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field35B field = new Field35B();
+    /**
+     * This method deserializes the parsed JSON data into a Field35B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field35B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field35B field = new Field35B();
 
         // **** COMPONENT 1 - Qualifier
 
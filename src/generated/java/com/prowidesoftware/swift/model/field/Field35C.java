@@ -106,6 +106,24 @@ public class Field35C extends Field implements Serializable {
 	 */
 	public static final Integer DESCRIPTION_OF_INSTRUMENT = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Identification Of Instrument");
+        componentLabels.add("Description Of Instrument");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "identificationOfInstrument");
+        componentMap.put(2, "descriptionOfInstrument");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("identificationofinstrument", 1);
+        labelMap.put("descriptionofinstrument", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field35C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -308,10 +326,7 @@ public class Field35C extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Identification Of Instrument");
-        result.add("Description Of Instrument");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -320,10 +335,7 @@ public class Field35C extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identificationOfInstrument");
-        result.put(2, "descriptionOfInstrument");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -332,14 +344,7 @@ public class Field35C extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identificationofinstrument", 1);
-        super.labelMap.put("descriptionofinstrument", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -497,10 +502,19 @@ public class Field35C extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field35C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field35C field = new Field35C();
+    /**
+     * This method deserializes the parsed JSON data into a Field35C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field35C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field35C field = new Field35C();
 
         // **** COMPONENT 1 - Identification Of Instrument
 
@@ -123,6 +123,28 @@ public class Field35U extends Field implements Serializable, AmountContainer {
 	 */
 	public static final Integer PERIOD = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Currency");
+        componentLabels.add("Price");
+        componentLabels.add("Period");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "currency");
+        componentMap.put(2, "price");
+        componentMap.put(3, "period");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("currency", 1);
+        labelMap.put("price", 2);
+        labelMap.put("amount", 2);
+        labelMap.put("period", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field35U.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -335,11 +357,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Currency");
-        result.add("Price");
-        result.add("Period");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -348,11 +366,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "currency");
-        result.put(2, "price");
-        result.put(3, "period");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -361,17 +375,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("currency", 1);
-        super.labelMap.put("price", 2);
-        // alias name
-        super.labelMap.put("amount", 2);
-        super.labelMap.put("period", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -405,7 +409,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent2AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(2));
+        return getComponentAs(2, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -711,10 +715,19 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field35U fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field35U field = new Field35U();
+    /**
+     * This method deserializes the parsed JSON data into a Field35U object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field35U fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field35U field = new Field35U();
 
         // **** COMPONENT 1 - Currency
 
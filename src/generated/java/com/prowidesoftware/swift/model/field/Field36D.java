@@ -115,6 +115,27 @@ public class Field36D extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer QUANTITY_OF_DIGITAL_TOKENS = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Quantity Type Code");
+        componentLabels.add("Quantity Of Digital Tokens");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "quantityTypeCode");
+        componentMap.put(3, "quantityOfDigitalTokens");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("quantitytypecode", 2);
+        labelMap.put("quantityofdigitaltokens", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field36D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -322,11 +343,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Quantity Of Digital Tokens");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -335,11 +352,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "quantityOfDigitalTokens");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -348,15 +361,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("quantityofdigitaltokens", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -665,10 +670,19 @@ public class Field36D extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field36D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field36D field = new Field36D();
+    /**
+     * This method deserializes the parsed JSON data into a Field36D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field36D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field36D field = new Field36D();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -130,6 +130,31 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Quantity Type Code");
+        componentLabels.add("Sign");
+        componentLabels.add("Quantity");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "quantityTypeCode");
+        componentMap.put(3, "sign");
+        componentMap.put(4, "quantity");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("quantitytypecode", 2);
+        labelMap.put("sign", 3);
+        labelMap.put("quantity", 4);
+        labelMap.put("amount", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field36E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -353,12 +378,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Sign");
-        result.add("Quantity");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -367,12 +387,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "sign");
-        result.put(4, "quantity");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -381,18 +396,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("quantity", 4);
-        // alias name
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -458,7 +462,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -806,10 +810,19 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      * @see Field#fromJson(String)
      */
     public static Field36E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field36E field = new Field36E();
+    /**
+     * This method deserializes the parsed JSON data into a Field36E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field36E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field36E field = new Field36E();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -152,6 +152,36 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
 	 */
 	public static final Integer INFORMATION = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Rate");
+        componentLabels.add("End Date");
+        componentLabels.add("Period");
+        componentLabels.add("Number");
+        componentLabels.add("Information");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "rate");
+        componentMap.put(2, "endDate");
+        componentMap.put(3, "period");
+        componentMap.put(4, "number");
+        componentMap.put(5, "information");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("rate", 1);
+        labelMap.put("enddate", 2);
+        labelMap.put("date", 2);
+        labelMap.put("period", 3);
+        labelMap.put("dmmark", 3);
+        labelMap.put("number", 4);
+        labelMap.put("numberofdaysmonths", 4);
+        labelMap.put("information", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field37B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -403,13 +433,7 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Rate");
-        result.add("End Date");
-        result.add("Period");
-        result.add("Number");
-        result.add("Information");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -418,13 +442,7 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "rate");
-        result.put(2, "endDate");
-        result.put(3, "period");
-        result.put(4, "number");
-        result.put(5, "information");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -433,23 +451,7 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("rate", 1);
-        super.labelMap.put("enddate", 2);
-        // alias name
-        super.labelMap.put("date", 2);
-        super.labelMap.put("period", 3);
-        // alias name
-        super.labelMap.put("dmmark", 3);
-        super.labelMap.put("number", 4);
-        // alias name
-        super.labelMap.put("numberofdaysmonths", 4);
-        super.labelMap.put("information", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -467,7 +469,7 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent1AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(1));
+        return getComponentAs(1, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -519,7 +521,16 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -549,6 +560,14 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as LocalDate
+     * @return the End Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getEndDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * @deprecated use #getEndDateAsCalendar() instead
      */
@@ -1057,10 +1076,19 @@ public class Field37B extends Field implements Serializable, AmountContainer, Da
      * @see Field#fromJson(String)
      */
     public static Field37B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field37B field = new Field37B();
+    /**
+     * This method deserializes the parsed JSON data into a Field37B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field37B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field37B field = new Field37B();
 
         // **** COMPONENT 1 - Rate
 
@@ -123,6 +123,28 @@ public class Field37H extends Field implements Serializable, AmountContainer {
 	 */
 	public static final Integer RATE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Indicator");
+        componentLabels.add("Sign");
+        componentLabels.add("Rate");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "indicator");
+        componentMap.put(2, "sign");
+        componentMap.put(3, "rate");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("indicator", 1);
+        labelMap.put("dcmark", 1);
+        labelMap.put("sign", 2);
+        labelMap.put("rate", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field37H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -340,11 +362,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Indicator");
-        result.add("Sign");
-        result.add("Rate");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -353,11 +371,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "indicator");
-        result.put(2, "sign");
-        result.put(3, "rate");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -366,17 +380,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("indicator", 1);
-        // alias name
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("sign", 2);
-        super.labelMap.put("rate", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -437,7 +441,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent3AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(3));
+        return getComponentAs(3, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -689,10 +693,19 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      * @see Field#fromJson(String)
      */
     public static Field37H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field37H field = new Field37H();
+    /**
+     * This method deserializes the parsed JSON data into a Field37H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field37H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field37H field = new Field37H();
 
         // **** COMPONENT 1 - Indicator
 
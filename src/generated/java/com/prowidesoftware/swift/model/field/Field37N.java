@@ -343,12 +343,21 @@ public class Field37N extends StructuredNarrativeField implements Serializable,
      * @see Field#fromJson(String)
      */
     public static Field37N fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field37N field = new Field37N();
+    /**
+     * This method deserializes the parsed JSON data into a Field37N object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field37N fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field37N field = new Field37N();
 
-        NarrativeContainerJsonUtils.fromJson(jsonObject, json, field);
+        NarrativeContainerJsonUtils.fromJson(jsonObject, field);
 
         return field;
     }
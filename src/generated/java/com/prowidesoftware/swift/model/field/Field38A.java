@@ -109,6 +109,22 @@ public class Field38A extends Field implements Serializable {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer NUMBER = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Period");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "period");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("period", 1);
+        labelMap.put("number", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field38A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -299,9 +315,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Period");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -310,9 +324,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "period");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -321,15 +333,7 @@ public class Field38A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("period", 1);
-        // alias name
-        super.labelMap.put("number", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -574,10 +578,19 @@ public class Field38A extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field38A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field38A field = new Field38A();
+    /**
+     * This method deserializes the parsed JSON data into a Field38A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field38A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field38A field = new Field38A();
 
         // **** COMPONENT 1 - Period
 
@@ -120,6 +120,30 @@ public class Field38H extends Field implements Serializable {
 	 */
 	public static final Integer PERIOD_TO = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number From");
+        componentLabels.add("Period From");
+        componentLabels.add("Number To");
+        componentLabels.add("Period To");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "numberFrom");
+        componentMap.put(2, "periodFrom");
+        componentMap.put(3, "numberTo");
+        componentMap.put(4, "periodTo");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("numberfrom", 1);
+        labelMap.put("periodfrom", 2);
+        labelMap.put("numberto", 3);
+        labelMap.put("periodto", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field38H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -331,12 +355,7 @@ public class Field38H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number From");
-        result.add("Period From");
-        result.add("Number To");
-        result.add("Period To");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -345,12 +364,7 @@ public class Field38H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "numberFrom");
-        result.put(2, "periodFrom");
-        result.put(3, "numberTo");
-        result.put(4, "periodTo");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -359,16 +373,7 @@ public class Field38H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("numberfrom", 1);
-        super.labelMap.put("periodfrom", 2);
-        super.labelMap.put("numberto", 3);
-        super.labelMap.put("periodto", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -754,10 +759,19 @@ public class Field38H extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field38H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field38H field = new Field38H();
+    /**
+     * This method deserializes the parsed JSON data into a Field38H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field38H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field38H field = new Field38H();
 
         // **** COMPONENT 1 - Number From
 
@@ -108,6 +108,24 @@ public class Field39A extends Field implements Serializable {
 	 */
 	public static final Integer TOLERANCE_2 = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Tolerance 1");
+        componentLabels.add("Tolerance 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "tolerance1");
+        componentMap.put(2, "tolerance2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("tolerance1", 1);
+        labelMap.put("tolerance2", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field39A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -306,10 +324,7 @@ public class Field39A extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Tolerance 1");
-        result.add("Tolerance 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -318,10 +333,7 @@ public class Field39A extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "tolerance1");
-        result.put(2, "tolerance2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -330,14 +342,7 @@ public class Field39A extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("tolerance1", 1);
-        super.labelMap.put("tolerance2", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -649,10 +654,19 @@ public class Field39A extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field39A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field39A field = new Field39A();
+    /**
+     * This method deserializes the parsed JSON data into a Field39A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field39A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field39A field = new Field39A();
 
         // **** COMPONENT 1 - Tolerance 1
 
@@ -112,6 +112,54 @@ public class Field39D extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NARRATIVE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Narrative");
+        componentLabels.add("Narrative 2");
+        componentLabels.add("Narrative 3");
+        componentLabels.add("Narrative 4");
+        componentLabels.add("Narrative 5");
+        componentLabels.add("Narrative 6");
+        componentLabels.add("Narrative 7");
+        componentLabels.add("Narrative 8");
+        componentLabels.add("Narrative 9");
+        componentLabels.add("Narrative 10");
+        componentLabels.add("Narrative 11");
+        componentLabels.add("Narrative 12");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "narrative");
+        componentMap.put(2, "narrative2");
+        componentMap.put(3, "narrative3");
+        componentMap.put(4, "narrative4");
+        componentMap.put(5, "narrative5");
+        componentMap.put(6, "narrative6");
+        componentMap.put(7, "narrative7");
+        componentMap.put(8, "narrative8");
+        componentMap.put(9, "narrative9");
+        componentMap.put(10, "narrative10");
+        componentMap.put(11, "narrative11");
+        componentMap.put(12, "narrative12");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("narrative", 1);
+        labelMap.put("narrative2", 2);
+        labelMap.put("narrative3", 3);
+        labelMap.put("narrative4", 4);
+        labelMap.put("narrative5", 5);
+        labelMap.put("narrative6", 6);
+        labelMap.put("narrative7", 7);
+        labelMap.put("narrative8", 8);
+        labelMap.put("narrative9", 9);
+        labelMap.put("narrative10", 10);
+        labelMap.put("narrative11", 11);
+        labelMap.put("narrative12", 12);
+        DESCRIPTOR = FieldDescriptor.describe(Field39D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -381,20 +429,7 @@ public class Field39D extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -403,20 +438,7 @@ public class Field39D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        result.put(5, "narrative5");
-        result.put(6, "narrative6");
-        result.put(7, "narrative7");
-        result.put(8, "narrative8");
-        result.put(9, "narrative9");
-        result.put(10, "narrative10");
-        result.put(11, "narrative11");
-        result.put(12, "narrative12");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -425,24 +447,7 @@ public class Field39D extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        super.labelMap.put("narrative5", 5);
-        super.labelMap.put("narrative6", 6);
-        super.labelMap.put("narrative7", 7);
-        super.labelMap.put("narrative8", 8);
-        super.labelMap.put("narrative9", 9);
-        super.labelMap.put("narrative10", 10);
-        super.labelMap.put("narrative11", 11);
-        super.labelMap.put("narrative12", 12);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1094,10 +1099,19 @@ public class Field39D extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field39D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field39D field = new Field39D();
+    /**
+     * This method deserializes the parsed JSON data into a Field39D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field39D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field39D field = new Field39D();
 
         // **** COMPONENT 1 - Narrative
 
@@ -108,6 +108,24 @@ public class Field405 extends Field implements Serializable {
 	 */
 	public static final Integer LINE_FIELD_NUMBER = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Reason For Rejection");
+        componentLabels.add("Line Field Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "reasonForRejection");
+        componentMap.put(2, "lineFieldNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("reasonforrejection", 1);
+        labelMap.put("linefieldnumber", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field405.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -310,10 +328,7 @@ public class Field405 extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Reason For Rejection");
-        result.add("Line Field Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -322,10 +337,7 @@ public class Field405 extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "reasonForRejection");
-        result.put(2, "lineFieldNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -334,14 +346,7 @@ public class Field405 extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("reasonforrejection", 1);
-        super.labelMap.put("linefieldnumber", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -576,10 +581,19 @@ public class Field405 extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field405 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field405 field = new Field405();
+    /**
+     * This method deserializes the parsed JSON data into a Field405 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field405 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field405 field = new Field405();
 
         // **** COMPONENT 1 - Reason For Rejection
 
@@ -117,6 +117,25 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
 	 */
 	public static final Integer CODE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Identifier Code");
+        componentLabels.add("Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "identifierCode");
+        componentMap.put(2, "code");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("identifiercode", 1);
+        labelMap.put("bic", 1);
+        labelMap.put("code", 2);
+        DESCRIPTOR = FieldDescriptor.describe(Field41A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -318,10 +337,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Identifier Code");
-        result.add("Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -330,10 +346,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        result.put(2, "code");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -342,16 +355,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        super.labelMap.put("code", 2);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -681,10 +685,19 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      * @see Field#fromJson(String)
      */
     public static Field41A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field41A field = new Field41A();
+    /**
+     * This method deserializes the parsed JSON data into a Field41A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field41A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field41A field = new Field41A();
 
         // **** COMPONENT 1 - Identifier Code
 
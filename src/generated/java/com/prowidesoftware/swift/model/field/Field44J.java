@@ -113,6 +113,27 @@ public class Field44J extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NARRATIVE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Country Code");
+        componentLabels.add("Country Sub Division");
+        componentLabels.add("Narrative");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "countryCode");
+        componentMap.put(2, "countrySubDivision");
+        componentMap.put(3, "narrative");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("countrycode", 1);
+        labelMap.put("countrysubdivision", 2);
+        labelMap.put("narrative", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field44J.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -330,11 +351,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Country Code");
-        result.add("Country Sub Division");
-        result.add("Narrative");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -343,11 +360,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "countryCode");
-        result.put(2, "countrySubDivision");
-        result.put(3, "narrative");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -356,15 +369,7 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("countrycode", 1);
-        super.labelMap.put("countrysubdivision", 2);
-        super.labelMap.put("narrative", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -643,10 +648,19 @@ public class Field44J extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field44J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field44J field = new Field44J();
+    /**
+     * This method deserializes the parsed JSON data into a Field44J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field44J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field44J field = new Field44J();
 
         // **** COMPONENT 1 - Country Code
 
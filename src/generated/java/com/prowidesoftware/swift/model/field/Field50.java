@@ -104,6 +104,30 @@ public class Field50 extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NAME_AND_ADDRESS = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Name And Address");
+        componentLabels.add("Name And Address 2");
+        componentLabels.add("Name And Address 3");
+        componentLabels.add("Name And Address 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "nameAndAddress");
+        componentMap.put(2, "nameAndAddress2");
+        componentMap.put(3, "nameAndAddress3");
+        componentMap.put(4, "nameAndAddress4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("nameandaddress", 1);
+        labelMap.put("nameandaddress2", 2);
+        labelMap.put("nameandaddress3", 3);
+        labelMap.put("nameandaddress4", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field50.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -317,12 +341,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -331,12 +350,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "nameAndAddress");
-        result.put(2, "nameAndAddress2");
-        result.put(3, "nameAndAddress3");
-        result.put(4, "nameAndAddress4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -345,16 +359,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("nameandaddress", 1);
-        super.labelMap.put("nameandaddress2", 2);
-        super.labelMap.put("nameandaddress3", 3);
-        super.labelMap.put("nameandaddress4", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -710,10 +715,19 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field50 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50 field = new Field50();
+    /**
+     * This method deserializes the parsed JSON data into a Field50 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50 field = new Field50();
 
         // **** COMPONENT 1 - Name And Address
 
@@ -110,6 +110,22 @@ public class Field50C extends Field implements Serializable, BICContainer {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer BIC = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Identifier Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "identifierCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("identifiercode", 1);
+        labelMap.put("bic", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field50C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -300,9 +316,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Identifier Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -311,9 +325,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -322,15 +334,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -539,10 +543,19 @@ public class Field50C extends Field implements Serializable, BICContainer {
      * @see Field#fromJson(String)
      */
     public static Field50C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50C field = new Field50C();
+    /**
+     * This method deserializes the parsed JSON data into a Field50C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50C field = new Field50C();
 
         // **** COMPONENT 1 - Identifier Code
 
@@ -151,6 +151,45 @@ public class Field50F extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NAME_AND_ADDRESS_4 = 9;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Party Identifier");
+        componentLabels.add("Number 1");
+        componentLabels.add("Name And Address 1");
+        componentLabels.add("Number 2");
+        componentLabels.add("Name And Address 2");
+        componentLabels.add("Number 3");
+        componentLabels.add("Name And Address 3");
+        componentLabels.add("Number 4");
+        componentLabels.add("Name And Address 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "partyIdentifier");
+        componentMap.put(2, "number1");
+        componentMap.put(3, "nameAndAddress1");
+        componentMap.put(4, "number2");
+        componentMap.put(5, "nameAndAddress2");
+        componentMap.put(6, "number3");
+        componentMap.put(7, "nameAndAddress3");
+        componentMap.put(8, "number4");
+        componentMap.put(9, "nameAndAddress4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("partyidentifier", 1);
+        labelMap.put("number1", 2);
+        labelMap.put("nameandaddress1", 3);
+        labelMap.put("number2", 4);
+        labelMap.put("nameandaddress2", 5);
+        labelMap.put("number3", 6);
+        labelMap.put("nameandaddress3", 7);
+        labelMap.put("number4", 8);
+        labelMap.put("nameandaddress4", 9);
+        DESCRIPTOR = FieldDescriptor.describe(Field50F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -438,17 +477,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Identifier");
-        result.add("Number 1");
-        result.add("Name And Address 1");
-        result.add("Number 2");
-        result.add("Name And Address 2");
-        result.add("Number 3");
-        result.add("Name And Address 3");
-        result.add("Number 4");
-        result.add("Name And Address 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -457,17 +486,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyIdentifier");
-        result.put(2, "number1");
-        result.put(3, "nameAndAddress1");
-        result.put(4, "number2");
-        result.put(5, "nameAndAddress2");
-        result.put(6, "number3");
-        result.put(7, "nameAndAddress3");
-        result.put(8, "number4");
-        result.put(9, "nameAndAddress4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -476,21 +495,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyidentifier", 1);
-        super.labelMap.put("number1", 2);
-        super.labelMap.put("nameandaddress1", 3);
-        super.labelMap.put("number2", 4);
-        super.labelMap.put("nameandaddress2", 5);
-        super.labelMap.put("number3", 6);
-        super.labelMap.put("nameandaddress3", 7);
-        super.labelMap.put("number4", 8);
-        super.labelMap.put("nameandaddress4", 9);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1299,10 +1304,19 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field50F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50F field = new Field50F();
+    /**
+     * This method deserializes the parsed JSON data into a Field50F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50F field = new Field50F();
 
         // **** COMPONENT 1 - Party Identifier
 
@@ -409,10 +409,19 @@ public class Field50G extends OptionGPartyField implements Serializable, BICCont
      * @see Field#fromJson(String)
      */
     public static Field50G fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50G field = new Field50G();
+    /**
+     * This method deserializes the parsed JSON data into a Field50G object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50G fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50G field = new Field50G();
 
         // **** COMPONENT 1 - Account
 
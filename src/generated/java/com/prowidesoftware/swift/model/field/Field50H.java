@@ -433,10 +433,19 @@ public class Field50H extends OptionHPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field50H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50H field = new Field50H();
+    /**
+     * This method deserializes the parsed JSON data into a Field50H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50H field = new Field50H();
 
         // **** COMPONENT 1 - Account
 
@@ -433,10 +433,19 @@ public class Field50K extends OptionKPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field50K fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50K field = new Field50K();
+    /**
+     * This method deserializes the parsed JSON data into a Field50K object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50K fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50K field = new Field50K();
 
         // **** COMPONENT 1 - Account
 
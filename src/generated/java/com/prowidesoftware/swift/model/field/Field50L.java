@@ -248,10 +248,19 @@ public class Field50L extends OptionLPartyField implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field50L fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field50L field = new Field50L();
+    /**
+     * This method deserializes the parsed JSON data into a Field50L object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field50L fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field50L field = new Field50L();
 
         // **** COMPONENT 1 - Party Identifier
 
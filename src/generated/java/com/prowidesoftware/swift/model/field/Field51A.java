@@ -431,10 +431,19 @@ public class Field51A extends OptionAPartyField implements Serializable, BICCont
      * @see Field#fromJson(String)
      */
     public static Field51A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field51A field = new Field51A();
+    /**
+     * This method deserializes the parsed JSON data into a Field51A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field51A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field51A field = new Field51A();
 
         // **** COMPONENT 1 - D/C Mark
 
@@ -455,10 +455,19 @@ public class Field51D extends OptionDPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field51D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field51D field = new Field51D();
+    /**
+     * This method deserializes the parsed JSON data into a Field51D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field51D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field51D field = new Field51D();
 
         // **** COMPONENT 1 - D/C Mark
 
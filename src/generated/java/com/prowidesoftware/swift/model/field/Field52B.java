@@ -377,10 +377,19 @@ public class Field52B extends OptionBPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field52B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field52B field = new Field52B();
+    /**
+     * This method deserializes the parsed JSON data into a Field52B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field52B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field52B field = new Field52B();
 
         // **** COMPONENT 1 - D/C Mark
 
@@ -455,10 +455,19 @@ public class Field52D extends OptionDPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field52D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field52D field = new Field52D();
+    /**
+     * This method deserializes the parsed JSON data into a Field52D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field52D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field52D field = new Field52D();
 
         // **** COMPONENT 1 - D/C Mark
 
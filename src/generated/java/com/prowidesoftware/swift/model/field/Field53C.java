@@ -248,10 +248,19 @@ public class Field53C extends OptionCPartyField implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field53C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field53C field = new Field53C();
+    /**
+     * This method deserializes the parsed JSON data into a Field53C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field53C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field53C field = new Field53C();
 
         // **** COMPONENT 1 - Account
 
@@ -377,10 +377,19 @@ public class Field54B extends OptionBPartyField implements Serializable, MultiLi
      * @see Field#fromJson(String)
      */
     public static Field54B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field54B field = new Field54B();
+    /**
+     * This method deserializes the parsed JSON data into a Field54B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field54B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field54B field = new Field54B();
 
         // **** COMPONENT 1 - D/C Mark
 
@@ -248,10 +248,19 @@ public class Field56C extends OptionCPartyField implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field56C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field56C field = new Field56C();
+    /**
+     * This method deserializes the parsed JSON data into a Field56C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field56C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field56C field = new Field56C();
 
         // **** COMPONENT 1 - Account
 
@@ -132,6 +132,31 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("D/C Mark");
+        componentLabels.add("Date");
+        componentLabels.add("Currency");
+        componentLabels.add("Amount");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dCMark");
+        componentMap.put(2, "date");
+        componentMap.put(3, "currency");
+        componentMap.put(4, "amount");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("dcmark", 1);
+        labelMap.put("date", 2);
+        labelMap.put("currency", 3);
+        labelMap.put("unit", 3);
+        labelMap.put("amount", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field60M.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -350,12 +375,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Date");
-        result.add("Currency");
-        result.add("Amount");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -364,12 +384,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "date");
-        result.put(3, "currency");
-        result.put(4, "amount");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -378,18 +393,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("currency", 3);
-        // alias name
-        super.labelMap.put("unit", 3);
-        super.labelMap.put("amount", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -422,7 +426,16 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -441,6 +454,14 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Currency).
      * @return the component 3
@@ -455,7 +476,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -506,7 +527,7 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -879,10 +900,19 @@ public class Field60M extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field60M fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field60M field = new Field60M();
+    /**
+     * This method deserializes the parsed JSON data into a Field60M object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field60M fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field60M field = new Field60M();
 
         // **** COMPONENT 1 - D/C Mark
 
@@ -175,6 +175,50 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
 	 */
 	public static final Integer SUPPLEMENTARY_DETAILS = 10;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Value Date");
+        componentLabels.add("Entry Date");
+        componentLabels.add("Debit/Credit Mark");
+        componentLabels.add("Funds Code");
+        componentLabels.add("Amount");
+        componentLabels.add("Transaction Type");
+        componentLabels.add("Identification Code");
+        componentLabels.add("Reference For The Account Owner");
+        componentLabels.add("Reference Of The Account Servicing Institution");
+        componentLabels.add("Supplementary Details");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "valueDate");
+        componentMap.put(2, "entryDate");
+        componentMap.put(3, "debitCreditMark");
+        componentMap.put(4, "fundsCode");
+        componentMap.put(5, "amount");
+        componentMap.put(6, "transactionType");
+        componentMap.put(7, "identificationCode");
+        componentMap.put(8, "referenceForTheAccountOwner");
+        componentMap.put(9, "referenceOfTheAccountServicingInstitution");
+        componentMap.put(10, "supplementaryDetails");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("valuedate", 1);
+        labelMap.put("date", 1);
+        labelMap.put("entrydate", 2);
+        labelMap.put("debitcreditmark", 3);
+        labelMap.put("dcmark", 3);
+        labelMap.put("fundscode", 4);
+        labelMap.put("amount", 5);
+        labelMap.put("transactiontype", 6);
+        labelMap.put("identificationcode", 7);
+        labelMap.put("referencefortheaccountowner", 8);
+        labelMap.put("referenceoftheaccountservicinginstitution", 9);
+        labelMap.put("supplementarydetails", 10);
+        DESCRIPTOR = FieldDescriptor.describe(Field61.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -444,18 +488,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Value Date");
-        result.add("Entry Date");
-        result.add("Debit/Credit Mark");
-        result.add("Funds Code");
-        result.add("Amount");
-        result.add("Transaction Type");
-        result.add("Identification Code");
-        result.add("Reference For The Account Owner");
-        result.add("Reference Of The Account Servicing Institution");
-        result.add("Supplementary Details");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -464,18 +497,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "valueDate");
-        result.put(2, "entryDate");
-        result.put(3, "debitCreditMark");
-        result.put(4, "fundsCode");
-        result.put(5, "amount");
-        result.put(6, "transactionType");
-        result.put(7, "identificationCode");
-        result.put(8, "referenceForTheAccountOwner");
-        result.put(9, "referenceOfTheAccountServicingInstitution");
-        result.put(10, "supplementaryDetails");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -484,26 +506,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("valuedate", 1);
-        // alias name
-        super.labelMap.put("date", 1);
-        super.labelMap.put("entrydate", 2);
-        super.labelMap.put("debitcreditmark", 3);
-        // alias name
-        super.labelMap.put("dcmark", 3);
-        super.labelMap.put("fundscode", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("transactiontype", 6);
-        super.labelMap.put("identificationcode", 7);
-        super.labelMap.put("referencefortheaccountowner", 8);
-        super.labelMap.put("referenceoftheaccountservicinginstitution", 9);
-        super.labelMap.put("supplementarydetails", 10);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -520,7 +523,16 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate2);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate2);
     }
 
     /**
@@ -548,6 +560,14 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Value Date (component 1) as LocalDate
+     * @return the Value Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getValueDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * @deprecated use #getValueDateAsCalendar() instead
      * @since 9.2.7
@@ -570,7 +590,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getMonthDay(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getMonthDay);
     }
 
     /**
@@ -647,7 +667,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1291,10 +1311,19 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      * @see Field#fromJson(String)
      */
     public static Field61 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field61 field = new Field61();
+    /**
+     * This method deserializes the parsed JSON data into a Field61 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field61 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field61 field = new Field61();
 
         // **** COMPONENT 1 - Value Date
 
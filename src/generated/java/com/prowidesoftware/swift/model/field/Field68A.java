@@ -135,6 +135,36 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer PRODUCT_CODE = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Number");
+        componentLabels.add("Currency");
+        componentLabels.add("Denomination");
+        componentLabels.add("Mode");
+        componentLabels.add("Amount");
+        componentLabels.add("Product Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "number");
+        componentMap.put(2, "currency");
+        componentMap.put(3, "denomination");
+        componentMap.put(4, "mode");
+        componentMap.put(5, "amount");
+        componentMap.put(6, "productCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("number", 1);
+        labelMap.put("currency", 2);
+        labelMap.put("denomination", 3);
+        labelMap.put("mode", 4);
+        labelMap.put("amount", 5);
+        labelMap.put("productcode", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field68A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -375,14 +405,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Number");
-        result.add("Currency");
-        result.add("Denomination");
-        result.add("Mode");
-        result.add("Amount");
-        result.add("Product Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -391,14 +414,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "number");
-        result.put(2, "currency");
-        result.put(3, "denomination");
-        result.put(4, "mode");
-        result.put(5, "amount");
-        result.put(6, "productCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -407,18 +423,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("number", 1);
-        super.labelMap.put("currency", 2);
-        super.labelMap.put("denomination", 3);
-        super.labelMap.put("mode", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("productcode", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -489,7 +494,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -631,7 +636,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1123,10 +1128,19 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field68A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field68A field = new Field68A();
+    /**
+     * This method deserializes the parsed JSON data into a Field68A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field68A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field68A field = new Field68A();
 
         // **** COMPONENT 1 - Number
 
@@ -116,6 +116,27 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
 	 */
 	public static final Integer DATE2 = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Date1");
+        componentLabels.add("Date2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "date1");
+        componentMap.put(3, "date2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("date1", 2);
+        labelMap.put("date2", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field69A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -332,11 +353,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date1");
-        result.add("Date2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -345,11 +362,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date1");
-        result.put(3, "date2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -358,15 +371,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date1", 2);
-        super.labelMap.put("date2", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -399,7 +404,16 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -418,6 +432,14 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date1 (component 2) as LocalDate
+     * @return the Date1 from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Date2).
      * @return the component 3
@@ -432,7 +454,16 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return getComponentAs(3, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -451,6 +482,14 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date2 (component 3) as LocalDate
+     * @return the Date2 from component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -697,10 +736,19 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      * @see Field#fromJson(String)
      */
     public static Field69A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field69A field = new Field69A();
+    /**
+     * This method deserializes the parsed JSON data into a Field69A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field69A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field69A field = new Field69A();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -156,6 +156,37 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer END_TIME = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Date1");
+        componentLabels.add("Time1");
+        componentLabels.add("Date2");
+        componentLabels.add("Time2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "date1");
+        componentMap.put(3, "time1");
+        componentMap.put(4, "date2");
+        componentMap.put(5, "time2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("date1", 2);
+        labelMap.put("startdate", 2);
+        labelMap.put("time1", 3);
+        labelMap.put("starttime", 3);
+        labelMap.put("date2", 4);
+        labelMap.put("enddate", 4);
+        labelMap.put("time2", 5);
+        labelMap.put("endtime", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field69B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -406,13 +437,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date1");
-        result.add("Time1");
-        result.add("Date2");
-        result.add("Time2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -421,13 +446,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date1");
-        result.put(3, "time1");
-        result.put(4, "date2");
-        result.put(5, "time2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -436,25 +455,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date1", 2);
-        // alias name
-        super.labelMap.put("startdate", 2);
-        super.labelMap.put("time1", 3);
-        // alias name
-        super.labelMap.put("starttime", 3);
-        super.labelMap.put("date2", 4);
-        // alias name
-        super.labelMap.put("enddate", 4);
-        super.labelMap.put("time2", 5);
-        // alias name
-        super.labelMap.put("endtime", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -487,7 +488,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -517,6 +527,14 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date1 (component 2) as LocalDate
+     * @return the Date1 from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * @deprecated use #getDate1AsCalendar() instead
      */
@@ -540,7 +558,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -570,6 +597,14 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time1 (component 3) as LocalTime
+     * @return the Time1 from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTime1AsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * @deprecated use #getTime1AsCalendar() instead
      */
@@ -593,7 +628,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return getComponentAs(4, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -623,6 +667,14 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date2 (component 4) as LocalDate
+     * @return the Date2 from component 4 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * @deprecated use #getDate2AsCalendar() instead
      */
@@ -646,7 +698,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -676,6 +737,14 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time2 (component 5) as LocalTime
+     * @return the Time2 from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTime2AsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * @deprecated use #getTime2AsCalendar() instead
      */
@@ -1091,10 +1160,19 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      * @see Field#fromJson(String)
      */
     public static Field69B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field69B field = new Field69B();
+    /**
+     * This method deserializes the parsed JSON data into a Field69B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field69B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field69B field = new Field69B();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -123,6 +123,28 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
 	 */
 	public static final Integer DATE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Date Code");
+        componentLabels.add("Date");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dateCode");
+        componentMap.put(3, "date");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datecode", 2);
+        labelMap.put("code", 2);
+        labelMap.put("date", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field69E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -335,11 +357,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date Code");
-        result.add("Date");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -348,11 +366,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dateCode");
-        result.put(3, "date");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -361,17 +375,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("date", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -431,7 +435,16 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return getComponentAs(3, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -450,6 +463,14 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date (component 3) as LocalDate
+     * @return the Date from component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -682,10 +703,19 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      * @see Field#fromJson(String)
      */
     public static Field69E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field69E field = new Field69E();
+    /**
+     * This method deserializes the parsed JSON data into a Field69E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field69E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field69E field = new Field69E();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -129,6 +129,31 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
 	 */
 	public static final Integer TIME = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Date Code");
+        componentLabels.add("Date");
+        componentLabels.add("Time");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dateCode");
+        componentMap.put(3, "date");
+        componentMap.put(4, "time");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datecode", 2);
+        labelMap.put("code", 2);
+        labelMap.put("date", 3);
+        labelMap.put("time", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field69F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -358,12 +383,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date Code");
-        result.add("Date");
-        result.add("Time");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -372,12 +392,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dateCode");
-        result.put(3, "date");
-        result.put(4, "time");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -386,18 +401,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("date", 3);
-        super.labelMap.put("time", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -457,7 +461,16 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return getComponentAs(3, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -476,6 +489,14 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date (component 3) as LocalDate
+     * @return the Date from component 3 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Gets the component 4 (Time).
      * @return the component 4
@@ -490,7 +511,16 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return getComponentAs(4, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -509,6 +539,14 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Time (component 4) as LocalTime
+     * @return the Time from component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -785,10 +823,19 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      * @see Field#fromJson(String)
      */
     public static Field69F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field69F field = new Field69F();
+    /**
+     * This method deserializes the parsed JSON data into a Field69F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field69F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field69F field = new Field69F();
 
         // **** COMPONENT 1 - Qualifier
 
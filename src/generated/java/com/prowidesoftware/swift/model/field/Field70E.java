@@ -117,6 +117,51 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
 	 */
 	public static final Integer NARRATIVE = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Narrative");
+        componentLabels.add("Narrative 2");
+        componentLabels.add("Narrative 3");
+        componentLabels.add("Narrative 4");
+        componentLabels.add("Narrative 5");
+        componentLabels.add("Narrative 6");
+        componentLabels.add("Narrative 7");
+        componentLabels.add("Narrative 8");
+        componentLabels.add("Narrative 9");
+        componentLabels.add("Narrative 10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "narrative");
+        componentMap.put(3, "narrative2");
+        componentMap.put(4, "narrative3");
+        componentMap.put(5, "narrative4");
+        componentMap.put(6, "narrative5");
+        componentMap.put(7, "narrative6");
+        componentMap.put(8, "narrative7");
+        componentMap.put(9, "narrative8");
+        componentMap.put(10, "narrative9");
+        componentMap.put(11, "narrative10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("narrative", 2);
+        labelMap.put("narrative2", 3);
+        labelMap.put("narrative3", 4);
+        labelMap.put("narrative4", 5);
+        labelMap.put("narrative5", 6);
+        labelMap.put("narrative6", 7);
+        labelMap.put("narrative7", 8);
+        labelMap.put("narrative8", 9);
+        labelMap.put("narrative9", 10);
+        labelMap.put("narrative10", 11);
+        DESCRIPTOR = FieldDescriptor.describe(Field70E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,19 +429,7 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -405,19 +438,7 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "narrative");
-        result.put(3, "narrative2");
-        result.put(4, "narrative3");
-        result.put(5, "narrative4");
-        result.put(6, "narrative5");
-        result.put(7, "narrative6");
-        result.put(8, "narrative7");
-        result.put(9, "narrative8");
-        result.put(10, "narrative9");
-        result.put(11, "narrative10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -426,23 +447,7 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("narrative", 2);
-        super.labelMap.put("narrative2", 3);
-        super.labelMap.put("narrative3", 4);
-        super.labelMap.put("narrative4", 5);
-        super.labelMap.put("narrative5", 6);
-        super.labelMap.put("narrative6", 7);
-        super.labelMap.put("narrative7", 8);
-        super.labelMap.put("narrative8", 9);
-        super.labelMap.put("narrative9", 10);
-        super.labelMap.put("narrative10", 11);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1094,10 +1099,19 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
      * @see Field#fromJson(String)
      */
     public static Field70E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field70E field = new Field70E();
+    /**
+     * This method deserializes the parsed JSON data into a Field70E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field70E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field70E field = new Field70E();
 
         // **** COMPONENT 1 - Qualifier
 
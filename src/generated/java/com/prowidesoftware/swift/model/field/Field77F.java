@@ -108,6 +108,22 @@ public class Field77F extends Field implements Serializable, MultiLineField {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer DIFACT_MESSAGE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("EDIFACT Message");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "eDIFACTMessage");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("edifactmessage", 1);
+        labelMap.put("difactmessage", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field77F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -298,9 +314,7 @@ public class Field77F extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("EDIFACT Message");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -309,9 +323,7 @@ public class Field77F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "eDIFACTMessage");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -320,15 +332,7 @@ public class Field77F extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("edifactmessage", 1);
-        // alias name
-        super.labelMap.put("difactmessage", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -553,10 +557,19 @@ public class Field77F extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field77F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field77F field = new Field77F();
+    /**
+     * This method deserializes the parsed JSON data into a Field77F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field77F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field77F field = new Field77F();
 
         // **** COMPONENT 1 - EDIFACT Message
 
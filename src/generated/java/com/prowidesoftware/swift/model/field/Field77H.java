@@ -121,6 +121,28 @@ public class Field77H extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer VERSION = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Type Of Agreement");
+        componentLabels.add("Date");
+        componentLabels.add("Version");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "typeOfAgreement");
+        componentMap.put(2, "date");
+        componentMap.put(3, "version");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("typeofagreement", 1);
+        labelMap.put("type", 1);
+        labelMap.put("date", 2);
+        labelMap.put("version", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field77H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -339,11 +361,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Type Of Agreement");
-        result.add("Date");
-        result.add("Version");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -352,11 +370,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "typeOfAgreement");
-        result.put(2, "date");
-        result.put(3, "version");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -365,17 +379,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("typeofagreement", 1);
-        // alias name
-        super.labelMap.put("type", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("version", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -417,7 +421,16 @@ public class Field77H extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -436,6 +449,14 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Version).
      * @return the component 3
@@ -450,7 +471,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getYear(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getYear);
     }
 
     /**
@@ -687,10 +708,19 @@ public class Field77H extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field77H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field77H field = new Field77H();
+    /**
+     * This method deserializes the parsed JSON data into a Field77H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field77H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field77H field = new Field77H();
 
         // **** COMPONENT 1 - Type Of Agreement
 
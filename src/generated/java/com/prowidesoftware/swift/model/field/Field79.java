@@ -135,6 +135,123 @@ public class Field79 extends Field implements Serializable, MultiLineField {
 	 */
 	public static final Integer NARRATIVE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Narrative");
+        componentLabels.add("Narrative 2");
+        componentLabels.add("Narrative 3");
+        componentLabels.add("Narrative 4");
+        componentLabels.add("Narrative 5");
+        componentLabels.add("Narrative 6");
+        componentLabels.add("Narrative 7");
+        componentLabels.add("Narrative 8");
+        componentLabels.add("Narrative 9");
+        componentLabels.add("Narrative 10");
+        componentLabels.add("Narrative 11");
+        componentLabels.add("Narrative 12");
+        componentLabels.add("Narrative 13");
+        componentLabels.add("Narrative 14");
+        componentLabels.add("Narrative 15");
+        componentLabels.add("Narrative 16");
+        componentLabels.add("Narrative 17");
+        componentLabels.add("Narrative 18");
+        componentLabels.add("Narrative 19");
+        componentLabels.add("Narrative 20");
+        componentLabels.add("Narrative 21");
+        componentLabels.add("Narrative 22");
+        componentLabels.add("Narrative 23");
+        componentLabels.add("Narrative 24");
+        componentLabels.add("Narrative 25");
+        componentLabels.add("Narrative 26");
+        componentLabels.add("Narrative 27");
+        componentLabels.add("Narrative 28");
+        componentLabels.add("Narrative 29");
+        componentLabels.add("Narrative 30");
+        componentLabels.add("Narrative 31");
+        componentLabels.add("Narrative 32");
+        componentLabels.add("Narrative 33");
+        componentLabels.add("Narrative 34");
+        componentLabels.add("Narrative 35");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "narrative");
+        componentMap.put(2, "narrative2");
+        componentMap.put(3, "narrative3");
+        componentMap.put(4, "narrative4");
+        componentMap.put(5, "narrative5");
+        componentMap.put(6, "narrative6");
+        componentMap.put(7, "narrative7");
+        componentMap.put(8, "narrative8");
+        componentMap.put(9, "narrative9");
+        componentMap.put(10, "narrative10");
+        componentMap.put(11, "narrative11");
+        componentMap.put(12, "narrative12");
+        componentMap.put(13, "narrative13");
+        componentMap.put(14, "narrative14");
+        componentMap.put(15, "narrative15");
+        componentMap.put(16, "narrative16");
+        componentMap.put(17, "narrative17");
+        componentMap.put(18, "narrative18");
+        componentMap.put(19, "narrative19");
+        componentMap.put(20, "narrative20");
+        componentMap.put(21, "narrative21");
+        componentMap.put(22, "narrative22");
+        componentMap.put(23, "narrative23");
+        componentMap.put(24, "narrative24");
+        componentMap.put(25, "narrative25");
+        componentMap.put(26, "narrative26");
+        componentMap.put(27, "narrative27");
+        componentMap.put(28, "narrative28");
+        componentMap.put(29, "narrative29");
+        componentMap.put(30, "narrative30");
+        componentMap.put(31, "narrative31");
+        componentMap.put(32, "narrative32");
+        componentMap.put(33, "narrative33");
+        componentMap.put(34, "narrative34");
+        componentMap.put(35, "narrative35");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("narrative", 1);
+        labelMap.put("narrative2", 2);
+        labelMap.put("narrative3", 3);
+        labelMap.put("narrative4", 4);
+        labelMap.put("narrative5", 5);
+        labelMap.put("narrative6", 6);
+        labelMap.put("narrative7", 7);
+        labelMap.put("narrative8", 8);
+        labelMap.put("narrative9", 9);
+        labelMap.put("narrative10", 10);
+        labelMap.put("narrative11", 11);
+        labelMap.put("narrative12", 12);
+        labelMap.put("narrative13", 13);
+        labelMap.put("narrative14", 14);
+        labelMap.put("narrative15", 15);
+        labelMap.put("narrative16", 16);
+        labelMap.put("narrative17", 17);
+        labelMap.put("narrative18", 18);
+        labelMap.put("narrative19", 19);
+        labelMap.put("narrative20", 20);
+        labelMap.put("narrative21", 21);
+        labelMap.put("narrative22", 22);
+        labelMap.put("narrative23", 23);
+        labelMap.put("narrative24", 24);
+        labelMap.put("narrative25", 25);
+        labelMap.put("narrative26", 26);
+        labelMap.put("narrative27", 27);
+        labelMap.put("narrative28", 28);
+        labelMap.put("narrative29", 29);
+        labelMap.put("narrative30", 30);
+        labelMap.put("narrative31", 31);
+        labelMap.put("narrative32", 32);
+        labelMap.put("narrative33", 33);
+        labelMap.put("narrative34", 34);
+        labelMap.put("narrative35", 35);
+        DESCRIPTOR = FieldDescriptor.describe(Field79.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -565,43 +682,7 @@ public class Field79 extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Narrative");
-        result.add("Narrative 2");
-        result.add("Narrative 3");
-        result.add("Narrative 4");
-        result.add("Narrative 5");
-        result.add("Narrative 6");
-        result.add("Narrative 7");
-        result.add("Narrative 8");
-        result.add("Narrative 9");
-        result.add("Narrative 10");
-        result.add("Narrative 11");
-        result.add("Narrative 12");
-        result.add("Narrative 13");
-        result.add("Narrative 14");
-        result.add("Narrative 15");
-        result.add("Narrative 16");
-        result.add("Narrative 17");
-        result.add("Narrative 18");
-        result.add("Narrative 19");
-        result.add("Narrative 20");
-        result.add("Narrative 21");
-        result.add("Narrative 22");
-        result.add("Narrative 23");
-        result.add("Narrative 24");
-        result.add("Narrative 25");
-        result.add("Narrative 26");
-        result.add("Narrative 27");
-        result.add("Narrative 28");
-        result.add("Narrative 29");
-        result.add("Narrative 30");
-        result.add("Narrative 31");
-        result.add("Narrative 32");
-        result.add("Narrative 33");
-        result.add("Narrative 34");
-        result.add("Narrative 35");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -610,43 +691,7 @@ public class Field79 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "narrative");
-        result.put(2, "narrative2");
-        result.put(3, "narrative3");
-        result.put(4, "narrative4");
-        result.put(5, "narrative5");
-        result.put(6, "narrative6");
-        result.put(7, "narrative7");
-        result.put(8, "narrative8");
-        result.put(9, "narrative9");
-        result.put(10, "narrative10");
-        result.put(11, "narrative11");
-        result.put(12, "narrative12");
-        result.put(13, "narrative13");
-        result.put(14, "narrative14");
-        result.put(15, "narrative15");
-        result.put(16, "narrative16");
-        result.put(17, "narrative17");
-        result.put(18, "narrative18");
-        result.put(19, "narrative19");
-        result.put(20, "narrative20");
-        result.put(21, "narrative21");
-        result.put(22, "narrative22");
-        result.put(23, "narrative23");
-        result.put(24, "narrative24");
-        result.put(25, "narrative25");
-        result.put(26, "narrative26");
-        result.put(27, "narrative27");
-        result.put(28, "narrative28");
-        result.put(29, "narrative29");
-        result.put(30, "narrative30");
-        result.put(31, "narrative31");
-        result.put(32, "narrative32");
-        result.put(33, "narrative33");
-        result.put(34, "narrative34");
-        result.put(35, "narrative35");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -655,47 +700,7 @@ public class Field79 extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("narrative", 1);
-        super.labelMap.put("narrative2", 2);
-        super.labelMap.put("narrative3", 3);
-        super.labelMap.put("narrative4", 4);
-        super.labelMap.put("narrative5", 5);
-        super.labelMap.put("narrative6", 6);
-        super.labelMap.put("narrative7", 7);
-        super.labelMap.put("narrative8", 8);
-        super.labelMap.put("narrative9", 9);
-        super.labelMap.put("narrative10", 10);
-        super.labelMap.put("narrative11", 11);
-        super.labelMap.put("narrative12", 12);
-        super.labelMap.put("narrative13", 13);
-        super.labelMap.put("narrative14", 14);
-        super.labelMap.put("narrative15", 15);
-        super.labelMap.put("narrative16", 16);
-        super.labelMap.put("narrative17", 17);
-        super.labelMap.put("narrative18", 18);
-        super.labelMap.put("narrative19", 19);
-        super.labelMap.put("narrative20", 20);
-        super.labelMap.put("narrative21", 21);
-        super.labelMap.put("narrative22", 22);
-        super.labelMap.put("narrative23", 23);
-        super.labelMap.put("narrative24", 24);
-        super.labelMap.put("narrative25", 25);
-        super.labelMap.put("narrative26", 26);
-        super.labelMap.put("narrative27", 27);
-        super.labelMap.put("narrative28", 28);
-        super.labelMap.put("narrative29", 29);
-        super.labelMap.put("narrative30", 30);
-        super.labelMap.put("narrative31", 31);
-        super.labelMap.put("narrative32", 32);
-        super.labelMap.put("narrative33", 33);
-        super.labelMap.put("narrative34", 34);
-        super.labelMap.put("narrative35", 35);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -2198,10 +2203,19 @@ public class Field79 extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field79 fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field79 field = new Field79();
+    /**
+     * This method deserializes the parsed JSON data into a Field79 object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field79 fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field79 field = new Field79();
 
         // **** COMPONENT 1 - Narrative
 
@@ -248,10 +248,19 @@ public class Field82J extends OptionJPartyField implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field82J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field82J field = new Field82J();
+    /**
+     * This method deserializes the parsed JSON data into a Field82J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field82J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field82J field = new Field82J();
 
         // **** COMPONENT 1 - Party Identification
 
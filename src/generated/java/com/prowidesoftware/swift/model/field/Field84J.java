@@ -248,10 +248,19 @@ public class Field84J extends OptionJPartyField implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field84J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field84J field = new Field84J();
+    /**
+     * This method deserializes the parsed JSON data into a Field84J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field84J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field84J field = new Field84J();
 
         // **** COMPONENT 1 - Party Identification
 
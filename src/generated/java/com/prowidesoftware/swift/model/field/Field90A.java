@@ -123,6 +123,30 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
 	 */
 	public static final Integer PRICE = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Percentage Type Code");
+        componentLabels.add("Sign");
+        componentLabels.add("Price");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "percentageTypeCode");
+        componentMap.put(3, "sign");
+        componentMap.put(4, "price");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("percentagetypecode", 2);
+        labelMap.put("sign", 3);
+        labelMap.put("price", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field90A.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -346,12 +370,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Percentage Type Code");
-        result.add("Sign");
-        result.add("Price");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -360,12 +379,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "percentageTypeCode");
-        result.put(3, "sign");
-        result.put(4, "price");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -374,16 +388,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("percentagetypecode", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("price", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -449,7 +454,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -750,10 +755,19 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      * @see Field#fromJson(String)
      */
     public static Field90A fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field90A field = new Field90A();
+    /**
+     * This method deserializes the parsed JSON data into a Field90A object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field90A fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field90A field = new Field90A();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -131,6 +131,31 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer PRICE = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Amount Type Code");
+        componentLabels.add("Currency Code");
+        componentLabels.add("Price");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "amountTypeCode");
+        componentMap.put(3, "currencyCode");
+        componentMap.put(4, "price");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("amounttypecode", 2);
+        labelMap.put("currencycode", 3);
+        labelMap.put("currency", 3);
+        labelMap.put("price", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field90B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -350,12 +375,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Amount Type Code");
-        result.add("Currency Code");
-        result.add("Price");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -364,12 +384,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "amountTypeCode");
-        result.put(3, "currencyCode");
-        result.put(4, "price");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -378,18 +393,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("amounttypecode", 2);
-        super.labelMap.put("currencycode", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("price", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -438,7 +442,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -492,7 +496,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -864,10 +868,19 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field90B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field90B field = new Field90B();
+    /**
+     * This method deserializes the parsed JSON data into a Field90B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field90B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field90B field = new Field90B();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -143,6 +143,37 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer QUANTITY = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Amount Type Code");
+        componentLabels.add("Currency Code");
+        componentLabels.add("Amount");
+        componentLabels.add("Quantity Type Code");
+        componentLabels.add("Quantity");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "amountTypeCode");
+        componentMap.put(3, "currencyCode");
+        componentMap.put(4, "amount");
+        componentMap.put(5, "quantityTypeCode");
+        componentMap.put(6, "quantity");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("amounttypecode", 2);
+        labelMap.put("currencycode", 3);
+        labelMap.put("currency", 3);
+        labelMap.put("amount", 4);
+        labelMap.put("quantitytypecode", 5);
+        labelMap.put("quantity", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field90F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,14 +415,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Amount Type Code");
-        result.add("Currency Code");
-        result.add("Amount");
-        result.add("Quantity Type Code");
-        result.add("Quantity");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -400,14 +424,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "amountTypeCode");
-        result.put(3, "currencyCode");
-        result.put(4, "amount");
-        result.put(5, "quantityTypeCode");
-        result.put(6, "quantity");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -416,20 +433,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("amounttypecode", 2);
-        super.labelMap.put("currencycode", 3);
-        // alias name
-        super.labelMap.put("currency", 3);
-        super.labelMap.put("amount", 4);
-        super.labelMap.put("quantitytypecode", 5);
-        super.labelMap.put("quantity", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -478,7 +482,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -532,7 +536,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -601,7 +605,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent6AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(6));
+        return getComponentAs(6, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1055,10 +1059,19 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field90F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field90F field = new Field90F();
+    /**
+     * This method deserializes the parsed JSON data into a Field90F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field90F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field90F field = new Field90F();
 
         // **** COMPONENT 1 - Qualifier
 
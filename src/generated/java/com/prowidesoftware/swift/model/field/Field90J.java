@@ -157,6 +157,39 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT2 = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("AmountTypeCode");
+        componentLabels.add("Currency Code1");
+        componentLabels.add("Amount1");
+        componentLabels.add("Currency Code2");
+        componentLabels.add("Amount2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "amountTypeCode");
+        componentMap.put(3, "currencyCode1");
+        componentMap.put(4, "amount1");
+        componentMap.put(5, "currencyCode2");
+        componentMap.put(6, "amount2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("amounttypecode", 2);
+        labelMap.put("code", 2);
+        labelMap.put("currencycode1", 3);
+        labelMap.put("currency1", 3);
+        labelMap.put("amount1", 4);
+        labelMap.put("currencycode2", 5);
+        labelMap.put("currency2", 5);
+        labelMap.put("amount2", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field90J.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -397,14 +430,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("AmountTypeCode");
-        result.add("Currency Code1");
-        result.add("Amount1");
-        result.add("Currency Code2");
-        result.add("Amount2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -413,14 +439,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "amountTypeCode");
-        result.put(3, "currencyCode1");
-        result.put(4, "amount1");
-        result.put(5, "currencyCode2");
-        result.put(6, "amount2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -429,24 +448,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("amounttypecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("currencycode1", 3);
-        // alias name
-        super.labelMap.put("currency1", 3);
-        super.labelMap.put("amount1", 4);
-        super.labelMap.put("currencycode2", 5);
-        // alias name
-        super.labelMap.put("currency2", 5);
-        super.labelMap.put("amount2", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -506,7 +508,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      * @return the component 3 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent3AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(3));
+        return getComponentAs(3, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -560,7 +562,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent4AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(4));
+        return getComponentAs(4, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -612,7 +614,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      * @return the component 5 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent5AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(5));
+        return getComponentAs(5, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -666,7 +668,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent6AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(6));
+        return getComponentAs(6, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1170,10 +1172,19 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field90J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field90J field = new Field90J();
+    /**
+     * This method deserializes the parsed JSON data into a Field90J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field90J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field90J field = new Field90J();
 
         // **** COMPONENT 1 - Qualifier
 
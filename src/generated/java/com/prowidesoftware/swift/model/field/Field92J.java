@@ -150,6 +150,38 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer RATE_STATUS = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Rate Type Code");
+        componentLabels.add("Currency Code");
+        componentLabels.add("Amount");
+        componentLabels.add("Rate Status");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "rateTypeCode");
+        componentMap.put(4, "currencyCode");
+        componentMap.put(5, "amount");
+        componentMap.put(6, "rateStatus");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("ratetypecode", 3);
+        labelMap.put("code", 3);
+        labelMap.put("currencycode", 4);
+        labelMap.put("currency", 4);
+        labelMap.put("amount", 5);
+        labelMap.put("ratestatus", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field92J.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -390,14 +422,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Rate Type Code");
-        result.add("Currency Code");
-        result.add("Amount");
-        result.add("Rate Status");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -406,14 +431,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "rateTypeCode");
-        result.put(4, "currencyCode");
-        result.put(5, "amount");
-        result.put(6, "rateStatus");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -422,22 +440,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("ratetypecode", 3);
-        // alias name
-        super.labelMap.put("code", 3);
-        super.labelMap.put("currencycode", 4);
-        // alias name
-        super.labelMap.put("currency", 4);
-        super.labelMap.put("amount", 5);
-        super.labelMap.put("ratestatus", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -513,7 +516,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      * @return the component 4 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent4AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(4));
+        return getComponentAs(4, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -567,7 +570,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1006,10 +1009,19 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field92J fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field92J field = new Field92J();
+    /**
+     * This method deserializes the parsed JSON data into a Field92J object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field92J fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field92J field = new Field92J();
 
         // **** COMPONENT 1 - Qualifier
 
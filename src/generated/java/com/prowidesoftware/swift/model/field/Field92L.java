@@ -144,6 +144,35 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
 	 */
 	public static final Integer AMOUNT2 = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("First Currency Code");
+        componentLabels.add("Amount1");
+        componentLabels.add("Second Currency Code");
+        componentLabels.add("Amount2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "firstCurrencyCode");
+        componentMap.put(3, "amount1");
+        componentMap.put(4, "secondCurrencyCode");
+        componentMap.put(5, "amount2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("firstcurrencycode", 2);
+        labelMap.put("currency1", 2);
+        labelMap.put("amount1", 3);
+        labelMap.put("secondcurrencycode", 4);
+        labelMap.put("currency2", 4);
+        labelMap.put("amount2", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field92L.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -376,13 +405,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("First Currency Code");
-        result.add("Amount1");
-        result.add("Second Currency Code");
-        result.add("Amount2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -391,13 +414,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "firstCurrencyCode");
-        result.put(3, "amount1");
-        result.put(4, "secondCurrencyCode");
-        result.put(5, "amount2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -406,21 +423,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("firstcurrencycode", 2);
-        // alias name
-        super.labelMap.put("currency1", 2);
-        super.labelMap.put("amount1", 3);
-        super.labelMap.put("secondcurrencycode", 4);
-        // alias name
-        super.labelMap.put("currency2", 4);
-        super.labelMap.put("amount2", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -453,7 +456,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      * @return the component 2 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent2AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(2));
+        return getComponentAs(2, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -507,7 +510,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent3AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(3));
+        return getComponentAs(3, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -559,7 +562,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      * @return the component 4 converted to Currency or null if cannot be converted
      */
     public java.util.Currency getComponent4AsCurrency() {
-        return SwiftFormatUtils.getCurrency(getComponent(4));
+        return getComponentAs(4, java.util.Currency.class, SwiftFormatUtils::getCurrency);
     }
 
     /**
@@ -613,7 +616,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -1087,10 +1090,19 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      * @see Field#fromJson(String)
      */
     public static Field92L fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field92L field = new Field92L();
+    /**
+     * This method deserializes the parsed JSON data into a Field92L object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field92L fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field92L field = new Field92L();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -136,6 +136,34 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer AMOUNT = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Quantity Type Code");
+        componentLabels.add("Balance Type Code");
+        componentLabels.add("Sign");
+        componentLabels.add("Balance");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "quantityTypeCode");
+        componentMap.put(3, "balanceTypeCode");
+        componentMap.put(4, "sign");
+        componentMap.put(5, "balance");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("quantitytypecode", 2);
+        labelMap.put("balancetypecode", 3);
+        labelMap.put("sign", 4);
+        labelMap.put("balance", 5);
+        labelMap.put("amount", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field93C.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -366,13 +394,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Quantity Type Code");
-        result.add("Balance Type Code");
-        result.add("Sign");
-        result.add("Balance");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -381,13 +403,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "quantityTypeCode");
-        result.put(3, "balanceTypeCode");
-        result.put(4, "sign");
-        result.put(5, "balance");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -396,19 +412,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("quantitytypecode", 2);
-        super.labelMap.put("balancetypecode", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("balance", 5);
-        // alias name
-        super.labelMap.put("amount", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -490,7 +494,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -859,10 +863,19 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      * @see Field#fromJson(String)
      */
     public static Field93C fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field93C field = new Field93C();
+    /**
+     * This method deserializes the parsed JSON data into a Field93C object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field93C fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field93C field = new Field93C();
 
         // **** COMPONENT 1 - Qualifier
 
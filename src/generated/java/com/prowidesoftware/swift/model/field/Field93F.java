@@ -129,6 +129,33 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
 	 */
 	public static final Integer BALANCE_OF_DIGITAL_TOKENS = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Quantity Type Code");
+        componentLabels.add("Sign");
+        componentLabels.add("Balance of Digital Tokens");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "quantityTypeCode");
+        componentMap.put(4, "sign");
+        componentMap.put(5, "balanceofDigitalTokens");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("quantitytypecode", 3);
+        labelMap.put("sign", 4);
+        labelMap.put("balanceofdigitaltokens", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field93F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -362,13 +389,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Quantity Type Code");
-        result.add("Sign");
-        result.add("Balance of Digital Tokens");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -377,13 +398,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "quantityTypeCode");
-        result.put(4, "sign");
-        result.put(5, "balanceofDigitalTokens");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -392,17 +407,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("quantitytypecode", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("balanceofdigitaltokens", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -484,7 +489,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      * @since 9.2.7
      */
     public java.math.BigDecimal getComponent5AsBigDecimal() {
-        return SwiftFormatUtils.getBigDecimal(getComponent(5));
+        return getComponentAs(5, java.math.BigDecimal.class, SwiftFormatUtils::getBigDecimal);
     }
 
     /**
@@ -806,10 +811,19 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      * @see Field#fromJson(String)
      */
     public static Field93F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field93F field = new Field93F();
+    /**
+     * This method deserializes the parsed JSON data into a Field93F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field93F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field93F field = new Field93F();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -113,6 +113,27 @@ public class Field94D extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer PLACE = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Country Code");
+        componentLabels.add("Place");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "countryCode");
+        componentMap.put(3, "place");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("countrycode", 2);
+        labelMap.put("place", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field94D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -323,11 +344,7 @@ public class Field94D extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Country Code");
-        result.add("Place");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -336,11 +353,7 @@ public class Field94D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "countryCode");
-        result.put(3, "place");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -349,15 +362,7 @@ public class Field94D extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("countrycode", 2);
-        super.labelMap.put("place", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -589,10 +594,19 @@ public class Field94D extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field94D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field94D field = new Field94D();
+    /**
+     * This method deserializes the parsed JSON data into a Field94D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field94D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field94D field = new Field94D();
 
         // **** COMPONENT 1 - Qualifier
 
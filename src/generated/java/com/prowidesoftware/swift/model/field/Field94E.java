@@ -117,6 +117,51 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
 	 */
 	public static final Integer ADDRESS = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Address");
+        componentLabels.add("Address 2");
+        componentLabels.add("Address 3");
+        componentLabels.add("Address 4");
+        componentLabels.add("Address 5");
+        componentLabels.add("Address 6");
+        componentLabels.add("Address 7");
+        componentLabels.add("Address 8");
+        componentLabels.add("Address 9");
+        componentLabels.add("Address 10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "address");
+        componentMap.put(3, "address2");
+        componentMap.put(4, "address3");
+        componentMap.put(5, "address4");
+        componentMap.put(6, "address5");
+        componentMap.put(7, "address6");
+        componentMap.put(8, "address7");
+        componentMap.put(9, "address8");
+        componentMap.put(10, "address9");
+        componentMap.put(11, "address10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("address", 2);
+        labelMap.put("address2", 3);
+        labelMap.put("address3", 4);
+        labelMap.put("address4", 5);
+        labelMap.put("address5", 6);
+        labelMap.put("address6", 7);
+        labelMap.put("address7", 8);
+        labelMap.put("address8", 9);
+        labelMap.put("address9", 10);
+        labelMap.put("address10", 11);
+        DESCRIPTOR = FieldDescriptor.describe(Field94E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,19 +429,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Address");
-        result.add("Address 2");
-        result.add("Address 3");
-        result.add("Address 4");
-        result.add("Address 5");
-        result.add("Address 6");
-        result.add("Address 7");
-        result.add("Address 8");
-        result.add("Address 9");
-        result.add("Address 10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -405,19 +438,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "address");
-        result.put(3, "address2");
-        result.put(4, "address3");
-        result.put(5, "address4");
-        result.put(6, "address5");
-        result.put(7, "address6");
-        result.put(8, "address7");
-        result.put(9, "address8");
-        result.put(10, "address9");
-        result.put(11, "address10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -426,23 +447,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("address", 2);
-        super.labelMap.put("address2", 3);
-        super.labelMap.put("address3", 4);
-        super.labelMap.put("address4", 5);
-        super.labelMap.put("address5", 6);
-        super.labelMap.put("address6", 7);
-        super.labelMap.put("address7", 8);
-        super.labelMap.put("address8", 9);
-        super.labelMap.put("address9", 10);
-        super.labelMap.put("address10", 11);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1094,10 +1099,19 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      * @see Field#fromJson(String)
      */
     public static Field94E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field94E field = new Field94E();
+    /**
+     * This method deserializes the parsed JSON data into a Field94E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field94E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field94E field = new Field94E();
 
         // **** COMPONENT 1 - Qualifier
 
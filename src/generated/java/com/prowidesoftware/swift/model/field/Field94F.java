@@ -130,6 +130,29 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer BIC = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Place Code");
+        componentLabels.add("Identifier Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "placeCode");
+        componentMap.put(3, "identifierCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("placecode", 2);
+        labelMap.put("code", 2);
+        labelMap.put("identifiercode", 3);
+        labelMap.put("bic", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field94F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -337,11 +360,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Place Code");
-        result.add("Identifier Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -350,11 +369,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "placeCode");
-        result.put(3, "identifierCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -363,19 +378,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("placecode", 2);
-        // alias name
-        super.labelMap.put("code", 2);
-        super.labelMap.put("identifiercode", 3);
-        // alias name
-        super.labelMap.put("bic", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -715,10 +718,19 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      * @see Field#fromJson(String)
      */
     public static Field94F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field94F field = new Field94F();
+    /**
+     * This method deserializes the parsed JSON data into a Field94F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field94F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field94F field = new Field94F();
 
         // **** COMPONENT 1 - Qualifier
 
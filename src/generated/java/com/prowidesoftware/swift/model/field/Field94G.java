@@ -109,6 +109,27 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
 	 */
 	public static final Integer ADDRESS = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Address");
+        componentLabels.add("Address 2");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "address");
+        componentMap.put(3, "address2");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("address", 2);
+        labelMap.put("address2", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field94G.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -323,11 +344,7 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Address");
-        result.add("Address 2");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -336,11 +353,7 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "address");
-        result.put(3, "address2");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -349,15 +362,7 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("address", 2);
-        super.labelMap.put("address2", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -713,10 +718,19 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
      * @see Field#fromJson(String)
      */
     public static Field94G fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field94G field = new Field94G();
+    /**
+     * This method deserializes the parsed JSON data into a Field94G object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field94G fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field94G field = new Field94G();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -115,6 +115,27 @@ public class Field94L extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer LEGAL_ENTITY_IDENTIFIER_NUMBER = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Legal Entity Identifier Code");
+        componentLabels.add("Legal Entity Identifier Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "legalEntityIdentifierCode");
+        componentMap.put(3, "legalEntityIdentifierNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("legalentityidentifiercode", 2);
+        labelMap.put("legalentityidentifiernumber", 3);
+        DESCRIPTOR = FieldDescriptor.describe(Field94L.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -325,11 +346,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Legal Entity Identifier Code");
-        result.add("Legal Entity Identifier Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -338,11 +355,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "legalEntityIdentifierCode");
-        result.put(3, "legalEntityIdentifierNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -351,15 +364,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("legalentityidentifiercode", 2);
-        super.labelMap.put("legalentityidentifiernumber", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -668,10 +673,19 @@ public class Field94L extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field94L fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field94L field = new Field94L();
+    /**
+     * This method deserializes the parsed JSON data into a Field94L object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field94L fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field94L field = new Field94L();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -362,10 +362,19 @@ public class Field95P extends OptionPPartyField implements Serializable, BICCont
      * @see Field#fromJson(String)
      */
     public static Field95P fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95P field = new Field95P();
+    /**
+     * This method deserializes the parsed JSON data into a Field95P object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95P fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95P field = new Field95P();
 
         // **** COMPONENT 1 - Qualifier
 
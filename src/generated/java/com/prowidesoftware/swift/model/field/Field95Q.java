@@ -471,10 +471,19 @@ public class Field95Q extends OptionQPartyField implements Serializable, Generic
      * @see Field#fromJson(String)
      */
     public static Field95Q fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95Q field = new Field95Q();
+    /**
+     * This method deserializes the parsed JSON data into a Field95Q object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95Q fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95Q field = new Field95Q();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -330,10 +330,19 @@ public class Field95R extends OptionRPartyField implements Serializable, Generic
      * @see Field#fromJson(String)
      */
     public static Field95R fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95R field = new Field95R();
+    /**
+     * This method deserializes the parsed JSON data into a Field95R object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95R fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95R field = new Field95R();
 
         // **** COMPONENT 1 - Qualifier
 
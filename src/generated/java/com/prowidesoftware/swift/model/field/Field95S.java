@@ -374,10 +374,19 @@ public class Field95S extends OptionSPartyField implements Serializable, Generic
      * @see Field#fromJson(String)
      */
     public static Field95S fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95S field = new Field95S();
+    /**
+     * This method deserializes the parsed JSON data into a Field95S object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95S fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95S field = new Field95S();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -449,10 +449,19 @@ public class Field95U extends OptionUPartyField implements Serializable, Generic
      * @see Field#fromJson(String)
      */
     public static Field95U fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95U field = new Field95U();
+    /**
+     * This method deserializes the parsed JSON data into a Field95U object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95U fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95U field = new Field95U();
 
         // **** COMPONENT 1 - Qualifier
 
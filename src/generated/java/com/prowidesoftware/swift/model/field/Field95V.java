@@ -117,6 +117,51 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
 	 */
 	public static final Integer NAME_AND_ADDRESS = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Name And Address");
+        componentLabels.add("Name And Address 2");
+        componentLabels.add("Name And Address 3");
+        componentLabels.add("Name And Address 4");
+        componentLabels.add("Name And Address 5");
+        componentLabels.add("Name And Address 6");
+        componentLabels.add("Name And Address 7");
+        componentLabels.add("Name And Address 8");
+        componentLabels.add("Name And Address 9");
+        componentLabels.add("Name And Address 10");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "nameAndAddress");
+        componentMap.put(3, "nameAndAddress2");
+        componentMap.put(4, "nameAndAddress3");
+        componentMap.put(5, "nameAndAddress4");
+        componentMap.put(6, "nameAndAddress5");
+        componentMap.put(7, "nameAndAddress6");
+        componentMap.put(8, "nameAndAddress7");
+        componentMap.put(9, "nameAndAddress8");
+        componentMap.put(10, "nameAndAddress9");
+        componentMap.put(11, "nameAndAddress10");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("nameandaddress", 2);
+        labelMap.put("nameandaddress2", 3);
+        labelMap.put("nameandaddress3", 4);
+        labelMap.put("nameandaddress4", 5);
+        labelMap.put("nameandaddress5", 6);
+        labelMap.put("nameandaddress6", 7);
+        labelMap.put("nameandaddress7", 8);
+        labelMap.put("nameandaddress8", 9);
+        labelMap.put("nameandaddress9", 10);
+        labelMap.put("nameandaddress10", 11);
+        DESCRIPTOR = FieldDescriptor.describe(Field95V.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,19 +429,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        result.add("Name And Address 5");
-        result.add("Name And Address 6");
-        result.add("Name And Address 7");
-        result.add("Name And Address 8");
-        result.add("Name And Address 9");
-        result.add("Name And Address 10");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -405,19 +438,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "nameAndAddress");
-        result.put(3, "nameAndAddress2");
-        result.put(4, "nameAndAddress3");
-        result.put(5, "nameAndAddress4");
-        result.put(6, "nameAndAddress5");
-        result.put(7, "nameAndAddress6");
-        result.put(8, "nameAndAddress7");
-        result.put(9, "nameAndAddress8");
-        result.put(10, "nameAndAddress9");
-        result.put(11, "nameAndAddress10");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -426,23 +447,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("nameandaddress", 2);
-        super.labelMap.put("nameandaddress2", 3);
-        super.labelMap.put("nameandaddress3", 4);
-        super.labelMap.put("nameandaddress4", 5);
-        super.labelMap.put("nameandaddress5", 6);
-        super.labelMap.put("nameandaddress6", 7);
-        super.labelMap.put("nameandaddress7", 8);
-        super.labelMap.put("nameandaddress8", 9);
-        super.labelMap.put("nameandaddress9", 10);
-        super.labelMap.put("nameandaddress10", 11);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -1094,10 +1099,19 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      * @see Field#fromJson(String)
      */
     public static Field95V fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field95V field = new Field95V();
+    /**
+     * This method deserializes the parsed JSON data into a Field95V object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field95V fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field95V field = new Field95V();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -119,6 +119,30 @@ public class Field97B extends Field implements Serializable, GenericField {
 	 */
 	public static final Integer ACCOUNT_NUMBER = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Account Type Code");
+        componentLabels.add("Account Number");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "accountTypeCode");
+        componentMap.put(4, "accountNumber");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("accounttypecode", 3);
+        labelMap.put("accountnumber", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field97B.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -337,12 +361,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Account Type Code");
-        result.add("Account Number");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -351,12 +370,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "accountTypeCode");
-        result.put(4, "accountNumber");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -365,16 +379,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("accounttypecode", 3);
-        super.labelMap.put("accountnumber", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -643,10 +648,19 @@ public class Field97B extends Field implements Serializable, GenericField {
      * @see Field#fromJson(String)
      */
     public static Field97B fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field97B field = new Field97B();
+    /**
+     * This method deserializes the parsed JSON data into a Field97B object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field97B fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field97B field = new Field97B();
 
         // **** COMPONENT 1 - Qualifier
 
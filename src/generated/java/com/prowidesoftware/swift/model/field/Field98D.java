@@ -129,6 +129,33 @@ public class Field98D extends Field implements Serializable, DateContainer {
 	 */
 	public static final Integer OFFSET = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Date");
+        componentLabels.add("Time");
+        componentLabels.add("Decimals");
+        componentLabels.add("Sign");
+        componentLabels.add("Offset");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "date");
+        componentMap.put(2, "time");
+        componentMap.put(3, "decimals");
+        componentMap.put(4, "sign");
+        componentMap.put(5, "offset");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("date", 1);
+        labelMap.put("time", 2);
+        labelMap.put("decimals", 3);
+        labelMap.put("sign", 4);
+        labelMap.put("offset", 5);
+        DESCRIPTOR = FieldDescriptor.describe(Field98D.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -394,13 +421,7 @@ public class Field98D extends Field implements Serializable, DateContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Date");
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -409,13 +430,7 @@ public class Field98D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "date");
-        result.put(2, "time");
-        result.put(3, "decimals");
-        result.put(4, "sign");
-        result.put(5, "offset");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -424,17 +439,7 @@ public class Field98D extends Field implements Serializable, DateContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("date", 1);
-        super.labelMap.put("time", 2);
-        super.labelMap.put("decimals", 3);
-        super.labelMap.put("sign", 4);
-        super.labelMap.put("offset", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -451,7 +456,16 @@ public class Field98D extends Field implements Serializable, DateContainer {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return getComponentAs(1, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -470,6 +484,14 @@ public class Field98D extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -484,7 +506,16 @@ public class Field98D extends Field implements Serializable, DateContainer {
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return getComponentAs(2, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -503,6 +534,14 @@ public class Field98D extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Decimals).
      * @return the component 3
@@ -587,7 +626,16 @@ public class Field98D extends Field implements Serializable, DateContainer {
      * @return the component 5 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent5AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(5));
+        return getComponentAs(5, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return getComponentAs(5, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -606,6 +654,14 @@ public class Field98D extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Offset (component 5) as LocalTime
+     * @return the Offset from component 5 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getOffsetAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -839,6 +895,17 @@ public class Field98D extends Field implements Serializable, DateContainer {
         return DateResolver.date(this);
     }
 
+    /**
+     * Returns the date, time and UTC offset of the field as an OffsetDateTime
+     *
+     * @return the converted date and time or null if any of its components is not present or cannot be converted
+     * @since 9.5.0
+     */
+    public java.time.OffsetDateTime getDateTimeAsOffsetDateTime() {
+        return SwiftFormatUtils.getOffsetDateTime(
+                getDateAsLocalDate(), getTimeAsLocalTime(), getDecimals(), getSign(), getOffset());
+    }
+
 
     /**
      * Returns the field's name composed by the field number and the letter option (if any).
@@ -919,10 +986,19 @@ public class Field98D extends Field implements Serializable, DateContainer {
      * @see Field#fromJson(String)
      */
     public static Field98D fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field98D field = new Field98D();
+    /**
+     * This method deserializes the parsed JSON data into a Field98D object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field98D fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field98D field = new Field98D();
 
         // **** COMPONENT 1 - Date
 
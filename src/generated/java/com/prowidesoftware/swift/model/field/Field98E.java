@@ -136,6 +136,36 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
 	 */
 	public static final Integer OFFSET = 6;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Date");
+        componentLabels.add("Time");
+        componentLabels.add("Decimals");
+        componentLabels.add("Sign");
+        componentLabels.add("Offset");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "date");
+        componentMap.put(3, "time");
+        componentMap.put(4, "decimals");
+        componentMap.put(5, "sign");
+        componentMap.put(6, "offset");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("date", 2);
+        labelMap.put("time", 3);
+        labelMap.put("decimals", 4);
+        labelMap.put("sign", 5);
+        labelMap.put("offset", 6);
+        DESCRIPTOR = FieldDescriptor.describe(Field98E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -410,14 +440,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Date");
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -426,14 +449,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "date");
-        result.put(3, "time");
-        result.put(4, "decimals");
-        result.put(5, "sign");
-        result.put(6, "offset");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -442,18 +458,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("date", 2);
-        super.labelMap.put("time", 3);
-        super.labelMap.put("decimals", 4);
-        super.labelMap.put("sign", 5);
-        super.labelMap.put("offset", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -486,7 +491,16 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      * @return the component 2 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent2AsCalendar() {
-        return SwiftFormatUtils.getDate4(getComponent(2));
+        return getComponentAs(2, java.util.Calendar.class, SwiftFormatUtils::getDate4);
+    }
+
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return getComponentAs(2, java.time.LocalDate.class, SwiftFormatUtils::getLocalDate4);
     }
 
     /**
@@ -505,6 +519,14 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time).
      * @return the component 3
@@ -519,7 +541,16 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      * @return the component 3 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent3AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(3));
+        return getComponentAs(3, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return getComponentAs(3, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -538,6 +569,14 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Decimals).
      * @return the component 4
@@ -622,7 +661,16 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      * @return the component 6 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent6AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(6));
+        return getComponentAs(6, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 6 as LocalTime
+     *
+     * @return the component 6 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent6AsLocalTime() {
+        return getComponentAs(6, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -641,6 +689,14 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent6AsCalendar();
     }
 
+    /**
+     * Get the Offset (component 6) as LocalTime
+     * @return the Offset from component 6 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getOffsetAsLocalTime() {
+        return getComponent6AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -895,6 +951,17 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return DateResolver.date(this);
     }
 
+    /**
+     * Returns the date, time and UTC offset of the field as an OffsetDateTime
+     *
+     * @return the converted date and time or null if any of its components is not present or cannot be converted
+     * @since 9.5.0
+     */
+    public java.time.OffsetDateTime getDateTimeAsOffsetDateTime() {
+        return SwiftFormatUtils.getOffsetDateTime(
+                getDateAsLocalDate(), getTimeAsLocalTime(), getDecimals(), getSign(), getOffset());
+    }
+
 
     /**
      * Returns the issuer code (or Data Source Scheme or DSS).
@@ -1012,10 +1079,19 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      * @see Field#fromJson(String)
      */
     public static Field98E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field98E field = new Field98E();
+    /**
+     * This method deserializes the parsed JSON data into a Field98E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field98E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field98E field = new Field98E();
 
         // **** COMPONENT 1 - Qualifier
 
@@ -128,6 +128,31 @@ public class Field98H extends Field implements Serializable {
 	 */
 	public static final Integer OFFSET = 4;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Time");
+        componentLabels.add("Decimals");
+        componentLabels.add("Sign");
+        componentLabels.add("Offset");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "time");
+        componentMap.put(2, "decimals");
+        componentMap.put(3, "sign");
+        componentMap.put(4, "offset");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("time", 1);
+        labelMap.put("decimals", 2);
+        labelMap.put("number", 2);
+        labelMap.put("sign", 3);
+        labelMap.put("offset", 4);
+        DESCRIPTOR = FieldDescriptor.describe(Field98H.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -384,12 +409,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Time");
-        result.add("Decimals");
-        result.add("Sign");
-        result.add("Offset");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -398,12 +418,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "time");
-        result.put(2, "decimals");
-        result.put(3, "sign");
-        result.put(4, "offset");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -412,18 +427,7 @@ public class Field98H extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("time", 1);
-        super.labelMap.put("decimals", 2);
-        // alias name
-        super.labelMap.put("number", 2);
-        super.labelMap.put("sign", 3);
-        super.labelMap.put("offset", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -440,7 +444,16 @@ public class Field98H extends Field implements Serializable {
      * @return the component 1 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent1AsCalendar() {
-        return SwiftFormatUtils.getTime2(getComponent(1));
+        return getComponentAs(1, java.util.Calendar.class, SwiftFormatUtils::getTime2);
+    }
+
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return getComponentAs(1, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime2);
     }
 
     /**
@@ -459,6 +472,14 @@ public class Field98H extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time (component 1) as LocalTime
+     * @return the Time from component 1 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (Decimals).
      * @return the component 2
@@ -572,7 +593,16 @@ public class Field98H extends Field implements Serializable {
      * @return the component 4 converted to Calendar or null if cannot be converted
      */
     public java.util.Calendar getComponent4AsCalendar() {
-        return SwiftFormatUtils.getTime3(getComponent(4));
+        return getComponentAs(4, java.util.Calendar.class, SwiftFormatUtils::getTime3);
+    }
+
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return getComponentAs(4, java.time.LocalTime.class, SwiftFormatUtils::getLocalTime3);
     }
 
     /**
@@ -591,6 +621,14 @@ public class Field98H extends Field implements Serializable {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Offset (component 4) as LocalTime
+     * @return the Offset from component 4 converted to LocalTime or null if cannot be converted
+     */
+    public java.time.LocalTime getOffsetAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Time).
      *
@@ -859,10 +897,19 @@ public class Field98H extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field98H fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field98H field = new Field98H();
+    /**
+     * This method deserializes the parsed JSON data into a Field98H object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field98H fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field98H field = new Field98H();
 
         // **** COMPONENT 1 - Time
 
@@ -951,7 +951,7 @@ public class MT321 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1652,7 +1652,7 @@ public class MT321 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1801,7 +1801,7 @@ public class MT321 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
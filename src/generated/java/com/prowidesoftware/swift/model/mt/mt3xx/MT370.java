@@ -923,7 +923,7 @@ public class MT370 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1348,7 +1348,7 @@ public class MT370 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1011,7 +1011,7 @@ public class MT381 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1342,7 +1342,7 @@ public class MT500 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1905,7 +1905,7 @@ public class MT500 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2054,7 +2054,7 @@ public class MT500 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2203,7 +2203,7 @@ public class MT500 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
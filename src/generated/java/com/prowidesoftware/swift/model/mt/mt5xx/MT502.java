@@ -1580,7 +1580,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1867,7 +1867,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2016,7 +2016,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceB2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2 s = new SequenceB2();
-                    s.setTags(b.getSubBlock(SequenceB2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2441,7 +2441,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2590,7 +2590,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2739,7 +2739,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceC3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3 s = new SequenceC3();
-                    s.setTags(b.getSubBlock(SequenceC3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2888,7 +2888,7 @@ public class MT502 extends AbstractMT implements Serializable {
                 final List<SequenceD> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD s = new SequenceD();
-                    s.setTags(b.getSubBlock(SequenceD.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
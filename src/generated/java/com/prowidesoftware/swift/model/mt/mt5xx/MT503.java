@@ -1043,7 +1043,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1192,7 +1192,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1617,7 +1617,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1766,7 +1766,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1915,7 +1915,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2064,7 +2064,7 @@ public class MT503 extends AbstractMT implements Serializable {
                 final List<SequenceC3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3 s = new SequenceC3();
-                    s.setTags(b.getSubBlock(SequenceC3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
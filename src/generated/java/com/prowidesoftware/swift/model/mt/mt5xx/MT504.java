@@ -1219,7 +1219,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1368,7 +1368,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1793,7 +1793,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1942,7 +1942,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2091,7 +2091,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a s = new SequenceC1a();
-                    s.setTags(b.getSubBlock(SequenceC1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2240,7 +2240,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1 s = new SequenceC1a1();
-                    s.setTags(b.getSubBlock(SequenceC1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2389,7 +2389,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2538,7 +2538,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2a s = new SequenceC2a();
-                    s.setTags(b.getSubBlock(SequenceC2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2687,7 +2687,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC2a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2a1 s = new SequenceC2a1();
-                    s.setTags(b.getSubBlock(SequenceC2a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2836,7 +2836,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceC3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3 s = new SequenceC3();
-                    s.setTags(b.getSubBlock(SequenceC3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3123,7 +3123,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3410,7 +3410,7 @@ public class MT504 extends AbstractMT implements Serializable {
                 final List<SequenceE1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE1 s = new SequenceE1();
-                    s.setTags(b.getSubBlock(SequenceE1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
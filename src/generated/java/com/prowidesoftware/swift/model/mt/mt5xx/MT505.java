@@ -1201,7 +1201,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1350,7 +1350,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1499,7 +1499,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1648,7 +1648,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1797,7 +1797,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a s = new SequenceB1a();
-                    s.setTags(b.getSubBlock(SequenceB1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1946,7 +1946,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a1 s = new SequenceB1a1();
-                    s.setTags(b.getSubBlock(SequenceB1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2095,7 +2095,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2 s = new SequenceB2();
-                    s.setTags(b.getSubBlock(SequenceB2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2244,7 +2244,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2a s = new SequenceB2a();
-                    s.setTags(b.getSubBlock(SequenceB2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2393,7 +2393,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB2a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2a1 s = new SequenceB2a1();
-                    s.setTags(b.getSubBlock(SequenceB2a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2542,7 +2542,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceB3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB3 s = new SequenceB3();
-                    s.setTags(b.getSubBlock(SequenceB3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2829,7 +2829,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3116,7 +3116,7 @@ public class MT505 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1320,7 +1320,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1469,7 +1469,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1894,7 +1894,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2043,7 +2043,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2192,7 +2192,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2341,7 +2341,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceC3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3 s = new SequenceC3();
-                    s.setTags(b.getSubBlock(SequenceC3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2490,7 +2490,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceD> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD s = new SequenceD();
-                    s.setTags(b.getSubBlock(SequenceD.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2639,7 +2639,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2788,7 +2788,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceD2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD2 s = new SequenceD2();
-                    s.setTags(b.getSubBlock(SequenceD2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2937,7 +2937,7 @@ public class MT506 extends AbstractMT implements Serializable {
                 final List<SequenceD3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD3 s = new SequenceD3();
-                    s.setTags(b.getSubBlock(SequenceD3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
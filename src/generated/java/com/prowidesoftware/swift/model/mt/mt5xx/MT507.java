@@ -1106,7 +1106,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1255,7 +1255,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1404,7 +1404,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1553,7 +1553,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1702,7 +1702,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a s = new SequenceB1a();
-                    s.setTags(b.getSubBlock(SequenceB1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1851,7 +1851,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a1 s = new SequenceB1a1();
-                    s.setTags(b.getSubBlock(SequenceB1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2000,7 +2000,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB1b> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1b s = new SequenceB1b();
-                    s.setTags(b.getSubBlock(SequenceB1b.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2149,7 +2149,7 @@ public class MT507 extends AbstractMT implements Serializable {
                 final List<SequenceB1b1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1b1 s = new SequenceB1b1();
-                    s.setTags(b.getSubBlock(SequenceB1b1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
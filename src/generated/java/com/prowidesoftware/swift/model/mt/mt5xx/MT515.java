@@ -1645,7 +1645,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1794,7 +1794,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2081,7 +2081,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2506,7 +2506,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2655,7 +2655,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceD2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD2 s = new SequenceD2();
-                    s.setTags(b.getSubBlock(SequenceD2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2804,7 +2804,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceD3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD3 s = new SequenceD3();
-                    s.setTags(b.getSubBlock(SequenceD3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2953,7 +2953,7 @@ public class MT515 extends AbstractMT implements Serializable {
                 final List<SequenceE> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE s = new SequenceE();
-                    s.setTags(b.getSubBlock(SequenceE.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
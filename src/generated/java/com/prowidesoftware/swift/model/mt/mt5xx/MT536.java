@@ -1472,7 +1472,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1611,7 +1611,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1760,7 +1760,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1909,7 +1909,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a s = new SequenceB1a();
-                    s.setTags(b.getSubBlock(SequenceB1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2070,7 +2070,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a1 s = new SequenceB1a1();
-                    s.setTags(b.getSubBlock(SequenceB1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2209,7 +2209,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB1a2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a2 s = new SequenceB1a2();
-                    s.setTags(b.getSubBlock(SequenceB1a2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2358,7 +2358,7 @@ public class MT536 extends AbstractMT implements Serializable {
                 final List<SequenceB1a2A> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1a2A s = new SequenceB1a2A();
-                    s.setTags(b.getSubBlock(SequenceB1a2A.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1743,7 +1743,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1894,7 +1894,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2045,7 +2045,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2196,7 +2196,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2 s = new SequenceB2();
-                    s.setTags(b.getSubBlock(SequenceB2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2347,7 +2347,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2a s = new SequenceB2a();
-                    s.setTags(b.getSubBlock(SequenceB2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2498,7 +2498,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB2b> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2b s = new SequenceB2b();
-                    s.setTags(b.getSubBlock(SequenceB2b.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2649,7 +2649,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceB2b1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2b1 s = new SequenceB2b1();
-                    s.setTags(b.getSubBlock(SequenceB2b1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2788,7 +2788,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2949,7 +2949,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3100,7 +3100,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2 s = new SequenceC2();
-                    s.setTags(b.getSubBlock(SequenceC2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3251,7 +3251,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC2a s = new SequenceC2a();
-                    s.setTags(b.getSubBlock(SequenceC2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3402,7 +3402,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3 s = new SequenceC3();
-                    s.setTags(b.getSubBlock(SequenceC3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3553,7 +3553,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceC3a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC3a s = new SequenceC3a();
-                    s.setTags(b.getSubBlock(SequenceC3a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3692,7 +3692,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD s = new SequenceD();
-                    s.setTags(b.getSubBlock(SequenceD.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3841,7 +3841,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3990,7 +3990,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a s = new SequenceD1a();
-                    s.setTags(b.getSubBlock(SequenceD1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4139,7 +4139,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1 s = new SequenceD1a1();
-                    s.setTags(b.getSubBlock(SequenceD1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4288,7 +4288,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1A> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1A s = new SequenceD1a1A();
-                    s.setTags(b.getSubBlock(SequenceD1a1A.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4437,7 +4437,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1A1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1A1 s = new SequenceD1a1A1();
-                    s.setTags(b.getSubBlock(SequenceD1a1A1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4586,7 +4586,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1B> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1B s = new SequenceD1a1B();
-                    s.setTags(b.getSubBlock(SequenceD1a1B.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4747,7 +4747,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1B1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1B1 s = new SequenceD1a1B1();
-                    s.setTags(b.getSubBlock(SequenceD1a1B1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -4898,7 +4898,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1B1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1B1a s = new SequenceD1a1B1a();
-                    s.setTags(b.getSubBlock(SequenceD1a1B1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -5049,7 +5049,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceD1a1B1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a1B1a1 s = new SequenceD1a1B1a1();
-                    s.setTags(b.getSubBlock(SequenceD1a1B1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -5188,7 +5188,7 @@ public class MT537 extends AbstractMT implements Serializable {
                 final List<SequenceE> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE s = new SequenceE();
-                    s.setTags(b.getSubBlock(SequenceE.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1656,7 +1656,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2219,7 +2219,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2644,7 +2644,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceE1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE1 s = new SequenceE1();
-                    s.setTags(b.getSubBlock(SequenceE1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2793,7 +2793,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceE2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE2 s = new SequenceE2();
-                    s.setTags(b.getSubBlock(SequenceE2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2942,7 +2942,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceE3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceE3 s = new SequenceE3();
-                    s.setTags(b.getSubBlock(SequenceE3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3091,7 +3091,7 @@ public class MT541 extends AbstractMT implements Serializable {
                 final List<SequenceF> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceF s = new SequenceF();
-                    s.setTags(b.getSubBlock(SequenceF.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1622,7 +1622,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1783,7 +1783,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceA2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2 s = new SequenceA2();
-                    s.setTags(b.getSubBlock(SequenceA2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1934,7 +1934,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceA2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA2a s = new SequenceA2a();
-                    s.setTags(b.getSubBlock(SequenceA2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2211,7 +2211,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2498,7 +2498,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1 s = new SequenceC1();
-                    s.setTags(b.getSubBlock(SequenceC1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2647,7 +2647,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a s = new SequenceC1a();
-                    s.setTags(b.getSubBlock(SequenceC1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2796,7 +2796,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1 s = new SequenceC1a1();
-                    s.setTags(b.getSubBlock(SequenceC1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2945,7 +2945,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1A> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1A s = new SequenceC1a1A();
-                    s.setTags(b.getSubBlock(SequenceC1a1A.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3094,7 +3094,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1A1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1A1 s = new SequenceC1a1A1();
-                    s.setTags(b.getSubBlock(SequenceC1a1A1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3243,7 +3243,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1B> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1B s = new SequenceC1a1B();
-                    s.setTags(b.getSubBlock(SequenceC1a1B.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3392,7 +3392,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1B1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1B1 s = new SequenceC1a1B1();
-                    s.setTags(b.getSubBlock(SequenceC1a1B1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3553,7 +3553,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1B1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1B1a s = new SequenceC1a1B1a();
-                    s.setTags(b.getSubBlock(SequenceC1a1B1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3704,7 +3704,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceC1a1B1a1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC1a1B1a1 s = new SequenceC1a1B1a1();
-                    s.setTags(b.getSubBlock(SequenceC1a1B1a1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3843,7 +3843,7 @@ public class MT548 extends AbstractMT implements Serializable {
                 final List<SequenceD> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD s = new SequenceD();
-                    s.setTags(b.getSubBlock(SequenceD.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1951,7 +1951,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2667,7 +2667,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1 s = new SequenceD1();
-                    s.setTags(b.getSubBlock(SequenceD1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2828,7 +2828,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD1a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1a s = new SequenceD1a();
-                    s.setTags(b.getSubBlock(SequenceD1a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2967,7 +2967,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD1b> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD1b s = new SequenceD1b();
-                    s.setTags(b.getSubBlock(SequenceD1b.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3116,7 +3116,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD2 s = new SequenceD2();
-                    s.setTags(b.getSubBlock(SequenceD2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3265,7 +3265,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD2a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD2a s = new SequenceD2a();
-                    s.setTags(b.getSubBlock(SequenceD2a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3414,7 +3414,7 @@ public class MT566 extends AbstractMT implements Serializable {
                 final List<SequenceD2b> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceD2b s = new SequenceD2b();
-                    s.setTags(b.getSubBlock(SequenceD2b.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
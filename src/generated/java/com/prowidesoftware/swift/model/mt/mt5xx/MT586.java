@@ -1710,7 +1710,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceA1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceA1 s = new SequenceA1();
-                    s.setTags(b.getSubBlock(SequenceA1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -1849,7 +1849,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB s = new SequenceB();
-                    s.setTags(b.getSubBlock(SequenceB.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2010,7 +2010,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB1> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB1 s = new SequenceB1();
-                    s.setTags(b.getSubBlock(SequenceB1.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2149,7 +2149,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB2> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB2 s = new SequenceB2();
-                    s.setTags(b.getSubBlock(SequenceB2.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2298,7 +2298,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB3> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB3 s = new SequenceB3();
-                    s.setTags(b.getSubBlock(SequenceB3.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2447,7 +2447,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB4> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB4 s = new SequenceB4();
-                    s.setTags(b.getSubBlock(SequenceB4.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2596,7 +2596,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB4a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB4a s = new SequenceB4a();
-                    s.setTags(b.getSubBlock(SequenceB4a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2745,7 +2745,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB5> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB5 s = new SequenceB5();
-                    s.setTags(b.getSubBlock(SequenceB5.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -2894,7 +2894,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB6> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB6 s = new SequenceB6();
-                    s.setTags(b.getSubBlock(SequenceB6.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3043,7 +3043,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB6a> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB6a s = new SequenceB6a();
-                    s.setTags(b.getSubBlock(SequenceB6a.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3192,7 +3192,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceB6b> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceB6b s = new SequenceB6b();
-                    s.setTags(b.getSubBlock(SequenceB6b.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -3341,7 +3341,7 @@ public class MT586 extends AbstractMT implements Serializable {
                 final List<SequenceC> result = new ArrayList<>(blocks.size());
                 for (final SwiftTagListBlock b : blocks) {
                     final SequenceC s = new SequenceC();
-                    s.setTags(b.getSubBlock(SequenceC.START_END_16RS).getTags());
+                    s.setTags(b.getTags());
                     result.add(s);
                 }
                 return result;
@@ -15,29 +15,51 @@
  */
 package com.prowidesoftware.swift.io;
 
+import com.prowidesoftware.swift.io.parser.SwiftParser;
 import com.prowidesoftware.swift.model.SwiftMessage;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 /**
  * Base class for message reader iterators.
  *
+ * <p>The readers release the file they read when the iteration reaches the end of the input; to stop reading before
+ * that, close the reader, for example with a try-with-resources statement.
+ *
  * @since 7.8
  */
-public abstract class AbstractReader implements Iterator<String>, Iterable<String> {
+public abstract class AbstractReader implements Iterator<String>, Iterable<String>, Closeable {
     private static final Logger log = Logger.getLogger(AbstractReader.class.getName());
     /** The wrapped reader instance. */
     protected Reader reader;
 
+    /**
+     * The memory mapped file content, when the reader is created from a path, in which case the reader is null.
+     */
+    MappedFileInput mappedInput;
+
     private boolean usedAsIterable = false;
 
+    /**
+     * Parser reused for all the messages returned by {@link #nextSwiftMessage()}
+     */
+    private SwiftParser parser;
+
     @Override
     public abstract String next();
 
@@ -95,6 +117,29 @@ public abstract class AbstractReader implements Iterator<String>, Iterable<Strin
                 new FileInputStream(_file), _charset != null ? _charset : StandardCharsets.UTF_8));
     }
 
+    /**
+     * Constructs a reader to read messages from a memory mapped file.
+     *
+     * <p>The file content is scanned for the message separators directly in the mapped bytes, and only each message
+     * content is decoded. The file is mapped in windows, so it can be larger than 2 GB. The charset must encode the
+     * separators as single bytes, as ASCII, the ISO-8859 family and UTF-8 do.
+     *
+     * @param path     the file to read
+     * @param charset  the file encoding, if null UTF-8 is used
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if path is null or the file does not exist
+     * @since 9.5.0
+     */
+    protected AbstractReader(final Path path, final Charset charset) throws IOException {
+        this(path, charset, MappedFileInput.DEFAULT_WINDOW_SIZE);
+    }
+
+    AbstractReader(final Path path, final Charset charset, final int windowSize) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Validate.isTrue(Files.exists(path), "Non existent file: " + path.toAbsolutePath());
+        this.mappedInput = new MappedFileInput(path, charset != null ? charset : StandardCharsets.UTF_8, windowSize);
+    }
+
     /**
      * @return this object as an Iterator
      * @throws IllegalArgumentException if the iteration is attempted more than once
@@ -109,6 +154,26 @@ public abstract class AbstractReader implements Iterator<String>, Iterable<Strin
         return this;
     }
 
+    /**
+     * Closes the wrapped reader, or the memory mapped file when the reader is created from a path.
+     *
+     * <p>Closing the reader is only needed when the messages are not read until the end of the input, in which case
+     * the file would be kept open, and mapped when the reader is created from a path. Calling this method more than
+     * once has no effect.
+     *
+     * @throws IOException if an error occurs closing the underlying resource
+     * @since 9.5.0
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.mappedInput != null) {
+            this.mappedInput.close();
+        }
+        if (this.reader != null) {
+            this.reader.close();
+        }
+    }
+
     /**
      * Reads the next raw content from the iterator and returns the message parsed into an MT.
      *
@@ -153,9 +218,64 @@ public abstract class AbstractReader implements Iterator<String>, Iterable<Strin
     public SwiftMessage nextSwiftMessage() throws IOException {
         final String msg = next();
         if (StringUtils.isNotBlank(msg)) {
-            return SwiftMessage.parse(msg);
+            if (this.parser == null) {
+                this.parser = new SwiftParser();
+            }
+            return this.parser.parse(msg);
         }
         log.warning("Ignoring blank message");
         return null;
     }
+
+    /**
+     * Returns an iterator over the messages of this reader, parsed in parallel with the given executor.
+     *
+     * <p>The raw messages are split by the thread consuming the iterator, and parsed into {@link SwiftMessage} by
+     * tasks submitted to the executor, keeping a bounded number of messages parsed ahead of the consumer. This allows
+     * using all cores to parse large batch files. Blank messages are ignored, as in {@link #nextSwiftMessage()}.
+     *
+     * <p>As with the iteration of raw messages, this reader can be iterated just once.
+     *
+     * @param executor the executor for the parsing tasks, for example a {@link ForkJoinPool}
+     * @param ordered  true to return the messages in the same order as in the input, false to return them as soon
+     *                 as they are parsed
+     * @return an iterator of parsed messages, where a parsing error is thrown as an unchecked exception by
+     * {@link Iterator#next()}
+     * @throws IllegalStateException if the reader has already been iterated
+     * @since 9.5.0
+     */
+    public Iterator<SwiftMessage> swiftMessageIterator(final Executor executor, final boolean ordered) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        final int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ParallelMessageIterator(iterator(), executor, ordered, parallelism * 4);
+    }
+
+    /**
+     * Returns a sequential stream of the messages of this reader, parsed in parallel with the given executor.
+     *
+     * <p>Closing the stream closes this reader.
+     *
+     * @param executor the executor for the parsing tasks, for example a {@link ForkJoinPool}
+     * @param ordered  true to return the messages in the same order as in the input, false to return them as soon
+     *                 as they are parsed
+     * @return a stream of parsed messages
+     * @throws IllegalStateException if the reader has already been iterated
+     * @see #swiftMessageIterator(Executor, boolean)
+     * @since 9.5.0
+     */
+    public Stream<SwiftMessage> swiftMessageStream(final Executor executor, final boolean ordered) {
+        final int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(swiftMessageIterator(executor, ordered), characteristics),
+                        false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
 }
@@ -15,9 +15,24 @@
  */
 package com.prowidesoftware.swift.io;
 
+import com.prowidesoftware.swift.model.mt.AbstractMT;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 
 /**
  * Base implementation for message writers.
@@ -32,13 +47,35 @@ import java.nio.charset.StandardCharsets;
  * <li>Instantiating the writer for a particular File or stream, calling
  * the write methods and closing the writer when all messages has been written</li>
  * </ul>
+ * <br>
+ * The {@link RJEWriter} and {@link PPCWriter} writeAll methods write large amounts of messages, serializing them into
+ * a reusable buffer that is written and flushed when it reaches the batch size, or when the flush interval has
+ * elapsed since the last flush, so the underlying file is written in large chunks.
  *
  * @author sebastian
  * @since 7.8
  */
 public abstract class AbstractWriter {
+    /**
+     * Default batch buffer size in chars
+     */
+    static final int DEFAULT_BATCH_SIZE = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     protected Writer writer;
 
+    private FileChannel channel;
+    private CharsetEncoder encoder;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+
+    private final StringBuilder batch = new StringBuilder();
+    private final char[] transfer = new char[CHUNK_SIZE];
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private long flushIntervalNanos = 0;
+    private long lastFlush;
+    private int pending;
+
     /**
      * Constructs a writer to write content into a given Writer instance.
      *
@@ -82,6 +119,158 @@ public abstract class AbstractWriter {
                 new OutputStreamWriter(_stream, _charset != null ? _charset : StandardCharsets.UTF_8));
     }
 
+    /**
+     * Constructs a writer to write content into a file channel using the specified charset (or
+     * {@link StandardCharsets#UTF_8} if null).
+     *
+     * <p>The batches created by the writeAll methods are encoded into reusable byte buffers and written to the channel
+     * in a single gathering write, while the other write methods go through a writer over the channel.
+     *
+     * @param _channel channel to write to, from its current position
+     * @param _charset charset
+     * @since 9.5.0
+     */
+    public AbstractWriter(final FileChannel _channel, final Charset _charset) {
+        this.channel = Objects.requireNonNull(_channel, "channel must not be null");
+        this.encoder = (_charset != null ? _charset : StandardCharsets.UTF_8)
+                .newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.writer = Channels.newWriter(_channel, this.encoder.charset().newEncoder(), -1);
+    }
+
+    /**
+     * Sets the size in chars of the batch buffer used by the writeAll methods of the subclasses; the buffer is
+     * written when its content reaches this size. The default is one million chars.
+     *
+     * @param batchSize the batch size in chars
+     * @throws IllegalArgumentException if the size is not positive
+     * @since 9.5.0
+     */
+    public void setBatchSize(final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the maximum time between flushes in the writeAll methods, so slow message sources do not hold the written
+     * content in the batch buffer. The interval is checked after each message. By default the batch is flushed only
+     * when full and at the end of each writeAll call.
+     *
+     * @param flushInterval the maximum time between flushes, or null to flush by size only
+     * @since 9.5.0
+     */
+    public void setFlushInterval(final Duration flushInterval) {
+        this.flushIntervalNanos = flushInterval != null ? flushInterval.toNanos() : 0;
+    }
+
+    /**
+     * Writes all the messages, serialized into the batch buffer and written to the output in large chunks.
+     *
+     * <p>The writer is flushed each time the batch is written and when all messages have been written. If an error
+     * occurs, the messages appended to the batch since the last flush are discarded.
+     *
+     * @param messages the messages to write
+     * @param appender appends each message to the batch buffer, in the writer format, including any separator or
+     *                 padding required before or after the message content
+     * @param written  called after each batch is successfully written, with the number of messages it contained
+     * @throws IOException if an I/O error occurs
+     */
+    final void writeAll(
+            final Iterator<? extends AbstractMT> messages,
+            final BiConsumer<AbstractMT, StringBuilder> appender,
+            final IntConsumer written)
+            throws IOException {
+        this.lastFlush = System.nanoTime();
+        try {
+            while (messages.hasNext()) {
+                final AbstractMT msg = messages.next();
+                Objects.requireNonNull(msg, "message to write cannot be null");
+                appender.accept(msg, this.batch);
+                this.pending++;
+                if (this.batch.length() >= this.batchSize
+                        || (this.flushIntervalNanos > 0
+                                && System.nanoTime() - this.lastFlush >= this.flushIntervalNanos)) {
+                    flushBatch(written);
+                }
+            }
+            flushBatch(written);
+        } finally {
+            this.batch.setLength(0);
+            this.pending = 0;
+        }
+    }
+
+    /**
+     * Writes the batch buffer content, if any, and flushes the output
+     */
+    private void flushBatch(final IntConsumer written) throws IOException {
+        if (this.batch.length() > 0) {
+            if (this.channel != null) {
+                // keep the order with any content written through the channel writer
+                this.writer.flush();
+                writeToChannel();
+            } else {
+                // Writer.append(CharSequence) would copy the whole batch into a String
+                final int length = this.batch.length();
+                for (int offset = 0; offset < length; offset += this.transfer.length) {
+                    final int end = Math.min(length, offset + this.transfer.length);
+                    this.batch.getChars(offset, end, this.transfer, 0);
+                    this.writer.write(this.transfer, 0, end - offset);
+                }
+            }
+            this.batch.setLength(0);
+        }
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+        if (this.pending > 0) {
+            final int messages = this.pending;
+            this.pending = 0;
+            written.accept(messages);
+        }
+        this.lastFlush = System.nanoTime();
+    }
+
+    /**
+     * Encodes the batch into the reusable chunks and writes them with a single gathering write
+     */
+    private void writeToChannel() throws IOException {
+        final CharBuffer in = CharBuffer.wrap(this.batch);
+        this.encoder.reset();
+        int used = 0;
+        long total = 0;
+        boolean encoded = false;
+        boolean flushed = false;
+        while (!flushed) {
+            if (used == this.chunks.size()) {
+                this.chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE));
+            }
+            final ByteBuffer out = this.chunks.get(used++);
+            out.clear();
+            CoderResult result = CoderResult.UNDERFLOW;
+            if (!encoded) {
+                result = this.encoder.encode(in, out, true);
+                encoded = !result.isOverflow();
+            }
+            if (encoded) {
+                result = this.encoder.flush(out);
+                flushed = !result.isOverflow();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            out.flip();
+            total += out.remaining();
+        }
+        final ByteBuffer[] buffers = this.chunks.subList(0, used).toArray(new ByteBuffer[0]);
+        while (total > 0) {
+            total -= this.channel.write(buffers);
+        }
+    }
+
     /**
      * Close the stream.
      *
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory mapped file content, used by the readers to split messages scanning the bytes directly.
+ *
+ * <p>The file is mapped in windows of a fixed size, remapped as the scan moves forward, so files larger than 2 GB are
+ * supported. Only the content of each message is decoded into a String.
+ *
+ * <p>Since the separators are looked up as single bytes, the charset must encode them as such, which is the case for
+ * ASCII, the ISO-8859 family and UTF-8.
+ *
+ * @since 9.5.0
+ */
+final class MappedFileInput implements Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final long size;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart = 0;
+
+    /**
+     * Offset in the file of the next byte to consume
+     */
+    private long position = 0;
+
+    /**
+     * @param path       the file to map
+     * @param charset    the file encoding
+     * @param windowSize the size of the mapped windows
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedFileInput(final Path path, final Charset charset, final int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.charset = charset;
+        this.size = this.channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return true if there is content after the current position
+     */
+    boolean hasRemaining() {
+        return this.position < this.size;
+    }
+
+    /**
+     * Moves the current position to the next occurrence of the given char, or to the end of file if not found
+     *
+     * @param c the char to look for
+     * @return true if the char was found, false if the end of file was reached
+     * @throws IOException if an error occurs mapping the file
+     */
+    boolean skipTo(final char c) throws IOException {
+        final long found = indexOf(toByte(c), this.position);
+        this.position = found < 0 ? this.size : found;
+        return found >= 0;
+    }
+
+    /**
+     * Consumes the content from the current position until the next occurrence of the given char or the end of file.
+     * The char itself is consumed but not included in the result.
+     *
+     * @param c the separator to look for
+     * @return the decoded content
+     * @throws IOException if an error occurs mapping the file
+     */
+    String readUntil(final char c) throws IOException {
+        final long start = this.position;
+        final long found = indexOf(toByte(c), start);
+        final long end = found < 0 ? this.size : found;
+        this.position = found < 0 ? this.size : found + 1;
+        return decode(start, end);
+    }
+
+    /**
+     * Consumes the next byte
+     *
+     * @return the next byte as an unsigned value or -1 at the end of file
+     * @throws IOException if an error occurs mapping the file
+     */
+    int read() throws IOException {
+        if (this.position >= this.size) {
+            return -1;
+        }
+        map(this.position, 1);
+        return this.window.get((int) (this.position++ - this.windowStart)) & 0xFF;
+    }
+
+    private long indexOf(final byte b, final long from) throws IOException {
+        long offset = from;
+        while (offset < this.size) {
+            map(offset, 1);
+            final int limit = this.window.limit();
+            for (int i = (int) (offset - this.windowStart); i < limit; i++) {
+                if (this.window.get(i) == b) {
+                    return this.windowStart + i;
+                }
+            }
+            offset = this.windowStart + limit;
+        }
+        return -1;
+    }
+
+    private String decode(final long start, final long end) throws IOException {
+        final int length = (int) (end - start);
+        if (length <= 0) {
+            return "";
+        }
+        map(start, length);
+        final byte[] bytes = new byte[length];
+        final ByteBuffer slice = this.window.duplicate();
+        slice.position((int) (start - this.windowStart));
+        slice.get(bytes);
+        return new String(bytes, this.charset);
+    }
+
+    /**
+     * Ensures the current window contains the given range, remapping the window from the range start if needed
+     */
+    private void map(final long start, final int length) throws IOException {
+        if (this.window == null
+                || start < this.windowStart
+                || start + length > this.windowStart + this.window.limit()) {
+            final long mapSize = Math.min(Math.max(this.windowSize, length), this.size - start);
+            this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, mapSize);
+            this.windowStart = start;
+        }
+    }
+
+    private byte toByte(final char c) {
+        final byte[] encoded = String.valueOf(c).getBytes(this.charset);
+        if (encoded.length != 1 || (encoded[0] & 0xFF) != c) {
+            throw new IllegalArgumentException(
+                    "The separator " + (int) c + " is not encoded as a single byte in " + this.charset);
+        }
+        return encoded[0];
+    }
+
+    /**
+     * Releases the mapped window and closes the file, after which there is no remaining content
+     */
+    @Override
+    public void close() throws IOException {
+        this.window = null;
+        this.position = this.size;
+        this.channel.close();
+    }
+}
@@ -17,6 +17,7 @@ package com.prowidesoftware.swift.io;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 /**
@@ -80,11 +81,43 @@ public class PPCReader extends AbstractReader {
         super(_file, _charset);
     }
 
+    /**
+     * Constructs a PPCReader to read messages from a memory mapped file, where the message delimiters are looked up
+     * directly in the file bytes and only each message content is decoded. This is the preferred option for large
+     * files.
+     *
+     * @param path     file to read
+     * @param charset  the file encoding, must encode the delimiters as single bytes (ASCII, ISO-8859 or UTF-8)
+     * @throws IOException if the file cannot be opened
+     * @since 9.5.0
+     */
+    public PPCReader(final Path path, final Charset charset) throws IOException {
+        super(path, charset);
+    }
+
+    PPCReader(final Path path, final Charset charset, final int windowSize) throws IOException {
+        super(path, charset, windowSize);
+    }
+
     /**
      * Returns true if the iterator has more messages
      */
     @Override
     public boolean hasNext() {
+        if (this.mappedInput != null) {
+            if (curChar != BEGIN) {
+                try {
+                    curChar = this.mappedInput.skipTo((char) BEGIN) ? this.mappedInput.read() : -1;
+                    if (curChar == -1) {
+                        this.mappedInput.close();
+                    }
+                } catch (final IOException e) {
+                    log.severe("IOException while reading: " + e);
+                    return false;
+                }
+            }
+            return curChar == BEGIN;
+        }
         if (this.reader == null) {
             throw new IllegalStateException("reader is null");
         }
@@ -104,7 +137,17 @@ public class PPCReader extends AbstractReader {
      */
     @Override
     public String next() {
-        if (curChar == BEGIN) {
+        if (curChar == BEGIN && this.mappedInput != null) {
+            try {
+                final String msg = this.mappedInput.readUntil((char) END);
+                curChar = this.mappedInput.hasRemaining() ? END : -1;
+                return msg.trim();
+            } catch (final IOException e) {
+                log.severe("error reading: " + e);
+                curChar = -1;
+                return "";
+            }
+        } else if (curChar == BEGIN) {
             final StringBuilder sb = new StringBuilder();
 
             boolean done = false;
@@ -17,10 +17,15 @@ package com.prowidesoftware.swift.io;
 
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Helper API to write MT messages into DOS-PCC files.
@@ -98,6 +103,18 @@ public class PPCWriter extends AbstractWriter {
         super(_stream, _charset);
     }
 
+    /**
+     * Constructs a {@link PPCWriter} to write content into a file channel using the specified charset.
+     *
+     * @param _channel channel to write to
+     * @param _charset charset
+     * @see AbstractWriter#AbstractWriter(FileChannel, Charset)
+     * @since 9.5.0
+     */
+    public PPCWriter(final FileChannel _channel, final Charset _charset) {
+        super(_channel, _charset);
+    }
+
     /**
      * Writes the message into the writer in DOS-PPC format
      *
@@ -164,4 +181,55 @@ public class PPCWriter extends AbstractWriter {
     public void write(final AbstractMT msg) throws IOException {
         write(msg, this.writer);
     }
+
+    /**
+     * Writes all the messages in DOS-PPC format, serialized into a reusable batch buffer and written to the output in
+     * large chunks. The content is the same as writing each message with {@link #write(AbstractMT)}.
+     *
+     * <p>The writer is flushed each time the batch is written and when all messages have been written. If an error
+     * occurs, the messages appended to the batch since the last flush are discarded.
+     *
+     * @param messages the messages to write
+     * @throws IOException if an I/O error occurs
+     * @see #setBatchSize(int)
+     * @see #setFlushInterval(Duration)
+     * @since 9.5.0
+     */
+    public void writeAll(final Iterable<? extends AbstractMT> messages) throws IOException {
+        Objects.requireNonNull(messages, "messages must not be null");
+        writeAll(messages.iterator());
+    }
+
+    /**
+     * Writes all the messages in the stream, consumed sequentially in encounter order.
+     *
+     * @param messages the messages to write
+     * @throws IOException if an I/O error occurs
+     * @see #writeAll(Iterable)
+     * @since 9.5.0
+     */
+    public void writeAll(final Stream<? extends AbstractMT> messages) throws IOException {
+        Objects.requireNonNull(messages, "messages must not be null");
+        writeAll(messages.iterator());
+    }
+
+    private void writeAll(final Iterator<? extends AbstractMT> messages) throws IOException {
+        writeAll(messages, this::append, written -> {});
+    }
+
+    /**
+     * Appends the message to the batch in DOS-PPC format, computing the sector padding from the appended length
+     */
+    private void append(final AbstractMT msg, final StringBuilder buffer) {
+        final int start = buffer.length();
+        buffer.append((char) PPCReader.BEGIN);
+        SwiftWriter.writeFIN(msg.getSwiftMessage(), buffer);
+        buffer.append((char) PPCReader.END);
+
+        // pad to fill sector length
+        final int pad = requiredPadding(buffer.length() - start);
+        for (int i = 0; i < pad; i++) {
+            buffer.append((char) PPCReader.EMPTY);
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import com.prowidesoftware.swift.io.parser.SwiftParser;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Logger;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Iterator that parses the raw messages of a reader in parallel.
+ *
+ * <p>The raw messages are split by the thread consuming the iterator, and each message content is parsed into a
+ * {@link SwiftMessage} by a task submitted to the executor. A bounded number of messages are parsed ahead, so the
+ * memory usage does not depend on the input size.
+ *
+ * <p>In ordered mode the messages are returned in the same order as in the input. In unordered mode the messages are
+ * returned as soon as they are parsed.
+ *
+ * @since 9.5.0
+ */
+final class ParallelMessageIterator implements Iterator<SwiftMessage> {
+    private static final Logger log = Logger.getLogger(ParallelMessageIterator.class.getName());
+
+    private final Iterator<String> source;
+    private final Executor executor;
+    private final boolean ordered;
+    private final int maxPending;
+
+    /**
+     * Submitted tasks in input order, used in ordered mode
+     */
+    private final Deque<CompletableFuture<SwiftMessage>> submitted = new ArrayDeque<>();
+
+    /**
+     * Completed tasks in completion order, used in unordered mode
+     */
+    private final BlockingQueue<CompletableFuture<SwiftMessage>> completed = new LinkedBlockingQueue<>();
+
+    private int pending = 0;
+
+    /**
+     * @param source     the raw messages
+     * @param executor   the executor where the messages are parsed
+     * @param ordered    true to return the messages in the input order
+     * @param maxPending the maximum number of messages being parsed ahead of the consumer
+     */
+    ParallelMessageIterator(
+            final Iterator<String> source, final Executor executor, final boolean ordered, final int maxPending) {
+        this.source = source;
+        this.executor = executor;
+        this.ordered = ordered;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public boolean hasNext() {
+        dispatch();
+        return this.pending > 0;
+    }
+
+    @Override
+    public SwiftMessage next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more messages in the reader");
+        }
+        final CompletableFuture<SwiftMessage> task;
+        if (this.ordered) {
+            task = this.submitted.poll();
+        } else {
+            try {
+                task = this.completed.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the next parsed message", e);
+            }
+        }
+        this.pending--;
+        try {
+            return task.join();
+        } catch (final CompletionException e) {
+            // unwrap the parsing error, an UncheckedIOException or any other runtime exception
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads raw messages from the source and submits them for parsing, until the maximum number of pending messages
+     * is reached or the source is exhausted.
+     */
+    private void dispatch() {
+        while (this.pending < this.maxPending && this.source.hasNext()) {
+            final String fin = this.source.next();
+            if (StringUtils.isBlank(fin)) {
+                log.warning("Ignoring blank message");
+                continue;
+            }
+            final CompletableFuture<SwiftMessage> task = CompletableFuture.supplyAsync(() -> parse(fin), this.executor);
+            if (this.ordered) {
+                this.submitted.add(task);
+            } else {
+                task.whenComplete((m, e) -> this.completed.add(task));
+            }
+            this.pending++;
+        }
+    }
+
+    /**
+     * Parses the message with the parser of the executor thread, reset afterwards so it does not keep the message
+     * content while the thread is idle or running other tasks
+     */
+    private static SwiftMessage parse(final String fin) {
+        final SwiftParser parser = SwiftParser.threadLocal();
+        try {
+            return parser.parse(fin);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            parser.reset();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package com.prowidesoftware.swift.io;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 /**
  * Helper class to read RJE files.
@@ -34,8 +35,18 @@ import java.nio.charset.Charset;
 public class RJEReader extends AbstractReader {
     public static final char SPLITCHAR = '$';
 
+    private static final int CHUNK_SIZE = 8192;
+
     private char splitChar = SPLITCHAR;
 
+    /**
+     * Characters read from the reader and not yet returned, from position to limit
+     */
+    private char[] chunk;
+
+    private int chunkPosition = 0;
+    private int chunkLimit = 0;
+
     /**
      * Constructs a RJEReader to read messages from a given Reader instance
      */
@@ -78,6 +89,24 @@ public class RJEReader extends AbstractReader {
         super(_file, _charset);
     }
 
+    /**
+     * Constructs a {@link RJEReader} to read messages from a memory mapped file, where the separator is looked up
+     * directly in the file bytes and only each message content is decoded. This is the preferred option for large
+     * files.
+     *
+     * @param path     file to read
+     * @param charset  the file encoding, must encode the separator as a single byte (ASCII, ISO-8859 or UTF-8)
+     * @throws IOException if the file cannot be opened
+     * @since 9.5.0
+     */
+    public RJEReader(final Path path, final Charset charset) throws IOException {
+        super(path, charset);
+    }
+
+    RJEReader(final Path path, final Charset charset, final int windowSize) throws IOException {
+        super(path, charset, windowSize);
+    }
+
     /**
      * Returns true if the iterator has more messages.
      * If the RJE file ends with a separator, this will return true, meaning the iteration will return a blank message
@@ -85,8 +114,11 @@ public class RJEReader extends AbstractReader {
      */
     @Override
     public boolean hasNext() {
+        if (mappedInput != null) {
+            return mappedInput.hasRemaining();
+        }
         try {
-            return reader.ready();
+            return chunkPosition < chunkLimit || reader.ready();
         } catch (IOException unused) {
             return false;
         }
@@ -97,15 +129,44 @@ public class RJEReader extends AbstractReader {
      */
     @Override
     public String next() {
+        if (mappedInput != null) {
+            try {
+                final String msg = mappedInput.readUntil(splitChar);
+                if (!mappedInput.hasRemaining()) {
+                    mappedInput.close();
+                }
+                return msg.trim();
+            } catch (IOException unused) {
+                return null;
+            }
+        }
         if (reader != null) {
-            int c;
+            if (chunk == null) {
+                chunk = new char[CHUNK_SIZE];
+            }
             StringBuilder sb = new StringBuilder();
             try {
-                while ((c = reader.read()) != -1 && c != splitChar) {
-                    sb.append((char) c);
-                }
-                if (c == -1) {
-                    reader.close();
+                while (true) {
+                    if (chunkPosition == chunkLimit) {
+                        chunkLimit = reader.read(chunk);
+                        chunkPosition = 0;
+                        if (chunkLimit == -1) {
+                            chunkLimit = 0;
+                            reader.close();
+                            break;
+                        }
+                    }
+                    // scan the buffered characters for the separator
+                    int i = chunkPosition;
+                    while (i < chunkLimit && chunk[i] != splitChar) {
+                        i++;
+                    }
+                    sb.append(chunk, chunkPosition, i - chunkPosition);
+                    if (i < chunkLimit) {
+                        chunkPosition = i + 1;
+                        break;
+                    }
+                    chunkPosition = chunkLimit;
                 }
             } catch (IOException unused) {
                 return null;
@@ -16,10 +16,15 @@
 package com.prowidesoftware.swift.io;
 
 import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Helper API to write MT messages into RJE files.
@@ -74,6 +79,18 @@ public class RJEWriter extends AbstractWriter {
         super(_stream, _charset);
     }
 
+    /**
+     * Constructs a {@link RJEWriter} to write content into a file channel using the specified charset.
+     *
+     * @param _channel channel to write to
+     * @param _charset charset
+     * @see AbstractWriter#AbstractWriter(FileChannel, Charset)
+     * @since 9.5.0
+     */
+    public RJEWriter(final FileChannel _channel, final Charset _charset) {
+        super(_channel, _charset);
+    }
+
     /**
      * @param msg    message to write
      * @throws IOException if an I/O error occurs
@@ -137,6 +154,54 @@ public class RJEWriter extends AbstractWriter {
         count++;
     }
 
+    /**
+     * Writes all the messages in RJE format, serialized into a reusable batch buffer and written to the output in
+     * large chunks. The content is the same as writing each message with {@link #write(AbstractMT)}.
+     *
+     * <p>The writer is flushed each time the batch is written and when all messages have been written. If an error
+     * occurs, the messages appended to the batch since the last flush are discarded.
+     *
+     * @param messages the messages to write
+     * @throws IOException if an I/O error occurs
+     * @see #setBatchSize(int)
+     * @see #setFlushInterval(Duration)
+     * @since 9.5.0
+     */
+    public void writeAll(final Iterable<? extends AbstractMT> messages) throws IOException {
+        Objects.requireNonNull(messages, "messages must not be null");
+        writeAll(messages.iterator());
+    }
+
+    /**
+     * Writes all the messages in the stream, consumed sequentially in encounter order.
+     *
+     * @param messages the messages to write
+     * @throws IOException if an I/O error occurs
+     * @see #writeAll(Iterable)
+     * @since 9.5.0
+     */
+    public void writeAll(final Stream<? extends AbstractMT> messages) throws IOException {
+        Objects.requireNonNull(messages, "messages must not be null");
+        writeAll(messages.iterator());
+    }
+
+    private void writeAll(final Iterator<? extends AbstractMT> messages) throws IOException {
+        writeAll(messages, this::append, written -> count += written);
+    }
+
+    /**
+     * Appends the message to the batch in RJE format, with the split separator before it unless it is the first
+     * message written or appended
+     */
+    private void append(final AbstractMT msg, final StringBuilder buffer) {
+        if (count > 0 || buffer.length() > 0) {
+            buffer.append(FINWriterVisitor.SWIFT_EOL);
+            buffer.append(splitChar);
+            buffer.append(FINWriterVisitor.SWIFT_EOL);
+        }
+        SwiftWriter.writeFIN(msg.getSwiftMessage(), buffer);
+    }
+
     /**
      * Overwrites the default standard split char {@link RJEReader#SPLITCHAR}
      *
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read only view of ASCII encoded bytes as chars, used to parse binary input without decoding it as a whole.
+ *
+ * <p>Each byte is mapped to the char with the same value, and strings are created only for the requested sub
+ * sequences.
+ *
+ * @since 9.5.0
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    private final ByteBuffer bytes;
+
+    /**
+     * @param bytes the content, from index zero to its limit; the buffer position is not used
+     */
+    AsciiCharSequence(final ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a view of the given buffer content, from its position to its limit, if the content is ASCII
+     *
+     * @param buffer the bytes to wrap, the buffer is not modified
+     * @return the created view or null if the content contains bytes out of the ASCII range
+     */
+    static AsciiCharSequence of(final ByteBuffer buffer) {
+        final ByteBuffer content = buffer.slice();
+        for (int i = 0; i < content.limit(); i++) {
+            if (content.get(i) < 0) {
+                return null;
+            }
+        }
+        return new AsciiCharSequence(content);
+    }
+
+    @Override
+    public int length() {
+        return this.bytes.limit();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return (char) this.bytes.get(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        final ByteBuffer range = this.bytes.duplicate();
+        range.position(start);
+        range.limit(end);
+        return new AsciiCharSequence(range.slice());
+    }
+
+    @Override
+    public String toString() {
+        final int length = this.bytes.limit();
+        if (this.bytes.hasArray()) {
+            return new String(this.bytes.array(), this.bytes.arrayOffset(), length, StandardCharsets.US_ASCII);
+        }
+        final byte[] copy = new byte[length];
+        this.bytes.duplicate().get(copy);
+        return new String(copy, StandardCharsets.US_ASCII);
+    }
+}
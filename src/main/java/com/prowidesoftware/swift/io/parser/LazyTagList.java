@@ -0,0 +1,139 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import com.prowidesoftware.swift.model.SwiftBlock4;
+import com.prowidesoftware.swift.model.Tag;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * Tag list for a block 4 parsed in lazy mode.
+ *
+ * <p>The list keeps a reference to the parser input and the offset range of the block content. The tags are parsed
+ * on the first access to any method of the list, and from then on all calls are delegated to the parsed list. If
+ * unparsed texts are found in the block content, those are attached to the owner block when the tags are parsed.
+ *
+ * <p>The list is replaced by a plain {@link ArrayList} with the parsed tags when serialized.
+ *
+ * @see SwiftParserConfiguration#isLazyTextBlock()
+ * @since 9.5.0
+ */
+final class LazyTagList extends AbstractList<Tag> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient SwiftBlock4 owner;
+    private transient CharSequence source;
+    private final transient int start;
+    private final transient int end;
+    private volatile List<Tag> tags;
+
+    /**
+     * @param owner  the block containing this list, where unparsed texts will be attached
+     * @param source the parser input
+     * @param start  start offset of the block content in the input, that is the "4:" position
+     * @param end    end offset of the block content in the input (exclusive), that is the closing bracket position
+     */
+    LazyTagList(final SwiftBlock4 owner, final CharSequence source, final int start, final int end) {
+        this.owner = owner;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return true if the tags have already been parsed
+     */
+    boolean isLoaded() {
+        return this.tags != null;
+    }
+
+    private List<Tag> tags() {
+        final List<Tag> result = this.tags;
+        return result != null ? result : load();
+    }
+
+    private synchronized List<Tag> load() {
+        if (this.tags == null) {
+            final String content = this.source.subSequence(start, end).toString();
+            final SwiftBlock4 b4 = new SwiftParser().consumeTextBlock(new SwiftBlock4(), content);
+            final SwiftBlock4 b = this.owner;
+            this.tags = b4.getTags();
+            this.owner = null;
+            this.source = null;
+            if (b4.getUnparsedTextsSize() > 0) {
+                for (String text : b4.getUnparsedTexts().getTexts()) {
+                    b.unparsedTextAddText(text);
+                }
+            }
+        }
+        return this.tags;
+    }
+
+    @Override
+    public Tag get(final int index) {
+        return tags().get(index);
+    }
+
+    @Override
+    public int size() {
+        return tags().size();
+    }
+
+    @Override
+    public Tag set(final int index, final Tag tag) {
+        return tags().set(index, tag);
+    }
+
+    @Override
+    public void add(final int index, final Tag tag) {
+        tags().add(index, tag);
+    }
+
+    @Override
+    public Tag remove(final int index) {
+        return tags().remove(index);
+    }
+
+    @Override
+    public void clear() {
+        tags().clear();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return tags().iterator();
+    }
+
+    @Override
+    public ListIterator<Tag> listIterator(final int index) {
+        return tags().listIterator(index);
+    }
+
+    @Override
+    public List<Tag> subList(final int fromIndex, final int toIndex) {
+        return tags().subList(fromIndex, toIndex);
+    }
+
+    private Object writeReplace() {
+        return new ArrayList<>(tags());
+    }
+}
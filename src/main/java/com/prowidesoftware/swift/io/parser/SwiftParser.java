@@ -19,9 +19,11 @@ import com.prowidesoftware.ProwideException;
 import com.prowidesoftware.swift.model.*;
 import com.prowidesoftware.swift.utils.Lib;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -34,11 +36,22 @@ import org.apache.commons.lang3.StringUtils;
  * <li>Support for user defined blocks (for example: {S:{T01:xxx}{T02:yyy}})</li>
  * </ul><br>Field32A
  * This is based in the old SwiftParser2, that is now deprecated.<br>
+ * <p>Block boundaries are found by scanning the input with offsets. When the parser is created from a String the
+ * content is scanned in place, and when it is created from a Reader or stream the content is read in chunks into an
+ * internal buffer; in both cases only the blocks content is copied.
  */
 public class SwiftParser {
 
     private static final transient java.util.logging.Logger log =
             java.util.logging.Logger.getLogger(SwiftParser.class.getName());
+
+    /**
+     * Size of the chunks read from the reader into the internal buffer.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ThreadLocal<SwiftParser> THREAD_LOCAL = ThreadLocal.withInitial(SwiftParser::new);
+
     /**
      * Errors found while parsing the message.
      */
@@ -46,6 +59,25 @@ public class SwiftParser {
 
     private Reader reader;
     private StringBuilder buffer;
+
+    /**
+     * True if the internal buffer is referenced by a lazy text block, in which case it cannot be reused.
+     */
+    private boolean bufferShared = false;
+
+    /**
+     * The text being parsed. This is either the string set with {@link #setData(String)}, accessed directly without
+     * any copy, or the internal buffer that is filled in chunks from the reader set with {@link #setReader(Reader)}.
+     */
+    private CharSequence source;
+
+    /**
+     * Offset in the source of the next character to consume.
+     */
+    private int position = 0;
+
+    private char[] chunk;
+
     /**
      * Reference to the current message being parsed.
      * This should be used when some parsing decision needs to be made based on a previous item parsed,
@@ -85,7 +117,32 @@ public class SwiftParser {
      * @param message the String with the swift message to read
      */
     public SwiftParser(final String message) {
-        this(new StringReader(message));
+        this();
+        setData(message);
+    }
+
+    /**
+     * Constructor with the bytes of a message, for parsing binary input without decoding it as a whole.
+     *
+     * @param message the bytes of the swift message to read
+     * @see #setData(ByteBuffer)
+     * @since 9.5.0
+     */
+    public SwiftParser(final byte[] message) {
+        this();
+        setData(message);
+    }
+
+    /**
+     * Constructor with a buffer containing a message, for parsing binary input without decoding it as a whole.
+     *
+     * @param message the buffer with the swift message to read, from its position to its limit
+     * @see #setData(ByteBuffer)
+     * @since 9.5.0
+     */
+    public SwiftParser(final ByteBuffer message) {
+        this();
+        setData(message);
     }
 
     /**
@@ -245,22 +302,74 @@ public class SwiftParser {
 
     /**
      * sets the input reader.<br>
-     * <b>NOTE</b>: this resets the internal buffer
+     * <b>NOTE</b>: this resets the internal buffer, which is reused from a previous input when possible
      *
      * @param r the reader to use
      */
     public void setReader(final Reader r) {
-        this.buffer = new StringBuilder();
+        if (this.buffer == null || this.bufferShared) {
+            this.buffer = new StringBuilder();
+            this.bufferShared = false;
+        } else {
+            this.buffer.setLength(0);
+        }
+        this.source = this.buffer;
         this.reader = r;
+        this.position = 0;
+        this.lastBlockStartOffset = 0;
     }
 
     /**
      * sets the input data to the received string.
+     * <p>The string is scanned in place, no intermediate reader or buffer is involved.
      *
      * @param data the data to use as input
      */
     public void setData(final String data) {
-        setReader(new StringReader(data));
+        Objects.requireNonNull(data, "data must not be null");
+        setSource(data);
+    }
+
+    /**
+     * sets the input data to the received bytes.
+     *
+     * @param data the data to use as input
+     * @see #setData(ByteBuffer)
+     * @since 9.5.0
+     */
+    public void setData(final byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        setData(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * sets the input data to the received buffer content, from its position to its limit.
+     *
+     * <p>When the content is ASCII, which is the case for FIN messages, the bytes are scanned in place and strings
+     * are created only for the parsed blocks and tags content. Otherwise, the content is decoded as
+     * {@link StandardCharsets#UTF_8}. The buffer position is not modified.
+     *
+     * <p>Since the bytes are not copied, they must not be modified while parsing. When the text block is parsed in
+     * lazy mode this also applies while the parsed block 4 is in use.
+     *
+     * @param data the data to use as input
+     * @see SwiftParserConfiguration#setLazyTextBlock(boolean)
+     * @since 9.5.0
+     */
+    public void setData(final ByteBuffer data) {
+        Objects.requireNonNull(data, "data must not be null");
+        final CharSequence ascii = AsciiCharSequence.of(data);
+        setSource(
+                ascii != null
+                        ? ascii
+                        : StandardCharsets.UTF_8.decode(data.duplicate()).toString());
+    }
+
+    private void setSource(final CharSequence data) {
+        this.source = data;
+        this.reader = null;
+        this.position = 0;
+        this.lastBlockStartOffset = 0;
     }
 
     /**
@@ -274,7 +383,8 @@ public class SwiftParser {
      * <p>For more options check {@link #setConfiguration(SwiftParserConfiguration)}
      *
      * <p>IMPORTANT: Since the parser is initialize with a Reader, this method is not reentrant. Once a message was
-     * parsed, the next call to this method will produce a message with null blocks.</p>
+     * parsed, the next call to this method will produce a message with null blocks. To parse several messages with
+     * the same parser instance use {@link #parse(CharSequence)} instead.</p>
      *
      * @return the parsed swift message object
      * @throws IOException if an error occurs during read
@@ -287,6 +397,7 @@ public class SwiftParser {
 
         // Clear all errors before starting the parse process
         this.errors.clear();
+        final int start = this.position;
         try {
             boolean done = false;
             SwiftBlock b;
@@ -299,6 +410,11 @@ public class SwiftParser {
                     done = true;
                 }
             } while (!done);
+            if (this.configuration.isKeepRawContent() && this.source != null) {
+                final int end = Math.min(this.position, this.source.length());
+                message.setRawContent(StringUtils.trim(
+                        this.source.subSequence(start, end).toString()));
+            }
         } finally {
             // Clean the reference to the message being parsed
             this.currentMessage = null;
@@ -307,6 +423,379 @@ public class SwiftParser {
         return message;
     }
 
+    /**
+     * Parses the given content into a message, reusing this parser instance.
+     *
+     * <p>This is equivalent to calling {@link #setData(String)} and {@link #message()}, but accepts any char sequence
+     * and can be called repeatedly on the same instance, as opposed to {@link #message()} that consumes the input.
+     * The configuration is kept between calls, while the errors are cleared for each message.
+     *
+     * <p>The content is scanned in place, so when it is a mutable sequence it must not be modified while parsing,
+     * and, if the text block is parsed in lazy mode, while the parsed block 4 is in use.
+     *
+     * @param fin the content of a swift MT message
+     * @return the parsed swift message object
+     * @throws IOException if an error occurs during read
+     * @see #threadLocal()
+     * @since 9.5.0
+     */
+    public SwiftMessage parse(final CharSequence fin) throws IOException {
+        Objects.requireNonNull(fin, "fin must not be null");
+        setSource(fin);
+        return message();
+    }
+
+    /**
+     * Discards the current input and errors, keeping the configuration and the internal buffers for reuse.
+     *
+     * @since 9.5.0
+     */
+    public void reset() {
+        setSource(StringUtils.EMPTY);
+        this.errors.clear();
+        this.currentMessage = null;
+    }
+
+    /**
+     * Gets a parser instance bound to the current thread, reset and with the default configuration, intended to
+     * parse many messages with {@link #parse(CharSequence)} without creating a parser and its buffers for each one.
+     *
+     * <p>The returned instance must not be shared with other threads, nor used after calling this method again in
+     * the same thread.
+     *
+     * @return the parser for the current thread
+     * @since 9.5.0
+     */
+    public static SwiftParser threadLocal() {
+        final SwiftParser parser = THREAD_LOCAL.get();
+        parser.reset();
+        if (!parser.configuration.isDefault()) {
+            parser.configuration = new SwiftParserConfiguration();
+        }
+        return parser;
+    }
+
+    /**
+     * Reads only the message headers (blocks 1, 2 and 3) without parsing the text block and trailers.
+     *
+     * <p>This is intended for routing and dispatching, where only the header information is needed. The input is
+     * scanned until a block other than the headers is found, typically the text block, and its content is not
+     * read at all. When the parser was initialized with a reader, at most one additional chunk of the input is read
+     * ahead beyond the headers.
+     *
+     * <p>The input is not consumed, so a subsequent call to {@link #message()} will parse the full message from the
+     * same starting point.
+     *
+     * <p>Errors in the header blocks are handled as in {@link #message()} depending on the
+     * {@link SwiftParserConfiguration#isLenient()} setting.
+     *
+     * @return the headers found, where any missing block yields null values in the corresponding attributes
+     * @throws IOException if an error occurs during read
+     * @since 9.5.0
+     */
+    public SwiftMessageHeaders peekHeaders() throws IOException {
+        this.errors.clear();
+        final int mark = this.position;
+        final int lastBlockStartMark = this.lastBlockStartOffset;
+        SwiftBlock1 b1 = null;
+        SwiftBlock2 b2 = null;
+        SwiftBlock3 b3 = null;
+        try {
+            boolean done = false;
+            while (!done) {
+                findBlockStart();
+                final int blockId = charAt(this.position);
+                if (blockId == '1' && b1 == null) {
+                    b1 = createBlock1(readUntilBlockEnds());
+                } else if (blockId == '2' && b2 == null) {
+                    b2 = createBlock2(readUntilBlockEnds());
+                } else if (blockId == '3' && b3 == null) {
+                    b3 = (SwiftBlock3) consumeTagListBlock(new SwiftBlock3(), readUntilBlockEnds());
+                } else {
+                    done = true;
+                }
+            }
+        } finally {
+            this.position = mark;
+            this.lastBlockStartOffset = lastBlockStartMark;
+        }
+        return new SwiftMessageHeaders(b1, b2, b3);
+    }
+
+    /**
+     * Parses the message reporting the text block (block 4) tags to the given handler as they are found, instead of
+     * collecting them into the message.
+     *
+     * <p>This is intended for messages with a large text block, where the tags can be processed with constant memory.
+     *
+     * @param handler the callback to receive the text block tags
+     * @return the parsed message, with all blocks except for the text block tags
+     * @throws IOException if an error occurs during read
+     * @see #tagCursor()
+     * @since 9.5.0
+     */
+    public SwiftMessage message(final TagHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "handler must not be null");
+        final TagCursor cursor = tagCursor();
+        if (cursor.getMessage().getBlock4() != null) {
+            handler.startTextBlock(cursor.getMessage());
+        }
+        while (cursor.hasNext()) {
+            handler.tag(cursor.next());
+        }
+        return cursor.getMessage();
+    }
+
+    /**
+     * Parses the message until the text block (block 4) starts, and returns a cursor to read the text block tags one
+     * at a time.
+     *
+     * <p>In text mode, the block content is parsed incrementally as the cursor moves forward, and the consumed input
+     * is released when the parser was created with a reader. A block 4 in tag mode, as in service and system messages,
+     * is parsed at once since it is always small.
+     *
+     * @return a cursor over the text block tags
+     * @throws IOException if an error occurs during read
+     * @see #message(TagHandler)
+     * @since 9.5.0
+     */
+    public TagCursor tagCursor() throws IOException {
+        final SwiftMessage message = new SwiftMessage(false);
+        this.currentMessage = message;
+        this.errors.clear();
+        try {
+            while (true) {
+                final int mark = this.position;
+                final int lastBlockStartMark = this.lastBlockStartOffset;
+                final String unparsed = findBlockStart();
+                if (isBlock4Start()) {
+                    addUnparsedText(unparsed, message.getUnparsedTexts());
+                    final int contentStart = this.position;
+                    this.position += 2;
+                    if (isTextBlockStart()) {
+                        final SwiftBlock4 b4 = new SwiftBlock4();
+                        message.addBlock(b4);
+                        return new TagCursor(this, message, b4, null);
+                    }
+                    // tag mode
+                    this.position = contentStart;
+                    final SwiftBlock4 parsed = consumeTextBlock(new SwiftBlock4(), readUntilBlockEnds());
+                    final List<Tag> tags = parsed.getTags();
+                    parsed.setTags(new ArrayList<>());
+                    message.addBlock(parsed);
+                    return new TagCursor(this, message, parsed, tags.iterator());
+                }
+                this.position = mark;
+                this.lastBlockStartOffset = lastBlockStartMark;
+                final SwiftBlock b = consumeBlock(message.getUnparsedTexts());
+                if (b == null) {
+                    return new TagCursor(this, message, null, null);
+                }
+                message.addBlock(b);
+            }
+        } finally {
+            this.currentMessage = null;
+        }
+    }
+
+    /**
+     * Parses the next tag of a text block, that is a block 4 in text mode, from the current position.
+     *
+     * <p>The logic is equivalent to {@link #consumeBlock4(SwiftBlock4, String)} but reading the input incrementally.
+     *
+     * @param b the block 4 where unparsed texts are reported
+     * @return the next tag or null if the block end is reached
+     * @throws IOException if an error occurs during read
+     */
+    Tag nextTextBlockTag(final SwiftBlock4 b) throws IOException {
+        while (true) {
+            releaseConsumedInput();
+
+            // position ourselves at something meaningful
+            final int begin = this.position;
+            int c;
+            while ((c = charAt(this.position)) != -1 && c != ':' && c != '{' && !isTextBlockEnd(c)) {
+                this.position++;
+            }
+
+            // check if we skipped a block unparsed text, the "-" of the block end is not part of it
+            final int skippedEnd = c == '}' ? this.position - 1 : this.position;
+            if (skippedEnd > begin) {
+                final String unparsedText =
+                        this.source.subSequence(begin, skippedEnd).toString().trim();
+                if (!unparsedText.isEmpty()) {
+                    b.unparsedTextAddText(unparsedText);
+                }
+            }
+
+            if (c == -1) {
+                final String error = "Missing or invalid closing bracket in block 4";
+                if (configuration.isLenient()) {
+                    this.errors.add(error);
+                } else {
+                    throw new IllegalArgumentException(error);
+                }
+                return null;
+            }
+            if (c == '}') {
+                this.position++;
+                return null;
+            }
+
+            if (c == ':') {
+                final int start = ++this.position;
+                this.position = findEndOfTextTag(start);
+                final Tag t =
+                        createTag(this.source.subSequence(start, this.position).toString(), null);
+                if (t != null) {
+                    return t;
+                }
+            } else {
+                final int start = this.position;
+                int end = findEndOfTagByBraces(start);
+                if (charAt(start + 1) == '1' && charAt(start + 2) == ':') {
+                    // unparsed text, including any following block until the next message
+                    while (charAt(end) == '{' && !(charAt(end + 1) == '1' && charAt(end + 2) == ':')) {
+                        end = findEndOfTagByBraces(end);
+                    }
+                    this.position = end;
+                    b.unparsedTextAddText(this.source.subSequence(start, end).toString());
+                } else {
+                    this.position = end;
+                    String tag = this.source.subSequence(start + 1, end - 1).toString();
+                    String tagUnparsedText = null;
+                    final int utPos = tag.indexOf("{1:");
+                    if (utPos != -1) {
+                        tagUnparsedText = tag.substring(utPos);
+                        tag = tag.substring(0, utPos);
+                    }
+                    final Tag t = createTag(tag, tagUnparsedText);
+                    if (t != null) {
+                        return t;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the blocks after the text block and adds them to the message
+     *
+     * @param message the message being parsed
+     * @throws IOException if an error occurs during read
+     */
+    void consumeRemainingBlocks(final SwiftMessage message) throws IOException {
+        this.currentMessage = message;
+        try {
+            SwiftBlock b;
+            while ((b = consumeBlock(message.getUnparsedTexts())) != null) {
+                message.addBlock(b);
+            }
+        } finally {
+            this.currentMessage = null;
+        }
+    }
+
+    /**
+     * @return true if the block 4 content starting at the current position is in text mode, that is a colon is found
+     * before any opening bracket
+     */
+    private boolean isTextBlockStart() throws IOException {
+        int c;
+        for (int i = this.position; (c = charAt(i)) != -1; i++) {
+            if (c == '{') {
+                return false;
+            } else if (c == ':') {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the char at the current position is the closing bracket of a text block, that is "[LF]-}"
+     */
+    private boolean isTextBlockEnd(final int c) {
+        return c == '}'
+                && this.position >= 2
+                && this.source.charAt(this.position - 1) == '-'
+                && this.source.charAt(this.position - 2) == '\n';
+    }
+
+    /**
+     * Finds the end of a text tag value, with the same logic as {@link #findEndOfTagByLineFeed(String, int, boolean)}
+     * for a text block, but reading the input incrementally. The tag ends at a line feed followed by a tag start or
+     * by the block end.
+     *
+     * @param start the position to start analysis at
+     * @return the position where the tag ends, excluding the line break
+     */
+    private int findEndOfTextTag(final int start) throws IOException {
+        int i = start;
+        int c;
+        while ((c = charAt(i)) != -1) {
+            if (c == '\n') {
+                final int next = charAt(i + 1);
+                if ((next == '-' && charAt(i + 2) == '}') || (next == ':' && isTagStart(i + 2))) {
+                    break;
+                }
+            }
+            i++;
+        }
+        if (i > start && this.source.charAt(i - 1) == '\r') {
+            return i - 1;
+        }
+        return i;
+    }
+
+    private boolean isTagStart(final int i) throws IOException {
+        // the tag start is at most 4 characters long, as in "32A:"
+        charAt(i + 3);
+        final int end = Math.min(i + 4, this.source.length());
+        return i < end && isTagStart(this.source.subSequence(i, end).toString(), 0);
+    }
+
+    /**
+     * Finds the end of a tag or block in braces, with the same logic as {@link #findEndOfTagByBraces(String, int)}
+     * but reading the input incrementally.
+     *
+     * @param start the position of the opening bracket
+     * @return the position where the tag ends (including the "}")
+     */
+    private int findEndOfTagByBraces(int start) throws IOException {
+        int balance = 0;
+        int c;
+        do {
+            c = charAt(start++);
+            if (c == '{') {
+                balance++;
+            } else if (c == '}') {
+                balance--;
+            }
+        } while (c != -1 && balance > 0);
+        return c == -1 ? start - 1 : start;
+    }
+
+    /**
+     * When reading from a reader, discards the already consumed content of the internal buffer. If the buffer is
+     * referenced by lazy text blocks a new buffer is created to keep the previous one untouched.
+     */
+    private void releaseConsumedInput() {
+        if (this.source == this.buffer && this.position >= CHUNK_SIZE) {
+            if (this.bufferShared) {
+                final StringBuilder remaining = new StringBuilder(this.buffer.length() - this.position + CHUNK_SIZE);
+                remaining.append(this.buffer, this.position, this.buffer.length());
+                this.buffer = remaining;
+                this.source = remaining;
+                this.bufferShared = false;
+            } else {
+                this.buffer.delete(0, this.position);
+            }
+            this.lastBlockStartOffset = Math.max(0, this.lastBlockStartOffset - this.position);
+            this.position = 0;
+        }
+    }
+
     /**
      * Consume the next block of the message on the reader.
      * This methods seeks to a block start, then identifies the block
@@ -324,17 +813,22 @@ public class SwiftParser {
 
         // si el string es no vacio agregarlo a unparsed texts
 
+        // in lazy mode the text block content is just delimited, its tags are parsed on first access
+        if (this.configuration.isParseTextBlock() && this.configuration.isLazyTextBlock() && isBlock4Start()) {
+            final int start = this.position;
+            final int end = scanUntilBlockEnds();
+            final SwiftBlock4 b4 = new SwiftBlock4();
+            b4.setTags(new LazyTagList(b4, this.source, start, end));
+            this.bufferShared |= this.source == this.buffer;
+            addUnparsedText(unparsed, unparsedReceiver);
+            return b4;
+        }
+
         // read the block contents
         final String s = readUntilBlockEnds();
         if (StringUtils.isEmpty(s)) {
             /* if we have an unparsed text add it to last block */
-            if (!unparsed.isEmpty()) {
-                if (unparsedReceiver == null) {
-                    log.warning("Unparsed text '" + unparsed + "' can not be reported since unparsedReceiver is null");
-                } else {
-                    unparsedReceiver.addText(unparsed);
-                }
-            }
+            addUnparsedText(unparsed, unparsedReceiver);
             return null;
         }
 
@@ -349,20 +843,13 @@ public class SwiftParser {
             utBuffer.append("{");
             utBuffer.append(s);
             utBuffer.append("}");
-            boolean done = false;
 
-            while (!done) {
-                // try to read a block of data
-                final char[] data = new char[128];
-                final int size = this.reader.read(data);
-                if (size > 0) {
-                    // append the read buffer
-                    utBuffer.append(data);
-                } else {
-                    // we are done
-                    done = true;
-                }
+            // append the rest of the input
+            while (fill()) {
+                // read until EOF
             }
+            utBuffer.append(this.source, this.position, this.source.length());
+            this.position = this.source.length();
             final String unparsedText = utBuffer.toString();
 
             // build an unparsed text list
@@ -391,6 +878,11 @@ public class SwiftParser {
         // create the block object
         b = createBlock(blockId, s);
 
+        addUnparsedText(unparsed, unparsedReceiver);
+        return b;
+    }
+
+    private void addUnparsedText(final String unparsed, final UnparsedTextList unparsedReceiver) {
         if (!unparsed.isEmpty()) {
             if (unparsedReceiver == null) {
                 log.warning("Unparsed text '" + unparsed + "' can not be reported since unparsedReceiver is null");
@@ -398,7 +890,13 @@ public class SwiftParser {
                 unparsedReceiver.addText(unparsed);
             }
         }
-        return b;
+    }
+
+    /**
+     * @return true if the input at the current position is the content of a block 4, that is "4:"
+     */
+    private boolean isBlock4Start() throws IOException {
+        return charAt(this.position) == '4' && charAt(this.position + 1) == ':';
     }
 
     /**
@@ -424,11 +922,7 @@ public class SwiftParser {
                 break;
             case '4': // block 4
                 if (this.configuration.isParseTextBlock()) {
-                    if (isTextBlock(s)) {
-                        b = consumeBlock4(new SwiftBlock4(), s);
-                    } else {
-                        b = consumeTagListBlock(new SwiftBlock4(), s);
-                    }
+                    b = consumeTextBlock(new SwiftBlock4(), s);
                 } else {
                     b = new SwiftBlock4();
                 }
@@ -525,6 +1019,21 @@ public class SwiftParser {
         }
     }
 
+    /**
+     * Consumes the block 4 content either as text block or as tag list block, depending on its format
+     *
+     * @param b the block to set up tags into
+     * @param s the block data to process
+     * @return the processed block (the parameter b)
+     */
+    SwiftBlock4 consumeTextBlock(final SwiftBlock4 b, final String s) {
+        if (isTextBlock(s)) {
+            return consumeBlock4(b, s);
+        } else {
+            return (SwiftBlock4) consumeTagListBlock(b, s);
+        }
+    }
+
     /**
      * consumes a tag list block (i.e: block 3, block 5 or user defined block)
      *
@@ -1029,9 +1538,19 @@ public class SwiftParser {
      * @throws IOException if an error occurred during read
      */
     protected String readUntilBlockEnds() throws IOException {
-        final int start = buffer == null ? 0 : buffer.length();
-        int len = 0;
-        int c;
+        final int start = this.position;
+        final int end = scanUntilBlockEnds();
+        return end > start ? this.source.subSequence(start, end).toString() : StringUtils.EMPTY;
+    }
+
+    /**
+     * Moves the current position until end of block is reached, with the same logic as {@link #readUntilBlockEnds()}
+     *
+     * @return the offset in the input where the block content ends (exclusive)
+     * @throws IOException if an error occurred during read
+     */
+    private int scanUntilBlockEnds() throws IOException {
+        final int start = this.position;
 
         /*
          * Best effort reading includes this End Of Block (EOB) logic:
@@ -1043,16 +1562,22 @@ public class SwiftParser {
         // is called, the initial block start was consumed, and therefore, this is initialized in 1
         // this is needed to be able to include inner {} inside blocks
         int starts = 1;
-        boolean done = false;
         int count = 0;
         Boolean isTextBlock = null;
 
+        // the block end offset (exclusive), the closing bracket is not part of the block content
+        int end = -1;
+
         // iterate until proper block end or EOF
-        while (!done) {
-            c = getChar();
+        while (end < 0) {
+            final int c = charAt(this.position);
+            if (c >= 0) {
+                this.position++;
+            }
             // check if we can set the textblock flag first
             if (isTextBlock == null && count++ >= 3) {
-                isTextBlock = isTextBlock();
+                isTextBlock = this.position > this.lastBlockStartOffset
+                        && isTextBlock(this.source, this.lastBlockStartOffset, this.position);
                 if (isTextBlock) {
                     checkNested = false;
                 }
@@ -1060,9 +1585,8 @@ public class SwiftParser {
             // found EOF?
             if (c == -1) {
                 // if we have read something and we reach the end of file without a proper closing bracket
-                if (len > 0) {
-                    char n = buffer != null ? buffer.charAt(start) : '?';
-                    final String error = "Missing or invalid closing bracket in block " + n;
+                if (this.position > start) {
+                    final String error = "Missing or invalid closing bracket in block " + this.source.charAt(start);
                     if (configuration.isLenient()) {
                         // if the configuration is lenient we report the error and continue
                         this.errors.add(error);
@@ -1071,66 +1595,53 @@ public class SwiftParser {
                         throw new IllegalArgumentException(error);
                     }
                 }
-                done = true;
+                end = this.position;
             } else {
                 if (checkNested && isBlockStart((char) c)) {
                     starts++;
                 }
-                if (isBlockEnd(isTextBlock, c)) {
-                    if (checkNested) {
-                        starts--;
-                        if (starts == 0) {
-                            done = true;
-                        } else {
-                            len++;
-                        }
-                    } else {
-                        done = true;
-                    }
-                } else {
-                    len++;
+                if (isBlockEnd(isTextBlock, c) && (!checkNested || --starts == 0)) {
+                    end = this.position - 1;
                 }
             }
         }
 
-        final int end = start + len;
-
-        if (buffer != null) {
-            return buffer.substring(start, end);
-        } else {
-            return "";
-        }
-    }
-
-    private boolean isTextBlock() {
-        // hack to report as block4 only text blocks 4, check data in buffer
-        if (this.lastBlockStartOffset >= 0 && buffer.length() > this.lastBlockStartOffset) {
-            return isTextBlock(buffer.substring(this.lastBlockStartOffset));
-        }
-        return false;
+        return end;
     }
 
     /**
      * Determines if the given string is the start of a textblock
      */
     private boolean isTextBlock(final String s) {
+        return isTextBlock(s, 0, s.length());
+    }
+
+    /**
+     * Determines if the text in the given range is the start of a textblock
+     *
+     * @param s    the text to analyze
+     * @param from start offset in the text (inclusive)
+     * @param to   end offset in the text (exclusive)
+     */
+    private static boolean isTextBlock(final CharSequence s, final int from, final int to) {
         // hack to report as block4 only text blocks 4 , check data in buffer
-        if (s.length() < 3) {
+        final int length = to - from;
+        if (length < 3) {
             return false;
         }
         final int offset;
-        if (s.charAt(0) == '{') {
+        if (s.charAt(from) == '{') {
             offset = 1;
         } else {
             offset = 0;
         }
-        final char c1 = s.charAt(offset);
-        final char c2 = s.charAt(offset + 1);
+        final char c1 = s.charAt(from + offset);
+        final char c2 = s.charAt(from + offset + 1);
         if (c1 == '4' && c2 == ':') {
             int c = offset + 2;
             char tmp;
-            while (offset + c < s.length()) {
-                tmp = s.charAt(offset + c);
+            while (offset + c < length) {
+                tmp = s.charAt(from + offset + c);
                 c++;
                 if (tmp == '{') {
                     return false;
@@ -1148,11 +1659,11 @@ public class SwiftParser {
      * @return true if current char is } or for text block buffer is [LF]-}
      */
     private boolean isBlockEnd(final Boolean isTextBlock, final int curChar) {
-        // check buffer
+        // check previous characters
         if (isBlockEnd((char) curChar)) {
             if (isTextBlock != null && isTextBlock) {
-                final char ult = buffer.charAt(buffer.length() - 2);
-                final char antUlt = buffer.charAt(buffer.length() - 3);
+                final char ult = this.source.charAt(this.position - 2);
+                final char antUlt = this.source.charAt(this.position - 3);
                 return antUlt == '\n' && ult == '-';
             } else {
                 return true;
@@ -1167,43 +1678,65 @@ public class SwiftParser {
      * @throws IOException if thrown during read
      */
     protected String findBlockStart() throws IOException {
-        final StringBuilder textUntilBlock = new StringBuilder();
+        final int start = this.position;
         int c;
-        do {
-            c = getChar();
-            textUntilBlock.append((char) c);
-        } while (c != -1 && !isBlockStart((char) c));
-        if (textUntilBlock.length() > 0) {
-            // el ultimo char es EOF of {, sea cual sea lo borramos
-            textUntilBlock.deleteCharAt(textUntilBlock.length() - 1);
+        while ((c = charAt(this.position)) != -1) {
+            this.position++;
+            if (isBlockStart((char) c)) {
+                // the block start char is not part of the returned text
+                return this.position - 1 > start
+                        ? this.source.subSequence(start, this.position - 1).toString()
+                        : StringUtils.EMPTY;
+            }
         }
-
-        // debug code
-        // if (textUntilBlock.length()>0) log.fine("textUntilBlock: "+textUntilBlock.toString());
-
-        return textUntilBlock.length() > 0 ? textUntilBlock.toString() : StringUtils.EMPTY;
+        return this.position > start
+                ? this.source.subSequence(start, this.position).toString()
+                : StringUtils.EMPTY;
     }
 
     private boolean isBlockStart(final char c) {
         if (c == '{') {
-            lastBlockStartOffset = buffer.length() - 1;
+            lastBlockStartOffset = this.position - 1;
             return true;
         }
         return false;
     }
 
     /**
-     * Read a char from stream and append it to the inner buffer
+     * Gets the char at the given offset of the input, reading more content from the reader if necessary
      *
-     * @return the next char read
+     * @param index offset in the input
+     * @return the char at the given offset or -1 if the input has less characters
      * @throws IOException if an error occurs during read
      */
-    private int getChar() throws IOException {
-        final int c = reader.read();
-        if (c >= 0) {
-            buffer.append((char) c);
+    private int charAt(final int index) throws IOException {
+        while (index >= this.source.length()) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return this.source.charAt(index);
+    }
+
+    /**
+     * Reads the next chunk of characters from the reader into the internal buffer
+     *
+     * @return true if some content was read, false if the input is a string or the reader is exhausted
+     * @throws IOException if an error occurs during read
+     */
+    private boolean fill() throws IOException {
+        if (this.reader == null) {
+            return false;
+        }
+        if (this.chunk == null) {
+            this.chunk = new char[CHUNK_SIZE];
+        }
+        final int size = this.reader.read(this.chunk);
+        if (size <= 0) {
+            return false;
         }
-        return c;
+        this.buffer.append(this.chunk, 0, size);
+        return true;
     }
 
     /**
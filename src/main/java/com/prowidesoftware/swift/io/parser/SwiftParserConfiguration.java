@@ -27,6 +27,8 @@ public class SwiftParserConfiguration {
     private boolean parseTextBlock = true;
     private boolean parseTrailerBlock = true;
     private boolean parseUserBlock = true;
+    private boolean lazyTextBlock = false;
+    private boolean keepRawContent = false;
 
     /**
      * Indicates whether the parser is permissive or not. Defaults to true, meaning the parser will do a best effort
@@ -85,4 +87,59 @@ public class SwiftParserConfiguration {
     public void setParseUserBlock(final boolean parseUserBlock) {
         this.parseUserBlock = parseUserBlock;
     }
+
+    /**
+     * Defines if the text block (block 4) will be parsed lazily. Defaults to false.
+     *
+     * <p>When set to true, and the text block parsing is enabled, the parser only delimits the block 4 content and
+     * keeps its offset range into the parsed text. The tags are parsed on the first access to the block tags, for
+     * example when calling any of the {@link com.prowidesoftware.swift.model.SwiftTagListBlock} getters. This is
+     * convenient when only the headers, or a few fields, are needed from large messages, since the block 4 parsing
+     * is skipped entirely when its content is not accessed.
+     *
+     * <p>Notice the lazy block keeps a reference to the parsed text until its tags are parsed.
+     *
+     * @since 9.5.0
+     */
+    public boolean isLazyTextBlock() {
+        return lazyTextBlock;
+    }
+
+    /**
+     * @see #isLazyTextBlock()
+     * @since 9.5.0
+     */
+    public void setLazyTextBlock(final boolean lazyTextBlock) {
+        this.lazyTextBlock = lazyTextBlock;
+    }
+
+    /**
+     * Defines if the parsed message content is kept in the message, available from
+     * {@link com.prowidesoftware.swift.model.SwiftMessage#getRawContent()}. Defaults to false.
+     *
+     * <p>When set to true, {@link SwiftParser#message()} and {@link SwiftParser#parse(CharSequence)} copy the text
+     * read for the message, from the first block to the last one, trimmed. This is intended for checksums on the
+     * received text with {@link com.prowidesoftware.swift.model.SwiftMessageUtils#calculateRawChecksum}, without
+     * writing the message again.
+     *
+     * @since 9.5.0
+     */
+    public boolean isKeepRawContent() {
+        return keepRawContent;
+    }
+
+    /**
+     * @see #isKeepRawContent()
+     * @since 9.5.0
+     */
+    public void setKeepRawContent(final boolean keepRawContent) {
+        this.keepRawContent = keepRawContent;
+    }
+
+    /**
+     * @return true if all the options have their default value
+     */
+    boolean isDefault() {
+        return lenient && parseTextBlock && parseTrailerBlock && parseUserBlock && !lazyTextBlock && !keepRawContent;
+    }
 }
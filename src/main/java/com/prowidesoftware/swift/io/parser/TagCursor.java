@@ -0,0 +1,113 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import com.prowidesoftware.swift.model.SwiftBlock4;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull reader for the text block (block 4) tags of a message.
+ *
+ * <p>Each call to {@link #next()} parses the next tag from the input, so the text block is never held in memory as
+ * a whole. When the parser was created with a reader, the consumed input is also released as the cursor moves
+ * forward. This allows processing messages with a large number of tags, such as statements, with constant memory.
+ *
+ * <p>The {@link #getMessage()} contains the blocks found before the text block, and an empty block 4 where unparsed
+ * texts, if any, are reported. Once the text block is exhausted, the remaining blocks (for example the trailer)
+ * are parsed and added to the same message.
+ *
+ * <pre>
+ * TagCursor cursor = new SwiftParser(reader).tagCursor();
+ * while (cursor.hasNext()) {
+ *     Tag tag = cursor.next();
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see SwiftParser#tagCursor()
+ * @since 9.5.0
+ */
+public final class TagCursor {
+
+    private final SwiftParser parser;
+    private final SwiftMessage message;
+    private final SwiftBlock4 block4;
+    private final Iterator<Tag> tags;
+    private Tag next;
+    private boolean done;
+
+    /**
+     * @param parser  the parser, positioned at the text block content when the block is in text mode
+     * @param message the message with the blocks found before the text block
+     * @param block4  the block 4 added to the message, null if the message has no text block
+     * @param tags    the tags for a block 4 in tag mode, already parsed, null for a block 4 in text mode
+     */
+    TagCursor(
+            final SwiftParser parser, final SwiftMessage message, final SwiftBlock4 block4, final Iterator<Tag> tags) {
+        this.parser = parser;
+        this.message = message;
+        this.block4 = block4;
+        this.tags = tags;
+        this.done = block4 == null;
+    }
+
+    /**
+     * @return true if there are more tags in the text block
+     * @throws IOException if an error occurs during read
+     */
+    public boolean hasNext() throws IOException {
+        if (this.next == null && !this.done) {
+            if (this.tags != null) {
+                this.next = this.tags.hasNext() ? this.tags.next() : null;
+            } else {
+                this.next = this.parser.nextTextBlockTag(this.block4);
+            }
+            if (this.next == null) {
+                this.done = true;
+                this.parser.consumeRemainingBlocks(this.message);
+            }
+        }
+        return this.next != null;
+    }
+
+    /**
+     * @return the next tag in the text block
+     * @throws IOException            if an error occurs during read
+     * @throws NoSuchElementException if the text block has no more tags
+     */
+    public Tag next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more tags in the text block");
+        }
+        final Tag result = this.next;
+        this.next = null;
+        return result;
+    }
+
+    /**
+     * Gets the message being parsed. Before the cursor is exhausted this contains only the blocks found before the
+     * text block, and after that, all the message blocks except for the text block tags.
+     *
+     * @return the message being parsed
+     */
+    public SwiftMessage getMessage() {
+        return this.message;
+    }
+}
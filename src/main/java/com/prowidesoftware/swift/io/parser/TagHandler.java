@@ -0,0 +1,44 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+
+/**
+ * Callback to receive the text block (block 4) tags as they are found by the parser, without collecting them into
+ * the message.
+ *
+ * @see SwiftParser#message(TagHandler)
+ * @since 9.5.0
+ */
+@FunctionalInterface
+public interface TagHandler {
+
+    /**
+     * Called when the text block start is found, before any tag is reported.
+     *
+     * @param message the message being parsed, containing only the blocks found before the text block
+     */
+    default void startTextBlock(final SwiftMessage message) {}
+
+    /**
+     * Called for each tag of the text block, in order.
+     *
+     * @param tag the parsed tag
+     */
+    void tag(final Tag tag);
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Appendable that encodes the appended chars directly as bytes, into a byte buffer or an output stream.
+ *
+ * <p>ASCII chars, which is all the FIN content in practice, are written as single bytes. Any other char is UTF-8
+ * encoded, replacing malformed surrogates with '?' as {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * <p>When writing to a stream the bytes are collected in an internal buffer, written to the stream when full and by
+ * {@link #finish()}.
+ *
+ * @since 9.5.0
+ */
+final class ByteAppendable implements Appendable {
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final ByteBuffer buffer;
+    private final OutputStream stream;
+
+    /**
+     * High surrogate waiting for its low surrogate pair
+     */
+    private char highSurrogate = 0;
+
+    /**
+     * @param buffer the target, bytes are put from its current position
+     */
+    ByteAppendable(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.stream = null;
+    }
+
+    /**
+     * @param stream the target, written in chunks and by {@link #finish()}
+     */
+    ByteAppendable(final OutputStream stream) {
+        this.buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+        this.stream = stream;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        final CharSequence s = csq == null ? "null" : csq;
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        final CharSequence s = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            append(s.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        if (this.highSurrogate != 0) {
+            final char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                put(0xF0 | (codePoint >> 18));
+                put(0x80 | ((codePoint >> 12) & 0x3F));
+                put(0x80 | ((codePoint >> 6) & 0x3F));
+                put(0x80 | (codePoint & 0x3F));
+                return this;
+            }
+            put('?');
+        }
+        if (c < 0x80) {
+            put(c);
+        } else if (c < 0x800) {
+            put(0xC0 | (c >> 6));
+            put(0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put('?');
+        } else {
+            put(0xE0 | (c >> 12));
+            put(0x80 | ((c >> 6) & 0x3F));
+            put(0x80 | (c & 0x3F));
+        }
+        return this;
+    }
+
+    /**
+     * Writes any unpaired surrogate and, when writing to a stream, the buffered bytes. The stream is not flushed.
+     *
+     * @throws IOException if an error occurs writing to the stream
+     * @throws java.nio.BufferOverflowException if the target byte buffer is full
+     */
+    void finish() throws IOException {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            put('?');
+        }
+        if (this.stream != null) {
+            writeBuffer();
+        }
+    }
+
+    private void put(final int b) throws IOException {
+        if (this.stream != null && !this.buffer.hasRemaining()) {
+            writeBuffer();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    private void writeBuffer() throws IOException {
+        if (this.buffer.position() > 0) {
+            this.stream.write(this.buffer.array(), 0, this.buffer.position());
+            this.buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.writer;
+
+import java.io.IOException;
+
+/**
+ * Appendable decorator that writes every line break as CRLF, with the same result as
+ * {@link SwiftWriter#ensureEols(String)} but in a single pass over the appended content.
+ *
+ * <p>CR, LF and CRLF are all accepted as line breaks, even when a CRLF pair is split between two appends. As in
+ * {@link SwiftWriter#ensureEols(String)}, a line break at the very end of the content is not written; for that
+ * purpose each line break is held back until further content is appended.
+ *
+ * @since 9.5.0
+ */
+final class CrlfAppendable implements Appendable {
+
+    private final Appendable out;
+
+    /**
+     * A line break was found and not yet written
+     */
+    private boolean pendingEol = false;
+
+    /**
+     * The last appended char was a CR, so a following LF is part of the same line break
+     */
+    private boolean afterCr = false;
+
+    /**
+     * @param out the target receiving the normalized content
+     */
+    CrlfAppendable(final Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        final CharSequence s = csq == null ? "null" : csq;
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        final CharSequence s = csq == null ? "null" : csq;
+        // content between line breaks is appended in a single call
+        int run = start;
+        for (int i = start; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c == '\r' || c == '\n') {
+                appendRun(s, run, i);
+                lineBreak(c);
+                run = i + 1;
+            } else {
+                this.afterCr = false;
+            }
+        }
+        appendRun(s, run, end);
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        if (c == '\r' || c == '\n') {
+            lineBreak(c);
+        } else {
+            this.afterCr = false;
+            writePendingEol();
+            this.out.append(c);
+        }
+        return this;
+    }
+
+    private void lineBreak(final char c) throws IOException {
+        if (c == '\r' || !this.afterCr) {
+            writePendingEol();
+            this.pendingEol = true;
+        }
+        this.afterCr = c == '\r';
+    }
+
+    private void appendRun(final CharSequence csq, final int start, final int end) throws IOException {
+        if (start < end) {
+            writePendingEol();
+            this.out.append(csq, start, end);
+        }
+    }
+
+    private void writePendingEol() throws IOException {
+        if (this.pendingEol) {
+            this.out.append(FINWriterVisitor.SWIFT_EOL);
+            this.pendingEol = false;
+        }
+    }
+}
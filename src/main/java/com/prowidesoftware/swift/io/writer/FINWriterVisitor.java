@@ -29,6 +29,10 @@ import org.apache.commons.lang3.StringUtils;
  * <p>The implementation preserves the EOLS as they are found in the message object. This is particularly important for
  * block 4 where fields can have multiple lines. To serialize into a compliant FIN text you can apply
  * {@link SwiftWriter#ensureEols(String)} to the result.
+ *
+ * <p>The output is appended piecewise to the target, without building intermediate strings, so writing into a reused
+ * {@link StringBuilder} or into the appendables created by {@link SwiftWriter#writeFIN(SwiftMessage, Appendable)} does
+ * not allocate per tag.
  */
 public class FINWriterVisitor implements IMessageVisitor {
     /**
@@ -38,12 +42,20 @@ public class FINWriterVisitor implements IMessageVisitor {
 
     private static final transient java.util.logging.Logger log =
             java.util.logging.Logger.getLogger(FINWriterVisitor.class.getName());
-    private final Writer writer;
+    private final Appendable out;
     private boolean block4asText = true;
     private boolean trimTagValues = false;
 
     public FINWriterVisitor(Writer writer) {
-        this.writer = writer;
+        this.out = writer;
+    }
+
+    /**
+     * @param out the target where the FIN content is appended, for example a {@link StringBuilder}
+     * @since 9.5.0
+     */
+    public FINWriterVisitor(Appendable out) {
+        this.out = out;
     }
 
     /**
@@ -62,6 +74,15 @@ public class FINWriterVisitor implements IMessageVisitor {
         this.trimTagValues = trimTagValues;
     }
 
+    /**
+     * @return true if the block 4 of the message being visited is written with the text block syntax, one field per
+     * line and ending with "-}", as it is always written by {@link SwiftWriter#writeBlock4(SwiftBlock4, Writer)}
+     * @since 9.5.0
+     */
+    public boolean isBlock4asText() {
+        return block4asText;
+    }
+
     ////////////////////////////////////////////////////////////
     //
     // MESSAGE HANDLING
@@ -143,7 +164,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write("}");
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -174,7 +195,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write("}");
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -203,7 +224,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write("}");
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -213,7 +234,10 @@ public class FINWriterVisitor implements IMessageVisitor {
     ////////////////////////////////////////////////////////////
     @Override
     public void startBlock4(SwiftBlock4 b) {
-        write("{4:" + (this.block4asText ? SWIFT_EOL : ""));
+        write("{4:");
+        if (this.block4asText) {
+            write(SWIFT_EOL);
+        }
     }
 
     @Override
@@ -236,7 +260,10 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write((this.block4asText ? "-" : "") + "}");
+        if (this.block4asText) {
+            write('-');
+        }
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -265,7 +292,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write("}");
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -275,7 +302,9 @@ public class FINWriterVisitor implements IMessageVisitor {
     ////////////////////////////////////////////////////////////
     @Override
     public void startBlockUser(SwiftBlockUser b) {
-        write("{" + b.getName() + ":");
+        write('{');
+        write(b.getName());
+        write(':');
     }
 
     @Override
@@ -294,7 +323,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (b.getUnparsedTextsSize() > 0) write(b.getUnparsedTexts());
 
         // write block termination
-        write("}");
+        write('}');
     }
 
     ////////////////////////////////////////////////////////////
@@ -313,11 +342,14 @@ public class FINWriterVisitor implements IMessageVisitor {
         // we don't trim the value to preserve trailing spaces, but we avoid printing null
         if (StringUtils.isNotEmpty(t.getName())) {
             // we have name
-            write("{" + t.getName() + ":" + notNullValue(t));
+            write('{');
+            write(t.getName());
+            write(':');
         } else {
             // no name but value => {<value>}
-            write("{" + notNullValue(t));
+            write('{');
         }
+        write(notNullValue(t));
 
         // if tag has unparsed texts, write them down.
         // this goes "{<tag>:<value>unparsed_texts}" (NOTICE that unparsed text goes inside tag braquets)
@@ -328,7 +360,7 @@ public class FINWriterVisitor implements IMessageVisitor {
         if (t.getUnparsedTextsSize() > 0) write(t.getUnparsedTexts());
 
         // write closing braquets
-        write("}");
+        write('}');
     }
 
     /**
@@ -352,7 +384,11 @@ public class FINWriterVisitor implements IMessageVisitor {
         // this goes: ":<tag>:<value>[CRLF]" (quotes not included)
         if (StringUtils.isNotEmpty(t.getName())) {
             // we don't trim the value to preserve trailing spaces, but we avoid printing null
-            write(":" + t.getName() + ":" + notNullValue(t) + SWIFT_EOL);
+            write(':');
+            write(t.getName());
+            write(':');
+            write(notNullValue(t));
+            write(SWIFT_EOL);
         }
 
         // if tag has unparsed texts, write them down
@@ -393,7 +429,16 @@ public class FINWriterVisitor implements IMessageVisitor {
 
     private void write(String s) {
         try {
-            writer.write(s);
+            out.append(s);
+        } catch (IOException e) {
+            log.log(Level.SEVERE, "Caught exception in FINWriterVisitor, method write", e);
+            throw new ProwideException(e);
+        }
+    }
+
+    private void write(char c) {
+        try {
+            out.append(c);
         } catch (IOException e) {
             log.log(Level.SEVERE, "Caught exception in FINWriterVisitor, method write", e);
             throw new ProwideException(e);
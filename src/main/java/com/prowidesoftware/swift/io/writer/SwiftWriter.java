@@ -15,11 +15,13 @@
  */
 package com.prowidesoftware.swift.io.writer;
 
+import com.prowidesoftware.ProwideException;
 import com.prowidesoftware.swift.model.*;
-import java.io.BufferedReader;
-import java.io.StringReader;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -85,7 +87,97 @@ public class SwiftWriter {
         Validate.notNull(writer, WRITER_MESSAGE);
         FINWriterVisitor v = new FINWriterVisitor(writer);
         v.setTrimTagValues(trimTagValues);
+        visit(msg, v, ignoreEmptyBlocks);
+    }
+
+    /**
+     * Visits the given message with a FIN writer, for example a subclass tracking the position of each block in the
+     * output, handling empty blocks as {@link #writeMessage(SwiftMessage, Writer, boolean)} does.
+     *
+     * @param msg               the message to write
+     * @param visitor           the visitor writing the message content
+     * @param ignoreEmptyBlocks if true, empty blocks will not be written
+     * @throws IllegalArgumentException if msg or visitor are null
+     * @since 9.5.0
+     */
+    public static void writeMessage(SwiftMessage msg, FINWriterVisitor visitor, boolean ignoreEmptyBlocks) {
+        Validate.notNull(msg, "msg cannot be null");
+        Validate.notNull(visitor, "visitor cannot be null");
+        visit(msg, visitor, ignoreEmptyBlocks);
+    }
+
+    /**
+     * Appends the given message content to the target in its FIN format, with the same result as
+     * {@link SwiftMessage#message()}: empty blocks are not written and all line breaks are written as CRLF.
+     *
+     * <p>The content is appended piecewise as the message is traversed, without building the FIN text as a whole or
+     * per tag. Thus a {@link StringBuilder} reused across messages, after resetting its length, is filled without
+     * further allocations once it has grown to the messages size.
+     *
+     * @param msg the message to write
+     * @param out the target receiving the FIN content
+     * @throws IllegalArgumentException if msg or out are null
+     * @throws com.prowidesoftware.ProwideException if the target throws an IOException
+     * @since 9.5.0
+     */
+    public static void writeFIN(SwiftMessage msg, Appendable out) {
+        Validate.notNull(msg, "msg cannot be null");
+        Validate.notNull(out, "out cannot be null");
+        visit(msg, new FINWriterVisitor(new CrlfAppendable(out)), true);
+    }
+
+    /**
+     * Puts the given message content into the buffer in its FIN format, with the same result as
+     * {@link SwiftMessage#message()} encoded in UTF-8, which for FIN content means one ASCII byte per char.
+     *
+     * <p>The chars are encoded into the buffer as the message is traversed, without creating the FIN text.
+     *
+     * @param msg    the message to write
+     * @param buffer the target, the content is put from its current position
+     * @throws IllegalArgumentException if msg or buffer are null
+     * @throws java.nio.BufferOverflowException if the buffer remaining space is not enough for the message
+     * @since 9.5.0
+     */
+    public static void writeFIN(SwiftMessage msg, ByteBuffer buffer) {
+        Validate.notNull(buffer, "buffer cannot be null");
+        final ByteAppendable out = new ByteAppendable(buffer);
+        writeFIN(msg, out);
+        try {
+            out.finish();
+        } catch (IOException e) {
+            // not thrown when writing to a buffer
+            throw new ProwideException(e);
+        }
+    }
 
+    /**
+     * Writes the given message content to the stream in its FIN format, with the same result as
+     * {@link SwiftMessage#message()} encoded in UTF-8, which for FIN content means one ASCII byte per char.
+     *
+     * <p>The chars are encoded as the message is traversed and written to the stream in chunks, without creating the
+     * FIN text. The stream is neither flushed nor closed.
+     *
+     * @param msg    the message to write
+     * @param stream the target stream
+     * @throws IllegalArgumentException if msg or stream are null
+     * @throws IOException if an error occurs writing to the stream
+     * @since 9.5.0
+     */
+    public static void writeFIN(SwiftMessage msg, OutputStream stream) throws IOException {
+        Validate.notNull(stream, "stream cannot be null");
+        final ByteAppendable out = new ByteAppendable(stream);
+        try {
+            writeFIN(msg, out);
+        } catch (ProwideException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        out.finish();
+    }
+
+    private static void visit(SwiftMessage msg, FINWriterVisitor v, boolean ignoreEmptyBlocks) {
         if (ignoreEmptyBlocks) {
             // copy the blocks to a new message container
             SwiftMessage copy = new SwiftMessage();
@@ -269,21 +361,17 @@ public class SwiftWriter {
      * @since 7.10.4
      */
     public static String ensureEols(final String content) {
-        final StringBuilder buf = new StringBuilder();
+        if (content == null) {
+            log.severe("Error in EOL correction: null content");
+            return "";
+        }
+        final StringBuilder buf = new StringBuilder(content.length() + 16);
         try {
-            final BufferedReader r = new BufferedReader(new StringReader(content));
-            String l;
-            while ((l = r.readLine()) != null) {
-                buf.append(l).append(FINWriterVisitor.SWIFT_EOL);
-            }
-        } catch (final Exception e) {
+            // a line break at the end of the content is not written
+            new CrlfAppendable(buf).append(content);
+        } catch (final IOException e) {
             log.severe("Error in EOL correction: " + e);
         }
-        if (buf.length() > 0) {
-            // remove the last EOL inserted
-            return buf.substring(0, buf.length() - FINWriterVisitor.SWIFT_EOL.length());
-        } else {
-            return "";
-        }
+        return buf.toString();
     }
 }
@@ -15,8 +15,7 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
@@ -1472,8 +1471,20 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
      * @since 7.10.6
      */
     protected String toJsonImpl() {
-        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        return gson.toJson(this);
+        return SwiftJson.gson(true).toJson(this);
+    }
+
+    /**
+     * Writes the JSON representation of this message into the given writer, reflecting the message attributes as
+     * {@link #toJson()} does.
+     * <p>The output is indented or compact depending on the writer settings, see
+     * {@link SwiftJson#newWriter(java.io.Writer, boolean)}.
+     *
+     * @param writer the target writer
+     * @since 9.5.0
+     */
+    public void toJson(final JsonWriter writer) {
+        SwiftJson.gson().toJson(this, getClass(), writer);
     }
 
     /**
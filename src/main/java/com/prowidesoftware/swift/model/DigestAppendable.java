@@ -0,0 +1,136 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.security.MessageDigest;
+
+/**
+ * Appendable feeding a {@link MessageDigest} with the UTF-8 bytes of the appended characters, as they are written.
+ *
+ * <p>The characters are encoded into a small internal buffer that is passed to the digest when full, so the text is
+ * hashed without building it as a whole. The resulting hash is the same computed on
+ * {@code text.getBytes(StandardCharsets.UTF_8)}, including the replacement of malformed surrogates with '?'.
+ *
+ * <p>Instances are not thread-safe; {@link SwiftMessageUtils} keeps one per thread and reuses it after
+ * {@link #reset()}.
+ *
+ * @since 9.5.0
+ */
+final class DigestAppendable implements Appendable {
+    private static final int BUFFER_SIZE = 512;
+    private static final byte REPLACEMENT = '?';
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    /**
+     * A high surrogate waiting for its low surrogate pair, or 0
+     */
+    private char highSurrogate;
+
+    DigestAppendable(final MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Discards any content appended so far
+     */
+    void reset() {
+        this.count = 0;
+        this.highSurrogate = 0;
+        this.digest.reset();
+    }
+
+    /**
+     * Completes the hash computation and resets this instance for reuse.
+     *
+     * @return the hash of the appended content
+     */
+    byte[] digest() {
+        if (this.highSurrogate != 0) {
+            put(REPLACEMENT);
+            this.highSurrogate = 0;
+        }
+        flush();
+        return this.digest.digest();
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) {
+        final CharSequence s = csq != null ? csq : "null";
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) {
+        final CharSequence s = csq != null ? csq : "null";
+        for (int i = start; i < end; i++) {
+            encode(s.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) {
+        encode(c);
+        return this;
+    }
+
+    private void encode(final char c) {
+        if (this.highSurrogate != 0) {
+            final char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int cp = Character.toCodePoint(high, c);
+                put((byte) (0xF0 | (cp >> 18)));
+                put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                put((byte) (0x80 | (cp & 0x3F)));
+                return;
+            }
+            put(REPLACEMENT);
+        }
+        if (c < 0x80) {
+            put((byte) c);
+        } else if (c < 0x800) {
+            put((byte) (0xC0 | (c >> 6)));
+            put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put(REPLACEMENT);
+        } else {
+            put((byte) (0xE0 | (c >> 12)));
+            put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            put((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    private void put(final byte b) {
+        if (this.count == BUFFER_SIZE) {
+            flush();
+        }
+        this.buffer[this.count++] = b;
+    }
+
+    private void flush() {
+        if (this.count > 0) {
+            this.digest.update(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+}
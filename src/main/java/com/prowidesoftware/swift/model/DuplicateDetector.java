@@ -0,0 +1,378 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * In-memory detector of duplicate messages, with bounded memory, intended to be called when messages are received
+ * or sent, for example with {@link MtSwiftMessage#checkDuplicate(DuplicateDetector)}.
+ *
+ * <p>Each message is reduced to a 64-bit fingerprint of its {@link Key}, either the message checksum or the
+ * combination of its MIR, MUR and UETR references. The fingerprints are stored in open addressing tables of primitive
+ * longs, without keeping any object per message, taking about 12 bytes per entry. Since only the fingerprints are
+ * kept, two different keys may be reported as duplicates, with a probability in the order of n<sup>2</sup> / 2<sup>65
+ * </sup> for n registered entries, that is about one in ten thousand for fifty million entries.
+ *
+ * <p>The entries are kept in four generations. New entries go to the current generation, and when it is full, or
+ * when its time span is over if a retention is configured, the oldest generation is discarded and reused as the
+ * current one. Thus the detector keeps at most the given maximum number of entries, and entries are kept for at least
+ * three quarters of the retention period, as long as the maximum size is not reached.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 9.5.0
+ */
+public final class DuplicateDetector {
+    private static final int GENERATIONS = 4;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.7;
+    private static final long EMPTY = 0L;
+
+    /**
+     * The message attributes used to identify duplicates
+     */
+    public enum Key {
+        /**
+         * The message checksum, see {@link SwiftMessageUtils#calculateChecksum(SwiftMessage)}
+         */
+        CHECKSUM,
+
+        /**
+         * The combination of the MIR, the MUR and the UETR, any of them may be missing
+         */
+        REFERENCES
+    }
+
+    private final Key key;
+    private final int generationSize;
+    private final long generationNanos;
+    private final LongSupplier clock;
+    private final Generation[] generations = new Generation[GENERATIONS];
+    private int current;
+
+    /**
+     * Creates a detector evicting the oldest entries by size only.
+     *
+     * @param key        the message attributes used to identify duplicates
+     * @param maxEntries the maximum number of entries kept
+     * @throws IllegalArgumentException if the maximum number of entries is lower than the number of generations
+     */
+    public DuplicateDetector(final Key key, final int maxEntries) {
+        this(key, maxEntries, null);
+    }
+
+    /**
+     * Creates a detector evicting the oldest entries by size and by time.
+     *
+     * @param key        the message attributes used to identify duplicates
+     * @param maxEntries the maximum number of entries kept
+     * @param retention  the period to keep the entries or null to evict by size only
+     * @throws IllegalArgumentException if the maximum number of entries is lower than the number of generations, or
+     *                                  if the retention is not positive
+     */
+    public DuplicateDetector(final Key key, final int maxEntries, final Duration retention) {
+        this(key, maxEntries, retention, System::nanoTime);
+    }
+
+    DuplicateDetector(final Key key, final int maxEntries, final Duration retention, final LongSupplier clock) {
+        Objects.requireNonNull(key, "the key cannot be null");
+        Validate.isTrue(maxEntries >= GENERATIONS, "the maximum number of entries must be at least " + GENERATIONS);
+        Validate.isTrue(
+                retention == null || !retention.isNegative() && !retention.isZero(), "the retention must be positive");
+        this.key = key;
+        this.generationSize = maxEntries / GENERATIONS;
+        this.generationNanos = retention != null ? Math.max(1, retention.toNanos() / GENERATIONS) : 0;
+        this.clock = clock;
+        this.generations[0] = new Generation(this.generationSize, now());
+    }
+
+    /**
+     * @return the message attributes used to identify duplicates
+     */
+    public Key getKey() {
+        return this.key;
+    }
+
+    /**
+     * Registers the message and tells if it was already registered.
+     *
+     * <p>The checksum and the MIR and MUR references are read from the message attributes, as set when the message is
+     * created or updated from its FIN content; the UETR is read from the user header in the FIN content.
+     *
+     * @param msg the message to check
+     * @return true if the message is a possible duplicate, false if it was not registered before or if it has no
+     * value for the key, in which case it is not registered
+     */
+    public boolean checkAndAdd(final MtSwiftMessage msg) {
+        Objects.requireNonNull(msg, "the message cannot be null");
+        final long fingerprint = this.key == Key.CHECKSUM
+                ? fingerprint(msg.getChecksum())
+                : fingerprint(msg.getMir(), msg.getMur(), uetr(msg.getMessage()));
+        return checkAndAdd(fingerprint);
+    }
+
+    /**
+     * Registers the message and tells if it was already registered.
+     *
+     * @param msg the message to check
+     * @return true if the message is a possible duplicate, false if it was not registered before or if it has no
+     * value for the key, in which case it is not registered
+     * @see #checkAndAdd(MtSwiftMessage)
+     */
+    public boolean checkAndAdd(final SwiftMessage msg) {
+        Objects.requireNonNull(msg, "the message cannot be null");
+        final long fingerprint = this.key == Key.CHECKSUM
+                ? fingerprint(SwiftMessageUtils.calculateChecksum(msg))
+                : fingerprint(msg.getMIR(), msg.getMUR(), msg.getUETR());
+        return checkAndAdd(fingerprint);
+    }
+
+    /**
+     * Registers a precomputed fingerprint and tells if it was already registered.
+     *
+     * @param fingerprint a fingerprint created with {@link #fingerprint(CharSequence...)}
+     * @return true if the fingerprint was already registered, false if it is new or if it is zero, meaning no key
+     */
+    public synchronized boolean checkAndAdd(final long fingerprint) {
+        if (fingerprint == EMPTY) {
+            return false;
+        }
+        expire();
+        for (final Generation g : this.generations) {
+            if (g != null && g.contains(fingerprint)) {
+                return true;
+            }
+        }
+        if (this.generations[this.current].size >= this.generationSize) {
+            rotate(now());
+        }
+        this.generations[this.current].add(fingerprint);
+        return false;
+    }
+
+    /**
+     * Tells if a precomputed fingerprint is registered, without registering it.
+     *
+     * @param fingerprint a fingerprint created with {@link #fingerprint(CharSequence...)}
+     * @return true if the fingerprint is registered
+     */
+    public synchronized boolean contains(final long fingerprint) {
+        if (fingerprint == EMPTY) {
+            return false;
+        }
+        expire();
+        for (final Generation g : this.generations) {
+            if (g != null && g.contains(fingerprint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of entries currently kept
+     */
+    public synchronized int size() {
+        expire();
+        int size = 0;
+        for (final Generation g : this.generations) {
+            if (g != null) {
+                size += g.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Discards all the entries
+     */
+    public synchronized void clear() {
+        final long now = now();
+        for (final Generation g : this.generations) {
+            if (g != null) {
+                g.clear(now);
+            }
+        }
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the given values, hashing their characters without copying them.
+     *
+     * @param parts the key values, null values are allowed
+     * @return the fingerprint, or zero if all the values are null or empty
+     */
+    public static long fingerprint(final CharSequence... parts) {
+        long h = 0xcbf29ce484222325L;
+        boolean found = false;
+        for (final CharSequence part : parts) {
+            if (part != null && part.length() > 0) {
+                found = true;
+                for (int i = 0; i < part.length(); i++) {
+                    h = (h ^ part.charAt(i)) * 0x100000001b3L;
+                }
+            }
+            // separator, so that values moved between the parts do not produce the same fingerprint
+            h = (h ^ 0xFFFF) * 0x100000001b3L;
+        }
+        if (!found) {
+            return EMPTY;
+        }
+        h = mix(h);
+        return h != EMPTY ? h : 1;
+    }
+
+    /**
+     * Spreads the hash bits (the MurmurHash3 finalizer) so that the fingerprint can be used to index the tables
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Finds the UETR (field 121) in the user header of a FIN content, without parsing the message
+     *
+     * @return the field value as a view of the content, or null if not found
+     */
+    static CharSequence uetr(final String fin) {
+        if (fin == null) {
+            return null;
+        }
+        final int block4 = fin.indexOf("{4:");
+        final int start = fin.indexOf("{121:");
+        if (start < 0 || block4 >= 0 && start > block4) {
+            return null;
+        }
+        final int end = fin.indexOf('}', start);
+        return end > 0 ? fin.subSequence(start + 5, end) : null;
+    }
+
+    private long now() {
+        return this.generationNanos > 0 ? this.clock.getAsLong() : 0;
+    }
+
+    /**
+     * Discards the generations whose time span is over, when a retention is configured
+     */
+    private void expire() {
+        if (this.generationNanos > 0) {
+            final long now = now();
+            final long elapsed = (now - this.generations[this.current].start) / this.generationNanos;
+            for (long i = 0; i < Math.min(elapsed, GENERATIONS); i++) {
+                rotate(now);
+            }
+        }
+    }
+
+    /**
+     * Discards the oldest generation, reusing it as the new current one
+     */
+    private void rotate(final long now) {
+        this.current = (this.current + 1) % GENERATIONS;
+        final Generation g = this.generations[this.current];
+        if (g == null) {
+            this.generations[this.current] = new Generation(this.generationSize, now);
+        } else {
+            g.clear(now);
+        }
+    }
+
+    /**
+     * Open addressing set of fingerprints with linear probing, growing up to the capacity for its maximum size
+     */
+    private static final class Generation {
+        private final int maxCapacity;
+        private long[] slots;
+        private int size;
+        private long start;
+
+        private Generation(final int maxSize, final long start) {
+            this.maxCapacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(maxSize / LOAD_FACTOR) + 1);
+            this.slots = new long[Math.min(INITIAL_CAPACITY, this.maxCapacity)];
+            this.start = start;
+        }
+
+        private boolean contains(final long fingerprint) {
+            final long[] table = this.slots;
+            int i = index(fingerprint, table.length);
+            while (true) {
+                final long slot = table[i];
+                if (slot == fingerprint) {
+                    return true;
+                }
+                if (slot == EMPTY) {
+                    return false;
+                }
+                i = i + 1 < table.length ? i + 1 : 0;
+            }
+        }
+
+        private void add(final long fingerprint) {
+            if (this.size + 1 > this.slots.length * LOAD_FACTOR && this.slots.length < this.maxCapacity) {
+                grow();
+            }
+            if (insert(this.slots, fingerprint)) {
+                this.size++;
+            }
+        }
+
+        private void grow() {
+            final long[] old = this.slots;
+            final long[] table = new long[(int) Math.min(this.maxCapacity, (long) old.length * 2)];
+            for (final long fingerprint : old) {
+                if (fingerprint != EMPTY) {
+                    insert(table, fingerprint);
+                }
+            }
+            this.slots = table;
+        }
+
+        private void clear(final long now) {
+            Arrays.fill(this.slots, EMPTY);
+            this.size = 0;
+            this.start = now;
+        }
+
+        private static boolean insert(final long[] table, final long fingerprint) {
+            int i = index(fingerprint, table.length);
+            while (table[i] != EMPTY) {
+                if (table[i] == fingerprint) {
+                    return false;
+                }
+                i = i + 1 < table.length ? i + 1 : 0;
+            }
+            table[i] = fingerprint;
+            return true;
+        }
+
+        /**
+         * Maps the fingerprint to a table position with a multiplication instead of a modulo, so that the table
+         * capacity does not need to be a power of two
+         */
+        private static int index(final long fingerprint, final int length) {
+            return (int) (((fingerprint >>> 32) * length) >>> 32);
+        }
+    }
+}
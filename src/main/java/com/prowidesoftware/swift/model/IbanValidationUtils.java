@@ -179,7 +179,7 @@ class IbanValidationUtils {
      */
     private static IbanValidationResult validateBbanEntryCharacterType(
             final BbanStructureEntryDTO entry, final String entryValue) {
-        if (SwiftCharsetUtils.is(entryValue, entry.getCharacterType()) != SwiftCharsetUtils.OK) {
+        if (!SwiftCharsetUtils.validate(entryValue, entry.getCharacterType())) {
             IbanValidationResult result = null;
             switch (entry.getCharacterType()) {
                 case a:
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Calendar;
+import java.util.Optional;
+
+/**
+ * The generic properties of a message extracted by a {@link MessageMetadataStrategy} at once: main reference, main
+ * amount and currency, value date and trade date.
+ *
+ * @see MessageMetadataStrategy#metadata(AbstractMessage)
+ * @since 9.5.0
+ */
+public final class MessageMetadata {
+    private static final MessageMetadata EMPTY = new MessageMetadata(null, null, null, null);
+
+    private final String reference;
+    private final Money amount;
+    private final Calendar valueDate;
+    private final Calendar tradeDate;
+
+    /**
+     * @param reference the message main reference or null
+     * @param amount    the message main amount or null
+     * @param valueDate the message value date or null
+     * @param tradeDate the message trade date or null
+     */
+    public MessageMetadata(
+            final String reference, final Money amount, final Calendar valueDate, final Calendar tradeDate) {
+        this.reference = reference;
+        this.amount = amount;
+        this.valueDate = valueDate;
+        this.tradeDate = tradeDate;
+    }
+
+    /**
+     * @return metadata with no values
+     */
+    public static MessageMetadata empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the message main reference
+     */
+    public Optional<String> reference() {
+        return Optional.ofNullable(this.reference);
+    }
+
+    /**
+     * @return the message main amount
+     */
+    public Optional<Money> amount() {
+        return Optional.ofNullable(this.amount);
+    }
+
+    /**
+     * @return the message value date
+     */
+    public Optional<Calendar> valueDate() {
+        return Optional.ofNullable(this.valueDate);
+    }
+
+    /**
+     * @return the message trade date
+     */
+    public Optional<Calendar> tradeDate() {
+        return Optional.ofNullable(this.tradeDate);
+    }
+}
@@ -49,6 +49,21 @@ public interface MessageMetadataStrategy {
      */
     Optional<Calendar> tradeDate(AbstractMessage message);
 
+    /**
+     * Extracts the main reference, amount, value date and trade date at once.
+     * This default implementation calls {@link #reference(AbstractMessage)}, {@link #amount(AbstractMessage)},
+     * {@link #valueDate(AbstractMessage)} and {@link #tradeDate(AbstractMessage)}; implementations may override it
+     * to read the message content only once.
+     * @since 9.5.0
+     */
+    default MessageMetadata metadata(AbstractMessage message) {
+        return new MessageMetadata(
+                reference(message).orElse(null),
+                amount(message).orElse(null),
+                valueDate(message).orElse(null),
+                tradeDate(message).orElse(null));
+    }
+
     /**
      * Extracts the sender information from the message.
      * This default implementation returns empty.
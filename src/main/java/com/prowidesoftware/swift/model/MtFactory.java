@@ -0,0 +1,179 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.MTVariant;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Registry of the factories used by {@link SwiftMessage#toMT()} to create the specific MT instance, replacing the
+ * reflective lookup of the MT class and its constructor on each call.
+ *
+ * <p>The registry is an array indexed by the three digits message type and the variant, covering the plain MT
+ * classes plus the {@code _STP}, {@code _REMIT} and {@code COV} variants. Entries are filled lazily: the first request
+ * resolves the MT class once and binds its {@code SwiftMessage} constructor into a lambda, as if written as
+ * {@code MT103::new}. Message types without an MT class are registered as missing, so they are not looked up again.
+ *
+ * @since 9.5.0
+ */
+final class MtFactory {
+    private static final java.util.logging.Logger log = java.util.logging.Logger.getLogger(MtFactory.class.getName());
+
+    /**
+     * Slots per message type: no variant plus one per {@link MTVariant}
+     */
+    private static final int SLOTS = MTVariant.values().length + 1;
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, SwiftMessage.class);
+
+    /**
+     * Placeholder for message types without an MT class
+     */
+    private static final MtFactory MISSING = new MtFactory(null, null);
+
+    private static final AtomicReferenceArray<MtFactory> REGISTRY = new AtomicReferenceArray<>(1000 * SLOTS);
+
+    private final Class<? extends AbstractMT> type;
+    private final Function<SwiftMessage, AbstractMT> constructor;
+
+    private MtFactory(final Class<? extends AbstractMT> type, final Function<SwiftMessage, AbstractMT> constructor) {
+        this.type = type;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Gets the factory for the given message type and variant.
+     *
+     * @param mt      a three digits message type, for example 103
+     * @param variant the message variant, one of STP, REMIT or COV, or null for the plain MT
+     * @return the factory for the MT class or null if there is no class for the message type and variant
+     */
+    static MtFactory of(final String mt, final MTVariant variant) {
+        final int number = number(mt);
+        if (number < 0) {
+            log.warning("Could not create instance of MT" + mt + ": unexpected message type");
+            return null;
+        }
+        final int index = number * SLOTS + (variant == null ? 0 : variant.ordinal() + 1);
+        MtFactory factory = REGISTRY.get(index);
+        if (factory == null) {
+            factory = load(mt, variant);
+            if (!REGISTRY.compareAndSet(index, null, factory)) {
+                factory = REGISTRY.get(index);
+            }
+        }
+        return factory == MISSING ? null : factory;
+    }
+
+    /**
+     * @return the MT class created by this factory
+     */
+    Class<? extends AbstractMT> type() {
+        return this.type;
+    }
+
+    /**
+     * Creates a new MT instance wrapping the given message.
+     *
+     * @param m the message
+     * @return the created MT
+     */
+    AbstractMT newInstance(final SwiftMessage m) {
+        return this.constructor.apply(m);
+    }
+
+    /**
+     * @return the message type number or -1 if the type is not made of three digits
+     */
+    private static int number(final String mt) {
+        if (mt.length() != 3) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 0; i < 3; i++) {
+            final char c = mt.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MtFactory load(final String mt, final MTVariant variant) {
+        final StringBuilder className = new StringBuilder();
+        className.append("com.prowidesoftware.swift.model.mt.mt");
+        className.append(mt.charAt(0));
+        className.append("xx.MT");
+        className.append(mt);
+        if (variant == MTVariant.STP || variant == MTVariant.REMIT) {
+            className.append('_').append(variant.name());
+        } else if (variant != null) {
+            className.append(variant.name());
+        }
+        log.finer("About to create an instance of " + className);
+        try {
+            final Class<?> c = Class.forName(className.toString());
+            if (!AbstractMT.class.isAssignableFrom(c) || Modifier.isAbstract(c.getModifiers())) {
+                log.warning("Could not create instance of " + className + ": not an MT implementation");
+                return MISSING;
+            }
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle target = lookup.findConstructor(c, CONSTRUCTOR_TYPE);
+            return new MtFactory((Class<? extends AbstractMT>) c, function(lookup, target));
+        } catch (final ReflectiveOperationException e) {
+            log.warning("Could not create instance of " + className + ": " + e);
+            return MISSING;
+        }
+    }
+
+    /**
+     * Binds the constructor handle into a function lambda, or wraps it if the lambda cannot be created
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<SwiftMessage, AbstractMT> function(
+            final MethodHandles.Lookup lookup, final MethodHandle target) {
+        try {
+            final CallSite site =
+                    LambdaMetafactory.metafactory(lookup, "apply", FACTORY_TYPE, APPLY_TYPE, target, target.type());
+            return (Function<SwiftMessage, AbstractMT>) site.getTarget().invokeExact();
+        } catch (final Throwable e) {
+            log.log(Level.FINE, "Cannot create lambda for " + target + ", using the method handle", e);
+            final MethodHandle handle = target.asType(MethodType.methodType(AbstractMT.class, SwiftMessage.class));
+            return m -> {
+                try {
+                    return (AbstractMT) handle.invokeExact(m);
+                } catch (final RuntimeException | Error t) {
+                    throw t;
+                } catch (final Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.DateContainer;
+import com.prowidesoftware.swift.model.field.Field;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Extraction plans for the MT metadata returned by {@link SwiftMessageUtils#reference(SwiftMessage)},
+ * {@link SwiftMessageUtils#money(SwiftMessage)}, {@link SwiftMessageUtils#valueDate(SwiftMessage)} and
+ * {@link SwiftMessageUtils#tradeDate(SwiftMessage)}.
+ *
+ * <p>The rules of each message type are declared once in the tables below, and compiled into a plan per message type
+ * with the list of fields to look for. A plan reads all the requested fields in a single pass over the text block
+ * tags, restricting the lookups within a sequence to the position range of the sequence found in the block
+ * {@link SequenceTree}. Then each value is resolved from the fields found, with the same result of searching each
+ * field separately.
+ *
+ * @since 9.5.0
+ */
+final class MtMetadataPlan {
+    static final int REFERENCE = 1;
+    static final int AMOUNT = 2;
+    static final int VALUE_DATE = 4;
+    static final int TRADE_DATE = 8;
+    static final int ALL = REFERENCE | AMOUNT | VALUE_DATE | TRADE_DATE;
+
+    private static final int MAX_TYPE = 1000;
+    private static final MtMetadataPlan[] PLANS = new MtMetadataPlan[MAX_TYPE];
+    private static final MtMetadataPlan NO_TYPE_RULES = new MtMetadataPlan(null, null);
+
+    /*
+     * Do not use API from MTs and Field classes here to avoid cyclic dependency in code generation.
+     * The rules are registered in order of precedence, a type already registered keeps its first rule
+     */
+    static {
+        final Map<Integer, Rule<Field>> valueDates = new HashMap<>();
+        register(valueDates, tag("30"), 101, 104, 107, 201, 203, 204, 207, 210, 604, 605);
+        register(valueDates, tag("32A"), 102, 103, 200, 202, 205, 400, 450, 455, 800, 802, 900, 910);
+        register(valueDates, tag("30V"), 300, 304, 320, 330, 350, 620);
+        register(valueDates, inSequence("NETPOS", 98, "NETT"), 370);
+        register(valueDates, tag("33D"), 456);
+        register(valueDates, inSequence("AMT", 98, "VALU"), 502);
+        register(valueDates, inSequence("TRADE", 98, "SETT"), 509);
+        register(valueDates, inSequence("ORDRDET", 98, "SETT"), 513);
+        register(valueDates, inSequence("CONFDET", 98, "SETT"), 514, 515, 518);
+        register(valueDates, inSequence("TRADDET", 98, "SETT"), 540, 541, 542, 543, 544, 545, 546, 547, 586);
+        register(valueDates, inSequence("TRANSDET", 98, "EXSE"), 537);
+        register(valueDates, inSequence("SETTRAN", 70, "SPRO"), 548);
+        register(valueDates, inSequence("CASHMOVE", 98, "PAYD"), 564);
+        register(valueDates, inSequence("CASHMOVE", 98, "POST"), 566);
+        register(valueDates, tag("32D"), 730, 768, 769);
+        register(valueDates, tag("33A"), 734, 752, 756);
+        register(valueDates, tag("34A"), 742, 754);
+        register(valueDates, tag("61"), 942, 950, 970, 972);
+        register(valueDates, tag("31G"), 305);
+        register(valueDates, tag("30V"), 306);
+        register(valueDates, tag("30F"), 340, 341);
+        register(valueDates, tag("30V"), 360, 361, 362);
+
+        final Map<Integer, Rule<Money>> amounts = new HashMap<>();
+        register(amounts, first("32A"), 102, 103, 200, 202, 205, 256, 450, 455, 643, 644, 646, 734, 802, 900, 910);
+        register(
+                amounts, first("32B"), 191, 291, 300, 304, 305, 320, 391, 491, 591, 691, 791, 891, 991, 340, 341, 350,
+                360, 361, 364, 365, 620, 700, 705, 710, 720, 732, 740, 742, 756);
+        register(
+                amounts, first("19A"), 321, 370, 508, 509, 535, 536, 537, 540, 541, 542, 543, 544, 545, 546, 547, 548,
+                558, 559, 569, 574, 575, 576, 578, 586);
+        register(amounts, first("32H"), 330, 362);
+        register(amounts, first("34B"), 306, 581, 707, 747);
+        register(amounts, first("19B"), 380, 381, 505, 564, 566, 567);
+        register(amounts, first("33B"), 800);
+        register(amounts, first("62F"), 941);
+        register(amounts, first("34P", "34R"), 600, 601);
+        register(amounts, first("68B", "68C"), 609);
+        register(amounts, first("32A", "32B"), 111, 112, 516, 649, 754);
+        register(amounts, first("32C", "32D"), 190, 290, 390, 490, 590, 690, 790, 890, 990);
+        register(amounts, first("32B", "32D"), 730, 768);
+        register(amounts, first("32A", "32B", "32K"), 400, 410);
+        register(amounts, first("33A", "33K", "32A", "32K"), 430);
+        register(amounts, first("34B", "32B"), 750);
+        register(amounts, first("33A", "33B", "32B"), 752);
+        register(amounts, first("32B", "32D", "33B", "34B"), 769);
+        register(amounts, first("62F", "62M"), 940, 950, 970);
+        register(amounts, sum("32B"), 101, 201, 203, 204, 207, 210);
+        register(amounts, sum("32a"), 110, 416, 420, 422, 456);
+        register(amounts, sum("33B"), 801);
+        register(amounts, sum("68A"), 824);
+        // field 32B from sequence C, the first one after the last field 59 of the mandatory sequence B
+        // keep in sync with MT104 and MT107 getSequenceC logic
+        register(amounts, plan -> {
+            final int slot = plan.add(new Spec(Spec.AFTER_LAST_59, AMOUNT, null, 0, null, null));
+            return walk -> {
+                final Tag t = (Tag) walk.found[slot];
+                return t != null ? Money.of(t.asField()) : null;
+            };
+        }, 104, 107);
+        register(amounts, firstInSequence("ORDRDET", "19A"), 502, 513);
+        register(amounts, firstInSequence("CONFDET", "19A"), 514, 515, 518);
+        register(amounts, firstInSequence("SUMM", "19B"), 503, 504, 506);
+        register(amounts, firstInSequence("DEALTRAN", "19A"), 527);
+
+        for (int type = 0; type < MAX_TYPE; type++) {
+            final Rule<Field> valueDate = valueDates.get(type);
+            final Rule<Money> amount = amounts.get(type);
+            if (valueDate != null || amount != null) {
+                PLANS[type] = new MtMetadataPlan(valueDate, amount);
+            }
+        }
+    }
+
+    private final List<Spec> specs = new ArrayList<>();
+    private final Resolver<String> reference;
+    private final Resolver<Calendar> tradeDate;
+    private final Resolver<Field> valueDate;
+    private final Resolver<Money> amount;
+    private int masks;
+
+    private MtMetadataPlan(final Rule<Field> valueDate, final Rule<Money> amount) {
+        // common rules for all types
+        final int tag20 = add(new Spec(Spec.FIRST_TAG, REFERENCE, "20", 0, null, null));
+        final int seme = add(new Spec(Spec.NUMBER, REFERENCE, null, 20, "SEME", null));
+        final int tag108 = add(new Spec(Spec.FIRST_TAG, REFERENCE, "108", 0, null, null));
+        this.reference = walk -> {
+            final Tag t = (Tag) walk.found[tag20];
+            if (t != null) {
+                return t.getValue();
+            }
+            final Field f = walk.numberField(seme);
+            if (f != null) {
+                return f.getComponent(2);
+            }
+            final Tag mur = (Tag) walk.found[tag108];
+            return mur != null ? mur.getValue() : null;
+        };
+        final int field30T = add(new Spec(Spec.FIRST_FIELD, TRADE_DATE, "30T", 0, null, null));
+        final int trad = add(new Spec(Spec.NUMBER, TRADE_DATE, null, 98, "TRAD", null));
+        this.tradeDate = walk -> {
+            Field f = (Field) walk.found[field30T];
+            if (f == null) {
+                f = walk.numberField(trad);
+            }
+            return date(f);
+        };
+
+        this.valueDate = valueDate != null ? valueDate.compile(this) : null;
+        this.amount = amount != null ? amount.compile(this) : null;
+    }
+
+    /**
+     * Gets the compiled plan for a message type
+     *
+     * @param type the message type number as returned by {@link SwiftMessage#getTypeInt()}
+     * @return the plan, with only the common reference and trade date rules if the type has no specific rules
+     */
+    static MtMetadataPlan of(final int type) {
+        final MtMetadataPlan plan = type >= 0 && type < MAX_TYPE ? PLANS[type] : null;
+        return plan != null ? plan : NO_TYPE_RULES;
+    }
+
+    /**
+     * Extracts the requested values reading the text block once.
+     *
+     * @param m        the message
+     * @param requested the values to extract, a combination of {@link #REFERENCE}, {@link #AMOUNT},
+     *                 {@link #VALUE_DATE} and {@link #TRADE_DATE}
+     * @return the extraction, from where each value is resolved
+     */
+    static Extraction extract(final SwiftMessage m, final int requested) {
+        return of(m.getTypeInt()).new Extraction(m, requested);
+    }
+
+    private int add(final Spec spec) {
+        this.specs.add(spec);
+        if (spec.sequence != null) {
+            this.masks |= spec.attribute;
+        }
+        return this.specs.size() - 1;
+    }
+
+    private static <T> void register(final Map<Integer, Rule<T>> table, final Rule<T> rule, final int... types) {
+        for (final int type : types) {
+            table.putIfAbsent(type, rule);
+        }
+    }
+
+    private static Calendar date(final Field f) {
+        if (f instanceof DateContainer) {
+            return ((DateContainer) f).dates().get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Value date from the first tag with the given name
+     */
+    private static Rule<Field> tag(final String name) {
+        return plan -> {
+            final int slot = plan.add(new Spec(Spec.FIRST_TAG, VALUE_DATE, name, 0, null, null));
+            return walk -> {
+                final Tag t = (Tag) walk.found[slot];
+                return t != null ? t.asField() : null;
+            };
+        };
+    }
+
+    /**
+     * Value date from the first field with the given number and qualifier in the first sequence with the given name
+     */
+    private static Rule<Field> inSequence(final String sequence, final int number, final String qualifier) {
+        return plan -> {
+            final int slot = plan.add(new Spec(Spec.NUMBER, VALUE_DATE, null, number, qualifier, sequence));
+            return walk -> walk.hasSequence(sequence) ? walk.numberField(slot) : null;
+        };
+    }
+
+    /**
+     * Amount from the first field found with any of the given names, in order of preference
+     */
+    private static Rule<Money> first(final String... names) {
+        return plan -> {
+            final int[] slots = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                slots[i] = plan.add(new Spec(Spec.FIRST_FIELD, AMOUNT, names[i], 0, null, null));
+            }
+            return walk -> {
+                for (final int slot : slots) {
+                    final Field f = (Field) walk.found[slot];
+                    if (f != null) {
+                        return Money.of(f);
+                    }
+                }
+                return null;
+            };
+        };
+    }
+
+    /**
+     * Amount from the sum of all the fields with the given name
+     */
+    private static Rule<Money> sum(final String name) {
+        return plan -> {
+            final int slot = plan.add(new Spec(Spec.ALL_FIELDS, AMOUNT, name, 0, null, null));
+            return walk -> {
+                @SuppressWarnings("unchecked")
+                final List<Field> fields = (List<Field>) walk.found[slot];
+                return fields != null ? Money.ofSum(fields.toArray(new Field[0])) : null;
+            };
+        };
+    }
+
+    /**
+     * Amount from the first field with the given name in the first sequence with the given name
+     */
+    private static Rule<Money> firstInSequence(final String sequence, final String name) {
+        return plan -> {
+            final int slot = plan.add(new Spec(Spec.FIRST_FIELD, AMOUNT, name, 0, null, sequence));
+            return walk -> walk.hasSequence(sequence) ? Money.of((Field) walk.found[slot]) : null;
+        };
+    }
+
+    /**
+     * Compiles a rule into a plan, adding the specs of the fields it needs
+     */
+    @FunctionalInterface
+    private interface Rule<T> {
+        Resolver<T> compile(MtMetadataPlan plan);
+    }
+
+    /**
+     * Resolves a value from the fields found in the text block
+     */
+    @FunctionalInterface
+    private interface Resolver<T> {
+        T resolve(Extraction walk);
+    }
+
+    /**
+     * A field to look for in the text block
+     */
+    private static final class Spec {
+        /**
+         * the first tag with the name
+         */
+        static final int FIRST_TAG = 0;
+
+        /**
+         * the first field with the name, ending in 'a' for any letter option, that can be created from its tag
+         */
+        static final int FIRST_FIELD = 1;
+
+        /**
+         * all the fields with the name, ending in 'a' for any letter option, that can be created from their tags
+         */
+        static final int ALL_FIELDS = 2;
+
+        /**
+         * the first field with the number and qualifier, where all the tags with the number must create a field
+         */
+        static final int NUMBER = 3;
+
+        /**
+         * the first tag 32B after the last 59 or 59A tag
+         */
+        static final int AFTER_LAST_59 = 4;
+
+        final int kind;
+        final int attribute;
+        final String name;
+        final boolean wildcard;
+        final String prefix;
+        final int number;
+        final String qualifier;
+        final String sequence;
+
+        Spec(
+                final int kind,
+                final int attribute,
+                final String name,
+                final int number,
+                final String qualifier,
+                final String sequence) {
+            this.kind = kind;
+            this.attribute = attribute;
+            this.name = name;
+            this.wildcard = name != null && name.endsWith("a");
+            this.prefix = this.wildcard ? name.substring(0, name.length() - 1) : name;
+            this.number = number;
+            this.qualifier = qualifier;
+            this.sequence = sequence;
+        }
+
+        boolean matchesName(final String found) {
+            return this.wildcard ? StringUtils.startsWith(found, this.prefix) : StringUtils.equals(found, this.name);
+        }
+    }
+
+    /**
+     * The fields found for a message, collected in a single pass over its text block
+     */
+    final class Extraction {
+        private final SwiftMessage message;
+        private final boolean hasTextBlock;
+        private final Object[] found = new Object[specs.size()];
+        private final String[] invalid = new String[specs.size()];
+        private SequenceTree tree;
+
+        private Extraction(final SwiftMessage message, final int requested) {
+            this.message = message;
+            final SwiftBlock4 b4 = message.getBlock4();
+            this.hasTextBlock = b4 != null && !b4.isEmpty();
+            if (this.hasTextBlock) {
+                collect(b4, requested);
+            }
+        }
+
+        private void collect(final SwiftBlock4 b4, final int requested) {
+            final List<Tag> tags = b4.getTags();
+            if ((masks & requested) != 0) {
+                this.tree = b4.getSequenceTree();
+            }
+
+            // the specs requested with their position range
+            final int count = specs.size();
+            final Spec[] active = new Spec[count];
+            final int[] slots = new int[count];
+            final int[] from = new int[count];
+            final int[] to = new int[count];
+            int n = 0;
+            for (int i = 0; i < count; i++) {
+                final Spec spec = specs.get(i);
+                if ((spec.attribute & requested) == 0) {
+                    continue;
+                }
+                if (spec.sequence != null) {
+                    final SequenceTree.Node node = this.tree.getNode(spec.sequence);
+                    if (node == null) {
+                        continue;
+                    }
+                    from[n] = node.getStart();
+                    to[n] = node.getEnd();
+                } else {
+                    from[n] = 0;
+                    to[n] = Integer.MAX_VALUE;
+                }
+                active[n] = spec;
+                slots[n++] = i;
+            }
+
+            int last59 = -1;
+            for (int index = 0; index < tags.size(); index++) {
+                final Tag tag = tags.get(index);
+                if (tag == null) {
+                    continue;
+                }
+                for (int s = 0; s < n; s++) {
+                    if (index < from[s] || index > to[s]) {
+                        continue;
+                    }
+                    final Spec spec = active[s];
+                    final int slot = slots[s];
+                    switch (spec.kind) {
+                        case Spec.FIRST_TAG:
+                            if (this.found[slot] == null && spec.matchesName(tag.getName())) {
+                                this.found[slot] = tag;
+                            }
+                            break;
+                        case Spec.FIRST_FIELD:
+                            if (this.found[slot] == null && spec.matchesName(tag.getName())) {
+                                this.found[slot] = tag.asField();
+                            }
+                            break;
+                        case Spec.ALL_FIELDS:
+                            if (spec.matchesName(tag.getName())) {
+                                final Field f = tag.asField();
+                                if (f != null) {
+                                    fields(slot).add(f);
+                                }
+                            }
+                            break;
+                        case Spec.NUMBER:
+                            if (tag.isNumber(spec.number)) {
+                                final Field f = tag.asField();
+                                if (f == null) {
+                                    if (this.invalid[slot] == null) {
+                                        this.invalid[slot] = tag.getName();
+                                    }
+                                } else if (this.found[slot] == null && f.is(spec.qualifier)) {
+                                    this.found[slot] = f;
+                                }
+                            }
+                            break;
+                        case Spec.AFTER_LAST_59:
+                            if (StringUtils.equalsAny(tag.getName(), "59", "59A")) {
+                                last59 = index;
+                                this.found[slot] = null;
+                            } else if (last59 >= 0 && this.found[slot] == null && "32B".equals(tag.getName())) {
+                                this.found[slot] = tag;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Field> fields(final int slot) {
+            if (this.found[slot] == null) {
+                this.found[slot] = new ArrayList<Field>();
+            }
+            return (List<Field>) this.found[slot];
+        }
+
+        private boolean hasSequence(final String name) {
+            return this.tree != null && this.tree.getNode(name) != null;
+        }
+
+        /**
+         * @throws IllegalArgumentException if a tag with the field number cannot be created as a field, as in
+         *                                  {@link SwiftTagListBlock#getFieldsByNumber(int)}
+         */
+        private Field numberField(final int slot) {
+            if (this.invalid[slot] != null) {
+                throw new IllegalArgumentException("Unable to create field for tagname " + this.invalid[slot]);
+            }
+            return (Field) this.found[slot];
+        }
+
+        /**
+         * @return the message main reference, see {@link SwiftMessageUtils#reference(SwiftMessage)}
+         */
+        String reference() {
+            final String result = this.hasTextBlock ? MtMetadataPlan.this.reference.resolve(this) : null;
+            return result != null ? result : this.message.getMUR();
+        }
+
+        /**
+         * @return the message main amount, see {@link SwiftMessageUtils#money(SwiftMessage)}
+         */
+        Money amount() {
+            if (!this.hasTextBlock || amount == null || this.message.isServiceMessage21()) {
+                return null;
+            }
+            return amount.resolve(this);
+        }
+
+        /**
+         * @return the message value date, see {@link SwiftMessageUtils#valueDate(SwiftMessage)}
+         */
+        Calendar valueDate() {
+            return this.hasTextBlock && valueDate != null ? date(valueDate.resolve(this)) : null;
+        }
+
+        /**
+         * @return the message trade date, see {@link SwiftMessageUtils#tradeDate(SwiftMessage)}
+         */
+        Calendar tradeDate() {
+            return this.hasTextBlock ? tradeDate.resolve(this) : null;
+        }
+    }
+}
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.deprecation.DeprecationUtils;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
@@ -27,9 +25,12 @@ import com.prowidesoftware.swift.model.mt.MTVariant;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.lang.ref.SoftReference;
 import java.util.Calendar;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorValue;
@@ -51,6 +52,9 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
             java.util.logging.Logger.getLogger(MtSwiftMessage.class.getName());
     private static final long serialVersionUID = -5972656648349958815L;
 
+    private static final LongAdder modelCacheHits = new LongAdder();
+    private static final LongAdder modelCacheMisses = new LongAdder();
+
     @Column(length = 35)
     private String pde;
 
@@ -66,6 +70,11 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
     @Column(length = 31, name = "uuid")
     private String uuid;
 
+    /**
+     * The model parsed from the raw message content by {@link #modelMessage(boolean)} with the cache requested
+     */
+    private transient SoftReference<CachedModel> cachedModel;
+
     public MtSwiftMessage() {}
 
     /**
@@ -225,8 +234,19 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
      * @since 7.10.3
      */
     public static MtSwiftMessage fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, MtSwiftMessage.class);
+        return SwiftJson.gson().fromJson(json, MtSwiftMessage.class);
+    }
+
+    /**
+     * Deserializes the JSON data into an MT message object, reading it as a stream.
+     *
+     * @param reader JSON representation, it is not closed by this method
+     * @return message object
+     * @see #toJson(com.google.gson.stream.JsonWriter)
+     * @since 9.5.0
+     */
+    public static MtSwiftMessage fromJson(final Reader reader) {
+        return SwiftJson.gson().fromJson(reader, MtSwiftMessage.class);
     }
 
     /**
@@ -266,12 +286,14 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
     }
 
     private void updateAttributes(final SwiftMessage model, final MessageMetadataStrategy metadataStrategy) {
+        // the MT view is created once and shared by all the strategy calls
+        final AbstractMT mt = model.toMT();
         if (model.isServiceMessage21()) {
             // for service messages, we attempt to set the metadata from the original attached message, if present
             if (model.getUnparsedTextsSize() > 0) {
                 final SwiftMessage original = model.getUnparsedTexts().getTextAsMessage(0);
                 if (original != null) {
-                    extractMetadata(original, metadataStrategy);
+                    extractMetadata(original, original.toMT(), metadataStrategy);
                 }
             }
             // then we overwrite the identifier form the actual service message
@@ -283,30 +305,32 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
 
         } else {
             // any other case we just update the metadata from the received message
-            extractMetadata(model, metadataStrategy);
-            Optional<String> identifier = metadataStrategy.identifier(model.toMT());
+            extractMetadata(model, mt, metadataStrategy);
+            Optional<String> identifier = metadataStrategy.identifier(mt);
             identifier.ifPresent(this::setIdentifier);
         }
 
         setFileFormat(FileFormat.FIN);
 
-        Optional<String> sender = metadataStrategy.sender(model.toMT());
+        Optional<String> sender = metadataStrategy.sender(mt);
         sender.ifPresent(s -> setSender(bic11(s)));
 
-        setChecksum(SwiftMessageUtils.calculateChecksum(model));
-        setChecksumBody(SwiftMessageUtils.calculateChecksum(model.getBlock4()));
+        // both checksums from a single serialization of the message
+        final SwiftMessageUtils.Checksums checksums = SwiftMessageUtils.calculateChecksums(model);
+        setChecksum(checksums.message);
+        setChecksumBody(checksums.body);
         setLastModified(Calendar.getInstance());
         setMur(model.getMUR());
     }
 
-    private void extractMetadata(final SwiftMessage model, final MessageMetadataStrategy metadataStrategy) {
+    private void extractMetadata(
+            final SwiftMessage model, final AbstractMT mt, final MessageMetadataStrategy metadataStrategy) {
 
-        Optional<String> receiver = metadataStrategy.receiver(model.toMT());
+        Optional<String> receiver = metadataStrategy.receiver(mt);
         receiver.ifPresent(r -> setReceiver(bic11(r)));
         setDirection(model.getDirection());
 
-        setPde(model.getPDE());
-        setPdm(model.getPDM());
+        extractTrailerMetadata(model.getBlock5());
         setMir(model.getMIR());
 
         if (model.getBlock2() != null) {
@@ -315,31 +339,57 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
 
         // we extract metadata with the default strategy
         // specific strategy can be applied on top with the #updateMetadata method
-        applyStrategy(model, metadataStrategy);
+        applyStrategy(mt, metadataStrategy);
     }
 
-    private void applyStrategy(SwiftMessage model, MessageMetadataStrategy strategy) {
-        AbstractMT mt = model.toMT();
+    /**
+     * Sets the PDE and PDM attributes walking the trailer tags once, with the same values returned by
+     * {@link SwiftMessage#getPDE()} and {@link SwiftMessage#getPDM()}
+     */
+    private void extractTrailerMetadata(final SwiftBlock5 b5) {
+        Tag pde = null;
+        Tag pdm = null;
+        if (b5 != null && b5.getTags() != null) {
+            for (final Tag t : b5.getTags()) {
+                if (t == null) {
+                    continue;
+                }
+                if (pde == null && SwiftBlock5Field.PDE.name().equals(t.getName())) {
+                    pde = t;
+                } else if (pdm == null && SwiftBlock5Field.PDM.name().equals(t.getName())) {
+                    pdm = t;
+                }
+                if (pde != null && pdm != null) {
+                    break;
+                }
+            }
+        }
+        setPde(pde != null ? StringUtils.defaultString(pde.getValue()) : null);
+        setPdm(pdm != null ? pdm.getValue() : null);
+    }
 
+    private void applyStrategy(final AbstractMT mt, final MessageMetadataStrategy strategy) {
         if (mt == null) {
             // prevent NPE
             return;
         }
 
-        String reference = strategy.reference(mt).orElse(null);
+        final MessageMetadata metadata = strategy.metadata(mt);
+
+        String reference = metadata.reference().orElse(null);
         if (StringUtils.isNotBlank(reference)) {
             setReference(reference);
         }
 
-        Optional<Money> money = strategy.amount(mt);
+        Optional<Money> money = metadata.amount();
         if (money.isPresent()) {
             setCurrency(money.get().getCurrency());
             setAmount(money.get().getAmount());
         }
 
-        strategy.valueDate(mt).ifPresent(this::setValueDate);
+        metadata.valueDate().ifPresent(this::setValueDate);
 
-        strategy.tradeDate(mt).ifPresent(this::setTradeDate);
+        metadata.tradeDate().ifPresent(this::setTradeDate);
     }
 
     /**
@@ -432,12 +482,45 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
      * Parses the raw message content into a {@link SwiftMessage} object.
      *
      * @return the parsed message or null if the raw content is not set or cannot be parsed
+     * @see #modelMessage(boolean)
      * @since 7.8.9
      */
     public SwiftMessage modelMessage() {
-        if (getMessage() != null) {
+        return modelMessage(false);
+    }
+
+    /**
+     * Parses the raw message content into a {@link SwiftMessage} object, optionally reusing the message parsed by a
+     * previous call.
+     *
+     * <p>With the cache requested, the parsed message is kept in this instance and returned again by the subsequent
+     * calls requesting the cache, as long as the raw message content is not changed, avoiding parsing the same content
+     * again. The kept message is softly referenced, so it is released when memory is needed and parsed again on the
+     * next call. Since it is shared by all the calls requesting the cache, it must not be modified; callers that
+     * need to modify the model must not request the cache.
+     *
+     * <p>Without the cache requested a new instance is parsed on every call, and the kept message if any is not
+     * affected.
+     *
+     * @param cached true to return the message kept by a previous call requesting the cache, if any
+     * @return the parsed message or null if the raw content is not set or cannot be parsed
+     * @since 9.5.0
+     */
+    public SwiftMessage modelMessage(final boolean cached) {
+        final String fin = message();
+        if (fin != null) {
+            if (cached) {
+                final SwiftMessage model = cachedModel(fin);
+                if (model != null) {
+                    return model;
+                }
+            }
             try {
-                return SwiftMessage.parse(message());
+                final SwiftMessage model = SwiftMessage.parse(fin);
+                if (cached && model != null) {
+                    this.cachedModel = new SoftReference<>(new CachedModel(fin, model));
+                }
+                return model;
             } catch (IOException e) {
                 log.log(Level.WARNING, "error converting FIN text to model: " + e.getMessage(), e);
             }
@@ -445,6 +528,58 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
         return null;
     }
 
+    /**
+     * Sets the raw content of the message, discarding the model parsed from the previous content if cached.
+     *
+     * @see AbstractSwiftMessage#setMessage(String)
+     */
+    @Override
+    public void setMessage(final String message) {
+        super.setMessage(message);
+        this.cachedModel = null;
+    }
+
+    /**
+     * @return the number of {@link #modelMessage(boolean)} calls, requesting the cache, answered with a cached model
+     * @since 9.5.0
+     */
+    public static long getModelCacheHits() {
+        return modelCacheHits.sum();
+    }
+
+    /**
+     * @return the number of {@link #modelMessage(boolean)} calls, requesting the cache, that parsed the message
+     * @since 9.5.0
+     */
+    public static long getModelCacheMisses() {
+        return modelCacheMisses.sum();
+    }
+
+    /**
+     * Resets the model cache hits and misses counters to zero
+     *
+     * @since 9.5.0
+     */
+    public static void resetModelCacheStatistics() {
+        modelCacheHits.reset();
+        modelCacheMisses.reset();
+    }
+
+    /**
+     * @return the cached model if parsed from the given raw content, or null
+     */
+    private SwiftMessage cachedModel(final String fin) {
+        final SoftReference<CachedModel> ref = this.cachedModel;
+        final CachedModel cached = ref != null ? ref.get() : null;
+        // the source is compared by identity, since the raw content may be set without calling setMessage
+        if (cached != null && cached.source == fin) {
+            modelCacheHits.increment();
+            return cached.model;
+        }
+        modelCacheMisses.increment();
+        return null;
+    }
+
     /**
      * Get the integer value of the {@link #getMessageType()}
      * or null if the identifier attribute is not set or not a number.
@@ -698,6 +833,19 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
         return "";
     }
 
+    /**
+     * Registers this message in the given duplicate detector, intended to be called on ingestion right after the
+     * message is created or updated from its FIN content.
+     *
+     * @param detector the detector shared by the ingestion process
+     * @return true if the message is a possible duplicate of a message already registered in the detector
+     * @since 9.5.0
+     */
+    public boolean checkDuplicate(final DuplicateDetector detector) {
+        Objects.requireNonNull(detector, "the duplicate detector cannot be null");
+        return detector.checkAndAdd(this);
+    }
+
     /**
      * Enables injecting your own implementation for the entity metadata extraction, to set the generic properties
      * shared by all message types: main reference, main amount and currency, value date, trade date.
@@ -707,6 +855,19 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
      */
     public void updateMetadata(MessageMetadataStrategy strategy) {
         Objects.requireNonNull(strategy, "the strategy for metadata extraction cannot be null");
-        applyStrategy(modelMessage(), strategy);
+        applyStrategy(modelMessage().toMT(), strategy);
+    }
+
+    /**
+     * A parsed model with the raw content it was parsed from
+     */
+    private static final class CachedModel {
+        private final String source;
+        private final SwiftMessage model;
+
+        private CachedModel(final String source, final SwiftMessage model) {
+            this.source = source;
+            this.model = model;
+        }
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Structure of the ISO 15022 sequences of a list of tags, delimited by 16R and 16S fields, found in a single pass.
+ *
+ * <p>Each {@link Node} holds the positions of its 16R and 16S boundary tags in the list the tree was built from. The
+ * nodes of a given name are the same sub blocks returned by {@link SwiftTagListBlock#getSubBlocks(String)}: a 16R
+ * opens the sequence, nested 16R fields with the same qualifier are ignored, the first 16S with the qualifier closes
+ * it, and a sequence that is not closed extends up to the last tag. The nodes are nested by position, so the tree
+ * also gives the parent and children of each sequence.
+ *
+ * <p>The tree is not updated when the tags change. {@link SwiftTagListBlock#getSequenceTree()} caches the tree of the
+ * block and builds it again when needed.
+ *
+ * @since 9.5.0
+ */
+public final class SequenceTree {
+    private static final String START = "16R";
+    private static final String END = "16S";
+
+    private final List<Node> roots = new ArrayList<>();
+    private final Map<String, List<Node>> byName = new LinkedHashMap<>();
+
+    private SequenceTree() {}
+
+    /**
+     * Finds the 16R/16S sequences in the given tags.
+     *
+     * @param tags the tags to scan, must not be null
+     * @return the sequences structure, with positions relative to the given list
+     */
+    public static SequenceTree of(final List<Tag> tags) {
+        Objects.requireNonNull(tags, "parameter 'tags' cannot be null");
+        final SequenceTree tree = new SequenceTree();
+
+        // single pass finding the boundaries of each qualifier
+        final Map<String, Integer> open = new HashMap<>();
+        final List<Node> nodes = new ArrayList<>();
+        final int size = tags.size();
+        for (int i = 0; i < size; i++) {
+            final Tag tag = tags.get(i);
+            final String qualifier = qualifier(tag, START);
+            if (qualifier != null) {
+                open.putIfAbsent(qualifier, i);
+            } else {
+                final String endQualifier = qualifier(tag, END);
+                if (endQualifier != null) {
+                    final Integer start = open.remove(endQualifier);
+                    if (start != null) {
+                        nodes.add(new Node(endQualifier, start, i, true));
+                    }
+                }
+            }
+        }
+        open.forEach((qualifier, start) -> nodes.add(new Node(qualifier, start, size - 1, false)));
+
+        // nesting by position
+        nodes.sort((a, b) -> a.start != b.start ? Integer.compare(a.start, b.start) : Integer.compare(b.end, a.end));
+        final Deque<Node> stack = new ArrayDeque<>();
+        for (final Node node : nodes) {
+            while (!stack.isEmpty() && stack.peek().end < node.start) {
+                stack.pop();
+            }
+            if (stack.isEmpty()) {
+                tree.roots.add(node);
+            } else {
+                node.parent = stack.peek();
+                node.parent.children.add(node);
+            }
+            stack.push(node);
+            tree.byName.computeIfAbsent(node.name, k -> new ArrayList<>()).add(node);
+        }
+        return tree;
+    }
+
+    /**
+     * Gets the qualifier of a boundary tag, comparing as {@link Tag#equalsIgnoreCR(Tag)} does with the boundary tags
+     * created for the sub block methods
+     */
+    private static String qualifier(final Tag tag, final String name) {
+        if (tag == null || !name.equals(tag.getName()) || tag.getValue() == null || tag.unparsedTexts != null) {
+            return null;
+        }
+        return StringUtils.remove(tag.getValue(), '\r');
+    }
+
+    /**
+     * @return the sequences that are not nested in other sequence, in order of appearance
+     */
+    public List<Node> getRoots() {
+        return Collections.unmodifiableList(this.roots);
+    }
+
+    /**
+     * @param name the sequence qualifier, the value of the 16R and 16S fields
+     * @return the sequences with the given qualifier in order of appearance, at any nesting level, or an empty list
+     */
+    public List<Node> getNodes(final String name) {
+        final List<Node> nodes = this.byName.get(name);
+        return nodes != null ? Collections.unmodifiableList(nodes) : Collections.emptyList();
+    }
+
+    /**
+     * @param name the sequence qualifier, the value of the 16R and 16S fields
+     * @return the first sequence with the given qualifier or null if none is found
+     */
+    public Node getNode(final String name) {
+        final List<Node> nodes = this.byName.get(name);
+        return nodes != null ? nodes.get(0) : null;
+    }
+
+    /**
+     * A 16R/16S sequence, identified by the positions of its boundaries
+     */
+    public static final class Node {
+        private final String name;
+        private final int start;
+        private final int end;
+        private final boolean closed;
+        private final List<Node> children = new ArrayList<>();
+        private Node parent;
+
+        private Node(final String name, final int start, final int end, final boolean closed) {
+            this.name = name;
+            this.start = start;
+            this.end = end;
+            this.closed = closed;
+        }
+
+        /**
+         * @return the sequence qualifier, the value of the 16R and 16S fields
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * @return the position of the 16R field
+         */
+        public int getStart() {
+            return this.start;
+        }
+
+        /**
+         * @return the position of the 16S field, or of the last tag if the sequence is not closed
+         */
+        public int getEnd() {
+            return this.end;
+        }
+
+        /**
+         * @return true if the sequence ends with its 16S field
+         */
+        public boolean isClosed() {
+            return this.closed;
+        }
+
+        /**
+         * @return the enclosing sequence or null if this is a root sequence
+         */
+        public Node getParent() {
+            return this.parent;
+        }
+
+        /**
+         * @return the sequences directly nested in this one, in order of appearance
+         */
+        public List<Node> getChildren() {
+            return Collections.unmodifiableList(this.children);
+        }
+
+        /**
+         * Copies the tags of this sequence, both boundaries included.
+         *
+         * @param tags the list the tree was built from
+         * @return a new list with the tags from the 16R to the 16S field
+         */
+        public List<Tag> tags(final List<Tag> tags) {
+            return new ArrayList<>(tags.subList(this.start, this.end + 1));
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "[" + this.start + ".." + this.end + "]";
+        }
+    }
+}
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.swift.model.mt.ServiceIdType;
 import java.io.Serializable;
 import java.util.Arrays;
@@ -203,8 +201,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock1 fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock1.class);
+        return SwiftJson.gson().fromJson(json, SwiftBlock1.class);
     }
 
     /**
@@ -606,8 +603,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.5
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder().create();
-        return gson.toJson(this);
+        return SwiftJson.gson().toJson(this);
     }
 
     /**
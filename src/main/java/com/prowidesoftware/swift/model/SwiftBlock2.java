@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
@@ -225,11 +223,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @since 7.9.8 current block 2 implementation, based on Gson (method signature with null implementation is available since 7.5)
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this, SwiftBlock2.class);
+        return SwiftJson.gson(true).toJson(this, SwiftBlock2.class);
     }
 
     /**
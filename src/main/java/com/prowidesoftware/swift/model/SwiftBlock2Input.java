@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.logging.Level;
@@ -160,8 +158,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock2Input fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock2Input.class);
+        return SwiftJson.gson().fromJson(json, SwiftBlock2Input.class);
     }
 
     @Override
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.swift.model.field.Field108;
 import java.io.Serializable;
 import java.text.SimpleDateFormat;
@@ -59,8 +57,7 @@ public class SwiftBlock3 extends SwiftTagListBlock implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock3 fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock3.class);
+        return SwiftJson.gson().fromJson(json, SwiftBlock3.class);
     }
 
     /**
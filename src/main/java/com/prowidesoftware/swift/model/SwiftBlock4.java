@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -145,8 +143,7 @@ public class SwiftBlock4 extends SwiftTagListBlock implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock4 fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock4.class);
+        return SwiftJson.gson().fromJson(json, SwiftBlock4.class);
     }
 
     /**
@@ -197,4 +194,54 @@ public class SwiftBlock4 extends SwiftTagListBlock implements Serializable {
     public String getName() {
         return "4";
     }
+
+    /**
+     * When the block is parsed in lazy mode, the unparsed texts found in the block content are attached to the block
+     * when its tags are parsed. So this ensures the tags are parsed before accessing the unparsed texts.
+     *
+     * @see com.prowidesoftware.swift.io.parser.SwiftParserConfiguration#isLazyTextBlock()
+     * @since 9.5.0
+     */
+    @Override
+    protected void unparsedTextVerify() {
+        loadTags();
+        super.unparsedTextVerify();
+    }
+
+    /**
+     * @see #unparsedTextVerify()
+     * @since 9.5.0
+     */
+    @Override
+    public Integer getUnparsedTextsSize() {
+        loadTags();
+        return super.getUnparsedTextsSize();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        loadTags();
+        if (o instanceof SwiftBlock4) {
+            ((SwiftBlock4) o).loadTags();
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        loadTags();
+        return super.hashCode();
+    }
+
+    /**
+     * Any access to the tags list of a block parsed in lazy mode triggers the tags parsing
+     */
+    private void loadTags() {
+        size();
+    }
+
+    private Object writeReplace() {
+        loadTags();
+        return this;
+    }
 }
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
@@ -67,8 +65,7 @@ public class SwiftBlock5 extends SwiftTagListBlock implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock5 fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock5.class);
+        return SwiftJson.gson().fromJson(json, SwiftBlock5.class);
     }
 
     /**
@@ -15,7 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.prowidesoftware.ProwideException;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -49,21 +48,45 @@ public class SwiftCharsetUtils {
         '>', '_', '\n', '\r'
     };
 
+    /**
+     * The characters of each charset, indexed by the charset ordinal, in the order returned by the get_ methods
+     */
+    private static final char[][] CHARSETS = new char[SwiftCharset.values().length][];
+
+    /**
+     * For each ASCII character, a bitmask with a bit set for every charset including the character, where the bit
+     * position is the charset ordinal. All the SWIFT charsets are subsets of ASCII so any char above 127 is invalid.
+     */
+    private static final int[] MASKS = new int[128];
+
+    static {
+        final char[] A = ArrayUtils.addAll(AZ, azLowerCase);
+        CHARSETS[SwiftCharset.n.ordinal()] = digits;
+        CHARSETS[SwiftCharset.a.ordinal()] = AZ;
+        CHARSETS[SwiftCharset.A.ordinal()] = A;
+        CHARSETS[SwiftCharset.x.ordinal()] = ArrayUtils.addAll(ArrayUtils.addAll(specialCharacters_x, A), digits);
+        CHARSETS[SwiftCharset.y.ordinal()] = ArrayUtils.addAll(ArrayUtils.addAll(specialCharacters_y, AZ), digits);
+        CHARSETS[SwiftCharset.z.ordinal()] = ArrayUtils.addAll(ArrayUtils.addAll(specialCharacters_z, A), digits);
+        CHARSETS[SwiftCharset.c.ordinal()] = ArrayUtils.addAll(AZ, digits);
+        CHARSETS[SwiftCharset.B.ordinal()] = ArrayUtils.addAll(A, digits);
+        for (final SwiftCharset charset : SwiftCharset.values()) {
+            for (final char c : CHARSETS[charset.ordinal()]) {
+                MASKS[c] |= bit(charset);
+            }
+        }
+    }
+
     // Suppress default constructor for noninstantiability
     private SwiftCharsetUtils() {
         throw new AssertionError();
     }
 
-    private static boolean isNumber(char character) {
-        return character >= '0' && character <= '9';
-    }
-
-    private static boolean isLowercaseLetter(char character) {
-        return character >= 'a' && character <= 'z';
+    private static int bit(final SwiftCharset charset) {
+        return 1 << charset.ordinal();
     }
 
-    private static boolean isUppercaseLetter(char character) {
-        return character >= 'A' && character <= 'Z';
+    private static boolean is(final char character, final int bit) {
+        return character < MASKS.length && (MASKS[character] & bit) != 0;
     }
 
     /**
@@ -71,7 +94,7 @@ public class SwiftCharsetUtils {
      * numeric digits (0 through 9) only
      */
     public static boolean is_n(final char character) {
-        return isNumber(character);
+        return is(character, SwiftCharset.n);
     }
 
     /**
@@ -89,7 +112,7 @@ public class SwiftCharsetUtils {
      * alphabetic capital letters (A through Z), upper case only
      */
     public static boolean is_a(final char character) {
-        return isUppercaseLetter(character);
+        return is(character, SwiftCharset.a);
     }
 
     /**
@@ -107,10 +130,7 @@ public class SwiftCharsetUtils {
      * any character of the X permitted set (General FIN application set)  upper case and lower case allowed
      */
     public static boolean is_x(final char character) {
-        return isLowercaseLetter(character)
-                || isUppercaseLetter(character)
-                || isNumber(character)
-                || is(character, specialCharacters_x);
+        return is(character, SwiftCharset.x);
     }
 
     /**
@@ -128,7 +148,7 @@ public class SwiftCharsetUtils {
      * any character of the Y permitted set (EDI service specific set), upper case only
      */
     public static boolean is_y(final char character) {
-        return isUppercaseLetter(character) || isNumber(character) || is(character, specialCharacters_y);
+        return is(character, SwiftCharset.y);
     }
 
     /**
@@ -146,10 +166,7 @@ public class SwiftCharsetUtils {
      * all characters included in the X and Y sets, plus a couple of special characters
      */
     public static boolean is_z(final char character) {
-        return isLowercaseLetter(character)
-                || isUppercaseLetter(character)
-                || isNumber(character)
-                || is(character, specialCharacters_z);
+        return is(character, SwiftCharset.z);
     }
 
     /**
@@ -167,7 +184,7 @@ public class SwiftCharsetUtils {
      * alpha-numeric capital letters (upper case), and digits only
      */
     public static boolean is_c(final char character) {
-        return isUppercaseLetter(character) || isNumber(character);
+        return is(character, SwiftCharset.c);
     }
 
     /**
@@ -185,7 +202,7 @@ public class SwiftCharsetUtils {
      * alphabetic, upper case or lower case A through Z, a through z
      */
     public static boolean is_A(final char character) {
-        return isLowercaseLetter(character) || isUppercaseLetter(character);
+        return is(character, SwiftCharset.A);
     }
 
     /**
@@ -203,7 +220,7 @@ public class SwiftCharsetUtils {
      * alphanumeric upper case or lower case A through Z, a through z and digits
      */
     public static boolean is_B(final char character) {
-        return isLowercaseLetter(character) || isUppercaseLetter(character) || isNumber(character);
+        return is(character, SwiftCharset.B);
     }
 
     /**
@@ -221,11 +238,30 @@ public class SwiftCharsetUtils {
      *
      * @return Returns this.OK (-1) if all characters in the string matches a char defined in the charset or
      * the position (zero based) of the first invalid character found
+     * @see #firstInvalid(CharSequence, SwiftCharset)
      */
     public static int is(final String s, SwiftCharset charset) {
-        if (StringUtils.isNotEmpty(s)) {
-            for (int i = 0; i < s.length(); i++) {
-                if (!is(s.charAt(i), charset)) {
+        return firstInvalid(s, charset);
+    }
+
+    /**
+     * Finds the first character of the value that does not belong to the given SWIFT charset.
+     *
+     * <p>Each character is checked with a single lookup in a precomputed table, so this is the preferred method to
+     * validate whole tag values or account numbers.
+     *
+     * @param s       the value to check, may be null
+     * @param charset the charset to match
+     * @return {@link #OK} (-1) if the value is null, empty or all its characters belong to the charset, or the position
+     * (zero based) of the first invalid character found
+     * @since 9.5.0
+     */
+    public static int firstInvalid(final CharSequence s, final SwiftCharset charset) {
+        final int bit = bit(charset);
+        if (s != null) {
+            final int length = s.length();
+            for (int i = 0; i < length; i++) {
+                if (!is(s.charAt(i), bit)) {
                     return i;
                 }
             }
@@ -233,41 +269,26 @@ public class SwiftCharsetUtils {
         return OK;
     }
 
+    /**
+     * Checks if all the characters of the value belong to the given SWIFT charset.
+     *
+     * @param s       the value to check, may be null
+     * @param charset the charset to match
+     * @return true if the value is null, empty or all its characters belong to the charset
+     * @see #firstInvalid(CharSequence, SwiftCharset)
+     * @since 9.5.0
+     */
+    public static boolean validate(final CharSequence s, final SwiftCharset charset) {
+        return firstInvalid(s, charset) == OK;
+    }
+
     /**
      * Checks if the character belogs to a given SWIFT charset
      *
      * @return true if character matches a char defined in the charset
      */
     public static boolean is(final char c, SwiftCharset charset) {
-        switch (charset) {
-            case n: {
-                return is_n(c);
-            }
-            case a: {
-                return is_a(c);
-            }
-            case A: {
-                return is_A(c);
-            }
-            case x: {
-                return is_x(c);
-            }
-            case y: {
-                return is_y(c);
-            }
-            case z: {
-                return is_z(c);
-            }
-            case c: {
-                return is_c(c);
-            }
-            case B: {
-                return is_B(c);
-            }
-            default: {
-                throw new ProwideException("Unexpected charset value " + charset);
-            }
-        }
+        return is(c, bit(charset));
     }
 
     /**
@@ -277,132 +298,66 @@ public class SwiftCharsetUtils {
      * @return a string describing the charset
      */
     public static String getAsString(SwiftCharset charset) {
-        String result = null;
-        switch (charset) {
-            case n: {
-                result = getAsString(get_n());
-                break;
-            }
-            case a: {
-                result = getAsString(get_a());
-                break;
-            }
-            case A: {
-                result = getAsString(get_A());
-                break;
-            }
-            case x: {
-                result = getAsString(get_x());
-                break;
-            }
-            case y: {
-                result = getAsString(get_y());
-                break;
-            }
-            case z: {
-                result = getAsString(get_z());
-                break;
-            }
-            case c: {
-                result = getAsString(get_c());
-                break;
-            }
-            case B: {
-                result = getAsString(get_B());
-                break;
-            }
-            default: {
-                throw new ProwideException("Unexpected charset value " + charset);
-            }
-        }
-        result = StringUtils.replace(result, getAsString(get_n()), "[0-9]");
-        result = StringUtils.replace(result, getAsString(get_a()), "[A-Z]");
+        String result = getAsString(CHARSETS[charset.ordinal()]);
+        result = StringUtils.replace(result, getAsString(digits), "[0-9]");
+        result = StringUtils.replace(result, getAsString(AZ), "[A-Z]");
         return StringUtils.replace(result, getAsString(azLowerCase), "[a-z]");
     }
 
-    /**
-     * Returns true if the parameter char is part of the parameter character set
-     */
-    private static boolean is(final char c, final char[] charset) {
-        return ArrayUtils.contains(charset, c);
-    }
-
     /**
      * Gets SWIFT n charset; numeric digits (0 through 9) only.
      */
     public static char[] get_n() {
-        return new char[] {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
+        return CHARSETS[SwiftCharset.n.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT a charset; alphabetic capital letters (A through Z), upper case only.
      */
     public static char[] get_a() {
-        return new char[] {
-            'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U',
-            'V', 'W', 'X', 'Y', 'Z'
-        };
-    }
-
-    /**
-     * Lower case a to z.
-     */
-    private static char[] _get_az() {
-        return new char[] {
-            'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u',
-            'v', 'w', 'x', 'y', 'z'
-        };
+        return CHARSETS[SwiftCharset.a.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT A charset; alphabetic, upper case or lower case A through Z, a through z.
      */
     public static char[] get_A() {
-        char[] result = get_a();
-        return ArrayUtils.addAll(result, _get_az());
+        return CHARSETS[SwiftCharset.A.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT x charset; any character of the X permitted set (General FIN application set)  upper case and lower case allowed.
      */
     public static char[] get_x() {
-        char[] result = specialCharacters_x;
-        result = ArrayUtils.addAll(result, get_A());
-        return ArrayUtils.addAll(result, get_n());
+        return CHARSETS[SwiftCharset.x.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT y charset; any character of the Y permitted set (EDI service specific set), upper case only.
      */
     public static char[] get_y() {
-        char[] result = specialCharacters_y;
-        result = ArrayUtils.addAll(result, get_a());
-        return ArrayUtils.addAll(result, get_n());
+        return CHARSETS[SwiftCharset.y.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT z charset; all characters included in the X and Y sets, plus a couple of special characters.
      */
     public static char[] get_z() {
-        char[] result = specialCharacters_z;
-        result = ArrayUtils.addAll(result, get_A());
-        return ArrayUtils.addAll(result, get_n());
+        return CHARSETS[SwiftCharset.z.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT c charset; alpha-numeric capital letters (upper case), and digits only.
      */
     public static char[] get_c() {
-        char[] result = get_a();
-        return ArrayUtils.addAll(result, get_n());
+        return CHARSETS[SwiftCharset.c.ordinal()].clone();
     }
 
     /**
      * Gets SWIFT B charset; alphanumeric upper case or lower case A through Z, a through z and 0, 1, 2, 3, 4, 5, 6, 7, 8, 9.
      */
     public static char[] get_B() {
-        char[] result = get_A();
-        return ArrayUtils.addAll(result, get_n());
+        return CHARSETS[SwiftCharset.B.ordinal()].clone();
     }
 
     /**
@@ -437,9 +392,10 @@ public class SwiftCharsetUtils {
      * @return a new string with non matching characters removed
      */
     public static String filter(String s, SwiftCharset charset) {
-        StringBuilder result = new StringBuilder();
+        final int bit = bit(charset);
+        StringBuilder result = new StringBuilder(s.length());
         for (int i = 0; i < s.length(); i++) {
-            if (is(s.charAt(i), charset)) {
+            if (is(s.charAt(i), bit)) {
                 result.append(s.charAt(i));
             }
         }
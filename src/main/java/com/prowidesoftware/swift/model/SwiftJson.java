@@ -0,0 +1,145 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.AbstractMTAdapter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Shared JSON configuration for the messages, blocks and fields JSON API.
+ *
+ * <p>The {@link Gson} instances are immutable and thread-safe, so they are created once and reused by all the
+ * toJson and fromJson methods, instead of building a new instance on each call. Both instances serialize
+ * {@link SwiftMessage} and {@link AbstractMT} (and its subclasses) with streaming type adapters, writing the JSON
+ * directly into the output without building an intermediate tree; the pretty instance indents the output while the
+ * compact one writes it in a single line.
+ *
+ * <p>To write many messages, for example one JSON per message in an audit log, create a writer with
+ * {@link #newWriter(Writer, boolean)} and call the toJson(JsonWriter) method of the message.
+ *
+ * @since 9.5.0
+ */
+public final class SwiftJson {
+
+    private static final Gson COMPACT = builder().create();
+    private static final Gson PRETTY = builder().setPrettyPrinting().create();
+
+    private SwiftJson() {
+        throw new AssertionError();
+    }
+
+    private static GsonBuilder builder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(
+                        SwiftMessage.class, new Streaming<>(SwiftMessageAdapter::write, SwiftMessageAdapter::read))
+                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+                .registerTypeHierarchyAdapter(
+                        AbstractMT.class, new Streaming<>(AbstractMTAdapter::write, AbstractMTAdapter::read));
+    }
+
+    /**
+     * @return the shared compact configuration, writing JSON without indentation
+     */
+    public static Gson gson() {
+        return COMPACT;
+    }
+
+    /**
+     * @param pretty true for indented output, false for compact output
+     * @return the shared configuration with the requested output format
+     */
+    public static Gson gson(final boolean pretty) {
+        return pretty ? PRETTY : COMPACT;
+    }
+
+    /**
+     * Creates a JSON writer with the shared configuration.
+     *
+     * @param out the target
+     * @param pretty true for indented output, false for compact output
+     * @return a new writer, to be closed or flushed by the caller
+     * @throws IOException if the writer cannot be created
+     */
+    public static JsonWriter newWriter(final Writer out, final boolean pretty) throws IOException {
+        return gson(pretty).newJsonWriter(out);
+    }
+
+    /**
+     * Creates a JSON reader with the shared configuration.
+     *
+     * @param in the source
+     * @return a new reader, to be closed by the caller
+     */
+    public static JsonReader newReader(final Reader in) {
+        return COMPACT.newJsonReader(in);
+    }
+
+    /**
+     * Writing function of a streaming adapter
+     */
+    @FunctionalInterface
+    interface JsonWriteFunction<T> {
+        void write(Gson gson, JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * Reading function of a streaming adapter
+     */
+    @FunctionalInterface
+    interface JsonReadFunction<T> {
+        T read(Gson gson, JsonReader in) throws IOException;
+    }
+
+    /**
+     * Type adapter binding the streaming write and read implementations to the shared configuration
+     */
+    private static final class Streaming<T> extends TypeAdapter<T> {
+        private final JsonWriteFunction<T> writer;
+        private final JsonReadFunction<T> reader;
+
+        private Streaming(final JsonWriteFunction<T> writer, final JsonReadFunction<T> reader) {
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @Override
+        public void write(final JsonWriter out, final T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                this.writer.write(COMPACT, out, value);
+            }
+        }
+
+        @Override
+        public T read(final JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return this.reader.read(COMPACT, in);
+        }
+    }
+}
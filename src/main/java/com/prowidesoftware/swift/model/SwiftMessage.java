@@ -15,11 +15,8 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.JsonSerializable;
-import com.prowidesoftware.swift.io.ConversionService;
-import com.prowidesoftware.swift.io.IConversionService;
 import com.prowidesoftware.swift.io.parser.SwiftParser;
 import com.prowidesoftware.swift.io.parser.SwiftParserConfiguration;
 import com.prowidesoftware.swift.io.parser.XMLParser;
@@ -29,6 +26,8 @@ import com.prowidesoftware.swift.model.field.*;
 import com.prowidesoftware.swift.model.mt.*;
 import com.prowidesoftware.swift.utils.IMessageVisitor;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
@@ -79,6 +78,16 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     private UnparsedTextList unparsedTexts = null;
 
+    /**
+     * MT instance created by {@link #toMT()}, reused while the message type and variant do not change
+     */
+    private transient AbstractMT mt;
+
+    /**
+     * Message content as read by the parser, only kept when enabled in the parser configuration
+     */
+    private transient String rawContent;
+
     /**
      * Default constructor.
      * Must be called since here is performed default handler registration
@@ -156,6 +165,21 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         return new SwiftParser(fin).message();
     }
 
+    /**
+     * Parses the bytes of a message into a SwiftMessage, scanning ASCII content in place without decoding it as a
+     * whole.
+     *
+     * @param fin the bytes of a swift MT message
+     * @return parser message or null if content could not be parsed
+     * @throws IOException if an error occurs in the parser during reading
+     * @see #parse(String)
+     * @see SwiftParser#setData(java.nio.ByteBuffer)
+     * @since 9.5.0
+     */
+    public static SwiftMessage parse(final byte[] fin) throws IOException {
+        return new SwiftParser(fin).message();
+    }
+
     /**
      * Visit a Block 3 (SwiftBlock3), i.e: call the tag method for block 3
      * This method is called from {@link #visit(IMessageVisitor)} but may be used independently, in such case,
@@ -256,11 +280,19 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.9.8
      */
     public static SwiftMessage fromJson(String json) {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .create();
-        return gson.fromJson(json, SwiftMessage.class);
+        return SwiftJson.gson().fromJson(json, SwiftMessage.class);
+    }
+
+    /**
+     * Deserializes the JSON data into a message object, reading it as a stream.
+     * @param reader JSON data, it is not closed by this method
+     * @return message object
+     *
+     * @see #toJson(JsonWriter)
+     * @since 9.5.0
+     */
+    public static SwiftMessage fromJson(final Reader reader) {
+        return SwiftJson.gson().fromJson(reader, SwiftMessage.class);
     }
 
     @Override
@@ -919,6 +951,32 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         }
     }
 
+    /**
+     * Gets the message content as it was read by the parser, when the parser option
+     * {@link com.prowidesoftware.swift.io.parser.SwiftParserConfiguration#setKeepRawContent(boolean)} is enabled.
+     *
+     * <p>The content is a snapshot taken at parse time, from the first block to the last one read for this message;
+     * it is not updated when the message is modified, and it is not serialized.
+     *
+     * @return the raw content or null if it was not kept
+     * @see SwiftMessageUtils#calculateRawChecksum(SwiftMessage)
+     * @since 9.5.0
+     */
+    public String getRawContent() {
+        return this.rawContent;
+    }
+
+    /**
+     * Sets the message content as read by the parser.
+     *
+     * @param rawContent the raw content or null to discard it
+     * @see #getRawContent()
+     * @since 9.5.0
+     */
+    public void setRawContent(final String rawContent) {
+        this.rawContent = rawContent;
+    }
+
     /**
      * returns the unparsed text list
      *
@@ -1309,13 +1367,11 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.0
      */
     public String getMUR() {
-        if (this.block3 != null && this.block3.containsTag(Field108.NAME)) {
-            return this.block3.getTagValue(Field108.NAME);
+        Tag t = this.block3 != null ? this.block3.getTagByName(Field108.NAME) : null;
+        if (t == null && this.block4 != null) {
+            t = this.block4.getTagByName(Field108.NAME);
         }
-        if (this.block4 != null && this.block4.containsTag(Field108.NAME)) {
-            return this.block4.getTagValue(Field108.NAME);
-        }
-        return null;
+        return t != null ? t.getValue() : null;
     }
 
     /**
@@ -1482,12 +1538,20 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     @Override
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this);
+        return SwiftJson.gson(true).toJson(this, SwiftMessage.class);
+    }
+
+    /**
+     * Writes the JSON representation of this message, as returned by {@link #toJson()}, into the given writer.
+     * <p>The output is indented or compact depending on the writer settings, see
+     * {@link SwiftJson#newWriter(java.io.Writer, boolean)}.
+     *
+     * @param writer the target writer
+     * @throws IOException if the writer fails
+     * @since 9.5.0
+     */
+    public void toJson(final JsonWriter writer) throws IOException {
+        SwiftMessageAdapter.write(SwiftJson.gson(), writer, this);
     }
 
     /**
@@ -1525,6 +1589,9 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * <code>new MT102(SwiftMessage)</code>.
      * <p>For messages with service id 21 = GPA/FIN Message (ACK/NAK/UAK/UNK) it will
      * return an instance of {@link ServiceMessage21}.
+     * <p>The created MT is cached and returned by subsequent calls, as long as this message type and variant do not
+     * change. Since the MT wraps this same message, any change in the message content is visible through the cached
+     * instance.
      *
      * @return created specific MT object or null if the message type is not set or an error occurs during message creation
      */
@@ -1536,36 +1603,38 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             }
             log.warning("Cannot determine the message type from application header (block 2)");
         } else {
-            final StringBuilder className = new StringBuilder();
-            className.append("com.prowidesoftware.swift.model.mt.mt");
-            className.append(type.charAt(0));
-            className.append("xx.MT");
-            className.append(type);
+            MTVariant variant = null;
             if (isSTP()) {
                 if (isType(102, 103)) {
-                    className.append("_STP");
+                    variant = MTVariant.STP;
                 } else {
                     log.warning("Unexpected STP flag in MT " + getType());
                 }
             } else if (isREMIT()) {
                 if (isType(103)) {
-                    className.append("_REMIT");
+                    variant = MTVariant.REMIT;
                 } else {
                     log.warning("Unexpected REMIT flag in MT " + getType());
                 }
             } else if (isCOV()) {
                 if (isType(202, 205)) {
-                    className.append("COV");
+                    variant = MTVariant.COV;
                 } else {
                     log.warning("Unexpected COV flag in MT " + getType());
                 }
             }
-            log.finer("About to create an instance of " + className);
-            try {
-                final Class<?> mtClass = Class.forName(className.toString());
-                return (AbstractMT) mtClass.getConstructor(SwiftMessage.class).newInstance(this);
-            } catch (final Exception e) {
-                log.warning("Could not create instance of " + className + ": " + e);
+            final MtFactory factory = MtFactory.of(type, variant);
+            if (factory != null) {
+                final AbstractMT cached = this.mt;
+                if (cached != null && cached.getClass() == factory.type() && cached.getSwiftMessage() == this) {
+                    return cached;
+                }
+                try {
+                    this.mt = factory.newInstance(this);
+                    return this.mt;
+                } catch (final Exception e) {
+                    log.warning("Could not create instance of " + factory.type().getName() + ": " + e);
+                }
             }
         }
         return null;
@@ -1883,7 +1952,24 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 9.2.13
      */
     public String message() {
-        IConversionService srv = new ConversionService();
-        return srv.getFIN(this);
+        final StringBuilder fin = new StringBuilder();
+        SwiftWriter.writeFIN(this, fin);
+        return fin.toString();
+    }
+
+    /**
+     * Serializes this message object into the stream as the FIN message, with the same content as {@link #message()}
+     * encoded as ASCII bytes (UTF-8 for any non ASCII char).
+     *
+     * <p>The bytes are written as the message is traversed, without creating the FIN text. The stream is neither
+     * flushed nor closed.
+     *
+     * @param out the target stream
+     * @throws IOException if an error occurs writing to the stream
+     * @see SwiftWriter#writeFIN(SwiftMessage, java.nio.ByteBuffer)
+     * @since 9.5.0
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        SwiftWriter.writeFIN(this, out);
     }
 }
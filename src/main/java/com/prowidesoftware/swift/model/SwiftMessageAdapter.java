@@ -17,20 +17,27 @@
 package com.prowidesoftware.swift.model;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.lang.reflect.Type;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 public class SwiftMessageAdapter implements JsonDeserializer<SwiftMessage>, JsonSerializer<SwiftMessage> {
 
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.ENGLISH).withZone(ZoneOffset.UTC);
+
+    private static final List<String> BLOCK_NAMES = Arrays.asList("block1", "block2", "block3", "block4", "block5");
+
     @Override
     public JsonElement serialize(SwiftMessage src, Type typeOfSrc, JsonSerializationContext context) {
         JsonObject object = new JsonObject();
-        DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.ENGLISH);
-        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        final String ts = dateFormat.format(Calendar.getInstance().getTime());
-        object.addProperty("timestamp", ts);
+        object.addProperty("timestamp", timestamp());
         object.addProperty("version", SwiftMessage.JSON_VERSION);
 
         JsonObject objectBlocks = new JsonObject();
@@ -71,32 +78,120 @@ public class SwiftMessageAdapter implements JsonDeserializer<SwiftMessage>, Json
             }
         }
 
-        SwiftMessage sm = new SwiftMessage();
+        return create(new SwiftBlock[] {block1, block2, block3, block4, block5}, blockUsers);
+    }
 
-        if (block1 != null) {
-            sm.addBlock(block1);
+    /**
+     * Streaming counterpart of {@link #serialize(SwiftMessage, Type, JsonSerializationContext)}, writing the same
+     * JSON structure directly into the writer.
+     *
+     * @param gson configuration used to write the blocks content
+     * @param out the target writer, its indentation setting defines the pretty or compact output
+     * @param src the message to write
+     * @throws IOException if the writer fails
+     * @since 9.5.0
+     */
+    static void write(final Gson gson, final JsonWriter out, final SwiftMessage src) throws IOException {
+        out.beginObject();
+        out.name("timestamp").value(timestamp());
+        out.name("version").value(SwiftMessage.JSON_VERSION);
+
+        out.name("data").beginObject();
+        final SwiftBlock[] blocks = {
+            src.getBlock1(), src.getBlock2(), src.getBlock3(), src.getBlock4(), src.getBlock5()
+        };
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i] != null) {
+                out.name(BLOCK_NAMES.get(i));
+                // block 2 goes through its adapter to include the direction
+                gson.toJson(blocks[i], i == 1 ? SwiftBlock2.class : blocks[i].getClass(), out);
+            }
         }
+        out.endObject();
+
+        out.endObject();
+    }
 
-        if (block2 != null) {
-            sm.addBlock(block2);
+    /**
+     * Streaming counterpart of {@link #deserialize(JsonElement, Type, JsonDeserializationContext)}, reading the
+     * message without building the JSON tree.
+     *
+     * @param gson configuration used to read the blocks content
+     * @param in the source reader, positioned at the message object
+     * @return the read message
+     * @throws IOException if the reader fails or the content is not well-formed
+     * @since 9.5.0
+     */
+    static SwiftMessage read(final Gson gson, final JsonReader in) throws IOException {
+        final SwiftBlock[] blocks = new SwiftBlock[5];
+        final List<SwiftBlockUser> blockUsers = new ArrayList<>();
+        boolean data = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!"data".equals(in.nextName())) {
+                in.skipValue();
+                continue;
+            }
+            data = true;
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                final int index = BLOCK_NAMES.indexOf(name);
+                if (index >= 0) {
+                    blocks[index] = gson.fromJson(in, blockClass(index));
+                } else if ("userBlocks".equals(name) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        blockUsers.add(gson.fromJson(in, SwiftBlockUser.class));
+                    }
+                    in.endArray();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
         }
+        in.endObject();
 
-        if (block3 != null) {
-            sm.addBlock(block3);
+        if (!data) {
+            throw new JsonParseException("Missing data element in SwiftMessage JSON");
         }
+        return create(blocks, blockUsers);
+    }
 
-        if (block4 != null) {
-            sm.addBlock(block4);
+    private static Class<? extends SwiftBlock> blockClass(final int index) {
+        switch (index) {
+            case 0:
+                return SwiftBlock1.class;
+            case 1:
+                return SwiftBlock2.class;
+            case 2:
+                return SwiftBlock3.class;
+            case 3:
+                return SwiftBlock4.class;
+            default:
+                return SwiftBlock5.class;
         }
+    }
+
+    private static SwiftMessage create(final SwiftBlock[] blocks, final List<SwiftBlockUser> blockUsers) {
+        SwiftMessage sm = new SwiftMessage();
 
-        if (block5 != null) {
-            sm.addBlock(block5);
+        for (SwiftBlock block : blocks) {
+            if (block != null) {
+                sm.addBlock(block);
+            }
         }
 
-        if (blockUsers.size() > 0) {
+        if (!blockUsers.isEmpty()) {
             sm.setUserBlocks(blockUsers);
         }
 
         return sm;
     }
+
+    private static String timestamp() {
+        return TIMESTAMP_FORMAT.format(Instant.now());
+    }
 }
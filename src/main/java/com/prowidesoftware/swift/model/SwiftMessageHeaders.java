@@ -0,0 +1,303 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.Field108;
+import com.prowidesoftware.swift.model.field.Field111;
+import com.prowidesoftware.swift.model.field.Field121;
+import com.prowidesoftware.swift.model.mt.ServiceIdType;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Immutable view of the MT headers (blocks 1, 2 and 3) intended for message routing and dispatching.
+ *
+ * <p>The values are computed once from the header blocks, with the same semantics as the equivalent getters in
+ * {@link SwiftMessage}, and the blocks are not retained. Instances are normally created by
+ * {@link com.prowidesoftware.swift.io.parser.SwiftParser#peekHeaders()}, which reads the message only until the
+ * text block starts.
+ *
+ * @since 9.5.0
+ */
+public final class SwiftMessageHeaders implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String block1;
+    private final String block2;
+    private final String applicationId;
+    private final String serviceId;
+    private final String logicalTerminal;
+    private final String sessionNumber;
+    private final String sequenceNumber;
+    private final boolean serviceMessage;
+    private final MessageIOType direction;
+    private final String messageType;
+    private final String messagePriority;
+    private final String sender;
+    private final String receiver;
+    private final String mir;
+    private final String mor;
+    private final Map<String, String> block3;
+
+    /**
+     * Creates the headers view from the given blocks.
+     *
+     * @param b1 the basic header block, may be null
+     * @param b2 the application header block, may be null
+     * @param b3 the user header block, may be null
+     */
+    public SwiftMessageHeaders(final SwiftBlock1 b1, final SwiftBlock2 b2, final SwiftBlock3 b3) {
+        this.block1 = b1 != null ? b1.getValue() : null;
+        this.block2 = b2 != null ? b2.getValue() : null;
+        this.applicationId = b1 != null ? b1.getApplicationId() : null;
+        this.serviceId = b1 != null ? b1.getServiceId() : null;
+        this.logicalTerminal = b1 != null ? b1.getLogicalTerminal() : null;
+        this.sessionNumber = b1 != null ? b1.getSessionNumber() : null;
+        this.sequenceNumber = b1 != null ? b1.getSequenceNumber() : null;
+        this.messageType = b2 != null ? b2.getMessageType() : null;
+        this.messagePriority = b2 != null ? b2.getMessagePriority() : null;
+
+        if (b2 != null && b2.isOutput()) {
+            this.direction = MessageIOType.incoming;
+        } else if (b2 != null && b2.isInput()) {
+            this.direction = MessageIOType.outgoing;
+        } else {
+            this.direction = null;
+        }
+
+        this.serviceMessage = b1 != null && b1.getServiceIdType() != ServiceIdType._01;
+        if (this.serviceMessage || this.direction == MessageIOType.outgoing) {
+            this.sender = this.logicalTerminal;
+        } else if (this.direction == MessageIOType.incoming) {
+            this.sender = ((SwiftBlock2Output) b2).getMIRLogicalTerminal();
+        } else {
+            this.sender = null;
+        }
+        if (this.serviceMessage) {
+            this.receiver = null;
+        } else if (this.direction == MessageIOType.incoming) {
+            this.receiver = this.logicalTerminal;
+        } else if (this.direction == MessageIOType.outgoing) {
+            this.receiver = ((SwiftBlock2Input) b2).getReceiverAddress();
+        } else {
+            this.receiver = null;
+        }
+
+        if (this.direction == MessageIOType.incoming) {
+            final SwiftBlock2Output output = (SwiftBlock2Output) b2;
+            this.mir = output.getMIR();
+            this.mor = b1 != null
+                    ? new MOR(
+                                    output.getReceiverOutputDate(),
+                                    this.logicalTerminal,
+                                    this.sessionNumber,
+                                    this.sequenceNumber)
+                            .getMOR()
+                    : null;
+        } else {
+            this.mir = null;
+            this.mor = null;
+        }
+
+        if (b3 != null && !b3.isEmpty()) {
+            final Map<String, String> values = new LinkedHashMap<>();
+            for (Tag t : b3.getTags()) {
+                values.putIfAbsent(t.getName(), t.getValue());
+            }
+            this.block3 = Collections.unmodifiableMap(values);
+        } else {
+            this.block3 = Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the block 1 value, for example F01BANKDEFFAXXX1234123456, or null if the block is not present
+     */
+    public String getBlock1Value() {
+        return block1;
+    }
+
+    /**
+     * @return the block 2 value, for example I103BANKDEFFXXXXN, or null if the block is not present
+     */
+    public String getBlock2Value() {
+        return block2;
+    }
+
+    /**
+     * @return the application id from block 1, for example F
+     */
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return the service id from block 1, for example 01
+     */
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    /**
+     * @return the logical terminal address from block 1
+     */
+    public String getLogicalTerminal() {
+        return logicalTerminal;
+    }
+
+    /**
+     * @return the session number from block 1
+     */
+    public String getSessionNumber() {
+        return sessionNumber;
+    }
+
+    /**
+     * @return the sequence number from block 1
+     */
+    public String getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return true if the service id is anything but 01 = GPA/FIN Message (system and user-to-user)
+     * @see SwiftMessage#isServiceMessage()
+     */
+    public boolean isServiceMessage() {
+        return serviceMessage;
+    }
+
+    /**
+     * @return the message direction from block 2 or null if block 2 is not found or incomplete
+     * @see SwiftMessage#getDirection()
+     */
+    public MessageIOType getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return the message type from block 2, for example 103
+     * @see SwiftMessage#getType()
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * @return the message priority from block 2 or null if the block is not present or the priority is not set
+     */
+    public String getMessagePriority() {
+        return messagePriority;
+    }
+
+    /**
+     * @return the sender address, block 1 logical terminal for outgoing and service messages, or the MIR logical
+     * terminal for incoming messages
+     * @see SwiftMessageUtils#sender(SwiftMessage)
+     */
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * @return the receiver address, block 2 receiver for outgoing messages, or block 1 logical terminal for incoming
+     * messages; null for service messages
+     * @see SwiftMessageUtils#receiver(SwiftMessage)
+     */
+    public String getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * @return the Message Input Reference, only available for incoming messages
+     * @see SwiftMessage#getMIR()
+     */
+    public String getMIR() {
+        return mir;
+    }
+
+    /**
+     * @return the Message Output Reference, only available for incoming messages
+     * @see SwiftMessage#getMOR()
+     */
+    public String getMOR() {
+        return mor;
+    }
+
+    /**
+     * Gets the value of the first field with the given name in the user header block (block 3).
+     *
+     * @param name the field name, for example 108
+     * @return the field value or null if block 3 or the field is not present
+     */
+    public String getBlock3Value(final String name) {
+        return block3.get(name);
+    }
+
+    /**
+     * @return an unmodifiable map with the user header block (block 3) fields values, indexed by field name
+     */
+    public Map<String, String> getBlock3Values() {
+        return block3;
+    }
+
+    /**
+     * @return the Message User Reference (field 108) from block 3 or null if not present
+     */
+    public String getMUR() {
+        return block3.get(Field108.NAME);
+    }
+
+    /**
+     * @return the Service Type Identifier (field 111) from block 3 or null if not present
+     * @see SwiftMessage#getServiceTypeIdentifier()
+     */
+    public String getServiceTypeIdentifier() {
+        return block3.get(Field111.NAME);
+    }
+
+    /**
+     * @return the Unique End to End Transaction Reference (field 121) from block 3 or null if not present
+     * @see SwiftMessage#getUETR()
+     */
+    public String getUETR() {
+        return block3.get(Field121.NAME);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SwiftMessageHeaders that = (SwiftMessageHeaders) o;
+        return Objects.equals(block1, that.block1)
+                && Objects.equals(block2, that.block2)
+                && Objects.equals(block3, that.block3);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(block1, block2, block3);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -18,12 +18,12 @@ package com.prowidesoftware.swift.model;
 import com.prowidesoftware.ProwideException;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
+import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
 import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.field.*;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
-import java.io.StringWriter;
+import java.io.IOException;
 import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
@@ -39,6 +39,14 @@ import org.apache.commons.lang3.Validate;
  */
 public class SwiftMessageUtils {
     private static final Logger log = Logger.getLogger(SwiftMessageUtils.class.getName());
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Base64.Encoder BASE64 = Base64.getEncoder().withoutPadding();
+
+    /**
+     * Reusable SHA-256 digests, one for the message and one for its text block, created once per thread
+     */
+    private static final ThreadLocal<DigestAppendable[]> SHA256 =
+            ThreadLocal.withInitial(SwiftMessageUtils::newDigests);
     private final SwiftMessage msg;
 
     /**
@@ -160,101 +168,7 @@ public class SwiftMessageUtils {
      * @since 7.7
      */
     public static Calendar valueDate(final SwiftMessage m) {
-        if (m != null) {
-            final SwiftBlock4 b4 = m.getBlock4();
-            if (b4 != null && !b4.isEmpty()) {
-                Tag t = null;
-                Field f = null;
-                if (m.isType(101, 104, 107, 201, 203, 204, 207, 210, 604, 605)) {
-                    t = b4.getTagByName(Field30.NAME);
-                } else if (m.isType(102, 103, 200, 202, 205, 400, 450, 455, 800, 802, 900, 910)) {
-                    t = b4.getTagByName(Field32A.NAME);
-                } else if (m.isType(300, 304, 320, 330, 350, 620)) {
-                    t = b4.getTagByName(Field30V.NAME);
-                } else if (m.isType(370)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("NETPOS");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "NETT");
-                    }
-                } else if (m.isType(456)) {
-                    t = b4.getTagByName(Field33D.NAME);
-                } else if (m.isType(502)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("AMT");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "VALU");
-                    }
-                } else if (m.isType(509)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("TRADE");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "SETT");
-                    }
-                } else if (m.isType(513)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("ORDRDET");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "SETT");
-                    }
-                } else if (m.isType(514, 515, 518)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("CONFDET");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "SETT");
-                    }
-                } else if (m.isType(540, 541, 542, 543, 544, 545, 546, 547, 586)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("TRADDET");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "SETT");
-                    } else {
-                        final SwiftTagListBlock seq2 = b4.getSubBlock("AMT");
-                        if (seq2 != null) {
-                            f = seq2.getFieldByNumber(98, "VALU");
-                        }
-                    }
-                } else if (m.isType(537)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("TRANSDET");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "EXSE");
-                    }
-                } else if (m.isType(548)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("SETTRAN");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(70, "SPRO");
-                    }
-                } else if (m.isType(564)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("CASHMOVE");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "PAYD");
-                    }
-                } else if (m.isType(566)) {
-                    final SwiftTagListBlock seq = b4.getSubBlock("CASHMOVE");
-                    if (seq != null) {
-                        f = seq.getFieldByNumber(98, "POST");
-                    }
-                } else if (m.isType(730, 768, 769)) {
-                    t = b4.getTagByName(Field32D.NAME);
-                } else if (m.isType(734, 752, 756)) {
-                    t = b4.getTagByName(Field33A.NAME);
-                } else if (m.isType(742, 754)) {
-                    t = b4.getTagByName(Field34A.NAME);
-                } else if (m.isType(942, 950, 970, 972)) {
-                    t = b4.getTagByName(Field61.NAME);
-                } else if (m.isType(305)) {
-                    t = b4.getTagByName(Field31G.NAME);
-                } else if (m.isType(306)) {
-                    t = b4.getTagByName(Field30V.NAME);
-                } else if (m.isType(340, 341)) {
-                    t = b4.getTagByName(Field30F.NAME);
-                } else if (m.isType(360, 361, 362)) {
-                    t = b4.getTagByName(Field30V.NAME);
-                }
-
-                if (t != null) {
-                    f = t.asField();
-                }
-                if (f != null && f instanceof DateContainer) {
-                    return ((DateContainer) f).dates().get(0);
-                }
-            }
-        }
-        return null;
+        return m != null ? MtMetadataPlan.extract(m, MtMetadataPlan.VALUE_DATE).valueDate() : null;
     }
 
     /**
@@ -271,20 +185,7 @@ public class SwiftMessageUtils {
      * @since 7.10.4
      */
     public static Calendar tradeDate(final SwiftMessage m) {
-        if (m != null) {
-            final SwiftBlock4 b4 = m.getBlock4();
-            if (b4 != null && !b4.isEmpty()) {
-
-                Field f = m.getBlock4().getFieldByName(Field30T.NAME);
-                if (f == null) {
-                    f = m.getBlock4().getFieldByNumber(98, "TRAD");
-                }
-                if (f != null && f instanceof DateContainer) {
-                    return ((DateContainer) f).dates().get(0);
-                }
-            }
-        }
-        return null;
+        return m != null ? MtMetadataPlan.extract(m, MtMetadataPlan.TRADE_DATE).tradeDate() : null;
     }
 
     /**
@@ -354,72 +255,260 @@ public class SwiftMessageUtils {
      * Proprietary checksum for message integrity verification or duplicates detection.
      * <p>Please notice <strong>this is not the SWIFT trailer CHK field</strong>.
      * <p>The implementation computes an SHA-256 on the complete message in FIN format. The result hash
-     * is a 32 character string, you may consider encoding it with base64 on top to have the same
-     * information stored in 22 characters.
+     * is a 64 character hexadecimal string, use {@link #calculateChecksumBase64(SwiftMessage)} to have the same
+     * information encoded in 43 characters.
+     *
+     * <p>The message is hashed as it is written, without building its FIN content as a whole.
      *
      * @param model the message
      * @return computed hash or null if errors occurred during computation or the message is null
      */
     public static String calculateChecksum(final SwiftMessage model) {
-        if (model != null) {
-            final StringWriter writer = new StringWriter();
-            SwiftWriter.writeMessage(model, writer, true);
-            final String fin = writer.getBuffer().toString();
-            return sha256(fin);
-        } else {
+        final byte[] hash = digest(model);
+        return hash != null ? hex(hash) : null;
+    }
+
+    /**
+     * Same checksum as {@link #calculateChecksum(SwiftMessage)} encoded in base64 without padding, as a 43
+     * character string.
+     *
+     * @param model the message
+     * @return computed hash or null if errors occurred during computation or the message is null
+     * @since 9.5.0
+     */
+    public static String calculateChecksumBase64(final SwiftMessage model) {
+        final byte[] hash = digest(model);
+        return hash != null ? BASE64.encodeToString(hash) : null;
+    }
+
+    /**
+     * Proprietary checksum of the message content as it was read by the parser, with the parser option
+     * {@link com.prowidesoftware.swift.io.parser.SwiftParserConfiguration#setKeepRawContent(boolean)} enabled.
+     *
+     * <p>As opposed to {@link #calculateChecksum(SwiftMessage)}, the message is not written again, so the hash
+     * reflects the received text including its original line breaks, and it does not change if the message object is
+     * modified after parsing. The result is a 64 character hexadecimal string.
+     *
+     * @param model the message
+     * @return computed hash or null if the message is null, the raw content was not kept or errors occurred
+     * @see SwiftMessage#getRawContent()
+     * @since 9.5.0
+     */
+    public static String calculateRawChecksum(final SwiftMessage model) {
+        if (model == null || model.getRawContent() == null) {
             return null;
         }
+        return sha256(model.getRawContent());
     }
 
     /**
      * Proprietary checksum for message text block (block 4) integrity verification or duplicates detection
      * <p>Please notice <strong>this is not the SWIFT trailer CHK field</strong>.
-     * <p>The implementation computes an SHA-256 on the complete message in FIN format. The result hash
-     * is a 32 character string, you may consider encoding it with base64 on top to have the same
-     * information stored in 22 characters.
+     * <p>The implementation computes an SHA-256 on the text block in FIN format. The result hash
+     * is a 64 character hexadecimal string.
      *
      * @param b4 the message text block
      * @return computed hash or null if errors occurred during computation or the block is null
      * @since 7.9.5
      */
     public static String calculateChecksum(final SwiftBlock4 b4) {
-        if (b4 != null) {
-            final StringWriter writer = new StringWriter();
-            SwiftWriter.writeBlock4(b4, writer);
-            final String fin = writer.getBuffer().toString();
-            return sha256(fin);
+        if (b4 == null) {
+            return null;
+        }
+        final DigestAppendable[] digests = SHA256.get();
+        if (digests == null) {
+            return null;
+        }
+        final DigestAppendable out = digests[0];
+        out.reset();
+        final FINWriterVisitor visitor = new FINWriterVisitor(out);
+        visitor.startBlock4(b4);
+        SwiftMessage.visit(b4, visitor);
+        visitor.endBlock4(b4);
+        return hex(out.digest());
+    }
+
+    /**
+     * Computes both {@link #calculateChecksum(SwiftMessage)} and {@link #calculateChecksum(SwiftBlock4)} writing the
+     * message only once.
+     *
+     * <p>When the text block is written with the text block syntax, its part of the message FIN content is the same
+     * content written for the block alone, so the body checksum is computed on that part. Otherwise, as for category 0
+     * messages, or when the block is not written because it is empty, the block is written again on its own.
+     *
+     * @param model the message
+     * @return the message and body checksums, with null values if the message is null
+     * @since 9.5.0
+     */
+    static Checksums calculateChecksums(final SwiftMessage model) {
+        final DigestAppendable[] digests = model != null ? SHA256.get() : null;
+        if (digests == null) {
+            return new Checksums(null, null);
+        }
+        final Block4Tracker tracker = new Block4Tracker(digests[0], digests[1]);
+        SwiftWriter.writeMessage(model, tracker, true);
+        final String checksum = hex(tracker.message.digest());
+        final String checksumBody;
+        if (tracker.asText && tracker.completed) {
+            checksumBody = hex(tracker.body.digest());
         } else {
+            checksumBody = calculateChecksum(model.getBlock4());
+        }
+        return new Checksums(checksum, checksumBody);
+    }
+
+    /**
+     * Message and text block checksums computed by {@link #calculateChecksums(SwiftMessage)}
+     */
+    static final class Checksums {
+        final String message;
+        final String body;
+
+        Checksums(final String message, final String body) {
+            this.message = message;
+            this.body = body;
+        }
+    }
+
+    /**
+     * FIN writer hashing the message, and also the text block alone while it is written
+     */
+    private static final class Block4Tracker extends FINWriterVisitor {
+        private final DigestAppendable message;
+        private final DigestAppendable body;
+        private final Tee tee;
+        private boolean asText;
+        private boolean completed;
+
+        private Block4Tracker(final DigestAppendable message, final DigestAppendable body) {
+            this(message, body, new Tee(message, body));
+        }
+
+        private Block4Tracker(final DigestAppendable message, final DigestAppendable body, final Tee tee) {
+            super(tee);
+            this.message = message;
+            this.body = body;
+            this.tee = tee;
+            message.reset();
+            body.reset();
+        }
+
+        @Override
+        public void startBlock4(final SwiftBlock4 b) {
+            this.asText = isBlock4asText();
+            this.tee.both = true;
+            super.startBlock4(b);
+        }
+
+        @Override
+        public void endBlock4(final SwiftBlock4 b) {
+            super.endBlock4(b);
+            this.tee.both = false;
+            this.completed = true;
+        }
+    }
+
+    /**
+     * Appendable writing into the message digest, and also into the text block digest when enabled
+     */
+    private static final class Tee implements Appendable {
+        private final Appendable first;
+        private final Appendable second;
+        private boolean both;
+
+        private Tee(final Appendable first, final Appendable second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) throws IOException {
+            this.first.append(csq);
+            if (this.both) {
+                this.second.append(csq);
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+            this.first.append(csq, start, end);
+            if (this.both) {
+                this.second.append(csq, start, end);
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            this.first.append(c);
+            if (this.both) {
+                this.second.append(c);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of the message written in FIN format
+     *
+     * @return the hash or null if the message is null or the digest is not available
+     */
+    private static byte[] digest(final SwiftMessage model) {
+        final DigestAppendable[] digests = model != null ? SHA256.get() : null;
+        if (digests == null) {
             return null;
         }
+        final DigestAppendable out = digests[0];
+        out.reset();
+        SwiftWriter.writeMessage(model, new FINWriterVisitor(out), true);
+        return out.digest();
     }
 
     /**
      * Computes a SHA-256 hash on the parameter text
      *
      * @param text the text to hash
-     * @return computed hash or null if exceptions are thrown reading bytes or processing the digest
+     * @return computed hash or null if the digest is not available
      */
-    private static String sha256(final String text) {
-        try {
-            byte[] bytesOfMessage = text.getBytes(StandardCharsets.UTF_8);
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] thedigest = md.digest(bytesOfMessage);
-
-            // Converting the bytes to a Hex string
-            StringBuilder buff = new StringBuilder();
-            for (byte b : thedigest) {
-                String conversion = Integer.toString(b & 0xFF, 16);
-                while (conversion.length() < 2) {
-                    conversion = "0" + conversion;
-                }
-                buff.append(conversion);
-            }
+    private static String sha256(final CharSequence text) {
+        final DigestAppendable[] digests = SHA256.get();
+        if (digests == null) {
+            return null;
+        }
+        final DigestAppendable out = digests[0];
+        out.reset();
+        out.append(text);
+        return hex(out.digest());
+    }
 
-            return buff.toString();
+    /**
+     * Creates the SHA-256 digests for the current thread, one for the message and one for its text block
+     *
+     * @return the digests or null if the algorithm is not available
+     */
+    private static DigestAppendable[] newDigests() {
+        try {
+            return new DigestAppendable[] {
+                new DigestAppendable(MessageDigest.getInstance("SHA-256")),
+                new DigestAppendable(MessageDigest.getInstance("SHA-256"))
+            };
         } catch (NoSuchAlgorithmException e) {
             log.log(Level.FINEST, e.getMessage(), e);
+            return null;
         }
-        return null;
+    }
+
+    /**
+     * Converts the bytes to a lowercase hexadecimal string
+     */
+    private static String hex(final byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0F];
+        }
+        return new String(chars);
     }
 
     /**
@@ -524,25 +613,7 @@ public class SwiftMessageUtils {
      * @since 7.8
      */
     public static String reference(final SwiftMessage m) {
-        if (m != null) {
-            final SwiftBlock4 b4 = m.getBlock4();
-            if (b4 != null && !b4.isEmpty()) {
-                final Tag t = b4.getTagByName("20");
-                if (t != null) {
-                    return t.getValue();
-                }
-                final Field f = b4.getFieldByNumber(20, "SEME");
-                if (f != null) {
-                    return f.getComponent(2);
-                }
-                final Tag murBlock4 = b4.getTagByName("108");
-                if (murBlock4 != null) {
-                    return murBlock4.getValue();
-                }
-            }
-            return m.getMUR();
-        }
-        return null;
+        return m != null ? MtMetadataPlan.extract(m, MtMetadataPlan.REFERENCE).reference() : null;
     }
 
     /**
@@ -659,128 +730,28 @@ public class SwiftMessageUtils {
      * @return the currency and amount object extracted from the message or null if non is present or cannot be created from its fields
      * @since 8.0.1
      */
-    /*
-     * Do not use API from MTs and Field classes here to avoid cyclic dependency in code generation.
-     * Keep in sync special case for 104 and 107 with MT104 and MT107 getSequenceC logic.
-     */
     public static Money money(final SwiftMessage m) {
-        if (m == null || m.isServiceMessage21()) {
-            return null;
-        }
-        final SwiftBlock4 b4 = m.getBlock4();
-        if (b4 == null || b4.isEmpty()) {
-            return null;
-        }
-        if (m.isType(102, 103, 200, 202, 205, 256, 450, 455, 643, 644, 646, 734, 802, 900, 910)) {
-            return Money.of(b4.getFieldByName("32A"));
-        } else if (m.isType(
-                191, 291, 300, 304, 305, 320, 391, 491, 591, 691, 791, 891, 991, 340, 341, 350, 360, 361, 364, 365, 620,
-                700, 705, 710, 720, 732, 740, 742, 756)) {
-            return Money.of(b4.getFieldByName("32B"));
-        } else if (m.isType(
-                321, 370, 508, 509, 535, 536, 537, 540, 541, 542, 543, 544, 545, 546, 547, 548, 558, 559, 569, 574, 575,
-                576, 578, 586)) {
-            return Money.of(b4.getFieldByName("19A"));
-        } else if (m.isType(330, 362)) {
-            return Money.of(b4.getFieldByName("32H"));
-        } else if (m.isType(306, 581, 707, 747)) {
-            return Money.of(b4.getFieldByName("34B"));
-        } else if (m.isType(380, 381, 505, 564, 566, 567)) {
-            return Money.of(b4.getFieldByName("19B"));
-        } else if (m.isType(800)) {
-            return Money.of(b4.getFieldByName("33B"));
-        } else if (m.isType(941)) {
-            return Money.of(b4.getFieldByName("62F"));
-
-        } else if (m.isType(600, 601)) {
-            return Money.ofAny(b4, "34P", "34R");
-        } else if (m.isType(609)) {
-            return Money.ofAny(b4, "68B", "68C");
-        } else if (m.isType(111, 112, 516, 649) || m.isType(754)) {
-            return Money.ofAny(b4, "32A", "32B");
-        } else if (m.isType(190, 290, 390, 490, 590, 690, 790, 890, 990)) {
-            return Money.ofAny(b4, "32C", "32D");
-        } else if (m.isType(730) || m.isType(768)) {
-            return Money.ofAny(b4, "32B", "32D");
-        } else if (m.isType(400, 410)) {
-            return Money.ofAny(b4, "32A", "32B", "32K");
-        } else if (m.isType(430)) {
-            return Money.ofAny(b4, "33A", "33K", "32A", "32K");
-        } else if (m.isType(750)) {
-            return Money.ofAny(b4, "34B", "32B");
-        } else if (m.isType(752)) {
-            return Money.ofAny(b4, "33A", "33B", "32B");
-        } else if (m.isType(769)) {
-            return Money.ofAny(b4, "32B", "32D", "33B", "34B");
-        } else if (m.isType(940, 950, 970)) {
-            return Money.ofAny(b4, "62F", "62M");
-        } else if (m.isType(101, 201, 203, 204, 207, 210)) {
-            return Money.ofSum(b4.getFieldsByName("32B"));
-        } else if (m.isType(110, 416, 420, 422, 456)) {
-            return Money.ofSum(b4.getFieldsByName("32a"));
-        } else if (m.isType(509)) {
-            return Money.ofSum(b4.getFieldsByName("19A"));
-        } else if (m.isType(112)) {
-            return Money.ofSum(b4.getFieldsByName("32A"));
-        } else if (m.isType(801)) {
-            return Money.ofSum(b4.getFieldsByName("33B"));
-        } else if (m.isType(824)) {
-            return Money.ofSum(b4.getFieldsByName("68A"));
-
-        } else if (m.isType(104, 107)) {
-            // we pick field 32B from sequence C
-            // find last mandatory tag of mandatory sequence B
-            int last59 = b4.indexOfAnyLast("59", "59A");
-            if (last59 >= 0) {
-                int startIndexOfC = b4.indexOfAnyFirstAfterIndex(last59, "32B");
-                if (startIndexOfC >= 0) {
-                    Tag t = b4.getTags().get(startIndexOfC);
-                    if (t != null) {
-                        return Money.of(t.asField());
-                    }
-                }
-            }
-
-        } else if (m.isType(502, 513)) {
-            /*
-             * we pick the first available 19A from the order detail
-             * for MT513 will be only one
-             */
-            SwiftTagListBlock seq = b4.getSubBlock("ORDRDET");
-            if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
-            }
-
-        } else if (m.isType(514, 515, 518)) {
-            /*
-             * we pick the first available 19A from the confirmation detail
-             * for 515 and 518 will be only one
-             */
-            SwiftTagListBlock seq = b4.getSubBlock("CONFDET");
-            if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
-            }
-
-        } else if (m.isType(503, 504, 506)) {
-            /*
-             * we pick the first available 19B from the summary
-             */
-            SwiftTagListBlock seq = b4.getSubBlock("SUMM");
-            if (seq != null) {
-                return Money.of(seq.getFieldByName("19B"));
-            }
+        return m != null ? MtMetadataPlan.extract(m, MtMetadataPlan.AMOUNT).amount() : null;
+    }
 
-        } else if (m.isType(527)) {
-            /*
-             * we pick the first available 19A from the deal transaction details
-             */
-            SwiftTagListBlock seq = b4.getSubBlock("DEALTRAN");
-            if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
-            }
+    /**
+     * Gets the message main reference, main amount, value date and trade date at once.
+     *
+     * <p>The result is the same of calling {@link #reference(SwiftMessage)}, {@link #money(SwiftMessage)},
+     * {@link #valueDate(SwiftMessage)} and {@link #tradeDate(SwiftMessage)}, but the text block is read only once,
+     * looking for all the fields defined for the message type in a single pass.
+     *
+     * @param m the message where the metadata is to be found
+     * @return the found metadata, with empty values for the ones not defined or not present in the message
+     * @since 9.5.0
+     */
+    public static MessageMetadata metadata(final SwiftMessage m) {
+        if (m == null) {
+            return MessageMetadata.empty();
         }
-
-        return null;
+        final MtMetadataPlan.Extraction extraction = MtMetadataPlan.extract(m, MtMetadataPlan.ALL);
+        return new MessageMetadata(
+                extraction.reference(), extraction.amount(), extraction.valueDate(), extraction.tradeDate());
     }
 
     /**
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.swift.model.field.Field;
 import com.prowidesoftware.swift.model.field.Field16R;
 import com.prowidesoftware.swift.model.field.Field16S;
@@ -51,7 +49,19 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      *
      * @see Tag
      */
-    private List<Tag> tags = new ArrayList<>();
+    private List<Tag> tags = new TrackedTagList();
+
+    /**
+     * Whether the name and number lookups use the tags index.
+     *
+     * @see #setIndexed(boolean)
+     */
+    private transient boolean indexed;
+
+    /**
+     * Data derived from the tags, the index and the sequences tree, rebuilt when the tags change
+     */
+    private transient volatile DerivedData derived;
 
     /**
      * Default constructor, shouldn't be used normally.
@@ -95,7 +105,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @throws IllegalArgumentException if parameter tags is not null and contains elements of class other than Tag
      */
     public void setTags(final List<Tag> tags) {
-        this.tags = tags;
+        this.tags = this.indexed && tags != null ? new TrackedTagList(tags) : tags;
     }
 
     /**
@@ -107,6 +117,114 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         setTags(list);
     }
 
+    /**
+     * Enables or disables an index of the tags positions by name and by number, for large blocks queried many times.
+     *
+     * <p>When enabled, the index is built on the first lookup and then used by the methods finding tags or fields by
+     * exact name or by number, such as {@link #getTagByName(String)}, {@link #getTagsByName(String)},
+     * {@link #containsTag(String)}, {@link #countByName(String)}, {@link #getTagsByNumber(int)} and
+     * {@link #getFieldByName(String)}. Lookups with the letter option wildcard still iterate the tags.
+     *
+     * <p>Any change to the tags list, made by the block methods or directly in the list returned by
+     * {@link #getTags()}, and any rename of a tag with {@link Tag#setName(String)}, discards the index, which is built
+     * again on the next lookup. To track the changes, while the index is enabled the block holds its own copy of the
+     * tags list; the list given to {@link #setTags(List)} is copied as well. The index is not serialized.
+     *
+     * <p>For small blocks, or blocks queried only a few times, building the index costs more than the linear scans.
+     *
+     * @param indexed true to enable the index, false to drop it and go back to linear lookups
+     * @since 9.5.0
+     */
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+        final DerivedData data = this.derived;
+        if (data != null && data.index != null) {
+            this.derived = new DerivedData(null, data.treeSnapshot, data.tree);
+        }
+        if (indexed && this.tags != null && !(this.tags instanceof TrackedTagList)) {
+            this.tags = new TrackedTagList(this.tags);
+        }
+    }
+
+    /**
+     * @return true if the tags index is enabled
+     * @see #setIndexed(boolean)
+     * @since 9.5.0
+     */
+    public boolean isIndexed() {
+        return this.indexed;
+    }
+
+    /**
+     * Gets the tags index, building it if the previous one is stale
+     *
+     * @return the index or null if the index is not enabled
+     */
+    private TagIndex index() {
+        final List<Tag> current = this.tags;
+        if (!this.indexed || !(current instanceof TrackedTagList)) {
+            return null;
+        }
+        final DerivedData data = this.derived;
+        TagIndex result = data != null ? data.index : null;
+        if (result == null || !result.isValid(current)) {
+            result = new TagIndex((TrackedTagList) current);
+            final DerivedData latest = this.derived;
+            this.derived = new DerivedData(
+                    result, latest != null ? latest.treeSnapshot : null, latest != null ? latest.tree : null);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the ISO 15022 sequences of this block, delimited by 16R and 16S fields, with their nesting.
+     *
+     * <p>The tree is found in a single pass over the tags and used by {@link #getSubBlocks(String)} and
+     * {@link #getSubBlock(String)}, so getting several sequences of the same block does not scan the tags for each one.
+     * For the blocks created by the parser, or by the default constructor, the tree is kept until the tags list or
+     * the tags change; for blocks holding a list given by the caller, and for a block 4 parsed in lazy mode, the tree
+     * is built on each call.
+     *
+     * @return the sequences tree, with the positions of the boundaries in {@link #getTags()}
+     * @since 9.5.0
+     */
+    public SequenceTree getSequenceTree() {
+        final List<Tag> current = this.tags;
+        if (!(current instanceof TrackedTagList)) {
+            return SequenceTree.of(current != null ? current : Collections.emptyList());
+        }
+        final DerivedData data = this.derived;
+        if (data != null && data.tree != null && data.treeSnapshot.isCurrent(current)) {
+            return data.tree;
+        }
+        // take the snapshot first, so a change while the tree is built is detected on the next call
+        final TrackedTagList.Snapshot snapshot = ((TrackedTagList) current).snapshot();
+        final SequenceTree tree = SequenceTree.of(current);
+        final DerivedData latest = this.derived;
+        this.derived = new DerivedData(latest != null ? latest.index : null, snapshot, tree);
+        return tree;
+    }
+
+    /**
+     * Copies the tags of a sequence into a new block, tracked so its own sequences can be cached as well.
+     * The new list shares the owner of this block list, so both blocks are notified of the changes of the tags.
+     */
+    private SwiftTagListBlock sequence(final SequenceTree.Node node) {
+        final List<Tag> sequence = this.tags.subList(node.getStart(), node.getEnd() + 1);
+        return new SwiftTagListBlock(
+                this.tags instanceof TrackedTagList
+                        ? new TrackedTagList(sequence, ((TrackedTagList) this.tags).owner())
+                        : new TrackedTagList(sequence));
+    }
+
+    private List<Tag> tagsAt(final int[] positions) {
+        final List<Tag> result = new ArrayList<>(positions.length);
+        for (final int position : positions) {
+            result.add(this.tags.get(position));
+        }
+        return result;
+    }
+
     /**
      * Iterate through tags in this block and return the first tag whose name matches the parameter.
      *
@@ -116,6 +234,11 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public Tag getTagByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final TagIndex idx = index();
+        if (idx != null) {
+            final int[] positions = idx.byName(name);
+            return positions.length > 0 ? this.tags.get(positions[0]) : null;
+        }
         for (Tag tag : this.tags) {
             if (StringUtils.equals(tag.getName(), name)) {
                 return tag;
@@ -185,6 +308,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public Tag[] getTagsByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final TagIndex idx = index();
+        if (idx != null) {
+            return tagsAt(idx.byName(name)).toArray(new Tag[0]);
+        }
         return this.tags.stream()
                 .filter(tag -> StringUtils.equals(tag.getName(), name))
                 .toArray(Tag[]::new);
@@ -218,6 +345,11 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return the first tag with the given number or null if no tag is found.
      */
     public Tag getTagByNumber(final int tagNumber) {
+        final TagIndex idx = index();
+        if (idx != null) {
+            final int[] positions = idx.byNumber(tagNumber);
+            return positions.length > 0 ? this.tags.get(positions[0]) : null;
+        }
         for (Tag tag : this.tags) {
             if (tag.isNumber(tagNumber)) {
                 return tag;
@@ -233,6 +365,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @return the tags matching the given number or an empty list if none is found.
      */
     public List<Tag> getTagsByNumber(final int tagNumber) {
+        final TagIndex idx = index();
+        if (idx != null) {
+            return tagsAt(idx.byNumber(tagNumber));
+        }
         return tags.stream().filter(tag -> tag.isNumber(tagNumber)).collect(Collectors.toList());
     }
 
@@ -326,7 +462,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
 
         final boolean wildcard = name.endsWith("a");
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 final Field field = tag.asField();
                 if (field == null) {
@@ -353,7 +489,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
 
         final boolean wildcard = name.endsWith("a");
         final List<Field> l = new ArrayList<>();
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 final Field field = tag.asField();
                 if (field == null) {
@@ -380,7 +516,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
 
         final boolean wildcard = name.endsWith("a");
         final List<Tag> l = new ArrayList<>();
-        for (Tag tag : this.tags) {
+        for (Tag tag : candidates(wildcard, name)) {
             if (matchesName(wildcard, tag.getName(), name)) {
                 if (componentValue == null) {
                     l.add(tag);
@@ -395,6 +531,15 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return l;
     }
 
+    /**
+     * Gets the tags to check for a name lookup, only the tags with the exact name if the block is indexed and the name
+     * has no wildcard, or else all the tags
+     */
+    private List<Tag> candidates(final boolean wildcard, final String name) {
+        final TagIndex idx = wildcard ? null : index();
+        return idx != null ? tagsAt(idx.byName(name)) : this.tags;
+    }
+
     /**
      * Returns true if the found fieldname matches the expected name
      *
@@ -531,6 +676,10 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     public int countByName(final String name) {
         Objects.requireNonNull(name, NAME_VALIDATION_MESSAGE);
+        final TagIndex idx = index();
+        if (idx != null) {
+            return idx.byName(name).length;
+        }
         return tags.stream()
                 .filter(tag -> StringUtils.equals(tag.getName(), name))
                 .mapToInt(i -> 1)
@@ -638,7 +787,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      */
     private List<Tag> thisTagsNotNull() {
         if (this.tags == null) {
-            this.tags = new ArrayList<>();
+            this.tags = new TrackedTagList();
         }
         return this.tags;
     }
@@ -751,7 +900,15 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 6.0
      */
     public List<SwiftTagListBlock> getSubBlocks(final String blockName) {
-        return getSubBlocks(new Tag("16R", blockName), new Tag("16S", blockName));
+        if (blockName == null || this.tags == null) {
+            return getSubBlocks(new Tag("16R", blockName), new Tag("16S", blockName));
+        }
+        final List<SequenceTree.Node> nodes = getSequenceTree().getNodes(StringUtils.remove(blockName, '\r'));
+        final List<SwiftTagListBlock> result = new ArrayList<>(nodes.size());
+        for (final SequenceTree.Node node : nodes) {
+            result.add(sequence(node));
+        }
+        return result;
     }
 
     /**
@@ -882,7 +1039,11 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 6.0
      */
     public SwiftTagListBlock getSubBlock(final String blockName) {
-        return getSubBlock(new Tag("16R", blockName), new Tag("16S", blockName));
+        if (blockName == null || this.tags == null) {
+            return getSubBlock(new Tag("16R", blockName), new Tag("16S", blockName));
+        }
+        final SequenceTree.Node node = getSequenceTree().getNode(StringUtils.remove(blockName, '\r'));
+        return node != null ? sequence(node) : new SwiftTagListBlock();
     }
 
     /**
@@ -1867,8 +2028,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 7.9.8
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder().create();
-        return gson.toJson(this);
+        return SwiftJson.gson().toJson(this);
     }
 
     /**
@@ -2082,6 +2242,23 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return result;
     }
 
+    /**
+     * Immutable holder of the data derived from the tags, published at once so that concurrent readers of the block
+     * see either the previous or the new data
+     */
+    private static final class DerivedData {
+        private final TagIndex index;
+        private final TrackedTagList.Snapshot treeSnapshot;
+        private final SequenceTree tree;
+
+        private DerivedData(
+                final TagIndex index, final TrackedTagList.Snapshot treeSnapshot, final SequenceTree tree) {
+            this.index = index;
+            this.treeSnapshot = treeSnapshot;
+            this.tree = tree;
+        }
+    }
+
     /**
      * To indicate which part of the data is selected
      */
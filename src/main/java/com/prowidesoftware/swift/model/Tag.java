@@ -29,6 +29,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class Tag implements Serializable {
 
+    private static final int NO_NUMBER = -1;
+
     /**
      * Name of the tag, usually a number that may be followed by a letter.
      */
@@ -44,6 +46,17 @@ public class Tag implements Serializable {
      */
     protected UnparsedTextList unparsedTexts = null;
 
+    /**
+     * The numeric part of the name, cached until the name changes
+     */
+    private transient NameNumber nameNumber;
+
+    /**
+     * The tags list of the block caching data derived from this tag, notified when the tag name changes, or the value
+     * of a 16R or 16S tag changes
+     */
+    private transient TrackedTagList.Owner owner;
+
     /**
      * Default constructor.
      */
@@ -183,6 +196,9 @@ public class Tag implements Serializable {
         // sanity check
         Objects.requireNonNull(name, "parameter 'name' cannot be null");
 
+        if (this.owner != null && !name.equals(this.name)) {
+            this.owner.changed();
+        }
         this.name = name;
     }
 
@@ -204,9 +220,30 @@ public class Tag implements Serializable {
      * @param value the value for the tag, may be null
      */
     public void setValue(String value) {
+        if (this.owner != null && isSequenceBoundary() && !Objects.equals(this.value, value)) {
+            this.owner.changed();
+        }
         this.value = value;
     }
 
+    private boolean isSequenceBoundary() {
+        return "16R".equals(this.name) || "16S".equals(this.name);
+    }
+
+    /**
+     * Sets the tags list to notify of the changes of this tag, when a block caches data derived from its tags.
+     * A tag is tracked by a single list, the previous one is notified, so its cached data is rebuilt when used again.
+     */
+    void trackBy(final TrackedTagList.Owner owner) {
+        final TrackedTagList.Owner previous = this.owner;
+        if (previous != owner) {
+            if (previous != null) {
+                previous.changed();
+            }
+            this.owner = owner;
+        }
+    }
+
     @Override
     public String toString() {
         return "Tag[" + name + ":" + value + "]";
@@ -382,7 +419,8 @@ public class Tag implements Serializable {
      * @return <code>true</code> if this tagname starts with the given number or <code>false</code> in any other case
      */
     public boolean isNumber(int n) {
-        return this.name != null && getNumber() != null && getNumber().equals(n);
+        final int number = number();
+        return number != NO_NUMBER && number == n;
     }
 
     /**
@@ -392,23 +430,43 @@ public class Tag implements Serializable {
      * @since 6.2
      */
     public Integer getNumber() {
-        if (this.name != null) {
-            final StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < this.name.length(); i++) {
-                char c = this.name.charAt(i);
-                if (Character.isDigit(c)) {
-                    sb.append(c);
-                }
-            }
-            if (sb.length() > 0) {
-                try {
-                    return Integer.parseInt(sb.toString());
-                } catch (NumberFormatException e) {
-                    return null;
+        final int number = number();
+        return number != NO_NUMBER ? number : null;
+    }
+
+    /**
+     * Gets the numeric part of the name, computed once per name
+     *
+     * @return the number or {@link #NO_NUMBER} if the name is null, has no digits or its digits overflow an int
+     */
+    int number() {
+        final String current = this.name;
+        if (current == null) {
+            return NO_NUMBER;
+        }
+        NameNumber cached = this.nameNumber;
+        // the name is compared by reference since the protected field can be changed without the setter
+        if (cached == null || cached.name != current) {
+            cached = new NameNumber(current, parseNumber(current));
+            this.nameNumber = cached;
+        }
+        return cached.number;
+    }
+
+    private static int parseNumber(final String name) {
+        long number = 0;
+        boolean found = false;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (Character.isDigit(c)) {
+                found = true;
+                number = number * 10 + Character.digit(c, 10);
+                if (number > Integer.MAX_VALUE) {
+                    return NO_NUMBER;
                 }
             }
         }
-        return null;
+        return found ? (int) number : NO_NUMBER;
     }
 
     /**
@@ -486,4 +544,17 @@ public class Tag implements Serializable {
     public Field asField() {
         return Field.getField(this);
     }
+
+    /**
+     * Immutable pair of a name and its number, so the cache is safely read by concurrent threads
+     */
+    private static final class NameNumber {
+        private final String name;
+        private final int number;
+
+        private NameNumber(final String name, final int number) {
+            this.name = name;
+            this.number = number;
+        }
+    }
 }
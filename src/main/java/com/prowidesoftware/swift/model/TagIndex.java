@@ -0,0 +1,103 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Positions of the tags of a {@link SwiftTagListBlock} by tag name and by tag number, used by the block lookups when
+ * the index is enabled with {@link SwiftTagListBlock#setIndexed(boolean)}.
+ *
+ * <p>The index is a snapshot of a {@link TrackedTagList}. It is valid while the list is not modified and no tag is
+ * renamed; the block checks {@link #isValid(List)} before each use and builds a new index otherwise.
+ *
+ * @since 9.5.0
+ */
+final class TagIndex {
+    private static final int[] NONE = new int[0];
+
+    private final TrackedTagList.Snapshot snapshot;
+    private final Map<String, int[]> byName = new HashMap<>();
+    private final Map<Integer, int[]> byNumber = new HashMap<>();
+
+    TagIndex(final TrackedTagList tags) {
+        this.snapshot = tags.snapshot();
+
+        final Map<String, Positions> names = new HashMap<>();
+        final Map<Integer, Positions> numbers = new HashMap<>();
+        for (int i = 0; i < tags.size(); i++) {
+            final Tag tag = tags.get(i);
+            if (tag == null) {
+                continue;
+            }
+            if (tag.getName() != null) {
+                names.computeIfAbsent(tag.getName(), k -> new Positions()).add(i);
+            }
+            final Integer number = tag.getNumber();
+            if (number != null) {
+                numbers.computeIfAbsent(number, k -> new Positions()).add(i);
+            }
+        }
+        names.forEach((name, positions) -> byName.put(name, positions.toArray()));
+        numbers.forEach((number, positions) -> byNumber.put(number, positions.toArray()));
+    }
+
+    /**
+     * @param current the current tags list of the block
+     * @return true if the index was built from the current list and neither the list nor any tag name has changed
+     */
+    boolean isValid(final List<Tag> current) {
+        return this.snapshot.isCurrent(current);
+    }
+
+    /**
+     * @param name a tag name
+     * @return the positions of the tags with the given name in ascending order, or an empty array
+     */
+    int[] byName(final String name) {
+        return this.byName.getOrDefault(name, NONE);
+    }
+
+    /**
+     * @param number a tag number
+     * @return the positions of the tags with the given number in ascending order, or an empty array
+     */
+    int[] byNumber(final int number) {
+        return this.byNumber.getOrDefault(number, NONE);
+    }
+
+    /**
+     * Growable array of positions used while the index is built
+     */
+    private static final class Positions {
+        private int[] values = new int[2];
+        private int size;
+
+        void add(final int position) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tags list of a {@link SwiftTagListBlock} counting every change to the list, so the data derived from the tags, such
+ * as the {@link TagIndex} and the {@link SequenceTree}, can be cached until the list changes.
+ *
+ * <p>The structural changes are counted by the inherited modCount. Replacing an element with {@link #set(int, Tag)}
+ * is counted apart, since increasing the modCount would break the iterators calling set. The changes of the tags
+ * themselves are counted by the list {@link Owner}, that the tags notify once a snapshot of the list is taken. Thus
+ * the tags created by the parser, or not yet used by a cache, do not notify anything.
+ *
+ * <p>The list is serialized as a plain ArrayList.
+ *
+ * @since 9.5.0
+ */
+final class TrackedTagList extends ArrayList<Tag> {
+    private static final long serialVersionUID = 1L;
+    private final transient Owner owner;
+    private int replacements;
+
+    TrackedTagList() {
+        super();
+        this.owner = new Owner();
+    }
+
+    TrackedTagList(final Collection<Tag> tags) {
+        this(tags, new Owner());
+    }
+
+    /**
+     * @param tags  the initial tags
+     * @param owner the owner shared with the list the tags are taken from, so the tags are tracked for both lists
+     */
+    TrackedTagList(final Collection<Tag> tags, final Owner owner) {
+        super(tags);
+        this.owner = owner;
+    }
+
+    /**
+     * @return the owner notified by the tags of this list
+     */
+    Owner owner() {
+        return this.owner;
+    }
+
+    @Override
+    public Tag set(final int index, final Tag element) {
+        this.replacements++;
+        return super.set(index, element);
+    }
+
+    /**
+     * Takes the current state of the list and makes its tags notify this list of their changes from now on.
+     *
+     * @return the current state of the list, to check later if the list, the tags names or the 16R/16S values changed
+     */
+    Snapshot snapshot() {
+        final Snapshot snapshot = new Snapshot(this, modifications(), this.owner.changes);
+        for (final Tag tag : this) {
+            if (tag != null) {
+                tag.trackBy(this.owner);
+            }
+        }
+        return snapshot;
+    }
+
+    private int modifications() {
+        return this.modCount + this.replacements;
+    }
+
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    /**
+     * Counter of the changes of the tags tracked by one or more lists.
+     *
+     * <p>The counter is only compared for equality, so a lost increment from a race between two writers, which is not
+     * a supported use of a block anyway, still changes its value.
+     */
+    static final class Owner {
+        private volatile int changes;
+
+        void changed() {
+            this.changes++;
+        }
+    }
+
+    /**
+     * State of a tracked list at a given time
+     */
+    static final class Snapshot {
+        private final TrackedTagList tags;
+        private final int modifications;
+        private final int changes;
+
+        private Snapshot(final TrackedTagList tags, final int modifications, final int changes) {
+            this.tags = tags;
+            this.modifications = modifications;
+            this.changes = changes;
+        }
+
+        /**
+         * @param current the current tags list of a block
+         * @return true if current is the same list and neither the list nor any tag name or 16R/16S value has changed
+         * since the snapshot
+         */
+        boolean isCurrent(final List<Tag> current) {
+            return current == this.tags
+                    && this.tags.modifications() == this.modifications
+                    && this.tags.owner.changes == this.changes;
+        }
+    }
+}
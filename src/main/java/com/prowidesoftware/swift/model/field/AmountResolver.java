@@ -16,7 +16,6 @@
 package com.prowidesoftware.swift.model.field;
 
 import com.prowidesoftware.swift.utils.ResolverUtils;
-import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
@@ -48,12 +47,11 @@ public class AmountResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findNonNullWantedType(f.typesPattern(), 'I', f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(SwiftFormatUtils::getBigDecimal)
+        // find all the AMOUNT components and convert the non-null ones, reusing the field cached conversions
+        List<Integer> positions = ResolverUtils.findWantedTypesPosition(f.typesPattern(), 'I');
+        return positions.stream()
+                .filter(i -> i <= f.getComponents().size())
+                .map(i -> ComponentConversion.AMOUNT.apply(f, i))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -75,12 +73,11 @@ public class AmountResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find the first AMOUNT component
-        String value = ResolverUtils.findFirstWantedType(f.typesPattern(), 'I', f.getComponents());
-
-        // if non-null => try to convert it
-        if (value != null) {
-            return SwiftFormatUtils.getBigDecimal(value);
+        // find the first AMOUNT component and convert it, reusing the field cached conversion
+        final String pattern = f.typesPattern();
+        final int position = pattern != null ? pattern.indexOf('I') : -1;
+        if (position >= 0 && position < f.getComponents().size()) {
+            return ComponentConversion.AMOUNT.apply(f, position + 1);
         }
         return null;
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import com.prowidesoftware.swift.utils.SwiftFormatUtils;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Currency;
+import java.util.function.Function;
+
+/**
+ * Conversion of a component string value into its typed value, as done by the generated getComponentNAsXXX methods
+ * for each component type in the fields types pattern.
+ *
+ * <p>Only the amount, currency and date and time types are mapped, which are the conversions cached by
+ * {@link Field#getComponentAs(int, Class, Function)}. Besides the calendar conversions, the date and time types with
+ * a full date or a full time have a java.time conversion, see {@link #temporal(char)}.
+ *
+ * @param <T> the converted value type
+ * @since 9.5.0
+ */
+final class ComponentConversion<T> {
+    static final ComponentConversion<BigDecimal> AMOUNT =
+            new ComponentConversion<>(BigDecimal.class, SwiftFormatUtils::getBigDecimal);
+    static final ComponentConversion<Currency> CURRENCY =
+            new ComponentConversion<>(Currency.class, SwiftFormatUtils::getCurrency);
+
+    private static final ComponentConversion<Calendar> DATE1 = calendar(SwiftFormatUtils::getDate1);
+    private static final ComponentConversion<Calendar> DATE2 = calendar(SwiftFormatUtils::getDate2);
+    private static final ComponentConversion<Calendar> DATE4 = calendar(SwiftFormatUtils::getDate4);
+    private static final ComponentConversion<Calendar> DATETIME = calendar(SwiftFormatUtils::getDateTime);
+    private static final ComponentConversion<Calendar> DATETIME_SHORT_YEAR =
+            calendar(SwiftFormatUtils::getDateTimeShortYear);
+    private static final ComponentConversion<Calendar> DAYTIME = calendar(SwiftFormatUtils::getDayTime);
+    private static final ComponentConversion<Calendar> MONTHDAY = calendar(SwiftFormatUtils::getMonthDay);
+    private static final ComponentConversion<Calendar> YEAR = calendar(SwiftFormatUtils::getYear);
+    private static final ComponentConversion<Calendar> TIME2 = calendar(SwiftFormatUtils::getTime2);
+    private static final ComponentConversion<Calendar> TIME3 = calendar(SwiftFormatUtils::getTime3);
+    private static final ComponentConversion<Calendar> HOUR = calendar(SwiftFormatUtils::getHour);
+
+    private static final ComponentConversion<LocalDate> LOCAL_DATE2 =
+            new ComponentConversion<>(LocalDate.class, SwiftFormatUtils::getLocalDate2);
+    private static final ComponentConversion<LocalDate> LOCAL_DATE4 =
+            new ComponentConversion<>(LocalDate.class, SwiftFormatUtils::getLocalDate4);
+    private static final ComponentConversion<LocalTime> LOCAL_TIME2 =
+            new ComponentConversion<>(LocalTime.class, SwiftFormatUtils::getLocalTime2);
+    private static final ComponentConversion<LocalTime> LOCAL_TIME3 =
+            new ComponentConversion<>(LocalTime.class, SwiftFormatUtils::getLocalTime3);
+    private static final ComponentConversion<LocalDateTime> LOCAL_DATETIME =
+            new ComponentConversion<>(LocalDateTime.class, SwiftFormatUtils::getLocalDateTime);
+    private static final ComponentConversion<LocalDateTime> LOCAL_DATETIME_SHORT_YEAR =
+            new ComponentConversion<>(LocalDateTime.class, SwiftFormatUtils::getLocalDateTimeShortYear);
+
+    private final Class<T> type;
+    private final Function<String, T> converter;
+
+    private ComponentConversion(final Class<T> type, final Function<String, T> converter) {
+        this.type = type;
+        this.converter = converter;
+    }
+
+    private static ComponentConversion<Calendar> calendar(final Function<String, Calendar> converter) {
+        return new ComponentConversion<>(Calendar.class, converter);
+    }
+
+    /**
+     * Gets the conversion for a component type
+     *
+     * @param type a component type from the field types pattern
+     * @return the conversion or null if the type is not converted to an amount, currency or calendar
+     */
+    static ComponentConversion<?> of(final char type) {
+        switch (type) {
+            case 'I':
+                return AMOUNT;
+            case 'C':
+                return CURRENCY;
+            case 'A':
+                return DATETIME;
+            case 'D':
+                return DATE4;
+            case 'E':
+                return DATE2;
+            case 'F':
+                return DATE1;
+            case 'H':
+            case 'W':
+                return TIME3;
+            case 'J':
+                return MONTHDAY;
+            case 'P':
+                return DAYTIME;
+            case 'Q':
+                return HOUR;
+            case 'T':
+                return TIME2;
+            case 'U':
+                return DATETIME_SHORT_YEAR;
+            case 'Y':
+                return YEAR;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the java.time conversion for a component type
+     *
+     * @param type a component type from the field types pattern
+     * @return the conversion or null if the type is not a full date, time or date and time (UTC offsets are not
+     * converted)
+     */
+    static ComponentConversion<?> temporal(final char type) {
+        switch (type) {
+            case 'A':
+                return LOCAL_DATETIME;
+            case 'D':
+                return LOCAL_DATE4;
+            case 'E':
+                return LOCAL_DATE2;
+            case 'H':
+                return LOCAL_TIME3;
+            case 'T':
+                return LOCAL_TIME2;
+            case 'U':
+                return LOCAL_DATETIME_SHORT_YEAR;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the type of the converted value
+     */
+    Class<T> type() {
+        return this.type;
+    }
+
+    /**
+     * Gets the component of the field converted, using the field cached value if available
+     *
+     * @param field  the field to read
+     * @param number one-based index of the component
+     * @return the converted value or null if the component is not present or cannot be converted
+     */
+    T apply(final Field field, final int number) {
+        return field.getComponentAs(number, this.type, this.converter);
+    }
+}
@@ -1,14 +1,13 @@
 package com.prowidesoftware.swift.model.field;
 
 import com.prowidesoftware.swift.utils.ResolverUtils;
-import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.tuple.Pair;
 
 public class DateResolver {
+    private static final String TYPES = "DEFYAUPJ";
 
     /**
      * Gets the dates of the given field by reading it's components pattern.
@@ -29,13 +28,10 @@ public class DateResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<Pair<Character, String>> values =
-                ResolverUtils.findWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(pair -> _convert(pair.getKey(), pair.getValue()))
+        // find all the DATE components and convert them, reusing the field cached conversions
+        final String pattern = f.typesPattern();
+        return ResolverUtils.findWantedTypesPosition(pattern, TYPES).stream()
+                .map(i -> _convert(f, pattern.charAt(i - 1), i))
                 .collect(Collectors.toList());
     }
 
@@ -56,32 +52,20 @@ public class DateResolver {
         Objects.requireNonNull(f);
 
         // find the first DATE component
-        Pair<Character, String> value =
-                ResolverUtils.findFirstWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-        return value != null ? _convert(value.getKey(), value.getValue()) : null;
+        final String pattern = f.typesPattern();
+        final int len = pattern != null ? pattern.length() : 0;
+        for (int i = 0; i < len; i++) {
+            if (TYPES.indexOf(pattern.charAt(i)) != -1) {
+                return _convert(f, pattern.charAt(i), i + 1);
+            }
+        }
+        return null;
     }
 
-    private static Calendar _convert(Character type, String value) {
-
-        switch (type) {
-            case 'D':
-                return SwiftFormatUtils.getDate4(value);
-            case 'E':
-                return SwiftFormatUtils.getDate2(value);
-            case 'F':
-                return SwiftFormatUtils.getDate1(value);
-            case 'Y':
-                return SwiftFormatUtils.getYear(value);
-            case 'A':
-                return SwiftFormatUtils.getDateTime(value);
-            case 'U':
-                return SwiftFormatUtils.getDateTimeShortYear(value);
-            case 'P':
-                return SwiftFormatUtils.getDayTime(value);
-            case 'J':
-                return SwiftFormatUtils.getMonthDay(value);
+    private static Calendar _convert(final Field f, final char type, final int number) {
+        if (number > f.getComponents().size()) {
+            return null;
         }
-
-        return null;
+        return (Calendar) ComponentConversion.of(type).apply(f, number);
     }
 }
@@ -15,24 +15,32 @@
  */
 package com.prowidesoftware.swift.model.field;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
 import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
 import com.prowidesoftware.swift.model.BIC;
+import com.prowidesoftware.swift.model.SwiftJson;
 import com.prowidesoftware.swift.model.Tag;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
@@ -53,10 +61,15 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     protected List<String> components;
 
-    // cached results for getLabelMap() method
-    protected Map<String, Integer> labelMap;
+    // cached results for getLabelMap() method, not part of the field state and no longer used by the library fields
+    protected transient Map<String, Integer> labelMap;
 
-    private static final String fieldNamePattern = "^\\d{2,3}[A-Z]?$";
+    /**
+     * Cached typed values of the components, indexed by component position, not part of the field state
+     */
+    private transient TypedValue[] typedValues;
+
+    private static final Pattern FIELD_NAME_PATTERN = Pattern.compile("^\\d{2,3}[A-Z]?$");
 
     /**
      * No-argument constructor required for serialization.
@@ -181,7 +194,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * Creates a Field instance for the given Tag object, using reflection.
+     * Creates a Field instance for the given Tag object.
      * The created object is populated with parsed components data from the Tag.
      *
      * @param t a tag with proper name and value content
@@ -192,7 +205,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * Creates a Field instance for the given it's name and and optional value, using reflection.
+     * Creates a Field instance for the given it's name and and optional value.
+     *
+     * <p>The field classes are resolved once per name and their constructors cached, and an unrecognized name is
+     * reported with a warning only the first time it is found.
      *
      * @param name  a proper field name, ex: 32A, 22F, 20
      * @param value an optional field value or null to create the field with no initial content
@@ -200,23 +216,19 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.8
      */
     public static Field getField(final String name, final String value) {
-        Object r = null;
+        final FieldFactory factory = FieldFactory.of(name);
+        if (factory == null) {
+            if (name == null) {
+                log.warning("Cannot create a field instance for a null field name");
+            }
+            return null;
+        }
         try {
-            final Class<?> c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
-            @SuppressWarnings("rawtypes")
-            final Class[] argsClass = {String.class};
-            @SuppressWarnings("rawtypes")
-            final Constructor ct = c.getConstructor(argsClass);
-            final Object[] arglist = {value};
-            r = ct.newInstance(arglist);
-        } catch (final ClassNotFoundException e) {
-            log.warning(
-                    "Field class for Field" + name
-                            + " not found. This is normally caused by an unrecognized field in the message or a malformed message block structure.");
+            return factory.newField(value);
         } catch (final Exception e) {
             log.log(Level.WARNING, "An error occurred while creating an instance of " + name, e);
+            return null;
         }
-        return (Field) r;
     }
 
     /**
@@ -400,7 +412,34 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @see #toJson()
      */
     public static Field fromJson(final String json) {
-        JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
+
+    /**
+     * Creates a specific field instance from its JSON representation, reading the field object from the given reader.
+     *
+     * @param reader a reader positioned at the field JSON object
+     * @return a specific field, for example Field32A, or null if the JSON data contains an unrecognized field name
+     * @throws com.google.gson.JsonParseException if the JSON data is not well-formed
+     * @see #toJson(JsonWriter)
+     * @since 9.5.0
+     */
+    public static Field fromJson(final JsonReader reader) {
+        return fromJson(JsonParser.parseReader(reader).getAsJsonObject());
+    }
+
+    /**
+     * Creates a specific field instance from its parsed JSON representation.
+     *
+     * <p>The implementation reads the "name" property, then calls the fromJson method in the specific Field subclass
+     * with the same JSON object, so the content is parsed only once.
+     *
+     * @param jsonObject the field JSON object
+     * @return a specific field, for example Field32A, or null if the JSON data contains an unrecognized field name
+     * @see #fromJson(String)
+     * @since 9.5.0
+     */
+    public static Field fromJson(final JsonObject jsonObject) {
         JsonElement nameElement = jsonObject.get("name");
         if (nameElement != null) {
             String name = nameElement.getAsString();
@@ -408,20 +447,18 @@ public abstract class Field implements PatternContainer, JsonSerializable {
                 log.warning("Field name is empty");
                 return null;
             }
-            if (!name.matches(fieldNamePattern)) {
+            if (!FIELD_NAME_PATTERN.matcher(name).matches()) {
                 log.warning(
                         "Invalid field name [" + name
                                 + "]. The field name must start with 2 or 3 numeric digits and can optionally end with a single capital letter.");
                 return null;
             }
+            final FieldFactory factory = FieldFactory.of(name);
+            if (factory == null) {
+                return null;
+            }
             try {
-                final Class<?> c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
-                Method method = c.getMethod("fromJson", String.class);
-                return (Field) method.invoke(null, json);
-            } catch (final ClassNotFoundException e) {
-                log.warning(
-                        "Field class for Field" + name
-                                + " not found. This is normally caused by an unrecognized field in the message or a malformed message block structure.");
+                return factory.fromJson(jsonObject);
             } catch (final Exception e) {
                 log.log(Level.WARNING, "An error occured while creating an instance of " + name, e);
             }
@@ -437,10 +474,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.8
      */
     protected void init(final int components) {
-        this.components = new ArrayList<>(components);
-        for (int i = 0; i < components; i++) {
-            this.components.add(null);
-        }
+        this.components = new ArrayList<>(Collections.nCopies(components, null));
+        this.typedValues = null;
     }
 
     /**
@@ -535,6 +570,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     public void setComponents(final List<String> components) {
         this.components = components;
+        this.typedValues = null;
     }
 
     /**
@@ -557,6 +593,9 @@ public abstract class Field implements PatternContainer, JsonSerializable {
             log.warning("component number " + number + " is out of bound for field " + getName());
         } else {
             this.components.set(position, value);
+            if (this.typedValues != null && position < this.typedValues.length) {
+                this.typedValues[position] = null;
+            }
         }
     }
 
@@ -601,7 +640,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     public int componentNameToNumber(final String componentName) {
         Validate.isTrue(StringUtils.isNotBlank(componentName), "component name should not be empty " + componentName);
-        Integer component = getLabelMap().get(componentName.toLowerCase());
+        Integer component = labelMap().get(componentName.toLowerCase());
         if (component != null) {
             return component;
         }
@@ -675,6 +714,124 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         return componentNumber > 0 ? this.getValueDisplay(componentNumber, locale) : null;
     }
 
+    /**
+     * Gets the given component converted with the given function, caching the result.
+     *
+     * <p>The converted value is kept until the component is changed with {@link #setComponent(int, String)},
+     * {@link #setComponents(List)} or {@link #parse(String)}, so repeated calls to the typed getters of the field, such
+     * as getComponent3AsBigDecimal() or amount(), parse the component only once. The cache is also bypassed if the
+     * component value is replaced directly in the components list. Since calendars are mutable, a copy of the cached
+     * calendar is returned. The cached value is identified by the component number and the type, so a component must
+     * always be converted with the same function for a given type.
+     *
+     * @param number    one-based index of the component to retrieve
+     * @param type      the type of the converted value
+     * @param converter the conversion from the component value, called only if the component is not null
+     * @param <T>       the type of the converted value
+     * @return the converted value or null if the component is not present or the conversion returns null
+     * @since 9.5.0
+     */
+    protected <T> T getComponentAs(final int number, final Class<T> type, final Function<String, T> converter) {
+        final String value = getComponent(number);
+        if (value == null) {
+            return null;
+        }
+        final int position = number - 1;
+        TypedValue[] values = this.typedValues;
+        if (values == null || position >= values.length) {
+            final int size = Math.max(this.components.size(), number);
+            values = values == null ? new TypedValue[size] : Arrays.copyOf(values, size);
+            this.typedValues = values;
+        }
+        TypedValue cached = values[position];
+        // the source is compared by reference to detect changes made directly in the components list
+        if (cached == null || cached.source != value || cached.type != type) {
+            cached = new TypedValue(value, type, converter.apply(value));
+            values[position] = cached;
+        }
+        final Object result = cached.value;
+        if (result instanceof Calendar) {
+            return type.cast(((Calendar) result).clone());
+        }
+        return type.cast(result);
+    }
+
+    /**
+     * Converts all the amount, currency and date and time components of the field to their typed values.
+     *
+     * <p>The conversions are cached, so calling this method right after the field is created or parsed makes the typed
+     * getters and the {@link DateContainer} and {@link MonetaryAmountContainer} methods return the converted values
+     * without parsing the components again. Invalid components are ignored.
+     *
+     * @since 9.5.0
+     */
+    public void convertComponents() {
+        final String pattern = typesPattern();
+        final int size = pattern != null ? Math.min(pattern.length(), this.components.size()) : 0;
+        for (int i = 0; i < size; i++) {
+            final ComponentConversion<?> conversion = ComponentConversion.of(pattern.charAt(i));
+            if (conversion != null) {
+                try {
+                    conversion.apply(this, i + 1);
+                } catch (final RuntimeException e) {
+                    log.log(Level.FINE, "Cannot convert component " + (i + 1) + " of field " + getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the given component as a LocalDate.
+     *
+     * <p>Only the components with a full date in the {@link #typesPattern()}, in YYMMDD or YYYYMMDD format, are
+     * converted. The converted value is cached as in the other typed getters of the field.
+     *
+     * @param number one-based index of the component to retrieve
+     * @return the converted date or null if the component is not present, it is not a date or it is not a valid date
+     * @since 9.5.0
+     */
+    public LocalDate getComponentAsLocalDate(final int number) {
+        return getComponentAsTemporal(number, LocalDate.class);
+    }
+
+    /**
+     * Gets the given component as a LocalTime.
+     *
+     * <p>Only the time components in the {@link #typesPattern()}, in HHMMSS or HHMM format, are converted, but not the
+     * UTC offsets. The converted value is cached as in the other typed getters of the field.
+     *
+     * @param number one-based index of the component to retrieve
+     * @return the converted time or null if the component is not present, it is not a time or it is not a valid time
+     * @since 9.5.0
+     */
+    public LocalTime getComponentAsLocalTime(final int number) {
+        return getComponentAsTemporal(number, LocalTime.class);
+    }
+
+    /**
+     * Gets the given component as a LocalDateTime.
+     *
+     * <p>Only the date and time components in the {@link #typesPattern()}, in YYYYMMDDHHMM or YYMMDDHHMM format, are
+     * converted. The converted value is cached as in the other typed getters of the field.
+     *
+     * @param number one-based index of the component to retrieve
+     * @return the converted date and time or null if the component is not present, it is not a date and time or it is
+     * not valid
+     * @since 9.5.0
+     */
+    public LocalDateTime getComponentAsLocalDateTime(final int number) {
+        return getComponentAsTemporal(number, LocalDateTime.class);
+    }
+
+    private <T> T getComponentAsTemporal(final int number, final Class<T> type) {
+        final String pattern = typesPattern();
+        if (pattern == null || number < 1 || number > pattern.length()) {
+            return null;
+        }
+        final ComponentConversion<?> conversion = ComponentConversion.temporal(pattern.charAt(number - 1));
+        return conversion != null && conversion.type() == type ? type.cast(conversion.apply(this, number)) : null;
+    }
+
     /**
      * Get the given component as the given object type.
      * If the class is not recognized, it returns null, as well as if conversion fails.
@@ -709,13 +866,13 @@ public abstract class Field implements PatternContainer, JsonSerializable {
                 return SwiftFormatUtils.getNumber(s);
 
             } else if (c.equals(BigDecimal.class)) {
-                return SwiftFormatUtils.getBigDecimal(s);
+                return ComponentConversion.AMOUNT.apply(this, component);
 
             } else if (c.equals(BIC.class)) {
                 return new BIC(s);
 
             } else if (c.equals(Currency.class)) {
-                return Currency.getInstance(s);
+                return ComponentConversion.CURRENCY.apply(this, component);
 
             } else if (c.equals(Character.class)) {
                 return SwiftFormatUtils.getSign(s);
@@ -1165,6 +1322,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * Returns english label for components.
      * <br>
      * The index in the list is in sync with specific field component structure.
+     * <br>
+     * Since 9.5.0 the library fields return an unmodifiable list shared by all the instances of the field class.
      *
      * @see #getComponentLabel(int)
      * @since 7.8.4
@@ -1195,7 +1354,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     public String getComponentLabel(final int number) {
         // internal position index is zero based
         final int position = number - 1;
-        final List<String> labels = getComponentLabels();
+        final FieldDescriptor descriptor = FieldDescriptor.of(getClass());
+        final List<String> labels = descriptor != null ? descriptor.componentLabels() : getComponentLabels();
         if (labels != null && position >= 0 && position < labels.size()) {
             return labels.get(position);
         }
@@ -1204,6 +1364,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
 
     /**
      * Returns a mapping between component numbers and their label in camel case format.
+     * <br>
+     * Since 9.5.0 the library fields return an unmodifiable map shared by all the instances of the field class.
      *
      * @since 7.10.3
      */
@@ -1213,11 +1375,21 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * Returns a mapping between component labels and the internal component number.
      * Component labels are in lowercase and without spaces and separators.
      * If a for a given component there is more than one label option, both are mapped to the same component number.
+     * <br>
+     * Since 9.5.0 the library fields return an unmodifiable map shared by all the instances of the field class.
      *
      * @since 9.3.12
      */
     protected abstract Map<String, Integer> getLabelMap();
 
+    /**
+     * Returns the component labels to numbers mapping, shared by all instances of the field class when possible
+     */
+    private Map<String, Integer> labelMap() {
+        final FieldDescriptor descriptor = FieldDescriptor.of(getClass());
+        return descriptor != null ? descriptor.labelMap() : getLabelMap();
+    }
+
     /**
      * Returns english label for the component in camel case format.
      * <br>
@@ -1227,7 +1399,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.10.3
      */
     private String getComponentLabelCamelCase(final int number) {
-        final Map<Integer, String> labels = getComponentMap();
+        final FieldDescriptor descriptor = FieldDescriptor.of(getClass());
+        final Map<Integer, String> labels = descriptor != null ? descriptor.componentMap() : getComponentMap();
         if (labels != null && number >= 0) {
             return labels.get(number);
         }
@@ -1285,32 +1458,69 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     @Override
     public String toJson() {
-        String stdFormat = toJsonFormat();
-        if (this instanceof StructuredNarrativeField) {
-            return stdFormat.substring(0, stdFormat.length() - 1) + ","
-                    + toNarrativeFormat().substring(1);
+        final StringWriter out = new StringWriter();
+        try {
+            toJson(new JsonWriter(out));
+        } catch (final IOException e) {
+            // not thrown by the string writer
+            throw new UncheckedIOException(e);
         }
-        return stdFormat;
+        return out.toString();
     }
 
-    String toJsonFormat() {
-        JsonObject field = new JsonObject();
-        field.addProperty("name", this.getName());
+    /**
+     * Writes the JSON representation of this field, as returned by {@link #toJson()}, into the given writer.
+     *
+     * @param writer the target writer, positioned where a JSON value is expected
+     * @throws IOException if the writer fails
+     * @since 9.5.0
+     */
+    public void toJson(final JsonWriter writer) throws IOException {
+        // components sharing a label, or without one, are written once with the last value, as in a JsonObject
+        final Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("name", this.getName());
         for (int i = 1; i <= this.getComponents().size(); i++) {
             if (this.getComponent(i) != null) {
                 String label = this.getComponentLabelCamelCase(i);
                 if (label == null) {
                     label = "value";
                 }
-                field.addProperty(label, this.getComponent(i));
+                properties.put(label, this.getComponent(i));
             }
         }
-        return field.toString();
+        writer.beginObject();
+        for (final Map.Entry<String, String> property : properties.entrySet()) {
+            writer.name(property.getKey()).value(property.getValue());
+        }
+        if (this instanceof StructuredNarrativeField) {
+            final JsonObject narrative = SwiftJson.gson()
+                    .toJsonTree(((StructuredNarrativeField) this).narrative())
+                    .getAsJsonObject();
+            for (final Map.Entry<String, JsonElement> entry : narrative.entrySet()) {
+                writer.name(entry.getKey());
+                SwiftJson.gson().toJson(entry.getValue(), writer);
+            }
+        }
+        writer.endObject();
     }
 
     String toNarrativeFormat() {
         Narrative narrative = ((StructuredNarrativeField) this).narrative();
-        Gson gson = new Gson();
-        return gson.toJson(narrative);
+        return SwiftJson.gson().toJson(narrative);
+    }
+
+    /**
+     * Cached conversion of a component value
+     */
+    private static final class TypedValue {
+        private final String source;
+        private final Class<?> type;
+        private final Object value;
+
+        private TypedValue(final String source, final Class<?> type, final Object value) {
+            this.source = source;
+            this.type = type;
+            this.value = value;
+        }
     }
 }
@@ -94,6 +94,21 @@ public class Field25F extends Field implements Serializable {
      */
     public static final Integer TEXTPURPOSE = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("TextPurpose");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "textPurpose");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("textpurpose", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field25F.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -284,9 +299,7 @@ public class Field25F extends Field implements Serializable {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("TextPurpose");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -295,9 +308,7 @@ public class Field25F extends Field implements Serializable {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "textPurpose");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -306,13 +317,7 @@ public class Field25F extends Field implements Serializable {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("textpurpose", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -431,10 +436,19 @@ public class Field25F extends Field implements Serializable {
      * @see Field#fromJson(String)
      */
     public static Field25F fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field25F field = new Field25F();
+    /**
+     * This method deserializes the parsed JSON data into a Field25F object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field25F fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field25F field = new Field25F();
 
         // **** COMPONENT 1 - TextPurpose
 
@@ -104,6 +104,22 @@ public class Field29U extends Field implements Serializable, BICContainer {
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer BIC = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("IdentifierCode");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "identifierCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("identifiercode", 1);
+        labelMap.put("bic", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field29U.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -294,9 +310,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("IdentifierCode");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -305,9 +319,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "identifierCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -316,15 +328,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("identifiercode", 1);
-        // alias name
-        super.labelMap.put("bic", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -542,10 +546,19 @@ public class Field29U extends Field implements Serializable, BICContainer {
      * @see Field#fromJson(String)
      */
     public static Field29U fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field29U field = new Field29U();
+    /**
+     * This method deserializes the parsed JSON data into a Field29U object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field29U fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field29U field = new Field29U();
 
         // **** COMPONENT 1 - IdentifierCode
 
@@ -94,6 +94,21 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      */
     public static final Integer INFORMATION_FROM_ADVISING_BANK = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Information from Advising Bank");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "informationfromAdvisingBank");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("informationfromadvisingbank", 1);
+        DESCRIPTOR = FieldDescriptor.describe(Field47E.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -284,9 +299,7 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Information from Advising Bank");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -295,9 +308,7 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "informationfromAdvisingBank");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -306,13 +317,7 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("informationfromadvisingbank", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -515,10 +520,19 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      * @see Field#fromJson(String)
      */
     public static Field47E fromJson(final String json) {
+        return fromJson(JsonParser.parseString(json).getAsJsonObject());
+    }
 
-        final Field47E field = new Field47E();
+    /**
+     * This method deserializes the parsed JSON data into a Field47E object.
+     * @param jsonObject JSON structure including tuples with label and value for all field components
+     * @return a new field instance with the JSON data parsed into field components
+     * @since 9.5.0
+     * @see Field#fromJson(JsonObject)
+     */
+    public static Field47E fromJson(final JsonObject jsonObject) {
 
-        final JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
+        final Field47E field = new Field47E();
 
         // **** COMPONENT 1 - Information from Advising Bank
 
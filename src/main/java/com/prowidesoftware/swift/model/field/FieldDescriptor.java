@@ -0,0 +1,155 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared and immutable metadata of a field class: the component labels, the component numbers to camel case labels
+ * map and the component names to numbers map.
+ *
+ * <p>The field classes of the library create their descriptor once, when the class is initialized, and return its
+ * collections from {@link Field#getComponentLabels()}, {@link Field#getComponentMap()} and
+ * {@link Field#getLabelMap()}. For other field classes the descriptor takes a snapshot of those methods once per
+ * class, from a prototype instance created with the no-argument constructor, so the {@link Field} methods resolving
+ * components by name or label do not allocate and do not populate the per-instance cache.
+ *
+ * @since 9.5.0
+ */
+final class FieldDescriptor {
+    private static final Logger log = Logger.getLogger(FieldDescriptor.class.getName());
+
+    /**
+     * Placeholder for classes whose metadata cannot be shared, in which case the instance methods are used
+     */
+    private static final FieldDescriptor NONE = new FieldDescriptor(null, null, null);
+
+    private static final ClassValue<FieldDescriptor> DESCRIPTORS = new ClassValue<FieldDescriptor>() {
+        @Override
+        protected FieldDescriptor computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Descriptors created by the field classes themselves, used instead of a prototype snapshot
+     */
+    private static final Map<Class<?>, FieldDescriptor> DESCRIBED = new ConcurrentHashMap<>();
+
+    private final List<String> componentLabels;
+    private final Map<Integer, String> componentMap;
+    private final Map<String, Integer> labelMap;
+
+    private FieldDescriptor(
+            final List<String> componentLabels,
+            final Map<Integer, String> componentMap,
+            final Map<String, Integer> labelMap) {
+        this.componentLabels = componentLabels;
+        this.componentMap = componentMap;
+        this.labelMap = labelMap;
+    }
+
+    /**
+     * Gets the descriptor for the given field class
+     *
+     * @param type a field class
+     * @return the shared descriptor or null if the class metadata cannot be shared
+     */
+    static FieldDescriptor of(final Class<? extends Field> type) {
+        final FieldDescriptor descriptor = DESCRIPTORS.get(type);
+        return descriptor == NONE ? null : descriptor;
+    }
+
+    /**
+     * Creates the descriptor of a field class from its metadata, to be called once from the class static initializer.
+     *
+     * @param type the field class
+     * @param componentLabels the component labels
+     * @param componentMap the component numbers to camel case labels map
+     * @param labelMap the component names to numbers map
+     * @return a descriptor holding unmodifiable copies of the given collections
+     */
+    static FieldDescriptor describe(
+            final Class<? extends Field> type,
+            final List<String> componentLabels,
+            final Map<Integer, String> componentMap,
+            final Map<String, Integer> labelMap) {
+        final FieldDescriptor descriptor =
+                new FieldDescriptor(immutable(componentLabels), immutable(componentMap), immutable(labelMap));
+        DESCRIBED.put(type, descriptor);
+        return descriptor;
+    }
+
+    /**
+     * @see Field#getComponentLabels()
+     */
+    List<String> componentLabels() {
+        return this.componentLabels;
+    }
+
+    /**
+     * @see Field#getComponentMap()
+     */
+    Map<Integer, String> componentMap() {
+        return this.componentMap;
+    }
+
+    /**
+     * @see Field#getLabelMap()
+     */
+    Map<String, Integer> labelMap() {
+        return this.labelMap;
+    }
+
+    private static FieldDescriptor create(final Class<?> type) {
+        if (!Field.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) {
+            return NONE;
+        }
+        try {
+            final Constructor<?> constructor = type.getConstructor();
+            final Field prototype = (Field) constructor.newInstance();
+            // the prototype creation initializes the class, registering its own descriptor if it has one
+            final FieldDescriptor described = DESCRIBED.get(type);
+            if (described != null) {
+                return described;
+            }
+            return new FieldDescriptor(
+                    immutable(prototype.getComponentLabels()),
+                    immutable(prototype.getComponentMap()),
+                    immutable(prototype.getLabelMap()));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            log.log(Level.FINE, "Cannot create shared metadata for " + type.getName(), e);
+            return NONE;
+        }
+    }
+
+    private static List<String> immutable(final List<String> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static <K, V> Map<K, V> immutable(final Map<K, V> map) {
+        return map == null ? null : Collections.unmodifiableMap(new HashMap<>(map));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import com.google.gson.JsonObject;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Registry of the factories used to create field instances by name, replacing the reflective lookup of the field
+ * class, its constructor and its fromJson method on each call.
+ *
+ * <p>The registry is built lazily: the first request for a name resolves the field class once and binds its
+ * {@code String} constructor and static {@code fromJson} method into lambdas, as if they were written as
+ * {@code Field20::new} and {@code Field20::fromJson}. The following requests for the same name are a single map lookup.
+ * The {@code fromJson} overload taking the parsed {@code JsonObject} is preferred; for field classes without it the
+ * JSON object is passed to the {@code String} version.
+ *
+ * <p>Names without a field class are cached as well, so an unrecognized field is reported once instead of on every
+ * occurrence. To keep the memory bounded, unknown names are cached up to a maximum number of entries.
+ *
+ * @since 9.5.0
+ */
+final class FieldFactory {
+    private static final java.util.logging.Logger log =
+            java.util.logging.Logger.getLogger(FieldFactory.class.getName());
+
+    /**
+     * Maximum number of registry entries, well above the number of field classes, to bound the cached unknown names
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final String PACKAGE = FieldFactory.class.getPackage().getName() + ".Field";
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType FIELD_TYPE = MethodType.methodType(Field.class, String.class);
+    private static final MethodType JSON_FIELD_TYPE = MethodType.methodType(Field.class, JsonObject.class);
+
+    /**
+     * Placeholder for names without a field class
+     */
+    private static final FieldFactory MISSING = new FieldFactory(null, null);
+
+    private static final ConcurrentMap<String, FieldFactory> REGISTRY = new ConcurrentHashMap<>();
+
+    private final Function<String, Field> constructor;
+    private final Function<JsonObject, Field> jsonFactory;
+
+    private FieldFactory(final Function<String, Field> constructor, final Function<JsonObject, Field> jsonFactory) {
+        this.constructor = constructor;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Gets the factory for the given field name.
+     *
+     * @param name a field name, ex: 32A, 22F, 20
+     * @return the factory for the field, or null if there is no field class for the name
+     */
+    static FieldFactory of(final String name) {
+        if (name == null) {
+            return null;
+        }
+        FieldFactory factory = REGISTRY.get(name);
+        if (factory == null) {
+            factory = load(name);
+            if (factory != MISSING || REGISTRY.size() < MAX_ENTRIES) {
+                final FieldFactory previous = REGISTRY.putIfAbsent(name, factory);
+                if (previous != null) {
+                    factory = previous;
+                }
+            }
+        } else if (factory == MISSING && log.isLoggable(Level.FINE)) {
+            log.fine("Field class for Field" + name + " not found");
+        }
+        return factory == MISSING ? null : factory;
+    }
+
+    /**
+     * Creates a new instance of the field with the given value.
+     *
+     * @param value the field value or null to create the field with no initial content
+     * @return the created field
+     */
+    Field newField(final String value) {
+        return this.constructor.apply(value);
+    }
+
+    /**
+     * Creates a new instance of the field from its JSON representation.
+     *
+     * @param json the JSON field representation
+     * @return the created field
+     */
+    Field fromJson(final JsonObject json) {
+        return this.jsonFactory.apply(json);
+    }
+
+    private static FieldFactory load(final String name) {
+        final Class<?> c;
+        try {
+            c = Class.forName(PACKAGE + name);
+        } catch (final ClassNotFoundException e) {
+            log.warning(
+                    "Field class for Field" + name
+                            + " not found. This is normally caused by an unrecognized field in the message or a malformed message block structure.");
+            return MISSING;
+        }
+        if (!Field.class.isAssignableFrom(c) || Modifier.isAbstract(c.getModifiers())) {
+            log.warning("Class Field" + name + " is not a field implementation");
+            return MISSING;
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            final MethodHandle constructor = lookup.findConstructor(c, MethodType.methodType(void.class, String.class));
+            return new FieldFactory(function(lookup, constructor, FIELD_TYPE), jsonFactory(lookup, c));
+        } catch (final ReflectiveOperationException e) {
+            log.log(
+                    Level.WARNING,
+                    "Field" + name + " does not provide the expected constructor and fromJson method",
+                    e);
+            return MISSING;
+        }
+    }
+
+    /**
+     * Binds the fromJson method of the field class, taking the parsed JSON object if available
+     */
+    private static Function<JsonObject, Field> jsonFactory(final MethodHandles.Lookup lookup, final Class<?> c)
+            throws ReflectiveOperationException {
+        try {
+            return function(
+                    lookup,
+                    lookup.findStatic(c, "fromJson", MethodType.methodType(c, JsonObject.class)),
+                    JSON_FIELD_TYPE);
+        } catch (final NoSuchMethodException e) {
+            final Function<String, Field> fromString = function(
+                    lookup, lookup.findStatic(c, "fromJson", MethodType.methodType(c, String.class)), FIELD_TYPE);
+            return json -> fromString.apply(json.toString());
+        }
+    }
+
+    /**
+     * Binds the method handle into a function lambda, or wraps it if the lambda cannot be created
+     *
+     * @param type the function signature, with the Field return type and the argument type
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, Field> function(
+            final MethodHandles.Lookup lookup, final MethodHandle target, final MethodType type) {
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    FACTORY_TYPE,
+                    APPLY_TYPE,
+                    target,
+                    type.changeReturnType(target.type().returnType()));
+            return (Function<T, Field>) site.getTarget().invokeExact();
+        } catch (final Throwable e) {
+            log.log(Level.FINE, "Cannot create lambda for " + target + ", using the method handle", e);
+            final MethodHandle handle = target.asType(type.changeParameterType(0, Object.class));
+            return value -> {
+                try {
+                    return (Field) handle.invokeExact((Object) value);
+                } catch (final RuntimeException | Error t) {
+                    throw t;
+                } catch (final Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            };
+        }
+    }
+}
@@ -15,10 +15,9 @@
  */
 package com.prowidesoftware.swift.model.field;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
+import com.prowidesoftware.swift.model.SwiftJson;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,24 +30,25 @@ class NarrativeContainerJsonUtils {
 
     static Pattern NARRATIVE_PATTERN = Pattern.compile("[\"|']narrative([0-9]*)[\"|']");
 
-    static void fromJson(JsonObject jsonObject, String json, StructuredNarrativeField field) {
+    private static final Pattern NARRATIVE_KEY_PATTERN = Pattern.compile("narrative[0-9]*");
+
+    static void fromJson(JsonObject jsonObject, StructuredNarrativeField field) {
         if (jsonObject.get("narrative") != null) {
-            int numberOfNarrativesInJson = countNarrativesInJson(json);
+            int numberOfNarrativesInJson = countNarratives(jsonObject);
             if (numberOfNarrativesInJson > 1) {
-                field.setComponent(1, groupNarratives(json, numberOfNarrativesInJson));
+                field.setComponent(1, groupNarratives(jsonObject, numberOfNarrativesInJson));
             } else {
                 field.setComponent(1, jsonObject.get("narrative").getAsString());
             }
         } else {
             if (jsonObject.get("structured") != null) {
-                Narrative narrative = new Gson().fromJson(jsonObject, Narrative.class);
+                Narrative narrative = SwiftJson.gson().fromJson(jsonObject, Narrative.class);
                 field.setNarrative(narrative);
             }
         }
     }
 
-    private static String groupNarratives(String json, int numberOfNarrativesInJson) {
-        JsonObject jsonObj = new Gson().fromJson(json, JsonElement.class).getAsJsonObject();
+    private static String groupNarratives(JsonObject jsonObj, int numberOfNarrativesInJson) {
         StringBuilder sb = new StringBuilder(jsonObj.get("narrative").getAsString());
         for (int i = 2; i <= numberOfNarrativesInJson; i++) {
             String currentNarrativeValue = jsonObj.get("narrative" + i).getAsString();
@@ -59,6 +59,19 @@ class NarrativeContainerJsonUtils {
         return sb.toString();
     }
 
+    /**
+     * Counts the narrative properties of the parsed JSON, as {@link #countNarrativesInJson(String)} does on the text
+     */
+    private static int countNarratives(JsonObject jsonObject) {
+        int count = 0;
+        for (String key : jsonObject.keySet()) {
+            if (NARRATIVE_KEY_PATTERN.matcher(key).matches()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     static int countNarrativesInJson(String json) {
         Matcher narrativeMatcher = NARRATIVE_PATTERN.matcher(json);
         int count = 0;
@@ -82,6 +82,27 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
     @ProwideDeprecated(phase4 = TargetYear.SRU2024)
     public static final Integer BIC = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("D/C Mark");
+        componentLabels.add("Account");
+        componentLabels.add("Identifier Code");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dCMark");
+        componentMap.put(2, "account");
+        componentMap.put(3, "identifierCode");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("dcmark", 1);
+        labelMap.put("account", 2);
+        labelMap.put("identifiercode", 3);
+        DESCRIPTOR = FieldDescriptor.describe(OptionAPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -265,11 +286,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Identifier Code");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -279,11 +296,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "identifierCode");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -292,15 +305,7 @@ public abstract class OptionAPartyField extends Field implements BICContainer, P
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("identifiercode", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -71,6 +71,27 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     public static final Integer LOCATION = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("D/C Mark");
+        componentLabels.add("Account");
+        componentLabels.add("Location");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dCMark");
+        componentMap.put(2, "account");
+        componentMap.put(3, "location");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("dcmark", 1);
+        labelMap.put("account", 2);
+        labelMap.put("location", 3);
+        DESCRIPTOR = FieldDescriptor.describe(OptionBPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -251,11 +272,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Location");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -265,11 +282,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "location");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -278,15 +291,7 @@ public abstract class OptionBPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("location", 3);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
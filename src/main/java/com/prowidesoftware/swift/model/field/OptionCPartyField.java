@@ -58,6 +58,21 @@ public abstract class OptionCPartyField extends Field {
      */
     public static final Integer ACCOUNT = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Account");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "account");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("account", 1);
+        DESCRIPTOR = FieldDescriptor.describe(OptionCPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -205,9 +220,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Account");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -217,9 +230,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "account");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -228,13 +239,7 @@ public abstract class OptionCPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("account", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -74,6 +74,36 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     public static final Integer NAME_AND_ADDRESS = 3;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("D/C Mark");
+        componentLabels.add("Account");
+        componentLabels.add("Name And Address");
+        componentLabels.add("Name And Address 2");
+        componentLabels.add("Name And Address 3");
+        componentLabels.add("Name And Address 4");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "dCMark");
+        componentMap.put(2, "account");
+        componentMap.put(3, "nameAndAddress");
+        componentMap.put(4, "nameAndAddress2");
+        componentMap.put(5, "nameAndAddress3");
+        componentMap.put(6, "nameAndAddress4");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("dcmark", 1);
+        labelMap.put("account", 2);
+        labelMap.put("nameandaddress", 3);
+        labelMap.put("nameandaddress2", 4);
+        labelMap.put("nameandaddress3", 5);
+        labelMap.put("nameandaddress4", 6);
+        DESCRIPTOR = FieldDescriptor.describe(OptionDPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -253,14 +283,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("D/C Mark");
-        result.add("Account");
-        result.add("Name And Address");
-        result.add("Name And Address 2");
-        result.add("Name And Address 3");
-        result.add("Name And Address 4");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -270,14 +293,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "dCMark");
-        result.put(2, "account");
-        result.put(3, "nameAndAddress");
-        result.put(4, "nameAndAddress2");
-        result.put(5, "nameAndAddress3");
-        result.put(6, "nameAndAddress4");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -286,18 +302,7 @@ public abstract class OptionDPartyField extends Field implements PartyIdentifier
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("dcmark", 1);
-        super.labelMap.put("account", 2);
-        super.labelMap.put("nameandaddress", 3);
-        super.labelMap.put("nameandaddress2", 4);
-        super.labelMap.put("nameandaddress3", 5);
-        super.labelMap.put("nameandaddress4", 6);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
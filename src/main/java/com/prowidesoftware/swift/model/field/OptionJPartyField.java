@@ -59,6 +59,21 @@ public abstract class OptionJPartyField extends Field {
      */
     public static final Integer PARTY_IDENTIFICATION = 1;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Party Identification");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "partyIdentification");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("partyidentification", 1);
+        DESCRIPTOR = FieldDescriptor.describe(OptionJPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -205,9 +220,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Party Identification");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -217,9 +230,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "partyIdentification");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -228,13 +239,7 @@ public abstract class OptionJPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("partyidentification", 1);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
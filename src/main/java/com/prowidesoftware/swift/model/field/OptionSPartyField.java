@@ -82,6 +82,33 @@ public abstract class OptionSPartyField extends Field {
      */
     public static final Integer ALTERNATE_ID = 5;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Data Source Scheme");
+        componentLabels.add("Type Of ID");
+        componentLabels.add("Country Code");
+        componentLabels.add("Alternate ID");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "dataSourceScheme");
+        componentMap.put(3, "typeOfID");
+        componentMap.put(4, "countryCode");
+        componentMap.put(5, "alternateID");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("datasourcescheme", 2);
+        labelMap.put("typeofid", 3);
+        labelMap.put("countrycode", 4);
+        labelMap.put("alternateid", 5);
+        DESCRIPTOR = FieldDescriptor.describe(OptionSPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -242,13 +269,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Data Source Scheme");
-        result.add("Type Of ID");
-        result.add("Country Code");
-        result.add("Alternate ID");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -258,13 +279,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "dataSourceScheme");
-        result.put(3, "typeOfID");
-        result.put(4, "countryCode");
-        result.put(5, "alternateID");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -273,17 +288,7 @@ public abstract class OptionSPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("datasourcescheme", 2);
-        super.labelMap.put("typeofid", 3);
-        super.labelMap.put("countrycode", 4);
-        super.labelMap.put("alternateid", 5);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -67,6 +67,30 @@ public abstract class OptionUPartyField extends Field {
      */
     public static final Integer PARTY_NAME = 2;
 
+    /**
+     * Shared metadata of the field components, see {@link FieldDescriptor}.
+     */
+    private static final FieldDescriptor DESCRIPTOR;
+
+    static {
+        List<String> componentLabels = new ArrayList<>();
+        componentLabels.add("Qualifier");
+        componentLabels.add("Party Name");
+        componentLabels.add("Party Name 2");
+        componentLabels.add("Party Name 3");
+        Map<Integer, String> componentMap = new HashMap<>();
+        componentMap.put(1, "qualifier");
+        componentMap.put(2, "partyName");
+        componentMap.put(3, "partyName2");
+        componentMap.put(4, "partyName3");
+        Map<String, Integer> labelMap = new HashMap<>();
+        labelMap.put("qualifier", 1);
+        labelMap.put("partyname", 2);
+        labelMap.put("partyname2", 3);
+        labelMap.put("partyname3", 4);
+        DESCRIPTOR = FieldDescriptor.describe(OptionUPartyField.class, componentLabels, componentMap, labelMap);
+    }
+
     /**
      * Default constructor. Creates a new field setting all components to null.
      */
@@ -225,12 +249,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     public List<String> getComponentLabels() {
-        List<String> result = new ArrayList<>();
-        result.add("Qualifier");
-        result.add("Party Name");
-        result.add("Party Name 2");
-        result.add("Party Name 3");
-        return result;
+        return DESCRIPTOR.componentLabels();
     }
 
     /**
@@ -240,12 +259,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     protected Map<Integer, String> getComponentMap() {
-        Map<Integer, String> result = new HashMap<>();
-        result.put(1, "qualifier");
-        result.put(2, "partyName");
-        result.put(3, "partyName2");
-        result.put(4, "partyName3");
-        return result;
+        return DESCRIPTOR.componentMap();
     }
 
     /**
@@ -254,16 +268,7 @@ public abstract class OptionUPartyField extends Field {
      */
     @Override
     protected Map<String, Integer> getLabelMap() {
-        if (super.labelMap != null && !super.labelMap.isEmpty()) {
-            // return cached map
-            return super.labelMap;
-        }
-        super.labelMap = new HashMap<>();
-        super.labelMap.put("qualifier", 1);
-        super.labelMap.put("partyname", 2);
-        super.labelMap.put("partyname2", 3);
-        super.labelMap.put("partyname3", 4);
-        return super.labelMap;
+        return DESCRIPTOR.labelMap();
     }
 
     /**
@@ -15,8 +15,7 @@
  */
 package com.prowidesoftware.swift.model.mt;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.swift.io.ConversionService;
 import com.prowidesoftware.swift.io.IConversionService;
@@ -26,7 +25,6 @@ import com.prowidesoftware.swift.model.*;
 import com.prowidesoftware.swift.model.field.Field;
 import com.prowidesoftware.swift.utils.Lib;
 import java.io.*;
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,7 +42,6 @@ import org.apache.commons.lang3.StringUtils;
  */
 public abstract class AbstractMT extends AbstractMessage implements JsonSerializable {
     private static final transient Logger log = Logger.getLogger(AbstractMT.class.getName());
-    private static final String GETSEQUENCE = "getSequence";
     /**
      * The internal swift message.
      */
@@ -128,6 +125,20 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
         return new SwiftParser(fin).message().toMT();
     }
 
+    /**
+     * Parses the bytes of a message into the MTxxx that corresponds to the found message type, scanning ASCII content
+     * in place without decoding it as a whole.
+     *
+     * @param fin the bytes of a swift MT message
+     * @return parser message or null if content could not be parsed
+     * @throws IOException if the message content cannot be read
+     * @see #parse(String)
+     * @since 9.5.0
+     */
+    public static AbstractMT parse(final byte[] fin) throws IOException {
+        return new SwiftParser(fin).message().toMT();
+    }
+
     /**
      * Parses a the stream content into the MTxxx that corresponds to the found message type.
      *
@@ -246,11 +257,19 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.10.3
      */
     public static AbstractMT fromJson(String json) {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .create();
-        return gson.fromJson(json, AbstractMT.class);
+        return SwiftJson.gson().fromJson(json, AbstractMT.class);
+    }
+
+    /**
+     * Deserializes the JSON data into a specific MT object, reading it as a stream.
+     *
+     * @param reader a JSON representation of an MT message, it is not closed by this method
+     * @return a specific deserialized MT message object, for example MT103
+     * @see #toJson(JsonWriter)
+     * @since 9.5.0
+     */
+    public static AbstractMT fromJson(final Reader reader) {
+        return SwiftJson.gson().fromJson(reader, AbstractMT.class);
     }
 
     /**
@@ -565,8 +584,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @SuppressWarnings("unchecked")
     public List<SwiftTagListBlock> getSequenceList(final String name) {
-        final String methodName = GETSEQUENCE + name + "List";
-        Object o = invokeHere(methodName, this, null);
+        Object o = SequenceResolver.of(getClass()).invoke(this, name, true, null);
         return (List<SwiftTagListBlock>) o;
     }
 
@@ -584,8 +602,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
     @SuppressWarnings("unchecked")
     public /* cant make static, but should be */ List<SwiftTagListBlock> getSequenceList(
             final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name + "List";
-        return (List<SwiftTagListBlock>) invokeHere(methodName, this, block);
+        return (List<SwiftTagListBlock>) SequenceResolver.of(getClass()).invoke(this, name, true, block);
     }
 
     /**
@@ -597,12 +614,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequenceList(final String name) {
-        try {
-            getClass().getMethod(GETSEQUENCE + name + "List");
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return SequenceResolver.of(getClass()).contains(name, true);
     }
 
     /**
@@ -614,33 +626,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequence(final String name) {
-        try {
-            return getClass().getMethod(GETSEQUENCE + name) != null;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * @param methodName a method to invoke
-     * @return result from reflection call
-     * @since 7.6
-     */
-    private Object invokeHere(final String methodName, final Object where, final SwiftTagListBlock argument) {
-        try {
-            final Method method = argument == null
-                    ? getClass().getMethod(methodName)
-                    : getClass().getMethod(methodName, SwiftTagListBlock.class);
-            if (argument == null) {
-                return method.invoke(where);
-            }
-            return method.invoke(where, argument);
-        } catch (final NoSuchMethodException e) {
-            log.log(Level.FINE, "Method " + methodName + " does not exist in " + getClass(), e);
-        } catch (Exception e) {
-            log.log(Level.WARNING, "An error occured while invoking " + methodName + " in " + where, e);
-        }
-        return null;
+        return SequenceResolver.of(getClass()).contains(name, false);
     }
 
     /**
@@ -658,8 +644,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.6
      */
     public SwiftTagListBlock getSequence(final String name) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, null);
+        Object o = SequenceResolver.of(getClass()).invoke(this, name, false, null);
         return (SwiftTagListBlock) o;
     }
 
@@ -673,8 +658,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     public /* cant make static, but should be */ SwiftTagListBlock getSequence(
             final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, block);
+        Object o = SequenceResolver.of(getClass()).invoke(this, name, false, block);
         return (SwiftTagListBlock) o;
     }
 
@@ -902,12 +886,20 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @Override
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this, AbstractMT.class);
+        return SwiftJson.gson(true).toJson(this, AbstractMT.class);
+    }
+
+    /**
+     * Writes the JSON representation of this message, as returned by {@link #toJson()}, into the given writer.
+     * <p>The output is indented or compact depending on the writer settings, see
+     * {@link SwiftJson#newWriter(Writer, boolean)}.
+     *
+     * @param writer the target writer
+     * @throws IOException if the writer fails
+     * @since 9.5.0
+     */
+    public void toJson(final JsonWriter writer) throws IOException {
+        AbstractMTAdapter.write(SwiftJson.gson(), writer, this);
     }
 
     /**
@@ -16,8 +16,12 @@
 package com.prowidesoftware.swift.model.mt;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.swift.model.*;
 import com.prowidesoftware.swift.model.field.Field;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,7 +45,7 @@ public class AbstractMTAdapter implements JsonSerializer<AbstractMT>, JsonDeseri
     private static List<Field> parseFields(JsonElement fieldsElement) {
         List<Field> fields = new ArrayList<>();
         for (JsonElement element : fieldsElement.getAsJsonArray()) {
-            Field field = Field.fromJson(element.toString());
+            Field field = Field.fromJson(element.getAsJsonObject());
             if (field != null) {
                 fields.add(field);
             }
@@ -184,4 +188,179 @@ public class AbstractMTAdapter implements JsonSerializer<AbstractMT>, JsonDeseri
         }
         return fields;
     }
+
+    /**
+     * Streaming counterpart of {@link #serialize(AbstractMT, Type, JsonSerializationContext)}, writing the same JSON
+     * structure directly into the writer, with each field written by {@link Field#toJson(JsonWriter)}.
+     *
+     * @param gson configuration used to write the header blocks
+     * @param out the target writer, its indentation setting defines the pretty or compact output
+     * @param src the message to write
+     * @throws IOException if the writer fails
+     * @since 9.5.0
+     */
+    public static void write(final Gson gson, final JsonWriter out, final AbstractMT src) throws IOException {
+        final SwiftMessage m = src.getSwiftMessage();
+        out.beginObject();
+        out.name("type").value("MT");
+
+        if (m.getBlock1() != null) {
+            out.name(BLOCK1_FINAL_NAME);
+            gson.toJson(m.getBlock1(), SwiftBlock1.class, out);
+        }
+
+        if (m.getBlock2() != null) {
+            out.name(BLOCK2_FINAL_NAME);
+            gson.toJson(m.getBlock2(), SwiftBlock2.class, out);
+        }
+
+        if (m.getBlock3() != null && !m.getBlock3().getTags().isEmpty()) {
+            writeFields(out, BLOCK3_FINAL_NAME, m.getBlock3().getTags());
+        }
+
+        if (m.getBlock4() != null && !m.getBlock4().getTags().isEmpty()) {
+            writeFields(out, BLOCK4_FINAL_NAME, m.getBlock4().getTags());
+        }
+
+        if (m.getBlock5() != null && !m.getBlock5().getTags().isEmpty()) {
+            // trailer tags are written as plain tags, they have no field implementation
+            out.name(BLOCK5_FINAL_NAME).beginObject().name("fields").beginArray();
+            for (Tag tag : m.getBlock5().getTags()) {
+                gson.toJson(tag, Tag.class, out);
+            }
+            out.endArray().endObject();
+        }
+
+        out.endObject();
+    }
+
+    /**
+     * Streaming counterpart of {@link #deserialize(JsonElement, Type, JsonDeserializationContext)}, reading the
+     * message without building the JSON tree of the whole message.
+     *
+     * @param gson configuration used to read the header blocks
+     * @param in the source reader, positioned at the message object
+     * @return a specific MT, for example MT103
+     * @throws IOException if the reader fails or the content is not well-formed
+     * @since 9.5.0
+     */
+    public static AbstractMT read(final Gson gson, final JsonReader in) throws IOException {
+        SwiftMessage swiftMessage = new SwiftMessage();
+        SwiftBlock1 block1 = null;
+        SwiftBlock2 block2 = null;
+        SwiftBlock3 block3 = null;
+        SwiftBlock4 block4 = null;
+        SwiftBlock5 block5 = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case BLOCK1_FINAL_NAME:
+                    block1 = gson.fromJson(in, SwiftBlock1.class);
+                    break;
+                case BLOCK2_FINAL_NAME:
+                    block2 = gson.fromJson(in, SwiftBlock2.class);
+                    break;
+                case BLOCK3_FINAL_NAME:
+                    block3 = readFields(in, new SwiftBlock3());
+                    break;
+                case BLOCK4_FINAL_NAME:
+                    block4 = readFields(in, new SwiftBlock4());
+                    break;
+                case BLOCK5_FINAL_NAME:
+                    block5 = readTrailer(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        for (SwiftBlock block : new SwiftBlock[] {block1, block2, block3, block4, block5}) {
+            if (block != null) {
+                swiftMessage.addBlock(block);
+            }
+        }
+        return swiftMessage.toMT();
+    }
+
+    private static void writeFields(JsonWriter out, String blockName, List<Tag> tags) throws IOException {
+        out.name(blockName).beginObject().name("fields").beginArray();
+        for (Tag tag : tags) {
+            tag.asField().toJson(out);
+        }
+        out.endArray().endObject();
+    }
+
+    /**
+     * Reads the fields array of a block object, returns null if the block has no fields array
+     */
+    private static <T extends SwiftTagListBlock> T readFields(JsonReader in, T block) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        boolean found = false;
+        in.beginObject();
+        while (in.hasNext()) {
+            if ("fields".equals(in.nextName()) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                found = true;
+                in.beginArray();
+                while (in.hasNext()) {
+                    Field field = Field.fromJson(in);
+                    if (field != null) {
+                        block.append(field);
+                    }
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return found ? block : null;
+    }
+
+    private static SwiftBlock5 readTrailer(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        SwiftBlock5 block5 = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            if ("fields".equals(in.nextName()) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                block5 = new SwiftBlock5();
+                in.beginArray();
+                while (in.hasNext()) {
+                    block5.append(readTag(in));
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return block5;
+    }
+
+    private static Tag readTag(JsonReader in) throws IOException {
+        Tag tag = new Tag();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                // trailer tags can have null value (for example PDE field)
+                in.nextNull();
+            } else if ("name".equals(name)) {
+                tag.setName(in.nextString());
+            } else if ("value".equals(name)) {
+                tag.setValue(in.nextString());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return tag;
+    }
 }
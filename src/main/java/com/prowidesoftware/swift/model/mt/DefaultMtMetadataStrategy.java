@@ -59,6 +59,17 @@ public class DefaultMtMetadataStrategy implements MessageMetadataStrategy {
         return Optional.ofNullable(SwiftMessageUtils.tradeDate(asSwiftMessage(message)));
     }
 
+    /**
+     * Extracts the MT main reference, amount, value date and trade date reading the message text block once, using
+     * {@link SwiftMessageUtils#metadata(SwiftMessage)}
+     *
+     * @since 9.5.0
+     */
+    @Override
+    public MessageMetadata metadata(AbstractMessage message) {
+        return SwiftMessageUtils.metadata(asSwiftMessage(message));
+    }
+
     /**
      * Extracts the MT sender, if present, using {@link SwiftMessageUtils#sender(SwiftMessage)}
      */
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import com.prowidesoftware.swift.model.SwiftTagListBlock;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Table of the sequence getters of an MT class, used by the generic sequence methods in {@link AbstractMT}.
+ *
+ * <p>The table is built once per MT class from its public {@code getSequenceX} and {@code getSequenceXList} methods,
+ * both the instance getters and the static versions receiving the block to extract the sequence from, and keeps them
+ * as method handles indexed by sequence name.
+ *
+ * @since 9.5.0
+ */
+final class SequenceResolver {
+    private static final Logger log = Logger.getLogger(SequenceResolver.class.getName());
+
+    private static final String GETSEQUENCE = "getSequence";
+    private static final String LIST = "List";
+    private static final MethodType GETTER = MethodType.methodType(Object.class, AbstractMT.class);
+    private static final MethodType EXTRACTOR =
+            MethodType.methodType(Object.class, AbstractMT.class, SwiftTagListBlock.class);
+
+    private static final ClassValue<SequenceResolver> RESOLVERS = new ClassValue<SequenceResolver>() {
+        @Override
+        protected SequenceResolver computeValue(final Class<?> type) {
+            return new SequenceResolver(type);
+        }
+    };
+
+    /**
+     * Getters by method name without the getSequence prefix, for example A1 and A1List
+     */
+    private final Map<String, MethodHandle> getters = new HashMap<>();
+
+    /**
+     * List getters by sequence name, for example A1 for getSequenceA1List
+     */
+    private final Map<String, MethodHandle> listGetters = new HashMap<>();
+
+    /**
+     * Same as {@link #getters} for the methods receiving the block to extract the sequence from
+     */
+    private final Map<String, MethodHandle> extractors = new HashMap<>();
+
+    /**
+     * Same as {@link #listGetters} for the methods receiving the block to extract the sequences from
+     */
+    private final Map<String, MethodHandle> listExtractors = new HashMap<>();
+
+    private SequenceResolver(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (final Method method : type.getMethods()) {
+            final String methodName = method.getName();
+            if (!methodName.startsWith(GETSEQUENCE)
+                    || methodName.length() == GETSEQUENCE.length()
+                    || method.isBridge()) {
+                continue;
+            }
+            final Class<?>[] parameters = method.getParameterTypes();
+            final boolean extractor = parameters.length == 1 && parameters[0] == SwiftTagListBlock.class;
+            if (parameters.length != 0 && !extractor) {
+                continue;
+            }
+            final MethodHandle handle;
+            try {
+                handle = adapt(lookup.unreflect(method), Modifier.isStatic(method.getModifiers()), extractor);
+            } catch (final IllegalAccessException e) {
+                log.log(Level.FINE, "Method " + method + " is not accessible", e);
+                continue;
+            }
+            final String name = methodName.substring(GETSEQUENCE.length());
+            (extractor ? this.extractors : this.getters).put(name, handle);
+            if (name.endsWith(LIST) && name.length() > LIST.length()) {
+                (extractor ? this.listExtractors : this.listGetters)
+                        .put(name.substring(0, name.length() - LIST.length()), handle);
+            }
+        }
+    }
+
+    /**
+     * Gets the sequence table for the given MT class
+     */
+    static SequenceResolver of(final Class<? extends AbstractMT> type) {
+        return RESOLVERS.get(type);
+    }
+
+    /**
+     * @param name the sequence name, such as A1a
+     * @param list true for the getSequenceXList method, false for the getSequenceX method
+     * @return true if the MT class has the no argument getter
+     */
+    boolean contains(final String name, final boolean list) {
+        return (list ? this.listGetters : this.getters).containsKey(name);
+    }
+
+    /**
+     * Invokes the sequence getter.
+     *
+     * @param mt    the message where the getter is invoked
+     * @param name  the sequence name, such as A1a
+     * @param list  true for the getSequenceXList method, false for the getSequenceX method
+     * @param block the block to extract the sequence from, or null to invoke the getter with no arguments
+     * @return the getter result or null if the MT class has no such getter or the call fails
+     */
+    Object invoke(final AbstractMT mt, final String name, final boolean list, final SwiftTagListBlock block) {
+        final MethodHandle handle;
+        if (block == null) {
+            handle = (list ? this.listGetters : this.getters).get(name);
+        } else {
+            handle = (list ? this.listExtractors : this.extractors).get(name);
+        }
+        if (handle == null) {
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Method " + GETSEQUENCE + name + (list ? LIST : "") + " does not exist in " + mt.getClass());
+            }
+            return null;
+        }
+        try {
+            return block == null ? handle.invokeExact(mt) : handle.invokeExact(mt, block);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            log.log(
+                    Level.WARNING,
+                    "An error occured while invoking " + GETSEQUENCE + name + (list ? LIST : "") + " in " + mt,
+                    e);
+            return null;
+        }
+    }
+
+    /**
+     * Adapts the method handle to a uniform type, receiving the message as first argument even for static methods
+     */
+    private static MethodHandle adapt(final MethodHandle method, final boolean isStatic, final boolean extractor) {
+        final MethodType type = extractor ? EXTRACTOR : GETTER;
+        if (isStatic) {
+            return MethodHandles.dropArguments(method.asType(type.dropParameterTypes(0, 1)), 0, AbstractMT.class);
+        }
+        return method.asType(type);
+    }
+}
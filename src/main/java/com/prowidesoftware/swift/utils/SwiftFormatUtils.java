@@ -23,12 +23,27 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
 import java.util.Calendar;
 import java.util.Currency;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.time.DateFormatUtils;
 
 /**
@@ -59,6 +74,32 @@ public class SwiftFormatUtils {
     private static final transient java.util.logging.Logger log =
             java.util.logging.Logger.getLogger(SwiftFormatUtils.class.getName());
 
+    /**
+     * Maximum number of digits of an amount converted by scanning its digits into a long
+     */
+    private static final int MAX_SCANNED_DIGITS = 18;
+
+    /**
+     * Maximum number of decimals in the amounts formatted by {@link #getBigDecimal(BigDecimal)}
+     */
+    private static final int MAX_FORMAT_DECIMALS = 10;
+
+    /**
+     * Years before the current date and time where the hundred years range of the two digits years starts
+     */
+    private static final int TWO_DIGITS_YEAR_START = 80;
+
+    private static final DateTimeFormatter DATE2 = shortYear("MMdd");
+    private static final DateTimeFormatter DATE4 = strict("uuuuMMdd");
+    private static final DateTimeFormatter TIME2 = strict("HHmmss");
+    private static final DateTimeFormatter TIME3 = new DateTimeFormatterBuilder()
+            .appendPattern("HH[mm]")
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATETIME = strict("uuuuMMddHHmm");
+    private static final DateTimeFormatter DATETIME_SHORT_YEAR = shortYear("MMddHHmm");
+
     // Suppress default constructor for noninstantiability
     private SwiftFormatUtils() {
         throw new AssertionError();
@@ -234,6 +275,10 @@ public class SwiftFormatUtils {
     public static Number getNumber(final String amount) {
         Number number = null;
         if (amount != null) {
+            final BigDecimal scanned = scanAmount(amount);
+            if (scanned != null) {
+                return scanned;
+            }
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -259,6 +304,12 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getNumber(final Number number) {
+        if (number instanceof BigDecimal) {
+            return getBigDecimal((BigDecimal) number);
+        }
+        if (number instanceof Long || number instanceof Integer) {
+            return number + ",";
+        }
         if (number != null) {
             final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
             symbols.setDecimalSeparator(',');
@@ -280,6 +331,10 @@ public class SwiftFormatUtils {
     public static BigDecimal getBigDecimal(final String amount) {
         BigDecimal bigDecimal = null;
         if (amount != null) {
+            final BigDecimal scanned = scanAmount(amount);
+            if (scanned != null) {
+                return scanned;
+            }
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -305,6 +360,9 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getBigDecimal(final BigDecimal bigDecimal) {
+        if (bigDecimal != null && bigDecimal.scale() <= MAX_FORMAT_DECIMALS) {
+            return formatAmount(bigDecimal);
+        }
         if (bigDecimal != null) {
             final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
             symbols.setDecimalSeparator(',');
@@ -317,6 +375,111 @@ public class SwiftFormatUtils {
         return null;
     }
 
+    /**
+     * Parses a SWIFT amount into its unscaled value for the given number of decimals, for example with two decimals
+     * 1234,5 is returned as 123450.
+     *
+     * <p>Plain amounts, digits with an optional comma decimal separator, are converted scanning the digits without
+     * creating intermediate objects, other values are parsed with {@link #getBigDecimal(String)}.
+     *
+     * @param amount to parse
+     * @param scale  the number of decimals of the unscaled value
+     * @return the unscaled amount or null if the amount could not be parsed
+     * @throws ArithmeticException if the amount has more significant decimals than the scale or does not fit in a long
+     * @since 9.5.0
+     */
+    public static Long getAmountUnscaled(final String amount, final int scale) {
+        Validate.isTrue(scale >= 0, "the scale must be positive or zero");
+        if (amount == null) {
+            return null;
+        }
+        final int length = amount.length();
+        final boolean negative = length > 0 && amount.charAt(0) == '-';
+        long unscaled = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            final char c = amount.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (decimals >= 0 && ++decimals > scale) {
+                    if (c != '0') {
+                        throw new ArithmeticException("The amount " + amount + " has more than " + scale + " decimals");
+                    }
+                } else {
+                    unscaled = Math.addExact(Math.multiplyExact(unscaled, 10), c - '0');
+                }
+            } else if (c == ',' && decimals < 0) {
+                decimals = 0;
+            } else {
+                return getUnscaled(getBigDecimal(amount), scale);
+            }
+        }
+        if (digits == 0) {
+            return getUnscaled(getBigDecimal(amount), scale);
+        }
+        for (int i = Math.max(decimals, 0); i < scale; i++) {
+            unscaled = Math.multiplyExact(unscaled, 10);
+        }
+        return negative ? -unscaled : unscaled;
+    }
+
+    /**
+     * Gets the unscaled value of an amount parsed as a BigDecimal, used for the values that are not plain amounts
+     */
+    private static Long getUnscaled(final BigDecimal value, final int scale) {
+        return value != null ? value.setScale(scale).unscaledValue().longValueExact() : null;
+    }
+
+    /**
+     * Converts a plain SWIFT amount, an optional minus sign followed by digits with an optional comma decimal
+     * separator, scanning its digits.
+     *
+     * @return the amount with as many decimals as digits after the comma, or null if the value is not a plain amount
+     * or it has too many digits for a long unscaled value, in which case the general parsing applies
+     */
+    private static BigDecimal scanAmount(final String amount) {
+        final int length = amount.length();
+        final boolean negative = length > 0 && amount.charAt(0) == '-';
+        long unscaled = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            final char c = amount.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_SCANNED_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (c == ',' && decimals < 0) {
+                decimals = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(decimals, 0));
+    }
+
+    /**
+     * Formats an amount with the comma decimal separator, without trailing zero decimals and with the separator always
+     * present, same as the decimal format used for amounts with up to {@link #MAX_FORMAT_DECIMALS} decimals.
+     */
+    private static String formatAmount(final BigDecimal amount) {
+        final BigDecimal stripped = amount.signum() == 0 ? BigDecimal.ZERO : amount.stripTrailingZeros();
+        final String plain = stripped.scale() < 0 ? stripped.setScale(0).toPlainString() : stripped.toPlainString();
+        final int dot = plain.indexOf('.');
+        if (dot < 0) {
+            return plain + ",";
+        }
+        return plain.substring(0, dot) + "," + plain.substring(dot + 1);
+    }
+
     /**
      * Converts the given time into a Calendar.
      * Only the time information is set, the date will be the default 1/1/70
@@ -776,4 +939,232 @@ public class SwiftFormatUtils {
     public static String getLTAddress(final LogicalTerminalAddress address) {
         return address.getSenderLogicalTerminalAddress();
     }
+
+    /**
+     * Parses a DATE2 string (accept dates in format YYMMDD) into a LocalDate.
+     *
+     * @param strDate string to parse
+     * @return parsed date or null if the argument did not matched the expected date format
+     * @since 9.5.0
+     */
+    public static LocalDate getLocalDate2(final String strDate) {
+        final LocalDateTime dateTime = strDate != null && strDate.length() == 6 ? parseShortYear(strDate, DATE2) : null;
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
+    /**
+     * Formats a LocalDate into a DATE2 string.
+     *
+     * @param date the date to format
+     * @return formatted date or null if the date is null
+     * @since 9.5.0
+     */
+    public static String getDate2(final LocalDate date) {
+        return date != null ? DATE2.format(date) : null;
+    }
+
+    /**
+     * Parses a DATE4 string (accept dates in format YYYYMMDD) into a LocalDate.
+     *
+     * @param strDate string to parse
+     * @return parsed date or null if the argument did not matched the expected date format
+     * @since 9.5.0
+     */
+    public static LocalDate getLocalDate4(final String strDate) {
+        return strDate != null && strDate.length() == 8 ? parse(strDate, DATE4, LocalDate::from) : null;
+    }
+
+    /**
+     * Formats a LocalDate into a DATE4 string.
+     *
+     * @param date the date to format
+     * @return formatted date or null if the date is null
+     * @since 9.5.0
+     */
+    public static String getDate4(final LocalDate date) {
+        return date != null ? DATE4.format(date) : null;
+    }
+
+    /**
+     * Parses a TIME2 string (accepts time in HHmmss format) into a LocalTime.
+     *
+     * @param hhmmss hour, minutes and seconds
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.5.0
+     */
+    public static LocalTime getLocalTime2(final String hhmmss) {
+        return hhmmss != null && hhmmss.length() == 6 ? parse(hhmmss, TIME2, LocalTime::from) : null;
+    }
+
+    /**
+     * Formats a LocalTime into a TIME2 string.
+     *
+     * @param time the time to format
+     * @return formatted time or null if the time is null
+     * @since 9.5.0
+     */
+    public static String getTime2(final LocalTime time) {
+        return time != null ? TIME2.format(time) : null;
+    }
+
+    /**
+     * Parses a TIME3 string (accepts time in HH[mm] format) into a LocalTime.
+     *
+     * @param hhmm hour, or hour and minutes
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.5.0
+     */
+    public static LocalTime getLocalTime3(final String hhmm) {
+        return hhmm != null && (hhmm.length() == 2 || hhmm.length() == 4) ? parse(hhmm, TIME3, LocalTime::from) : null;
+    }
+
+    /**
+     * Formats a LocalTime into a TIME3 string with hour and minutes.
+     *
+     * @param time the time to format
+     * @return formatted time or null if the time is null
+     * @since 9.5.0
+     */
+    public static String getTime3(final LocalTime time) {
+        return time != null ? TIME3.format(time) : null;
+    }
+
+    /**
+     * Parses a DATETIME string (accepts dates with time in YYYYMMDDHHMM format) into a LocalDateTime.
+     *
+     * @param strDate string to parse
+     * @return parsed date and time or null if the argument did not matched the expected format
+     * @since 9.5.0
+     */
+    public static LocalDateTime getLocalDateTime(final String strDate) {
+        return strDate != null && strDate.length() == 12 ? parse(strDate, DATETIME, LocalDateTime::from) : null;
+    }
+
+    /**
+     * Formats a LocalDateTime into a DATETIME string in YYYYMMDDHHMM format.
+     *
+     * @param dateTime the date and time to format
+     * @return formatted date and time or null if the parameter is null
+     * @since 9.5.0
+     */
+    public static String getDateTime(final LocalDateTime dateTime) {
+        return dateTime != null ? DATETIME.format(dateTime) : null;
+    }
+
+    /**
+     * Parses a DATETIME with short year string (accepts dates with time in YYMMDDHHMM format) into a LocalDateTime.
+     *
+     * @param strDate string to parse
+     * @return parsed date and time or null if the argument did not matched the expected format
+     * @since 9.5.0
+     */
+    public static LocalDateTime getLocalDateTimeShortYear(final String strDate) {
+        return strDate != null && strDate.length() == 10 ? parseShortYear(strDate, DATETIME_SHORT_YEAR) : null;
+    }
+
+    /**
+     * Formats a LocalDateTime into a DATETIME with short year string in YYMMDDHHMM format.
+     *
+     * @param dateTime the date and time to format
+     * @return formatted date and time or null if the parameter is null
+     * @since 9.5.0
+     */
+    public static String getDateTimeShortYear(final LocalDateTime dateTime) {
+        return dateTime != null ? DATETIME_SHORT_YEAR.format(dateTime) : null;
+    }
+
+    /**
+     * Combines the date, time and UTC offset components of a field, such as 13D or 98E, into an OffsetDateTime.
+     *
+     * @param date     the date
+     * @param time     the time
+     * @param decimals optional decimal fractions of the second, for example "123" for 123 milliseconds
+     * @param sign     the offset sign, where "-" or "N" stand for a negative offset
+     * @param offset   the offset in HH[mm] format
+     * @return the date and time with the offset or null if the date, the time or the offset are not present or invalid
+     * @since 9.5.0
+     */
+    public static OffsetDateTime getOffsetDateTime(
+            final LocalDate date,
+            final LocalTime time,
+            final String decimals,
+            final String sign,
+            final String offset) {
+        final LocalTime offsetTime = getLocalTime3(offset);
+        if (date == null || time == null || offsetTime == null) {
+            return null;
+        }
+        LocalTime fullTime = time;
+        if (StringUtils.isNotEmpty(decimals)) {
+            if (decimals.length() > 9 || !StringUtils.isNumeric(decimals)) {
+                return null;
+            }
+            fullTime = time.withNano(Integer.parseInt(StringUtils.rightPad(decimals, 9, '0')));
+        }
+        final boolean negative = "-".equals(sign) || "N".equals(sign);
+        final int hours = negative ? -offsetTime.getHour() : offsetTime.getHour();
+        final int minutes = negative ? -offsetTime.getMinute() : offsetTime.getMinute();
+        try {
+            return OffsetDateTime.of(date, fullTime, ZoneOffset.ofHoursMinutes(hours, minutes));
+        } catch (final java.time.DateTimeException e) {
+            log.log(java.util.logging.Level.WARNING, "Invalid offset '" + offset + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static <T> T parse(final String value, final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        try {
+            return formatter.parse(value, query);
+        } catch (final DateTimeParseException e) {
+            log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Parses a value starting with a two digits year, resolving the year as {@link SimpleDateFormat} does for the
+     * Calendar based methods: in the hundred years starting 80 years before the current date and time. The date, at
+     * midnight if the value has no time, is first resolved in the century of that start, and moved a hundred years
+     * forward if it is before the start.
+     */
+    private static LocalDateTime parseShortYear(final String value, final DateTimeFormatter formatter) {
+        final ParsePosition position = new ParsePosition(0);
+        final TemporalAccessor parsed = formatter.parseUnresolved(value, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() < value.length()) {
+            log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "'");
+            return null;
+        }
+        try {
+            final LocalDateTime start = LocalDateTime.now().minusYears(TWO_DIGITS_YEAR_START);
+            final int year = start.getYear() - start.getYear() % 100 + valueOf(parsed, ChronoField.YEAR) % 100;
+            final int month = valueOf(parsed, ChronoField.MONTH_OF_YEAR);
+            final int day = valueOf(parsed, ChronoField.DAY_OF_MONTH);
+            final int hour = valueOf(parsed, ChronoField.HOUR_OF_DAY);
+            final int minute = valueOf(parsed, ChronoField.MINUTE_OF_HOUR);
+            final LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute);
+            return dateTime.isBefore(start) ? LocalDateTime.of(year + 100, month, day, hour, minute) : dateTime;
+        } catch (final DateTimeException e) {
+            log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return the parsed field value, or zero if the field is not present in the parsed value
+     */
+    private static int valueOf(final TemporalAccessor parsed, final ChronoField field) {
+        return parsed.isSupported(field) ? (int) parsed.getLong(field) : 0;
+    }
+
+    private static DateTimeFormatter strict(final String pattern) {
+        return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    private static DateTimeFormatter shortYear(final String pattern) {
+        return new DateTimeFormatterBuilder()
+                .appendValueReduced(ChronoField.YEAR, 2, 2, 2000)
+                .appendPattern(pattern)
+                .toFormatter()
+                .withResolverStyle(ResolverStyle.STRICT);
+    }
 }
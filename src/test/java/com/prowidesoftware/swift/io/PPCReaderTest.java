@@ -0,0 +1,76 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for the {@link PPCReader} class
+ *
+ * @since 9.5.0
+ */
+public class PPCReaderTest {
+
+    private static String ppc(final int count) {
+        final StringBuilder ppc = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ppc.append((char) PPCReader.BEGIN)
+                    .append("{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF")
+                    .append(i)
+                    .append("\r\n-}")
+                    .append((char) PPCReader.END)
+                    .append("    ");
+        }
+        return ppc.toString();
+    }
+
+    @Test
+    public void testIterator() {
+        final List<String> read = new ArrayList<>();
+        new PPCReader(ppc(3)).forEach(read::add);
+        assertEquals(3, read.size());
+        assertTrue(read.get(2).contains(":20:REF2"));
+    }
+
+    @Test
+    public void testMappedFile(@TempDir Path dir) throws IOException {
+        final String ppc = ppc(30);
+        final Path file = dir.resolve("batch.ppc");
+        Files.write(file, ppc.getBytes(StandardCharsets.US_ASCII));
+
+        final List<String> expected = new ArrayList<>();
+        new PPCReader(ppc).forEach(expected::add);
+        assertEquals(30, expected.size());
+
+        for (int windowSize : new int[] {MappedFileInput.DEFAULT_WINDOW_SIZE, 64}) {
+            try (PPCReader r = new PPCReader(file, StandardCharsets.US_ASCII, windowSize)) {
+                final List<String> read = new ArrayList<>();
+                r.forEach(read::add);
+                assertEquals(expected, read);
+                assertFalse(r.hasNext());
+            }
+        }
+    }
+}
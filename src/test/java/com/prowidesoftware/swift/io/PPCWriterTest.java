@@ -0,0 +1,72 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for the {@link PPCWriter} class
+ *
+ * @since 9.5.0
+ */
+public class PPCWriterTest {
+
+    @Test
+    public void testWriteAll() throws IOException {
+        List<MT103> messages = RJEWriterTest.messages(300);
+        StringWriter expected = new StringWriter();
+        for (MT103 mt : messages) {
+            PPCWriter.write(mt, expected);
+        }
+
+        StringWriter s = new StringWriter();
+        PPCWriter w = new PPCWriter(s);
+        w.setBatchSize(2000);
+        w.writeAll(messages);
+        assertEquals(expected.toString(), s.toString());
+        assertEquals(0, s.toString().length() % 512);
+    }
+
+    @Test
+    public void testWriteAllFileChannel(@TempDir Path dir) throws IOException {
+        List<MT103> messages = RJEWriterTest.messages(2000);
+        Path file = dir.resolve("out.ppc");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            PPCWriter w = new PPCWriter(channel, StandardCharsets.ISO_8859_1);
+            w.writeAll(messages.stream());
+            w.close();
+        }
+        assertEquals(512L * messages.size(), Files.size(file));
+
+        int count = 0;
+        for (String fin : new PPCReader(file, StandardCharsets.ISO_8859_1)) {
+            assertEquals(messages.get(count++).message(), fin);
+        }
+        assertEquals(messages.size(), count);
+    }
+}
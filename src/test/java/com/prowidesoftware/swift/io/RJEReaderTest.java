@@ -22,7 +22,18 @@ import com.prowidesoftware.swift.model.mt.AbstractMT;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test cases for the {@link RJEReader} class
@@ -120,4 +131,125 @@ public class RJEReaderTest {
             assertEquals(3, count);
         }
     }
+
+    @Test
+    public void testChunkBoundaries() {
+        // messages longer than the internal read chunk
+        final String msg = StringUtils.repeat("X", 10000);
+        final List<String> read = new ArrayList<>();
+        new RJEReader(msg + "$" + msg + "$foo").forEach(read::add);
+        assertEquals(3, read.size());
+        assertEquals(msg, read.get(0));
+        assertEquals(msg, read.get(1));
+        assertEquals("foo", read.get(2));
+    }
+
+    @Test
+    public void testParallelOrdered() throws IOException {
+        final String rje = bulk(200);
+        final List<SwiftMessage> expected = new ArrayList<>();
+        final RJEReader sequential = new RJEReader(rje);
+        while (sequential.hasNext()) {
+            final SwiftMessage m = sequential.nextSwiftMessage();
+            if (m != null) {
+                expected.add(m);
+            }
+        }
+        assertEquals(200, expected.size());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<SwiftMessage> parsed = new ArrayList<>();
+            new RJEReader(rje).swiftMessageIterator(executor, true).forEachRemaining(parsed::add);
+            assertEquals(expected, parsed);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(
+                expected,
+                new RJEReader(rje)
+                        .swiftMessageStream(ForkJoinPool.commonPool(), true)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParallelUnordered() {
+        final List<String> refs = new RJEReader(bulk(200))
+                .swiftMessageStream(ForkJoinPool.commonPool(), false)
+                .map(m -> m.getBlock4().getTagValue("20"))
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(200, refs.size());
+        assertEquals("REF000", refs.get(0));
+        assertEquals("REF199", refs.get(199));
+    }
+
+    @Test
+    public void testParallelNotReentrant() {
+        final RJEReader r = new RJEReader(bulk(2));
+        r.swiftMessageIterator(ForkJoinPool.commonPool(), true);
+        assertThrows(IllegalStateException.class, () -> r.swiftMessageIterator(ForkJoinPool.commonPool(), true));
+    }
+
+    @Test
+    public void testMappedFile(@TempDir Path dir) throws IOException {
+        final String rje = bulk(50) + "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:70:\u00e9\u00e8\r\n-}";
+        final Path file = dir.resolve("bulk.rje");
+        Files.write(file, rje.getBytes(StandardCharsets.UTF_8));
+
+        final List<String> expected = new ArrayList<>();
+        new RJEReader(rje).forEach(expected::add);
+        assertEquals(51, expected.size());
+
+        // default window and a small window forcing the file to be remapped while scanning and decoding
+        for (int windowSize : new int[] {MappedFileInput.DEFAULT_WINDOW_SIZE, 100}) {
+            try (RJEReader r = new RJEReader(file, StandardCharsets.UTF_8, windowSize)) {
+                final List<String> read = new ArrayList<>();
+                r.forEach(read::add);
+                assertEquals(expected, read);
+                assertFalse(r.hasNext());
+            }
+        }
+
+        final List<SwiftMessage> parsed;
+        try (Stream<SwiftMessage> stream = new RJEReader(file, StandardCharsets.UTF_8, 100)
+                .swiftMessageStream(ForkJoinPool.commonPool(), true)) {
+            parsed = stream.collect(Collectors.toList());
+        }
+        assertEquals(51, parsed.size());
+        assertEquals("\u00e9\u00e8", parsed.get(50).getBlock4().getTagValue("70"));
+    }
+
+    @Test
+    public void testMappedFileInvalidCharset(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("bulk.rje");
+        Files.write(file, bulk(2).getBytes(StandardCharsets.UTF_16));
+        try (RJEReader r = new RJEReader(file, StandardCharsets.UTF_16)) {
+            assertThrows(IllegalArgumentException.class, r::next);
+        }
+    }
+
+    @Test
+    public void testMappedFileClosedBeforeEnd(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("bulk.rje");
+        Files.write(file, bulk(3).getBytes(StandardCharsets.UTF_8));
+        final RJEReader r = new RJEReader(file, StandardCharsets.UTF_8, 100);
+        assertTrue(r.next().contains(":20:REF000"));
+        r.close();
+        assertFalse(r.hasNext());
+        // closing again has no effect
+        r.close();
+        Files.delete(file);
+    }
+
+    private static String bulk(final int count) {
+        final StringBuilder rje = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            rje.append("{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF")
+                    .append(String.format("%03d", i))
+                    .append("\r\n:23B:CRED\r\n-}$\r\n");
+        }
+        return rje.toString();
+    }
 }
@@ -16,12 +16,26 @@
 package com.prowidesoftware.swift.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
+import com.prowidesoftware.swift.model.field.Field20;
+import com.prowidesoftware.swift.model.field.Field70;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
 import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test cases for the {@link RJEWriter} class
@@ -55,4 +69,84 @@ public class RJEWriterTest {
                         + FINWriterVisitor.SWIFT_EOL
                         + mt.message());
     }
+
+    @Test
+    public void testWriteAll() throws IOException {
+        List<MT103> messages = messages(500);
+        String expected = writeOneByOne(messages);
+
+        StringWriter s = new StringWriter();
+        RJEWriter w = new RJEWriter(s);
+        w.setBatchSize(1000);
+        w.writeAll(messages.subList(0, 200));
+        w.setFlushInterval(Duration.ofNanos(1));
+        w.writeAll(messages.subList(200, 500).stream());
+        assertEquals(expected, s.toString());
+    }
+
+    @Test
+    public void testWriteAllFileChannel(@TempDir Path dir) throws IOException {
+        List<MT103> messages = messages(3000);
+        Path file = dir.resolve("out.rje");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            RJEWriter w = new RJEWriter(channel, StandardCharsets.UTF_8);
+            w.write(messages.get(0));
+            w.writeAll(messages.subList(1, messages.size()));
+            w.close();
+        }
+        assertEquals(writeOneByOne(messages), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+        int count = 0;
+        for (String fin : new RJEReader(file, StandardCharsets.UTF_8)) {
+            assertEquals(messages.get(count++).message(), fin);
+        }
+        assertEquals(messages.size(), count);
+    }
+
+    @Test
+    public void testWriteAllFailedBatchIsNotCounted() throws IOException {
+        List<MT103> messages = messages(3);
+        final boolean[] fail = {true};
+        StringWriter s = new StringWriter() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                if (fail[0]) {
+                    throw new UncheckedIOException(new IOException("test"));
+                }
+                super.write(cbuf, off, len);
+            }
+        };
+        RJEWriter w = new RJEWriter(s);
+        assertThrows(UncheckedIOException.class, () -> w.writeAll(messages.subList(0, 2)));
+
+        // the discarded messages do not count, so no separator is written before the first message
+        fail[0] = false;
+        w.writeAll(messages.subList(2, 3));
+        assertEquals(messages.get(2).message(), s.toString());
+    }
+
+    @Test
+    public void testWriteAllInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new RJEWriter(new StringWriter()).setBatchSize(0));
+    }
+
+    static List<MT103> messages(int count) {
+        List<MT103> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MT103 mt = new MT103();
+            mt.addField(new Field20("REF" + i));
+            mt.addField(new Field70("PAYMENT " + i + "\nSECOND LINE \u00e9"));
+            messages.add(mt);
+        }
+        return messages;
+    }
+
+    private static String writeOneByOne(List<? extends AbstractMT> messages) throws IOException {
+        StringWriter s = new StringWriter();
+        RJEWriter w = new RJEWriter(s);
+        for (AbstractMT mt : messages) {
+            w.write(mt);
+        }
+        return s.toString();
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for parsing binary input with {@link SwiftParser#setData(ByteBuffer)}
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserBytesTest {
+
+    private static final String MT103 =
+            "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{3:{108:MUR}}{4:\r\n:20:REF\r\n:23B:CRED\r\n:32A:130204USD1234567,89\r\n-}{5:{CHK:123456789ABC}}";
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"MT101.fin", "MT305.fin", "MT320.txt", "SWIFTMT300_0000039099_0002.txt", "sample_JPchar.txt"})
+    public void testSameAsString(String resource) throws IOException {
+        final String fin = Lib.readResource(resource);
+        final SwiftMessage expected = SwiftMessage.parse(fin);
+        final byte[] bytes = fin.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, SwiftMessage.parse(bytes), resource);
+        assertEquals(expected, new SwiftParser(ByteBuffer.wrap(bytes)).message(), resource);
+    }
+
+    @Test
+    public void testBufferSlice() throws IOException {
+        final byte[] fin = MT103.getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(fin.length + 20);
+        buffer.put("garbage...".getBytes(StandardCharsets.US_ASCII));
+        buffer.put(fin);
+        buffer.put("$trailing".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(10);
+        buffer.limit(10 + fin.length);
+
+        final SwiftMessage m = new SwiftParser(buffer).message();
+        assertEquals(SwiftMessage.parse(MT103), m);
+        assertEquals(10, buffer.position());
+        assertTrue(m.getUnparsedTexts().getTexts().isEmpty());
+    }
+
+    @Test
+    public void testLazyTextBlock() throws IOException {
+        final SwiftParser parser = new SwiftParser(MT103.getBytes(StandardCharsets.US_ASCII));
+        parser.getConfiguration().setLazyTextBlock(true);
+        final SwiftMessage m = parser.message();
+        assertEquals("MUR", m.getMUR());
+        assertEquals("REF", m.getBlock4().getTagValue("20"));
+        assertEquals(SwiftMessage.parse(MT103), m);
+    }
+
+    @Test
+    public void testAbstractMT() throws IOException {
+        final AbstractMT mt = AbstractMT.parse(MT103.getBytes(StandardCharsets.US_ASCII));
+        assertEquals("103", mt.getMessageType());
+        assertEquals("MUR", mt.getSwiftMessage().getMUR());
+    }
+
+    @Test
+    public void testAsciiCharSequence() {
+        final AsciiCharSequence s =
+                AsciiCharSequence.of(ByteBuffer.wrap("{1:FOO}".getBytes(StandardCharsets.US_ASCII)));
+        assertNotNull(s);
+        assertEquals(7, s.length());
+        assertEquals('F', s.charAt(3));
+        assertEquals("1:FOO", s.subSequence(1, 6).toString());
+        assertEquals("FO", s.subSequence(1, 6).subSequence(2, 4).toString());
+        assertNull(AsciiCharSequence.of(ByteBuffer.wrap("{1:é}".getBytes(StandardCharsets.UTF_8))));
+    }
+}
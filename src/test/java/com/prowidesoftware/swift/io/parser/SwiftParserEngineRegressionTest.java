@@ -0,0 +1,313 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.RJEReader;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Regression tests for the index based reading in {@link SwiftParser}, comparing its output with the legacy char by
+ * char reading implementation, across the test resources and a set of malformed messages.
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserEngineRegressionTest {
+
+    private static final String[] SAMPLES = {
+        "",
+        "foo",
+        "{1:F01AAAABBCCXXXX0000000000}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\n:20:REF\n:23B:CRED\n-}{5:{CHK:123456789ABC}}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{3:{113:NOMF}{108:REF}{121:8E0FE365-A88E-426B-8484-4FB7FEE92742}}{4:\r\n:20:REF\r\n-}{S:{SAC:}{COP:P}}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:72:/ACC/}{with}\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:O0111702090738DYLRXXXXCXXX00000000001702090738S}{4:{175:0741}{106:170209AAAAFRPPZXXX0000000002}{108:REF1}}{5:{CHK:ABCDEF123456}{SYS:}}",
+        "{1:F21AAAABBCCXXXX0000000000}{4:{177:1704260717}{451:0}}{1:F01AAAABBCCXXXX0000000000}{2:O1031612170425BBBBUS33BXXX01613135551704260717N}{4:\r\n:20:REF\r\n-}{5:{CHK:123456789ABC}}",
+        "garbage before{1:F01AAAABBCCXXXX0000000000}between{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n-}after",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n-}{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF2\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{3:{108:REF}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:{1:F01AAAABBCCXXXX0000000000}{4:\r\n:20:INNER\r\n-}\r\n:20:REF\r\n-}",
+        "{1:}{2:}{3:}{4:}{5:}",
+        "{4:",
+        "{{}}",
+        "{#:foo}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:" + StringUtils.repeat("X", 20000) + "\r\n-}"
+    };
+
+    @Test
+    public void testSamples() throws IOException {
+        for (String sample : SAMPLES) {
+            assertSameOutput(sample);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "MT101.fin",
+                "MT305.fin",
+                "MT306.fin",
+                "MT340.fin",
+                "MT341.fin",
+                "MT360.fin",
+                "MT361.fin",
+                "MT362.fin",
+                "MT320.txt",
+                "SWIFTMT300_0000039099_0002.txt",
+                "sample_JPchar.txt"
+            })
+    public void testResources(String resource) throws IOException {
+        final String fin = Lib.readResource(resource);
+        assertTrue(StringUtils.isNotBlank(fin));
+        assertSameOutput(fin);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MT103-bulk-with-ack.rje", "MT103-out-ack.rje"})
+    public void testRJEResources(String resource) throws IOException {
+        int count = 0;
+        for (String fin : new RJEReader(Lib.readResource(resource))) {
+            assertSameOutput(fin);
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    private static void assertSameOutput(final String fin) throws IOException {
+        final SwiftParser legacy = new LegacyReadingParser(fin);
+        final SwiftMessage expected = legacy.message();
+
+        // string input, scanned in place
+        final SwiftParser parser = new SwiftParser(fin);
+        assertEquals(expected, parser.message(), fin);
+        assertEquals(legacy.getErrors(), parser.getErrors(), fin);
+
+        // reader input, read in chunks, one char at a time as worst case
+        final SwiftParser readerParser = new SwiftParser(new OneCharReader(fin));
+        assertEquals(expected, readerParser.message(), fin);
+        assertEquals(legacy.getErrors(), readerParser.getErrors(), fin);
+
+        // strict mode must fail, or not, the same way
+        assertSameStrictOutput(fin);
+    }
+
+    private static void assertSameStrictOutput(final String fin) throws IOException {
+        final SwiftParserConfiguration strict = new SwiftParserConfiguration();
+        strict.setLenient(false);
+
+        final SwiftParser legacy = new LegacyReadingParser(fin);
+        legacy.setConfiguration(strict);
+        final SwiftParser parser = new SwiftParser(fin);
+        parser.setConfiguration(strict);
+
+        SwiftMessage expected = null;
+        RuntimeException expectedError = null;
+        try {
+            expected = legacy.message();
+        } catch (RuntimeException e) {
+            expectedError = e;
+        }
+        if (expectedError == null) {
+            assertEquals(expected, parser.message(), fin);
+        } else {
+            final RuntimeException error = assertThrows(RuntimeException.class, parser::message, fin);
+            assertEquals(expectedError.getClass(), error.getClass(), fin);
+            assertEquals(expectedError.getMessage(), error.getMessage(), fin);
+        }
+    }
+
+    /**
+     * Reader that returns at most one char per read call
+     */
+    private static final class OneCharReader extends StringReader {
+        OneCharReader(String s) {
+            super(s);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
+    /**
+     * Parser with the reading implementation previous to the index based scan, where the input is consumed one char
+     * at a time from a reader and accumulated into a buffer.
+     */
+    private static final class LegacyReadingParser extends SwiftParser {
+        private Reader legacyReader;
+        private StringBuilder legacyBuffer;
+        private int legacyLastBlockStartOffset = 0;
+
+        LegacyReadingParser(final String fin) {
+            setReader(new StringReader(fin));
+        }
+
+        @Override
+        public void setReader(final Reader r) {
+            super.setReader(r);
+            this.legacyReader = r;
+            this.legacyBuffer = new StringBuilder();
+        }
+
+        @Override
+        protected String findBlockStart() throws IOException {
+            final StringBuilder textUntilBlock = new StringBuilder();
+            int c;
+            do {
+                c = getChar();
+                textUntilBlock.append((char) c);
+            } while (c != -1 && !isBlockStart((char) c));
+            if (textUntilBlock.length() > 0) {
+                textUntilBlock.deleteCharAt(textUntilBlock.length() - 1);
+            }
+            return textUntilBlock.length() > 0 ? textUntilBlock.toString() : StringUtils.EMPTY;
+        }
+
+        @Override
+        protected String readUntilBlockEnds() throws IOException {
+            final int start = legacyBuffer.length();
+            int len = 0;
+            int c;
+            boolean checkNested = true;
+            int starts = 1;
+            boolean done = false;
+            int count = 0;
+            Boolean isTextBlock = null;
+            while (!done) {
+                c = getChar();
+                if (isTextBlock == null && count++ >= 3) {
+                    isTextBlock = isTextBlock();
+                    if (isTextBlock) {
+                        checkNested = false;
+                    }
+                }
+                if (c == -1) {
+                    if (len > 0) {
+                        final String error =
+                                "Missing or invalid closing bracket in block " + legacyBuffer.charAt(start);
+                        if (getConfiguration().isLenient()) {
+                            getErrors().add(error);
+                        } else {
+                            throw new IllegalArgumentException(error);
+                        }
+                    }
+                    done = true;
+                } else {
+                    if (checkNested && isBlockStart((char) c)) {
+                        starts++;
+                    }
+                    if (isBlockEnd(isTextBlock, c)) {
+                        if (checkNested) {
+                            starts--;
+                            if (starts == 0) {
+                                done = true;
+                            } else {
+                                len++;
+                            }
+                        } else {
+                            done = true;
+                        }
+                    } else {
+                        len++;
+                    }
+                }
+            }
+            return legacyBuffer.substring(start, start + len);
+        }
+
+        private boolean isTextBlock() {
+            if (legacyLastBlockStartOffset >= 0 && legacyBuffer.length() > legacyLastBlockStartOffset) {
+                final String s = legacyBuffer.substring(legacyLastBlockStartOffset);
+                if (s.length() < 3) {
+                    return false;
+                }
+                final int offset = s.charAt(0) == '{' ? 1 : 0;
+                if (s.charAt(offset) == '4' && s.charAt(offset + 1) == ':') {
+                    int c = offset + 2;
+                    while (offset + c < s.length()) {
+                        final char tmp = s.charAt(offset + c);
+                        c++;
+                        if (tmp == '{') {
+                            return false;
+                        } else if (tmp == ':') {
+                            return true;
+                        }
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isBlockEnd(final Boolean isTextBlock, final int c) {
+            if (c == '}') {
+                if (isTextBlock != null && isTextBlock) {
+                    return legacyBuffer.charAt(legacyBuffer.length() - 3) == '\n'
+                            && legacyBuffer.charAt(legacyBuffer.length() - 2) == '-';
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isBlockStart(final char c) {
+            if (c == '{') {
+                legacyLastBlockStartOffset = legacyBuffer.length() - 1;
+                return true;
+            }
+            return false;
+        }
+
+        private int getChar() throws IOException {
+            final int c = legacyReader.read();
+            if (c >= 0) {
+                legacyBuffer.append((char) c);
+            }
+            return c;
+        }
+    }
+
+    @Test
+    public void testReadAfterSecondBlock1() throws IOException {
+        // the content appended after an ACK is kept entirely as unparsed text, regardless of its length
+        final String appended =
+                "{1:F01AAAABBCCXXXX0000000000}{2:O1031612170425BBBBUS33BXXX01613135551704260717N}{4:\r\n:20:"
+                        + StringUtils.repeat("X", 300) + "\r\n-}";
+        final String fin = "{1:F21AAAABBCCXXXX0000000000}{4:{177:1704260717}{451:0}}" + appended;
+        final List<SwiftMessage> parsed = new ArrayList<>();
+        parsed.add(new SwiftParser(fin).message());
+        parsed.add(new SwiftParser(new StringReader(fin)).message());
+        for (SwiftMessage m : parsed) {
+            assertEquals(1, m.getUnparsedTextsSize());
+            assertEquals(appended, m.getUnparsedTexts().getText(0));
+        }
+    }
+}
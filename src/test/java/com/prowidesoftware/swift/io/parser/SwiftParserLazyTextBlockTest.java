@@ -0,0 +1,163 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftBlock4;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.*;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the lazy text block parsing mode
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserLazyTextBlockTest {
+
+    private static final String MT103 =
+            "{1:F01FOOBARYYAXXX1234123456}{2:O1030803051028AAPBESMMAXXX54237368560510280803N}"
+                    + "{3:{113:NOMF}{108:0510280086100057}}{4:\n"
+                    + ":20:D051026EUR100057\n"
+                    + ":23B:CRED\n"
+                    + ":32A:051028EUR6740,91\n"
+                    + ":59:/ES0123456789012345671234\n"
+                    + "FOOOOO 1000 FOOBAR S.A.\n"
+                    + ":71A:SHA\n"
+                    + "-}{5:{MAC:D9D8FA56}{CHK:46E46A6460F2}}";
+
+    private static SwiftMessage parseLazy(final String fin) throws IOException {
+        final SwiftParser parser = new SwiftParser(fin);
+        parser.getConfiguration().setLazyTextBlock(true);
+        return parser.message();
+    }
+
+    private static boolean isLoaded(final SwiftBlock4 b4) {
+        return ((LazyTagList) b4.getTags()).isLoaded();
+    }
+
+    @Test
+    public void testHeadersWithoutTextBlockParsing() throws IOException {
+        final SwiftMessage m = parseLazy(MT103);
+        assertEquals("103", m.getType());
+        assertEquals("0510280086100057", m.getBlock3().getTagValue("108"));
+        assertEquals("46E46A6460F2", m.getBlock5().getTagValue("CHK"));
+        assertFalse(isLoaded(m.getBlock4()));
+
+        assertEquals("D051026EUR100057", m.getBlock4().getTagValue("20"));
+        assertTrue(isLoaded(m.getBlock4()));
+        assertEquals(5, m.getBlock4().size());
+    }
+
+    @Test
+    public void testSameAsEager() throws IOException {
+        assertEquals(SwiftMessage.parse(MT103), parseLazy(MT103));
+        assertEquals(SwiftMessage.parse(MT103).message(), parseLazy(MT103).message());
+
+        for (String resource : new String[] {"MT101.fin", "MT305.fin", "MT320.txt", "sample_JPchar.txt"}) {
+            final String fin = Lib.readResource(resource);
+            assertEquals(SwiftMessage.parse(fin), parseLazy(fin), resource);
+        }
+    }
+
+    @Test
+    public void testSameAsEagerFromReader() throws IOException {
+        final SwiftParser parser = new SwiftParser(new StringReader(MT103));
+        parser.getConfiguration().setLazyTextBlock(true);
+        final SwiftMessage m = parser.message();
+        assertFalse(isLoaded(m.getBlock4()));
+        assertEquals(SwiftMessage.parse(MT103), m);
+    }
+
+    @Test
+    public void testTagModeBlock() throws IOException {
+        final String fin =
+                "{1:F01AAAAFRPPZXXX0000000001}{2:O0111702090738DYLRXXXXCXXX00000000001702090738S}{4:{175:0741}{106:170209AAAAFRPPZXXX0000000002}{108:REF1}}{5:{CHK:ABCDEF123456}{SYS:}}";
+        final SwiftMessage m = parseLazy(fin);
+        assertFalse(isLoaded(m.getBlock4()));
+        assertEquals("REF1", m.getBlock4().getTagValue("108"));
+        assertEquals(SwiftMessage.parse(fin), m);
+    }
+
+    @Test
+    public void testUnparsedTexts() throws IOException {
+        final String fin =
+                "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:{1:F01AAAABBCCXXXX0000000000}{4:\r\n:20:INNER\r\n-}\r\n:20:REF\r\n-}";
+        final SwiftMessage eager = SwiftMessage.parse(fin);
+        assertEquals(1, eager.getBlock4().getUnparsedTextsSize());
+
+        SwiftMessage m = parseLazy(fin);
+        assertFalse(isLoaded(m.getBlock4()));
+        assertEquals(1, m.getBlock4().getUnparsedTextsSize());
+        assertTrue(isLoaded(m.getBlock4()));
+
+        m = parseLazy(fin);
+        assertEquals(eager.getBlock4().getUnparsedTexts(), m.getBlock4().getUnparsedTexts());
+        assertEquals(eager, m);
+    }
+
+    @Test
+    public void testModifyTags() throws IOException {
+        final SwiftMessage m = parseLazy(MT103);
+        m.getBlock4().append(new Tag("72", "/ACC/FOO"));
+        assertEquals(6, m.getBlock4().size());
+        assertEquals("/ACC/FOO", m.getBlock4().getTagValue("72"));
+
+        final SwiftMessage m2 = parseLazy(MT103);
+        m2.getBlock4().removeTag("71A");
+        assertEquals(4, m2.getBlock4().size());
+        assertNull(m2.getBlock4().getTagValue("71A"));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        final SwiftMessage m = parseLazy(MT103);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(m);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            final SwiftMessage copy = (SwiftMessage) ois.readObject();
+            assertEquals(ArrayList.class, copy.getBlock4().getTags().getClass());
+            assertEquals(m, copy);
+        }
+    }
+
+    @Test
+    public void testTextBlockParsingDisabled() throws IOException {
+        final SwiftParser parser = new SwiftParser(MT103);
+        parser.getConfiguration().setLazyTextBlock(true);
+        parser.getConfiguration().setParseTextBlock(false);
+        final SwiftMessage m = parser.message();
+        assertNotNull(m.getBlock4());
+        assertTrue(m.getBlock4().isEmpty());
+        assertNotNull(m.getBlock5());
+    }
+
+    @Test
+    public void testMissingBlockEnd() throws IOException {
+        final String fin = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED";
+        final SwiftParser parser = new SwiftParser(fin);
+        parser.getConfiguration().setLazyTextBlock(true);
+        final SwiftMessage m = parser.message();
+        assertEquals(1, parser.getErrors().size());
+        assertEquals(SwiftMessage.parse(fin), m);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.MessageIOType;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.SwiftMessageHeaders;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link SwiftParser#peekHeaders()}
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserPeekHeadersTest {
+
+    private static final String MT103_OUTPUT =
+            "{1:F01FOOBARYYAXXX1234123456}{2:O1030803051028AAPBESMMAXXX54237368560510280803N}"
+                    + "{3:{113:NOMF}{108:0510280086100057}{121:8E0FE365-A88E-426B-8484-4FB7FEE92742}}{4:\n"
+                    + ":20:D051026EUR100057\n"
+                    + ":23B:CRED\n"
+                    + ":32A:051028EUR6740,91\n"
+                    + "-}{5:{MAC:D9D8FA56}{CHK:46E46A6460F2}}";
+
+    @Test
+    public void testOutput() throws IOException {
+        final SwiftMessageHeaders h = new SwiftParser(MT103_OUTPUT).peekHeaders();
+        final SwiftMessage m = SwiftMessage.parse(MT103_OUTPUT);
+
+        assertEquals("F", h.getApplicationId());
+        assertEquals("01", h.getServiceId());
+        assertEquals("FOOBARYYAXXX", h.getLogicalTerminal());
+        assertEquals("1234", h.getSessionNumber());
+        assertEquals("123456", h.getSequenceNumber());
+        assertFalse(h.isServiceMessage());
+        assertEquals(MessageIOType.incoming, h.getDirection());
+        assertEquals("103", h.getMessageType());
+        assertEquals("N", h.getMessagePriority());
+
+        assertEquals(m.getSender(), h.getSender());
+        assertEquals(m.getReceiver(), h.getReceiver());
+        assertEquals(m.getMIR(), h.getMIR());
+        assertEquals(m.getMOR(), h.getMOR());
+        assertEquals(m.getMUR(), h.getMUR());
+        assertEquals(m.getUETR(), h.getUETR());
+        assertEquals("NOMF", h.getBlock3Value("113"));
+        assertNull(h.getServiceTypeIdentifier());
+        assertEquals(3, h.getBlock3Values().size());
+    }
+
+    @Test
+    public void testInput() throws IOException {
+        final String fin =
+                "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{3:{111:001}}{4:\r\n:20:REF\r\n-}{5:{CHK:123456789ABC}}";
+        final SwiftMessageHeaders h = new SwiftParser(fin).peekHeaders();
+        assertEquals(MessageIOType.outgoing, h.getDirection());
+        assertEquals("AAAABBCCXXXX", h.getSender());
+        assertEquals("BBBBCCDDXXXX", h.getReceiver());
+        assertEquals("001", h.getServiceTypeIdentifier());
+        assertNull(h.getMIR());
+        assertNull(h.getMOR());
+        assertNull(h.getMUR());
+    }
+
+    @Test
+    public void testServiceMessage() throws IOException {
+        final String fin =
+                "{1:F21AAAABBCCXXXX0000000000}{4:{177:1704260717}{451:0}}{1:F01AAAABBCCXXXX0000000000}{2:O1031612170425BBBBUS33BXXX01613135551704260717N}{4:\r\n:20:REF\r\n-}";
+        final SwiftMessageHeaders h = new SwiftParser(fin).peekHeaders();
+        assertTrue(h.isServiceMessage());
+        assertEquals("21", h.getServiceId());
+        assertEquals("AAAABBCCXXXX", h.getSender());
+        assertNull(h.getReceiver());
+        assertNull(h.getBlock2Value());
+        assertNull(h.getDirection());
+        assertTrue(h.getBlock3Values().isEmpty());
+    }
+
+    @Test
+    public void testInputIsNotConsumed() throws IOException {
+        final SwiftParser parser = new SwiftParser(MT103_OUTPUT);
+        final SwiftMessageHeaders h = parser.peekHeaders();
+        assertEquals(h, parser.peekHeaders());
+        assertEquals(SwiftMessage.parse(MT103_OUTPUT), parser.message());
+
+        final SwiftParser readerParser = new SwiftParser(new StringReader(MT103_OUTPUT));
+        assertEquals(h, readerParser.peekHeaders());
+        assertEquals(SwiftMessage.parse(MT103_OUTPUT), readerParser.message());
+    }
+
+    @Test
+    public void testResources() throws IOException {
+        for (String resource : new String[] {"MT101.fin", "MT305.fin", "MT320.txt", "sample_JPchar.txt"}) {
+            final String fin = Lib.readResource(resource);
+            final SwiftMessage m = SwiftMessage.parse(fin);
+            final SwiftMessageHeaders h = new SwiftParser(fin).peekHeaders();
+            assertEquals(m.getBlock1().getValue(), h.getBlock1Value(), resource);
+            assertEquals(m.getBlock2().getValue(), h.getBlock2Value(), resource);
+            assertEquals(m.getType(), h.getMessageType(), resource);
+            assertEquals(m.getSender(), h.getSender(), resource);
+            assertEquals(m.getReceiver(), h.getReceiver(), resource);
+            assertEquals(m.getMUR(), h.getMUR(), resource);
+        }
+    }
+
+    @Test
+    public void testNoHeaders() throws IOException {
+        final SwiftMessageHeaders h = new SwiftParser("{4:\r\n:20:REF\r\n-}").peekHeaders();
+        assertNull(h.getBlock1Value());
+        assertNull(h.getBlock2Value());
+        assertNull(h.getSender());
+        assertFalse(h.isServiceMessage());
+
+        assertNull(new SwiftParser("").peekHeaders().getLogicalTerminal());
+    }
+}
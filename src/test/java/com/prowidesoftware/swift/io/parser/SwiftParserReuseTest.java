@@ -0,0 +1,94 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the reuse of parser instances, {@link SwiftParser#parse(CharSequence)} and
+ * {@link SwiftParser#threadLocal()}
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserReuseTest {
+
+    private static final String MT103 =
+            "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED\r\n-}{5:{CHK:123456789ABC}}";
+    private static final String MISSING_END =
+            "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED";
+
+    @Test
+    public void testParseRepeatedly() throws IOException {
+        final SwiftParser parser = new SwiftParser();
+        for (String resource : new String[] {"MT101.fin", "MT305.fin", "MT320.txt", "sample_JPchar.txt"}) {
+            final String fin = Lib.readResource(resource);
+            assertEquals(SwiftMessage.parse(fin), parser.parse(fin), resource);
+            assertTrue(parser.getErrors().isEmpty(), resource);
+        }
+
+        parser.parse(MISSING_END);
+        assertEquals(1, parser.getErrors().size());
+        assertEquals(SwiftMessage.parse(MT103), parser.parse(new StringBuilder(MT103)));
+        assertTrue(parser.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testReaderBufferReuse() throws IOException {
+        final SwiftParser parser = new SwiftParser();
+        parser.getConfiguration().setLazyTextBlock(true);
+
+        parser.setReader(new StringReader(MT103));
+        final SwiftMessage lazy = parser.message();
+
+        // the lazy block of the first message must not be affected by the next input
+        parser.setReader(new StringReader(MISSING_END.replace("REF", "FOO")));
+        final SwiftMessage second = parser.message();
+        parser.setReader(new StringReader(MT103.replace("REF", "BAR")));
+        final SwiftMessage third = parser.message();
+
+        assertEquals("REF", lazy.getBlock4().getTagValue("20"));
+        assertEquals("FOO", second.getBlock4().getTagValue("20"));
+        assertEquals("BAR", third.getBlock4().getTagValue("20"));
+    }
+
+    @Test
+    public void testReset() throws IOException {
+        final SwiftParser parser = new SwiftParser(MISSING_END);
+        parser.message();
+        assertFalse(parser.getErrors().isEmpty());
+        parser.reset();
+        assertTrue(parser.getErrors().isEmpty());
+        assertNull(parser.message().getBlock1());
+    }
+
+    @Test
+    public void testThreadLocal() throws IOException {
+        final SwiftParser parser = SwiftParser.threadLocal();
+        assertEquals(SwiftMessage.parse(MT103), parser.parse(MT103));
+        parser.getConfiguration().setLenient(false);
+
+        final SwiftParser again = SwiftParser.threadLocal();
+        assertSame(parser, again);
+        assertTrue(again.getConfiguration().isLenient());
+        assertEquals(SwiftMessage.parse(MISSING_END), again.parse(MISSING_END));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.io.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.RJEReader;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+import com.prowidesoftware.swift.utils.Lib;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for the streaming text block API, {@link SwiftParser#tagCursor()} and
+ * {@link SwiftParser#message(TagHandler)}
+ *
+ * @since 9.5.0
+ */
+public class SwiftParserTagCursorTest {
+
+    private static final String[] SAMPLES = {
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\n:20:REF\n:23B:CRED\n-}{5:{CHK:123456789ABC}}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{3:{113:NOMF}{108:REF}}{4:\r\n:20:REF\r\n-}{S:{SAC:}{COP:P}}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:72:/ACC/}{with}\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:23B:CRED",
+        "{1:F01AAAABBCCXXXX0000000000}{2:O0111702090738DYLRXXXXCXXX00000000001702090738S}{4:{175:0741}{106:170209AAAAFRPPZXXX0000000002}{108:REF1}}{5:{CHK:ABCDEF123456}{SYS:}}",
+        "{1:F21AAAABBCCXXXX0000000000}{4:{177:1704260717}{451:0}}{1:F01AAAABBCCXXXX0000000000}{2:O1031612170425BBBBUS33BXXX01613135551704260717N}{4:\r\n:20:REF\r\n-}{5:{CHK:123456789ABC}}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{4:\r\n:20:REF\r\n:77E:\r\n:FOO\r\n:79:BAR\r\n-}",
+        "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBCCDDXXXXN}{5:{CHK:123456789ABC}}",
+        ""
+    };
+
+    @Test
+    public void testSamples() throws IOException {
+        for (String sample : SAMPLES) {
+            assertSameAsEager(sample);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "MT101.fin",
+                "MT305.fin",
+                "MT306.fin",
+                "MT340.fin",
+                "MT341.fin",
+                "MT360.fin",
+                "MT361.fin",
+                "MT362.fin",
+                "MT320.txt",
+                "SWIFTMT300_0000039099_0002.txt",
+                "sample_JPchar.txt"
+            })
+    public void testResources(String resource) throws IOException {
+        assertSameAsEager(Lib.readResource(resource));
+    }
+
+    @Test
+    public void testRJEResources() throws IOException {
+        for (String fin : new RJEReader(Lib.readResource("MT103-bulk-with-ack.rje"))) {
+            assertSameAsEager(fin);
+        }
+    }
+
+    @Test
+    public void testLargeStatementFromReader() throws IOException {
+        final int lines = 20000;
+        final StringBuilder fin = new StringBuilder(
+                "{1:F01AAAABBCCXXXX0000000000}{2:O9501200091221BBBBCCDDXXXX00000000000912211200N}{4:\r\n:20:STMT\r\n:25:123456789\r\n:28C:1/1\r\n:60F:C091221EUR0,\r\n");
+        for (int i = 0; i < lines; i++) {
+            fin.append(":61:0912211221C1,00NTRFREF")
+                    .append(i)
+                    .append("//")
+                    .append(i)
+                    .append("\r\n");
+        }
+        fin.append(":62F:C091221EUR20000,\r\n-}{5:{CHK:123456789ABC}}");
+
+        final SwiftParser parser = new SwiftParser(new StringReader(fin.toString()));
+        final AtomicInteger count = new AtomicInteger();
+        final List<String> first = new ArrayList<>();
+        final SwiftMessage m = parser.message(new TagHandler() {
+            @Override
+            public void startTextBlock(SwiftMessage message) {
+                assertEquals("950", message.getType());
+            }
+
+            @Override
+            public void tag(Tag tag) {
+                if ("61".equals(tag.getName()) && count.getAndIncrement() == 0) {
+                    first.add(tag.getValue());
+                }
+            }
+        });
+        assertEquals(lines, count.get());
+        assertEquals("0912211221C1,00NTRFREF0//0", first.get(0));
+        assertTrue(m.getBlock4().isEmpty());
+        assertEquals("123456789ABC", m.getBlock5().getTagValue("CHK"));
+        assertTrue(parser.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testCursor() throws IOException {
+        final TagCursor cursor = new SwiftParser(SAMPLES[1]).tagCursor();
+        assertEquals("103", cursor.getMessage().getType());
+        assertNull(cursor.getMessage().getBlock5());
+        assertTrue(cursor.hasNext());
+        assertEquals(new Tag("20", "REF"), cursor.next());
+        assertEquals(new Tag("23B", "CRED"), cursor.next());
+        assertFalse(cursor.hasNext());
+        assertThrows(NoSuchElementException.class, cursor::next);
+        assertNotNull(cursor.getMessage().getBlock5());
+    }
+
+    @Test
+    public void testStrictMissingBlockEnd() {
+        final SwiftParser parser = new SwiftParser(SAMPLES[4]);
+        parser.getConfiguration().setLenient(false);
+        assertThrows(IllegalArgumentException.class, () -> parser.message(t -> {}));
+    }
+
+    private static void assertSameAsEager(final String fin) throws IOException {
+        final SwiftParser eagerParser = new SwiftParser(fin);
+        final SwiftMessage expected = eagerParser.message();
+
+        for (SwiftParser parser : new SwiftParser[] {new SwiftParser(fin), new SwiftParser(new StringReader(fin))}) {
+            final List<Tag> tags = new ArrayList<>();
+            final SwiftMessage m = parser.message(tags::add);
+            if (m.getBlock4() != null) {
+                m.getBlock4().setTags(tags);
+            } else {
+                assertTrue(tags.isEmpty(), fin);
+            }
+            assertEquals(expected, m, fin);
+            assertEquals(eagerParser.getErrors(), parser.getErrors(), fin);
+        }
+    }
+}
@@ -15,7 +15,7 @@
  */
 package com.prowidesoftware.swift.io.writer;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.Constants;
 import com.prowidesoftware.swift.io.parser.SwiftParser;
@@ -23,11 +23,19 @@ import com.prowidesoftware.swift.model.SwiftBlock3;
 import com.prowidesoftware.swift.model.SwiftBlock4;
 import com.prowidesoftware.swift.model.SwiftMessage;
 import com.prowidesoftware.swift.model.Tag;
+import com.prowidesoftware.swift.utils.Lib;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Swift writer tests
@@ -136,4 +144,81 @@ public class SwiftWriterTest {
 
         assertEquals("{3:{108:MUR}}{4:\r\n" + ":20:REF\r\n" + "-}", buf.toString());
     }
+
+    @Test
+    public void testEnsureEols() {
+        for (String s : new String[] {
+            "", "\n", "a", "a\n", "a\r\n", "a\r", "a\n\n", "a\r\r\n", "\r\nb", "a\nb\rc\r\nd", "a\n\r\nb\r\r"
+        }) {
+            assertEquals(readLinesEols(s), SwiftWriter.ensureEols(s), s);
+        }
+    }
+
+    @Test
+    public void testCrlfAppendableSplitBreaks() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        CrlfAppendable out = new CrlfAppendable(buf);
+        out.append("a\r").append('\n').append('b').append('\r').append("\nc\n").append("d\n", 0, 1);
+        assertEquals("a\r\nb\r\nc\r\nd", buf.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"MT101.fin", "MT305.fin", "MT320.txt", "SWIFTMT300_0000039099_0002.txt", "sample_JPchar.txt"})
+    public void testWriteFIN(String resource) throws IOException {
+        SwiftMessage m = new SwiftParser(Lib.readResource(resource)).message();
+        StringWriter writer = new StringWriter();
+        SwiftWriter.writeMessage(m, writer, true);
+        final String expected = SwiftWriter.ensureEols(writer.toString());
+
+        assertEquals(expected, m.message());
+
+        StringBuilder reused = new StringBuilder("previous");
+        reused.setLength(0);
+        SwiftWriter.writeFIN(m, reused);
+        assertEquals(expected, reused.toString());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        m.writeTo(stream);
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length() * 3);
+        SwiftWriter.writeFIN(m, buffer);
+        buffer.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test
+    public void testWriteFINNonAscii() throws IOException {
+        SwiftMessage m = new SwiftMessage(true);
+        m.getBlock1().setValue(Constants.B1_DATA);
+        m.getBlock2().setValue(Constants.B2_INPUT);
+        m.getBlock4().append(new Tag("79", "ñ \u20ac \ud83d\ude00 \ud83d"));
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        m.writeTo(stream);
+        assertArrayEquals(m.message().getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+    }
+
+    @Test
+    public void testWriteFINBufferOverflow() throws IOException {
+        SwiftMessage m = new SwiftParser(Lib.readResource("MT101.fin")).message();
+        assertThrows(BufferOverflowException.class, () -> SwiftWriter.writeFIN(m, ByteBuffer.allocate(10)));
+    }
+
+    /**
+     * Line breaks normalization as implemented up to 9.4
+     */
+    private static String readLinesEols(final String content) {
+        final StringBuilder buf = new StringBuilder();
+        try {
+            final BufferedReader r = new BufferedReader(new StringReader(content));
+            String l;
+            while ((l = r.readLine()) != null) {
+                buf.append(l).append(FINWriterVisitor.SWIFT_EOL);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buf.length() > 0 ? buf.substring(0, buf.length() - FINWriterVisitor.SWIFT_EOL.length()) : "";
+    }
 }
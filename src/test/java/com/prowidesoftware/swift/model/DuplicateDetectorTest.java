@@ -0,0 +1,89 @@
+/*
+ * Copyright 2006-2023 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class DuplicateDetectorTest {
+
+    private static final String FIN = "{1:F01AAAAUSC0ADDD0344000050}{2:I103BBBBUSC0XXXXN}"
+            + "{3:{108:MUR1}{121:4ea37e81-98ec-4014-b7a4-1ff4611b3fca}}{4:\r\n:20:REF\r\n-}";
+
+    @Test
+    public void testChecksum() throws IOException {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateDetector.Key.CHECKSUM, 100);
+        assertFalse(new MtSwiftMessage(FIN).checkDuplicate(detector));
+        assertTrue(new MtSwiftMessage(FIN).checkDuplicate(detector));
+        assertTrue(detector.checkAndAdd(SwiftMessage.parse(FIN)));
+        assertFalse(new MtSwiftMessage(FIN.replace("REF", "REF2")).checkDuplicate(detector));
+        assertEquals(2, detector.size());
+
+        // no key
+        assertFalse(detector.checkAndAdd(new MtSwiftMessage()));
+        assertEquals(2, detector.size());
+    }
+
+    @Test
+    public void testReferences() throws IOException {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateDetector.Key.REFERENCES, 100);
+        assertEquals("4ea37e81-98ec-4014-b7a4-1ff4611b3fca", DuplicateDetector.uetr(FIN).toString());
+        assertFalse(new MtSwiftMessage(FIN).checkDuplicate(detector));
+        // same references with a different content
+        assertTrue(new MtSwiftMessage(FIN.replace("REF", "REF2")).checkDuplicate(detector));
+        assertTrue(detector.checkAndAdd(SwiftMessage.parse(FIN)));
+        assertFalse(new MtSwiftMessage(FIN.replace("MUR1", "MUR2")).checkDuplicate(detector));
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertEquals(0, DuplicateDetector.fingerprint(null, ""));
+        assertEquals(DuplicateDetector.fingerprint("a", "b"), DuplicateDetector.fingerprint("a", "b"));
+        assertNotEquals(DuplicateDetector.fingerprint("a", "b"), DuplicateDetector.fingerprint("ab", null));
+        assertNotEquals(DuplicateDetector.fingerprint("a", "b"), DuplicateDetector.fingerprint("b", "a"));
+    }
+
+    @Test
+    public void testSizeEviction() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateDetector.Key.CHECKSUM, 1000);
+        for (long i = 1; i <= 10_000; i++) {
+            assertFalse(detector.checkAndAdd(i));
+        }
+        assertEquals(1000, detector.size());
+        assertTrue(detector.contains(10_000));
+        assertFalse(detector.contains(1));
+        detector.clear();
+        assertEquals(0, detector.size());
+        assertFalse(detector.contains(10_000));
+    }
+
+    @Test
+    public void testTimeEviction() {
+        final AtomicLong clock = new AtomicLong();
+        final DuplicateDetector detector =
+                new DuplicateDetector(DuplicateDetector.Key.CHECKSUM, 1000, Duration.ofHours(4), clock::get);
+        assertFalse(detector.checkAndAdd(1));
+        clock.addAndGet(Duration.ofHours(3).toNanos());
+        assertTrue(detector.checkAndAdd(1));
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        assertFalse(detector.contains(1));
+        assertEquals(0, detector.size());
+    }
+}
@@ -16,7 +16,9 @@
 package com.prowidesoftware.swift.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.prowidesoftware.swift.model.mt.DefaultMtMetadataStrategy;
 import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
@@ -170,6 +172,35 @@ public class MtSwiftMessageTest {
         assertEquals("123456789", mt798.getField20().getValue());
     }
 
+    @Test
+    void testModelCache() {
+        String fin = "{1:F01AGBLLT2XAXXX1012000002}{2:I103TESTARZZXXXXN}{4:\n" + ":20:REF1\n" + "-}";
+        MtSwiftMessage msg = new MtSwiftMessage(fin);
+        long hits = MtSwiftMessage.getModelCacheHits();
+        long misses = MtSwiftMessage.getModelCacheMisses();
+
+        SwiftMessage model = msg.modelMessage(true);
+        assertSame(model, msg.modelMessage(true));
+        assertEquals(hits + 1, MtSwiftMessage.getModelCacheHits());
+        assertEquals(misses + 1, MtSwiftMessage.getModelCacheMisses());
+
+        // a fresh instance unless the cache is requested
+        assertNotSame(model, msg.modelMessage());
+        assertNotSame(msg.modelMessage(false), msg.modelMessage(false));
+        assertSame(model, msg.modelMessage(true));
+
+        // invalidated when the content changes
+        msg.updateFromFIN(fin.replace("REF1", "REF2"));
+        SwiftMessage model2 = msg.modelMessage(true);
+        assertNotSame(model, model2);
+        assertEquals("REF2", model2.getBlock4().getTagValue("20"));
+
+        msg.setMessage(fin);
+        assertEquals("REF1", msg.modelMessage(true).getBlock4().getTagValue("20"));
+        assertEquals(hits + 2, MtSwiftMessage.getModelCacheHits());
+        assertEquals(misses + 3, MtSwiftMessage.getModelCacheMisses());
+    }
+
     public static class TestMtMetadataStrategy implements MessageMetadataStrategy {
 
         @Override
@@ -338,4 +338,34 @@ public class SwiftCharsetUtilsTest {
         log.info("y" + SwiftCharsetUtils.getAsString(SwiftCharset.y));
         log.info("z" + SwiftCharsetUtils.getAsString(SwiftCharset.z));
     }
+
+    @Test
+    public void testFirstInvalid() {
+        assertEquals(SwiftCharsetUtils.OK, SwiftCharsetUtils.firstInvalid(null, SwiftCharset.x));
+        assertEquals(SwiftCharsetUtils.OK, SwiftCharsetUtils.firstInvalid("", SwiftCharset.x));
+        assertEquals(SwiftCharsetUtils.OK, SwiftCharsetUtils.firstInvalid("ABC/123-x", SwiftCharset.x));
+        assertEquals(3, SwiftCharsetUtils.firstInvalid(new StringBuilder("ABC$123"), SwiftCharset.x));
+        assertEquals(1, SwiftCharsetUtils.firstInvalid("A\u00d1", SwiftCharset.z));
+        assertEquals(2, SwiftCharsetUtils.firstInvalid("12a", SwiftCharset.n));
+    }
+
+    @Test
+    public void testValidate() {
+        assertTrue(SwiftCharsetUtils.validate("20240131", SwiftCharset.n));
+        assertFalse(SwiftCharsetUtils.validate("2024013A", SwiftCharset.n));
+        assertTrue(SwiftCharsetUtils.validate("ABC123", SwiftCharset.c));
+        assertFalse(SwiftCharsetUtils.validate("abc123", SwiftCharset.c));
+        assertTrue(SwiftCharsetUtils.validate("abc{_@#", SwiftCharset.z));
+        assertFalse(SwiftCharsetUtils.validate("abc{_@#", SwiftCharset.x));
+        assertFalse(SwiftCharsetUtils.validate("\u00e9", SwiftCharset.A));
+    }
+
+    @Test
+    public void testGetCharsetIsCopy() {
+        final char[] n = SwiftCharsetUtils.get_n();
+        n[0] = 'X';
+        assertEquals('0', SwiftCharsetUtils.get_n()[0]);
+        assertEquals(62 + 13, SwiftCharsetUtils.get_x().length);
+        assertEquals("[0-9]", SwiftCharsetUtils.getAsString(SwiftCharset.n));
+    }
 }
@@ -23,6 +23,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
 import com.prowidesoftware.swift.utils.SwiftMessageComparator;
+import java.io.StringReader;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -576,4 +578,28 @@ public class SwiftMessageJsonTest {
 
         assertTrue(comp.compare(m, fromJsonSwiftMessage) == 0);
     }
+
+    @Test
+    public void testSwiftMessageStreamingCompact() throws Exception {
+        SwiftMessage m = MT103.parse("{1:F01FOOSEDR0AXXX0000000000}{2:I103FOORECV0XXXXN}{4:\n"
+                        + ":20:REFERENCE\n"
+                        + ":23B:CRED\n"
+                        + ":32A:130204USD1234567,89\n"
+                        + ":71A:OUR\n"
+                        + "-}")
+                .getSwiftMessage();
+
+        StringWriter out = new StringWriter();
+        m.toJson(SwiftJson.newWriter(out, false));
+        String compact = out.toString();
+        assertFalse(compact.contains("\n"));
+
+        JsonObject o = JsonParser.parseString(compact).getAsJsonObject();
+        assertEquals(JsonParser.parseString(m.toJson()).getAsJsonObject().get("data"), o.get("data"));
+        assertEquals("I", o.getAsJsonObject("data").getAsJsonObject("block2").get("direction").getAsString());
+
+        SwiftMessage fromJson = SwiftMessage.fromJson(new StringReader(compact));
+        assertEquals(0, new SwiftMessageComparator().compare(m, fromJson));
+    }
 }
+
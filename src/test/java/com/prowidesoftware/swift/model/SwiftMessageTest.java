@@ -297,6 +297,56 @@ public class SwiftMessageTest {
         assertTrue(o instanceof MT540, "MT not an instance of 540");
     }
 
+    @Test
+    public void testToMtCached() {
+        final SwiftMessage m = new SwiftMessage(true);
+        m.getBlock2().setMessageType("103");
+        final AbstractMT mt = m.toMT();
+        assertTrue(mt instanceof MT103);
+        assertSame(mt, m.toMT());
+        assertSame(m, mt.getSwiftMessage());
+
+        m.getBlock3().append(Field119.tag(MTVariant.STP.name()));
+        assertTrue(m.toMT() instanceof MT103_STP);
+        assertSame(m.toMT(), m.toMT());
+
+        m.getBlock3().removeAll("119");
+        m.getBlock2().setMessageType("202");
+        assertTrue(m.toMT() instanceof MT202);
+
+        m.toMT().setSwiftMessage(new SwiftMessage(true));
+        assertSame(m, m.toMT().getSwiftMessage());
+    }
+
+    @Test
+    public void testToMtAllTypes() {
+        int count = 0;
+        for (int i = 0; i < 1000; i++) {
+            final String type = String.format("%03d", i);
+            for (MTVariant variant : new MTVariant[] {null, MTVariant.STP, MTVariant.REMIT, MTVariant.COV}) {
+                final SwiftMessage m = new SwiftMessage(true);
+                m.getBlock2().setMessageType(type);
+                if (variant != null) {
+                    m.getBlock3().append(Field119.tag(variant.name()));
+                }
+                final AbstractMT mt = m.toMT();
+                if (mt != null) {
+                    final boolean applies = variant == MTVariant.STP && (i == 102 || i == 103)
+                            || variant == MTVariant.REMIT && i == 103
+                            || variant == MTVariant.COV && (i == 202 || i == 205);
+                    final String suffix = !applies ? "" : variant == MTVariant.COV ? "COV" : "_" + variant.name();
+                    assertEquals("MT" + type + suffix, mt.getClass().getSimpleName());
+                    assertEquals(type, mt.getMessageType());
+                    if (variant == null) {
+                        count++;
+                    }
+                }
+            }
+        }
+        assertTrue(count > 250);
+        assertNull(new SwiftMessage(true).toMT());
+    }
+
     @Test
     public void PDE() {
         SwiftMessage m = new SwiftMessage();
@@ -17,6 +17,8 @@ package com.prowidesoftware.swift.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.prowidesoftware.swift.io.parser.SwiftParser;
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.field.*;
 import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
 import com.prowidesoftware.swift.model.mt.mt5xx.MT502;
@@ -25,9 +27,13 @@ import com.prowidesoftware.swift.model.mt.mt5xx.MT540;
 import com.prowidesoftware.swift.model.mt.mt6xx.MT670;
 import com.prowidesoftware.swift.utils.Lib;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
@@ -302,4 +308,99 @@ public class SwiftMessageUtilsTest {
         mt3.append(Field20C.tag(":SEME//REF3"));
         assertEquals("REF3", SwiftMessageUtils.reference(mt3.getSwiftMessage()));
     }
+
+    @Test
+    public void testMetadata() {
+        assertFalse(SwiftMessageUtils.metadata(null).reference().isPresent());
+
+        MT540 mt = new MT540();
+        mt.append(Field20C.tag(":SEME//REF1"));
+        mt.append(Field16R.tag("TRADDET"));
+        mt.append(Field98A.tag(":SETT//20240115"));
+        mt.append(Field98A.tag(":TRAD//20240112"));
+        mt.append(Field16S.tag("TRADDET"));
+        mt.append(Field16R.tag("FIAC"));
+        mt.append(Field19A.tag(":SETT//USD1234,56"));
+        mt.append(Field16S.tag("FIAC"));
+        SwiftMessage sm = mt.getSwiftMessage();
+
+        MessageMetadata metadata = SwiftMessageUtils.metadata(sm);
+        assertEquals("REF1", metadata.reference().get());
+        assertEquals("USD", metadata.amount().get().getCurrency());
+        assertEquals(new BigDecimal("1234.56"), metadata.amount().get().getAmount());
+        assertEquals(2024, metadata.valueDate().get().get(Calendar.YEAR));
+        assertEquals(15, metadata.valueDate().get().get(Calendar.DAY_OF_MONTH));
+        assertEquals(12, metadata.tradeDate().get().get(Calendar.DAY_OF_MONTH));
+
+        // same results as the individual methods
+        assertEquals(SwiftMessageUtils.reference(sm), metadata.reference().get());
+        assertEquals(SwiftMessageUtils.money(sm).getAmount(), metadata.amount().get().getAmount());
+        assertEquals(SwiftMessageUtils.valueDate(sm), metadata.valueDate().get());
+        assertEquals(SwiftMessageUtils.tradeDate(sm), metadata.tradeDate().get());
+
+        // value date field out of its sequence is ignored
+        MT540 mt2 = new MT540();
+        mt2.append(Field98A.tag(":SETT//20240115"));
+        assertFalse(SwiftMessageUtils.metadata(mt2.getSwiftMessage()).valueDate().isPresent());
+        assertNull(SwiftMessageUtils.valueDate(mt2.getSwiftMessage()));
+    }
+
+    @Test
+    public void testCalculateChecksums() throws IOException {
+        final String[] fins = {
+            // text block syntax
+            "{1:F01AAAAUSC0ADDD0344000050}{2:I103BBBBUSC0XXXXN}{3:{108:MUR1}}"
+                    + "{4:\r\n:20:REF\r\n:23B:CRED\r\n:32A:060101EUR1234,56\r\n-}{5:{PDE:}}",
+            // category 0, tag block syntax
+            "{1:F01AAAAUSC0ADDD0344000050}{2:O0961111060101AAAAUSC0ADDD00000000000601011111N}{4:{20:REF}{21:X}}",
+            // empty and missing text block
+            "{1:F01AAAAUSC0ADDD0344000050}{2:I103BBBBUSC0XXXXN}{4:\r\n-}",
+            "{1:F01AAAAUSC0ADDD0344000050}{2:I103BBBBUSC0XXXXN}"
+        };
+        for (String fin : fins) {
+            final SwiftMessage sm = SwiftMessage.parse(fin);
+            final SwiftMessageUtils.Checksums checksums = SwiftMessageUtils.calculateChecksums(sm);
+            assertEquals(SwiftMessageUtils.calculateChecksum(sm), checksums.message);
+            assertEquals(SwiftMessageUtils.calculateChecksum(sm.getBlock4()), checksums.body);
+
+            final MtSwiftMessage mt = new MtSwiftMessage();
+            mt.updateFromFIN(fin);
+            assertEquals(checksums.message, mt.getChecksum());
+            assertEquals(checksums.body, mt.getChecksumBody());
+            assertEquals(sm.getPDE(), mt.getPde());
+            assertEquals(sm.getMUR(), mt.getMur());
+        }
+        assertNull(SwiftMessageUtils.calculateChecksums(null).message);
+    }
+
+    @Test
+    public void testCalculateChecksumEncodings() throws Exception {
+        final String fin = "{1:F01AAAAUSC0ADDD0344000050}{2:I103BBBBUSC0XXXXN}{4:\n:20:REF\n:70:\u00e9\u20ac\n-}\r\n";
+        final SwiftParser parser = new SwiftParser(fin);
+        parser.getConfiguration().setKeepRawContent(true);
+        final SwiftMessage sm = parser.message();
+
+        final MessageDigest md = MessageDigest.getInstance("SHA-256");
+        final StringWriter writer = new StringWriter();
+        SwiftWriter.writeMessage(sm, writer, true);
+        final byte[] expected = md.digest(writer.toString().getBytes(StandardCharsets.UTF_8));
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : expected) {
+            hex.append(String.format("%02x", b));
+        }
+        assertEquals(hex.toString(), SwiftMessageUtils.calculateChecksum(sm));
+        assertEquals(
+                Base64.getEncoder().withoutPadding().encodeToString(expected),
+                SwiftMessageUtils.calculateChecksumBase64(sm));
+
+        // raw content checksum, on the received text as is
+        assertEquals(fin.trim(), sm.getRawContent());
+        final byte[] raw = md.digest(fin.trim().getBytes(StandardCharsets.UTF_8));
+        final StringBuilder rawHex = new StringBuilder();
+        for (byte b : raw) {
+            rawHex.append(String.format("%02x", b));
+        }
+        assertEquals(rawHex.toString(), SwiftMessageUtils.calculateRawChecksum(sm));
+        assertNull(SwiftMessageUtils.calculateRawChecksum(SwiftMessage.parse(fin)));
+    }
 }
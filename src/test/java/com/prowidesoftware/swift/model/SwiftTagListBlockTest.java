@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.io.ConversionService;
 import com.prowidesoftware.swift.model.field.*;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -1824,4 +1825,192 @@ public class SwiftTagListBlockTest {
         assertEquals("22M", list2.get(1).getTag(1).getName());
         assertEquals("95P", list2.get(1).getTag(2).getName());
     }
+
+    @Test
+    public void testIndexedLookups() {
+        SwiftTagListBlock block = new SwiftTagListBlock();
+        block.append(new Tag("20", "REF"));
+        block.append(new Tag("61", "A"));
+        block.append(new Tag("86", "B"));
+        block.append(new Tag("61", "C"));
+        block.append(new Tag("62F", "D"));
+        block.setIndexed(true);
+        assertTrue(block.isIndexed());
+
+        assertEquals("A", block.getTagByName("61").getValue());
+        assertEquals(2, block.getTagsByName("61").length);
+        assertEquals("C", block.getTagsByName("61")[1].getValue());
+        assertEquals(2, block.countByName("61"));
+        assertTrue(block.containsTag("62F"));
+        assertFalse(block.containsTag("62M"));
+        assertEquals("D", block.getTagByNumber(62).getValue());
+        assertEquals(1, block.getTagsByNumber(62).size());
+        assertTrue(block.containsTag(86));
+        assertEquals("D", block.getFieldByName("62F").getValue());
+        assertEquals("D", block.getFieldByName("62a").getValue());
+        assertEquals(2, block.getFieldsByName("61").length);
+    }
+
+    @Test
+    public void testIndexedLookupsAfterChanges() {
+        SwiftTagListBlock block = new SwiftTagListBlock();
+        block.append(new Tag("20", "REF"));
+        block.append(new Tag("61", "A"));
+        block.setIndexed(true);
+        assertEquals(1, block.countByName("61"));
+
+        // changes through the block API
+        block.append(new Tag("61", "B"));
+        assertEquals(2, block.countByName("61"));
+        block.removeTag("20");
+        assertNull(block.getTagByName("20"));
+        assertEquals("A", block.getTagByNumber(61).getValue());
+
+        // changes made directly in the list
+        block.getTags().set(0, new Tag("21", "X"));
+        assertEquals("X", block.getTagValue("21"));
+        assertEquals(1, block.countByName("61"));
+        block.getTags().add(new Tag("20", "NEW"));
+        assertEquals("NEW", block.getTagValue("20"));
+
+        // tag renamed in place
+        block.getTagByName("21").setName("23B");
+        assertNull(block.getTagByName("21"));
+        assertEquals("X", block.getTagValue("23B"));
+
+        // the list given to setTags is copied
+        List<Tag> tags = new java.util.ArrayList<>();
+        tags.add(new Tag("32A", "Y"));
+        block.setTags(tags);
+        assertEquals("Y", block.getTagValue("32A"));
+        tags.clear();
+        assertEquals("Y", block.getTagValue("32A"));
+
+        block.setIndexed(false);
+        assertFalse(block.isIndexed());
+        assertEquals("Y", block.getTagValue("32A"));
+    }
+
+    @Test
+    public void testIndexedLookupsWithSharedTags() {
+        Tag shared = new Tag("20", "REF");
+        SwiftTagListBlock block1 = new SwiftTagListBlock();
+        block1.append(shared);
+        block1.setIndexed(true);
+        SwiftTagListBlock block2 = new SwiftTagListBlock();
+        block2.append(new Tag("21", "X"));
+        block2.append(shared);
+        block2.setIndexed(true);
+        assertEquals("REF", block1.getTagValue("20"));
+        assertEquals("REF", block2.getTagValue("20"));
+
+        // a tag in both blocks renamed in place
+        shared.setName("20C");
+        assertNull(block1.getTagByName("20"));
+        assertNull(block2.getTagByName("20"));
+        assertEquals("REF", block1.getTagValue("20C"));
+        assertEquals("REF", block2.getTagValue("20C"));
+
+        // renaming a tag out of the blocks does not affect them
+        new Tag("20C", "OTHER").setName("20");
+        assertEquals("REF", block1.getTagValue("20C"));
+        assertEquals("X", block2.getTagValue("21"));
+    }
+
+    @Test
+    public void testSequenceTree() {
+        SwiftTagListBlock block = new SwiftTagListBlock();
+        block.append(new Tag("16R", "GENL"));
+        block.append(new Tag("20C", ":SEME//REF"));
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("20C", ":PREV//A"));
+        block.append(new Tag("16S", "LINK"));
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("20C", ":PREV//B"));
+        block.append(new Tag("16S", "LINK"));
+        block.append(new Tag("16S", "GENL"));
+        block.append(new Tag("16R", "SETDET"));
+        block.append(new Tag("22F", ":SETR//TRAD"));
+
+        SequenceTree tree = block.getSequenceTree();
+        assertEquals(2, tree.getRoots().size());
+        SequenceTree.Node genl = tree.getNode("GENL");
+        assertEquals(0, genl.getStart());
+        assertEquals(8, genl.getEnd());
+        assertTrue(genl.isClosed());
+        assertEquals(2, genl.getChildren().size());
+        assertSame(genl, tree.getNodes("LINK").get(1).getParent());
+        SequenceTree.Node setdet = tree.getNode("SETDET");
+        assertFalse(setdet.isClosed());
+        assertEquals(10, setdet.getEnd());
+        assertNull(tree.getNode("FIAC"));
+        assertTrue(tree.getNodes("FIAC").isEmpty());
+
+        // cached until the tags change
+        assertSame(tree, block.getSequenceTree());
+        block.append(new Tag("16S", "SETDET"));
+        assertNotSame(tree, block.getSequenceTree());
+        assertTrue(block.getSequenceTree().getNode("SETDET").isClosed());
+    }
+
+    @Test
+    public void testGetSubBlocksFromSequenceTree() {
+        SwiftTagListBlock block = new SwiftTagListBlock();
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("20C", ":PREV//A"));
+        block.append(new Tag("16S", "LINK"));
+        block.append(new Tag("16S", "LINK"));
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("20C", ":PREV//B"));
+
+        List<SwiftTagListBlock> links = block.getSubBlocks("LINK");
+        assertEquals(block.getSubBlocks(new Tag("16R", "LINK"), new Tag("16S", "LINK")).size(), links.size());
+        assertEquals(2, links.size());
+        assertEquals(4, links.get(0).size());
+        assertEquals(2, links.get(1).size());
+        assertEquals(":PREV//B", links.get(1).getTagValue("20C"));
+        assertEquals(4, block.getSubBlock("LINK").size());
+        assertTrue(block.getSubBlock("FIAC").isEmpty());
+
+        // the sub blocks are copies
+        links.get(0).append(new Tag("70E", "X"));
+        assertEquals(7, block.size());
+
+        // a boundary changed in place is detected
+        block.getTag(5).setValue("FIAC");
+        assertEquals(1, block.getSubBlocks("LINK").size());
+        assertEquals(2, block.getSubBlock("FIAC").size());
+
+        // blocks holding a list given by the caller are not cached
+        SwiftTagListBlock other = new SwiftTagListBlock(new ArrayList<>(block.getTags()));
+        assertEquals(1, other.getSubBlocks("LINK").size());
+        other.getTags().remove(0);
+        assertEquals(1, other.getSubBlocks("LINK").size());
+        assertEquals(3, other.getSubBlock("LINK").size());
+    }
+
+    @Test
+    public void testSequenceTreeWithSharedTags() {
+        SwiftTagListBlock block = new SwiftTagListBlock();
+        block.append(new Tag("16R", "GENL"));
+        block.append(new Tag("16R", "LINK"));
+        block.append(new Tag("20C", ":PREV//A"));
+        block.append(new Tag("16S", "LINK"));
+        block.append(new Tag("16S", "GENL"));
+        assertEquals(1, block.getSubBlocks("LINK").size());
+
+        // the sub block shares the tags with the block, both trees are refreshed on a change
+        SwiftTagListBlock genl = block.getSubBlock("GENL");
+        assertEquals(3, genl.getSubBlock("LINK").size());
+        genl.getTag(1).setValue("FIAC");
+        genl.getTag(3).setValue("FIAC");
+        assertTrue(genl.getSubBlock("LINK").isEmpty());
+        assertTrue(block.getSubBlock("LINK").isEmpty());
+        assertEquals(3, block.getSubBlock("FIAC").size());
+
+        // a boundary of another block changed in place does not affect this block
+        new Tag("16R", "FIAC").setValue("LINK");
+        assertEquals(3, block.getSubBlock("FIAC").size());
+    }
 }
@@ -125,6 +125,18 @@ public class TagTest {
         assertNull(t.getNumber());
     }
 
+    @Test
+    public void testGetNumberAfterRename() {
+        Tag t = new Tag("20:value");
+        assertTrue(t.isNumber(20));
+        t.setName("98A");
+        assertEquals(Integer.valueOf(98), t.getNumber());
+        assertFalse(t.isNumber(20));
+        t.setName("MDG");
+        assertNull(t.getNumber());
+        assertFalse(t.isNumber(-1));
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new Tag(), new Tag());
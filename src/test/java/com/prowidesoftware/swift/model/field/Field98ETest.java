@@ -16,6 +16,7 @@
 package com.prowidesoftware.swift.model.field;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.commons.lang3.StringUtils;
@@ -186,4 +187,18 @@ public class Field98ETest extends AbstractFieldTest {
         assertEquals("N", f.getComponent5());
         assertEquals("2020", f.getComponent6());
     }
+
+    @Test
+    public void testJavaTimeGetters() {
+        Field98E f = new Field98E(":SETT//20240131123045,123/N0230");
+        assertEquals(java.time.LocalDate.of(2024, 1, 31), f.getDateAsLocalDate());
+        assertEquals(java.time.LocalTime.of(12, 30, 45), f.getTimeAsLocalTime());
+        assertEquals(java.time.LocalDate.of(2024, 1, 31), f.getComponentAsLocalDate(2));
+        assertNull(f.getComponentAsLocalDate(3));
+        assertEquals(
+                java.time.OffsetDateTime.parse("2024-01-31T12:30:45.123-02:30"), f.getDateTimeAsOffsetDateTime());
+
+        f = new Field98E(":SETT//20240131123045");
+        assertNull(f.getDateTimeAsOffsetDateTime());
+    }
 }
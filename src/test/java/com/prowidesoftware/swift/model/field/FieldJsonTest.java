@@ -18,6 +18,10 @@ package com.prowidesoftware.swift.model.field;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -269,4 +273,33 @@ public class FieldJsonTest {
                 "SERVICES, SELF COMPANY FUNDING",
                 narrative.getStructured().get(0).getNarrativeFragments().get(1));
     }
+
+    @Test
+    public void testStreamingToJsonAndFromJson() throws Exception {
+        Field32A f32A = new Field32A("010203USD123,45");
+        StringWriter out = new StringWriter();
+        f32A.toJson(new JsonWriter(out));
+        assertEquals(f32A.toJson(), out.toString());
+
+        Field field = Field.fromJson(new JsonReader(new StringReader(out.toString())));
+        assertEquals(f32A, field);
+
+        Field70 f70 = new Field70("LINE1\nLINE2");
+        JsonObject o = JsonParser.parseString(f70.toJson()).getAsJsonObject();
+        assertEquals(f70.getValue(), Field.fromJson(o).getValue());
+        assertEquals(f70.getValue(), Field70.fromJson(o).getValue());
+    }
+
+    @Test
+    public void testStreamingToJsonWithoutComponentLabels() throws Exception {
+        // components without a label are all written as "value", keeping the last one
+        Field422 f422 = new Field422("ABC//123,45");
+        assertEquals("ABC", f422.getComponent(1));
+        assertEquals("123,45", f422.getComponent(2));
+        StringWriter out = new StringWriter();
+        f422.toJson(new JsonWriter(out));
+        assertEquals("{\"name\":\"422\",\"value\":\"123,45\"}", out.toString());
+        assertEquals(out.toString(), f422.toJson());
+    }
 }
+
@@ -19,6 +19,10 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.prowidesoftware.swift.model.Tag;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Currency;
 import java.util.Locale;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
@@ -212,6 +216,120 @@ public class FieldTest {
         assertNotNull(f);
     }
 
+    @Test
+    public void testFactoryAllFields() {
+        int count = 0;
+        for (FieldEnum e : FieldEnum.values()) {
+            // a few enum names have no field implementation
+            Field f = Field.getField(e.fieldName(), null);
+            if (f != null) {
+                assertEquals(e.fieldName(), f.getName());
+                assertSame(FieldFactory.of(e.fieldName()), FieldFactory.of(e.fieldName()));
+                count++;
+            }
+        }
+        assertTrue(count > 650);
+    }
+
+    @Test
+    public void testFactoryUnknownField() {
+        assertNull(Field.getField("99Z", "foo"));
+        assertNull(Field.getField("99Z", "foo"));
+        assertNull(Field.getField(null, "foo"));
+        assertNull(Field.getField("", "foo"));
+        assertNull(FieldFactory.of("99Z"));
+        assertNull(Field.fromJson("{\"name\":\"99Z\",\"value\":\"foo\"}"));
+    }
+
+    @Test
+    public void testFactoryFromJson() {
+        Field32A f = new Field32A("130901USD10,1");
+        Field json = Field.fromJson(f.toJson());
+        assertTrue(json instanceof Field32A);
+        assertEquals(f.getValue(), json.getValue());
+    }
+
+    @Test
+    public void testDescriptorShared() {
+        FieldDescriptor d = FieldDescriptor.of(Field32A.class);
+        assertNotNull(d);
+        assertSame(d, FieldDescriptor.of(Field32A.class));
+        assertSame(d.componentLabels(), new Field32A().getComponentLabels());
+        assertSame(d.componentMap(), new Field32A().getComponentMap());
+        assertSame(d.labelMap(), new Field32A().getLabelMap());
+        assertThrows(UnsupportedOperationException.class, () -> new Field32A().getComponentLabels().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> d.labelMap().put("foo", 1));
+        assertNull(FieldDescriptor.of(Field.class));
+
+        Field32A f = new Field32A("130901USD10,1");
+        assertEquals(2, f.componentNameToNumber("Currency"));
+        assertEquals("USD", f.getComponent("currency"));
+        assertEquals("Amount", f.getComponentLabel(3));
+        assertEquals("Amount", f.getComponentLabel("amount"));
+        assertNull(f.getComponentLabel(4));
+        // label lookups do not populate the per instance cache
+        assertNull(f.labelMap);
+        assertEquals(new Field32A("130901USD10,1"), f);
+    }
+
+    @Test
+    public void testComponentsSize() {
+        Field32A f = new Field32A();
+        assertEquals(3, f.getComponents().size());
+        f.setComponent(2, "EUR");
+        f.setComponent(4, "ignored");
+        assertEquals(Arrays.asList(null, "EUR", null), f.getComponents());
+
+        Field32A copy = Field32A.newInstance(new Field32A("130901USD10,1"));
+        assertEquals("130901USD10,1", copy.getValue());
+        assertEquals(Field.fromJson(copy.toJson()), copy);
+    }
+
+    @Test
+    public void testTypedValuesCached() {
+        Field32A f = new Field32A("130901USD10,1");
+        BigDecimal amount = f.getComponent3AsBigDecimal();
+        assertEquals(new BigDecimal("10.1"), amount);
+        assertSame(amount, f.getAmountAsBigDecimal());
+        assertSame(amount, f.amount());
+        assertSame(f.getComponent2AsCurrency(), f.getCurrencyAsCurrency());
+
+        Calendar date = f.getComponent1AsCalendar();
+        assertEquals(2013, date.get(Calendar.YEAR));
+        // calendars are copied since they are mutable
+        date.set(Calendar.YEAR, 2000);
+        assertEquals(2013, f.date().get(Calendar.YEAR));
+        assertEquals(2013, f.dates().get(0).get(Calendar.YEAR));
+
+        // invalidated on changes
+        f.setComponent3("20,5");
+        assertEquals(new BigDecimal("20.5"), f.amount());
+        f.parse("140101EUR30,");
+        assertEquals(new BigDecimal("30"), f.getComponent3AsBigDecimal());
+        assertEquals(2014, f.date().get(Calendar.YEAR));
+        f.getComponents().set(2, "40,");
+        assertEquals(new BigDecimal("40"), f.amount());
+        f.setComponent3((String) null);
+        assertNull(f.amount());
+        assertEquals(new Field32A("140101EUR"), f);
+    }
+
+    @Test
+    public void testConvertComponents() {
+        Field32A f = new Field32A("130901USD10,1");
+        f.convertComponents();
+        assertEquals(new BigDecimal("10.1"), f.amount());
+        assertEquals(Currency.getInstance("USD"), f.getComponent2AsCurrency());
+        assertEquals(Collections.singletonList(new BigDecimal("10.1")), f.amounts());
+
+        // invalid components are ignored
+        Field32A invalid = new Field32A("1309XXUSDABC");
+        invalid.convertComponents();
+        assertNull(invalid.date());
+        assertEquals(new Field32A("1309XXUSDABC"), invalid);
+        new Field20("REF").convertComponents();
+    }
+
     @Test
     public void testValidName() {
         /*
@@ -71,6 +71,31 @@ public class AbstractMTTest {
         assertEquals("bar2", Bs.get(1).getTag(2).getValue());
     }
 
+    @Test
+    public void testSequenceResolver() {
+        SwiftMessage m = new MT102()
+                .append(MT102.SequenceA.newInstance(Field32A.tag("foo"))
+                        .append(MT102.SequenceB.newInstance(Field32A.tag("bar"))))
+                .getSwiftMessage();
+        AbstractMT o = m.toMT();
+        assertTrue(o.containsSequence("A"));
+        assertTrue(o.containsSequenceList("B"));
+        assertFalse(o.containsSequence("Z"));
+        assertFalse(o.containsSequenceList("A"));
+        assertFalse(o.containsSequence(null));
+
+        SwiftTagListBlock block = m.getBlock4();
+        assertEquals(o.getSequence("A").getTags(), o.getSequence("A", block).getTags());
+        assertEquals(1, o.getSequenceList("B", block).size());
+        assertTrue(o.getSequence("A", block) instanceof MT102.SequenceA);
+
+        assertNull(o.getSequence("Z"));
+        assertNull(o.getSequenceList("Z"));
+        assertNull(o.getSequence("Z", block));
+        assertNull(o.getSequence(null));
+        assertSame(SequenceResolver.of(MT102.class), SequenceResolver.of(o.getClass()));
+    }
+
     @Test
     public void test_conversin_to_xml() {
         String fin =
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.prowidesoftware.swift.model.SwiftJson;
 import com.prowidesoftware.swift.model.SwiftMessage;
 import com.prowidesoftware.swift.model.field.Field16R;
 import com.prowidesoftware.swift.model.field.Narrative;
@@ -28,6 +29,8 @@ import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
 import com.prowidesoftware.swift.model.mt.mt2xx.MT202;
 import com.prowidesoftware.swift.model.mt.mt5xx.MT547;
 import com.prowidesoftware.swift.utils.SwiftMessageComparator;
+import java.io.StringReader;
+import java.io.StringWriter;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -733,4 +736,27 @@ public class AbstractMtJsonTest {
         assertEquals(1, mt.getFields().size());
         assertTrue(mt.getFields().get(0) instanceof Field16R);
     }
+
+    @Test
+    public void testStreamingCompact() throws Exception {
+        MT103 mt = MT103.parse("{1:F01FOOSEDR0AXXX0000000000}{2:I103FOORECV0XXXXN}{3:{108:ILOVESEPA}}{4:\n"
+                + ":20:REFERENCE\n"
+                + ":23B:CRED\n"
+                + ":32A:130204USD1234567,89\n"
+                + ":70:LINE1\n"
+                + "LINE2\n"
+                + ":71A:OUR\n"
+                + "-}{5:{CHK:C77F8E009597}{PDE:}}");
+
+        StringWriter out = new StringWriter();
+        mt.toJson(SwiftJson.newWriter(out, false));
+        String compact = out.toString();
+        assertFalse(compact.contains("\n  "));
+        assertEquals(JsonParser.parseString(mt.toJson()), JsonParser.parseString(compact));
+
+        AbstractMT fromJson = AbstractMT.fromJson(new StringReader(compact));
+        assertTrue(fromJson instanceof MT103);
+        assertEquals(0, new SwiftMessageComparator().compare(mt.getSwiftMessage(), fromJson.getSwiftMessage()));
+    }
 }
+
@@ -18,6 +18,10 @@ package com.prowidesoftware.swift.utils;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.util.Calendar;
 import org.junit.jupiter.api.Test;
@@ -186,4 +190,116 @@ public class SwiftFormatUtilsTest {
         assertEquals(6, SwiftFormatUtils.decimalsInAmount(new BigDecimal("1.000123")));
         assertEquals(8, SwiftFormatUtils.decimalsInAmount(new BigDecimal("1.00012300")));
     }
+
+    @Test
+    public void testGetBigDecimalScanned() {
+        assertEquals(new BigDecimal("1234.56"), SwiftFormatUtils.getBigDecimal("1234,56"));
+        assertEquals(new BigDecimal("12.30"), SwiftFormatUtils.getBigDecimal("12,30"));
+        assertEquals(new BigDecimal("123"), SwiftFormatUtils.getBigDecimal("123,"));
+        assertEquals(new BigDecimal("0.34"), SwiftFormatUtils.getBigDecimal(",34"));
+        assertEquals(new BigDecimal("-12.5"), SwiftFormatUtils.getBigDecimal("-12,5"));
+        assertEquals(
+                new BigDecimal("123456789012345678.1"), SwiftFormatUtils.getBigDecimal("123456789012345678,1"));
+        assertNull(SwiftFormatUtils.getBigDecimal("abc"));
+    }
+
+    @Test
+    public void testGetBigDecimalFormat() {
+        assertEquals("1234,56", SwiftFormatUtils.getBigDecimal(new BigDecimal("1234.56")));
+        assertEquals("12,3", SwiftFormatUtils.getBigDecimal(new BigDecimal("12.30")));
+        assertEquals("1000,", SwiftFormatUtils.getBigDecimal(new BigDecimal("1E+3")));
+        assertEquals("0,", SwiftFormatUtils.getBigDecimal(new BigDecimal("0.00")));
+        assertEquals("-12,345", SwiftFormatUtils.getBigDecimal(new BigDecimal("-12.345")));
+        assertEquals("1234,", SwiftFormatUtils.getNumber(1234L));
+        assertEquals("-5,", SwiftFormatUtils.getNumber(-5));
+    }
+
+    @Test
+    public void testGetAmountUnscaled() {
+        assertNull(SwiftFormatUtils.getAmountUnscaled(null, 2));
+        assertEquals(123450L, SwiftFormatUtils.getAmountUnscaled("1234,5", 2));
+        assertEquals(123400L, SwiftFormatUtils.getAmountUnscaled("1234,", 2));
+        assertEquals(1230L, SwiftFormatUtils.getAmountUnscaled("12,300", 2));
+        assertEquals(-1234L, SwiftFormatUtils.getAmountUnscaled("-1234", 0));
+        assertThrows(ArithmeticException.class, () -> SwiftFormatUtils.getAmountUnscaled("12,345", 2));
+        assertThrows(ArithmeticException.class, () -> SwiftFormatUtils.getAmountUnscaled("99999999999999999999,", 0));
+        assertThrows(IllegalArgumentException.class, () -> SwiftFormatUtils.getAmountUnscaled("1,", -1));
+    }
+
+    @Test
+    public void testLocalDates() {
+        assertEquals(LocalDate.of(2024, 2, 29), SwiftFormatUtils.getLocalDate2("240229"));
+        assertEquals(LocalDate.of(1999, 12, 31), SwiftFormatUtils.getLocalDate2("991231"));
+        assertNull(SwiftFormatUtils.getLocalDate2("230229"));
+        assertNull(SwiftFormatUtils.getLocalDate2("2402"));
+        assertEquals("240229", SwiftFormatUtils.getDate2(LocalDate.of(2024, 2, 29)));
+
+        assertEquals(LocalDate.of(2024, 1, 31), SwiftFormatUtils.getLocalDate4("20240131"));
+        assertNull(SwiftFormatUtils.getLocalDate4("20240132"));
+        assertEquals("20240131", SwiftFormatUtils.getDate4(LocalDate.of(2024, 1, 31)));
+
+        assertEquals(
+                LocalDateTime.of(2024, 1, 31, 12, 30), SwiftFormatUtils.getLocalDateTime("202401311230"));
+        assertEquals(
+                LocalDateTime.of(2024, 1, 31, 12, 30), SwiftFormatUtils.getLocalDateTimeShortYear("2401311230"));
+        assertEquals("2401311230", SwiftFormatUtils.getDateTimeShortYear(LocalDateTime.of(2024, 1, 31, 12, 30)));
+    }
+
+    @Test
+    public void testShortYearBoundary() {
+        // two digits years start 80 years before the current date and time, as in the Calendar based methods
+        LocalDate start = LocalDate.now().minusYears(80);
+        LocalDate before = start.minusDays(1);
+        assertEquals(before.plusYears(100), SwiftFormatUtils.getLocalDate2(SwiftFormatUtils.getDate2(before)));
+        LocalDate after = start.plusDays(1);
+        assertEquals(after, SwiftFormatUtils.getLocalDate2(SwiftFormatUtils.getDate2(after)));
+
+        for (LocalDate date : new LocalDate[] {start.withDayOfYear(1), start, start.withMonth(12).withDayOfMonth(31)}) {
+            String value = SwiftFormatUtils.getDate2(date);
+            Calendar calendar = SwiftFormatUtils.getDate2(value);
+            assertEquals(
+                    LocalDate.of(
+                            calendar.get(Calendar.YEAR),
+                            calendar.get(Calendar.MONTH) + 1,
+                            calendar.get(Calendar.DAY_OF_MONTH)),
+                    SwiftFormatUtils.getLocalDate2(value),
+                    value);
+        }
+
+        LocalDateTime startTime = LocalDateTime.now().minusYears(80).withSecond(0).withNano(0);
+        LocalDateTime beforeTime = startTime.minusHours(1);
+        assertEquals(
+                beforeTime.plusYears(100),
+                SwiftFormatUtils.getLocalDateTimeShortYear(SwiftFormatUtils.getDateTimeShortYear(beforeTime)));
+        LocalDateTime afterTime = startTime.plusHours(1);
+        assertEquals(
+                afterTime,
+                SwiftFormatUtils.getLocalDateTimeShortYear(SwiftFormatUtils.getDateTimeShortYear(afterTime)));
+    }
+
+    @Test
+    public void testLocalTimes() {
+        assertEquals(LocalTime.of(12, 30, 45), SwiftFormatUtils.getLocalTime2("123045"));
+        assertNull(SwiftFormatUtils.getLocalTime2("250000"));
+        assertEquals("123045", SwiftFormatUtils.getTime2(LocalTime.of(12, 30, 45)));
+
+        assertEquals(LocalTime.of(12, 0), SwiftFormatUtils.getLocalTime3("12"));
+        assertEquals(LocalTime.of(12, 30), SwiftFormatUtils.getLocalTime3("1230"));
+        assertNull(SwiftFormatUtils.getLocalTime3("123"));
+        assertEquals("1230", SwiftFormatUtils.getTime3(LocalTime.of(12, 30)));
+    }
+
+    @Test
+    public void testGetOffsetDateTime() {
+        final LocalDate date = LocalDate.of(2024, 1, 31);
+        final LocalTime time = LocalTime.of(12, 30, 45);
+        assertEquals(
+                OffsetDateTime.parse("2024-01-31T12:30:45.123-02:30"),
+                SwiftFormatUtils.getOffsetDateTime(date, time, "123", "N", "0230"));
+        assertEquals(
+                OffsetDateTime.parse("2024-01-31T12:30:45+01:00"),
+                SwiftFormatUtils.getOffsetDateTime(date, time, null, "+", "01"));
+        assertNull(SwiftFormatUtils.getOffsetDateTime(date, time, null, "+", null));
+        assertNull(SwiftFormatUtils.getOffsetDateTime(null, time, null, "+", "0100"));
+    }
 }